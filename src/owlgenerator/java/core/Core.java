@@ -4,24 +4,22 @@
 package owlgenerator.java.core;
 import java.io.File;
 import java.io.FileNotFoundException;
-import java.io.FileReader;
 import java.io.IOException;
-import java.io.LineNumberReader;
 import java.util.ArrayList;
-import java.util.Arrays;
+import java.util.Collection;
 import java.util.Collections;
-import java.util.Comparator;
 import java.util.HashSet;
+import java.util.LinkedHashSet;
 import java.util.List;
 import java.util.Locale;
+import java.util.Map;
 import java.util.Set;
-import java.util.regex.Matcher;
-import java.util.regex.Pattern;
+import java.util.concurrent.ConcurrentHashMap;
 
 import org.apache.commons.lang3.StringUtils;
 import org.apache.commons.lang3.text.WordUtils;
 import org.semanticweb.owlapi.apibinding.OWLManager;
-import org.semanticweb.owlapi.model.AddAxiom;
+import org.semanticweb.owlapi.model.EntityType;
 import org.semanticweb.owlapi.model.IRI;
 import org.semanticweb.owlapi.model.OWLAnnotation;
 import org.semanticweb.owlapi.model.OWLAnnotationAssertionAxiom;
@@ -36,13 +34,10 @@ import org.semanticweb.owlapi.model.OWLDataRange;
 import org.semanticweb.owlapi.model.OWLDataUnionOf;
 import org.semanticweb.owlapi.model.OWLDatatype;
 import org.semanticweb.owlapi.model.OWLDeclarationAxiom;
-import org.semanticweb.owlapi.model.OWLDisjointClassesAxiom;
 import org.semanticweb.owlapi.model.OWLEntity;
-import org.semanticweb.owlapi.model.OWLEquivalentClassesAxiom;
 import org.semanticweb.owlapi.model.OWLIndividual;
 import org.semanticweb.owlapi.model.OWLInverseObjectPropertiesAxiom;
 import org.semanticweb.owlapi.model.OWLLiteral;
-import org.semanticweb.owlapi.model.OWLObjectIntersectionOf;
 import org.semanticweb.owlapi.model.OWLObjectProperty;
 import org.semanticweb.owlapi.model.OWLObjectPropertyDomainAxiom;
 import org.semanticweb.owlapi.model.OWLObjectPropertyRangeAxiom;
@@ -51,7 +46,6 @@ import org.semanticweb.owlapi.model.OWLOntology;
 import org.semanticweb.owlapi.model.OWLOntologyCreationException;
 import org.semanticweb.owlapi.model.OWLOntologyID;
 import org.semanticweb.owlapi.model.OWLOntologyManager;
-import org.semanticweb.owlapi.model.OWLQuantifiedObjectRestriction;
 import org.semanticweb.owlapi.model.OWLRestriction;
 import org.semanticweb.owlapi.model.OWLSubClassOfAxiom;
 import org.semanticweb.owlapi.model.PrefixManager;
@@ -62,8 +56,14 @@ import org.xadisk.filesystem.exceptions.FileNotExistsException;
 
 import com.google.common.base.Optional;
 
-import edu.stanford.nlp.util.Pair;
+import owlgenerator.java.core.table.CellParser;
+import owlgenerator.java.core.table.CellToken;
+import owlgenerator.java.core.table.SourceTable;
+import owlgenerator.java.core.table.TableDirectory;
+import owlgenerator.java.core.table.TableReader;
+import owlgenerator.java.core.table.TableRow;
 import owlgenerator.java.inverserelations.InferInverseRelations;
+import owlgenerator.java.util.ChangeBuffer;
 import owlgenerator.java.util.Util;
 
 /**
@@ -75,26 +75,56 @@ import owlgenerator.java.util.Util;
 public class Core {
 	
 	/** The cfg. */
-	private static CoreConfiguration cfg = null;
+	private final CoreConfiguration cfg;
 	
 	/** The ontology. */
-	private static OWLOntology ontology = null;
+	private OWLOntology ontology = null;
 	
 	/** The manager. */
-	private static OWLOntologyManager manager = null;
+	private OWLOntologyManager manager = null;
 	
 	/** The pm. */
-	private static PrefixManager pm = null;
+	private final PrefixManager pm;
 	
 	/** The processed tables. */
-	private static Set<String> processedTables = null;	
+	private final Set<String> processedTables = ConcurrentHashMap.newKeySet();	
+	
+	/** The parsed tables, each table file is read once. */
+	private final Map<String, SourceTable> tables = new ConcurrentHashMap<String, SourceTable>();
+	
+	/** The table files index, built on the first jump. */
+	private volatile TableDirectory tableDirectory = null;
+	
+	/** The jumped tables of each parsed table. */
+	private final Map<String, List<String>> jumps = new ConcurrentHashMap<String, List<String>>();
+	
+	/** The table file names read by each thread, while recording. */
+	private final ThreadLocal<Set<String>> tableReads = new ThreadLocal<Set<String>>();
+	
+	/** The OWL entities by concept name, shared by all the table handlers. */
+	private final EntityCache entities = new EntityCache();
+	
+	/** The number of pending changes that triggers a flush of the change buffers. */
+	private int changeThreshold = ChangeBuffer.DEFAULT_THRESHOLD;
 	
 	// CONSTRUCTOR
-	static {
-		cfg = CoreConfiguration.getInstance();
+	/**
+	 * Instantiates a new Core generator with the single instance of CoreConfiguration.
+	 */
+	public Core() {
+		this(CoreConfiguration.getInstance());
+	}
+	
+	/**
+	 * Instantiates a new Core generator, with its own ontology and manager. Several generators, each one with its
+	 * configuration, can build their ontologies concurrently.
+	 *
+	 * @param cfg, the configuration
+	 */
+	public Core(CoreConfiguration cfg) {
+		this.cfg = cfg;
 		manager = OWLManager.createOWLOntologyManager();
 		pm = new DefaultPrefixManager();
-		processedTables = new HashSet<String>();
 		IRI ontologyIRI = IRI.create(cfg.getBase_Url() + cfg.getOntology_Name().replace(" ", "_"));
 		IRI versionIRI = IRI.create(ontologyIRI + "/" + Util.getCurrentTimeStamp());
 		pm.setDefaultPrefix(ontologyIRI.toString() + "#");	
@@ -112,12 +142,14 @@ public class Core {
 		// Ontology Name
 		OWLDataFactory factory = manager.getOWLDataFactory();
 		OWLAnnotation lblName = factory.getOWLAnnotation(factory.getRDFSLabel(), factory.getOWLLiteral(cfg.getOntology_Name(), "en"));
+		ChangeBuffer changes = new ChangeBuffer(manager);
 		OWLAxiom axiom = factory.getOWLAnnotationAssertionAxiom(ontologyIRI , lblName);
-		manager.applyChange(new AddAxiom(ontology, axiom));			
+		changes.add(ontology, axiom);
 		// Version
 		OWLAnnotation version = factory.getOWLAnnotation(factory.getOWLVersionInfo(), factory.getOWLLiteral(cfg.getOntology_Version(), "en"));
 		axiom = factory.getOWLAnnotationAssertionAxiom(ontologyIRI , version);
-		manager.applyChange(new AddAxiom(ontology, axiom));	
+		changes.add(ontology, axiom);
+		changes.flush();
 	}
 	
 	// GETTERS 	
@@ -157,6 +189,44 @@ public class Core {
 		return pm;
 	}
 	
+	/**
+	 * Gets the entity cache, with its hit and miss counters.
+	 *
+	 * @return The entity cache
+	 */
+	public EntityCache getEntityCache() {
+		return entities;
+	}
+	
+	/**
+	 * Gets the number of pending changes that triggers a flush of the change buffers.
+	 *
+	 * @return The change threshold
+	 */
+	public int getChangeThreshold() {
+		return changeThreshold;
+	}
+	
+	/**
+	 * Sets the number of pending changes that triggers a flush of the change buffers.
+	 *
+	 * @param threshold, the change threshold
+	 */
+	public void setChangeThreshold(int threshold) {
+		if (threshold < 1)
+			throw new IllegalArgumentException("Threshold must be positive: " + threshold);
+		changeThreshold = threshold;
+	}
+	
+	/**
+	 * Creates a new change buffer for the Core ontology manager, to be flushed at the end of the stage.
+	 *
+	 * @return The change buffer
+	 */
+	public ChangeBuffer newChangeBuffer() {
+		return new ChangeBuffer(manager, changeThreshold);
+	}
+	
 	/**
 	 * Gets the processed tables.
 	 *
@@ -175,12 +245,194 @@ public class Core {
 	}
 	
 	/**
-	 * Change the Core ontology.
+	 * Reset the parsed tables, forcing the table files to be read again.
+	 */
+	public void resetTables() {
+		tables.clear();
+		jumps.clear();
+		tableDirectory = null;
+	}
+	
+	/**
+	 * Gets the parsed table for the given table file name, the file is read only the first time.
+	 *
+	 * @param tableFileName, the table file name
+	 * @return The parsed table
+	 * @throws IOException if the table file cannot be read
+	 */
+	public SourceTable getTable(String tableFileName) throws IOException {
+		Set<String> reads = tableReads.get();
+		if (reads != null)
+			reads.add(tableFileName);
+		SourceTable table = tables.get(tableFileName);
+		if (table == null) {
+			table = SourceTable.load(getTableFile(tableFileName));
+			tables.put(tableFileName, table);
+		}
+		return table;
+	}
+	
+	/**
+	 * Gets the file for the given table file name, in the configured files path.
+	 *
+	 * @param tableFileName, the table file name
+	 * @return The table file
+	 */
+	public File getTableFile(String tableFileName) {
+		return new File(cfg.getFiles_Path(), tableFileName);
+	}
+	
+	/**
+	 * Gets the index of the table files in the configured files path (and its sub-directories), built only the first time.
+	 *
+	 * @return The table directory
+	 * @throws IOException if the files path cannot be read
+	 */
+	public TableDirectory getTableDirectory() throws IOException {
+		TableDirectory directory = tableDirectory;
+		if (directory == null) {
+			synchronized (jumps) {
+				directory = tableDirectory;
+				if (directory == null)
+					tableDirectory = directory = TableDirectory.build(new File(cfg.getFiles_Path()));
+			}
+		}
+		return directory;
+	}
+	
+	/**
+	 * Gets the tables the given table jumps to ("[Continued in Table N]" cells), the jump graph edges.
+	 *
+	 * @param tableFileName, the table file name
+	 * @return The jumped table file names, in table order (the unknown tables are left out)
+	 * @throws IOException if a table file cannot be read
+	 */
+	public List<String> getJumps(String tableFileName) throws IOException {
+		List<String> tableJumps = jumps.get(tableFileName);
+		if (tableJumps == null) {
+			Set<String> jumpSet = new LinkedHashSet<String>();
+			for (TableRow row : getTable(tableFileName).getRows()) {
+				for (List<CharSequence> cells : row.getSubRowViews()) {
+					for (CharSequence cell : cells) {
+						CellToken token = CellParser.parse(cell);
+						if (token.is(CellToken.Type.JUMP)) {
+							String jumpFileName = getTableDirectory().getTableFileName(token.getName());
+							if (jumpFileName != null)
+								jumpSet.add(jumpFileName);
+						}
+					}
+				}
+			}
+			tableJumps = Collections.unmodifiableList(new ArrayList<String>(jumpSet));
+			jumps.put(tableFileName, tableJumps);
+		}
+		return tableJumps;
+	}
+	
+	/**
+	 * Gets all the tables reachable by jumps from the given table, parsing each level of the jump graph in parallel.
+	 *
+	 * @param tableFileName, the table file name
+	 * @return The reachable table file names, in breadth-first order
+	 * @throws IOException if the given table file cannot be read
+	 */
+	public List<String> getJumpedTables(String tableFileName) throws IOException {
+		Set<String> reached = new LinkedHashSet<String>();
+		List<String> level = getJumps(tableFileName);
+		while (!level.isEmpty()) {
+			// Parse the level ahead
+			level.parallelStream().forEach(jumpFileName -> {
+				try {
+					getTable(jumpFileName);
+				} catch (IOException e) {
+					// Reported when the jumped table is processed
+				}
+			});
+			List<String> next = new ArrayList<String>();
+			for (String jumpFileName : level) {
+				if (!jumpFileName.equals(tableFileName) && reached.add(jumpFileName)) {
+					try {
+						next.addAll(getJumps(jumpFileName));
+					} catch (IOException e) {
+						// Reported when the jumped table is processed
+					}
+				}
+			}
+			level = next;
+		}
+		return new ArrayList<String>(reached);
+	}
+	
+	/**
+	 * Starts recording the table files read by the current thread (see getTable).
+	 */
+	public void startRecordingTableReads() {
+		tableReads.set(new LinkedHashSet<String>());
+	}
+	
+	/**
+	 * Stops recording the table files read by the current thread.
+	 *
+	 * @return The table file names read since the recording started, in reading order
+	 */
+	public Set<String> stopRecordingTableReads() {
+		Set<String> reads = tableReads.get();
+		tableReads.remove();
+		return (reads != null) ? reads : Collections.<String>emptySet();
+	}
+	
+	/**
+	 * Adds the given axioms to the Core ontology, in change sets of up to the change threshold.
+	 *
+	 * @param axiomSet, the axioms set (ignored if null)
+	 */
+	public void addAxioms(Set<? extends OWLAxiom> axiomSet) {
+		if (axiomSet == null)
+			return;
+		synchronized (ontology) {
+			ChangeBuffer changes = newChangeBuffer();
+			changes.addAll(ontology, axiomSet);
+			changes.flush();
+		}
+	}
+	
+	/**
+	 * Checks if the class for the given concept is already in the ontology signature.
+	 * The ontology is only read here, so the table handlers can run concurrently between commits.
+	 *
+	 * @param concept, the concept name
+	 * @return true, if the class is in the ontology signature
+	 */
+	protected boolean containsClass(String concept) {
+		synchronized (ontology) {
+			return ontology.containsClassInSignature(pm.getIRI(concept.replace(" ", "")));
+		}
+	}
+	
+	/**
+	 * Gets the concepts whose class is not yet in the ontology signature, checking all of them under a single lock.
+	 *
+	 * @param concepts, the concept names
+	 * @return the concepts not in the ontology signature
+	 */
+	protected Set<String> getUndefinedClasses(Collection<String> concepts) {
+		Set<String> undefined = new HashSet<String>();
+		synchronized (ontology) {
+			for (String concept : concepts)
+				if (!ontology.containsClassInSignature(pm.getIRI(concept.replace(" ", ""))))
+					undefined.add(concept);
+		}
+		return undefined;
+	}
+	
+	/**
+	 * Change the Core ontology, along with the manager it belongs to.
 	 *
 	 * @param ontology, The ontology
 	 */
 	public void changeOntology(OWLOntology ontology) {
-		Core.ontology = ontology;
+		this.ontology = ontology;
+		this.manager = ontology.getOWLOntologyManager();
 	}
 	
 	
@@ -193,12 +445,7 @@ public class Core {
 	 * @return The generated OWL class
 	 */
 	public OWLClass getOWLClassFromName(String concept) {
-		OWLDataFactory factory = manager.getOWLDataFactory();	
-		if (StringUtils.upperCase(concept, Locale.ENGLISH).equals(concept))
-			// For all uppercase literals, separate with "_"
-			return factory.getOWLClass(":" + concept.replaceAll(" ", "_"), pm);
-		else
-			return factory.getOWLClass(":" + concept.replaceAll(" ", ""), pm);
+		return entities.get(EntityType.CLASS, concept, name -> manager.getOWLDataFactory().getOWLClass(getEntityName(name), pm));
 	}	
 	
 	
@@ -209,8 +456,7 @@ public class Core {
 	 * @return The generated OWL Object Property
 	 */
 	public OWLObjectProperty getOWLObjectPropertyFromName(String concept) {	
-		OWLDataFactory factory = manager.getOWLDataFactory();
-		return factory.getOWLObjectProperty(":" + StringUtils.uncapitalize(concept.replaceAll(" ", "")), pm);
+		return entities.get(EntityType.OBJECT_PROPERTY, concept, name -> manager.getOWLDataFactory().getOWLObjectProperty(getPropertyName(name), pm));
 	}		
 	
 	
@@ -221,8 +467,7 @@ public class Core {
 	 * @return The OWL Data Property
 	 */
 	public OWLDataProperty getOWLDataPropertyFromName(String concept) {
-		OWLDataFactory factory = manager.getOWLDataFactory();	
-		return factory.getOWLDataProperty(":" + StringUtils.uncapitalize(concept.replaceAll(" ", "")), pm);
+		return entities.get(EntityType.DATA_PROPERTY, concept, name -> manager.getOWLDataFactory().getOWLDataProperty(getPropertyName(name), pm));
 	}	
 	
 	/**
@@ -232,12 +477,31 @@ public class Core {
 	 * @return The OWL Individual
 	 */
 	public OWLIndividual getOWLIndividualFromName(String concept) {
-		OWLDataFactory factory = manager.getOWLDataFactory();		
+		return entities.get(EntityType.NAMED_INDIVIDUAL, concept, name -> manager.getOWLDataFactory().getOWLNamedIndividual(getEntityName(name), pm));
+	}
+	
+	/**
+	 * Gets the prefixed name of a class or individual from the provided concept.
+	 *
+	 * @param concept, The concept
+	 * @return The prefixed name
+	 */
+	private static String getEntityName(String concept) {
 		if (StringUtils.upperCase(concept, Locale.ENGLISH).equals(concept))
 			// For all uppercase literals, separate with "_"
-			return factory.getOWLNamedIndividual(":" + concept.replaceAll(" ", "_"), pm);
+			return ":" + concept.replace(' ', '_');
 		else
-			return factory.getOWLNamedIndividual(":" + concept.replaceAll(" ", ""), pm);
+			return ":" + StringUtils.remove(concept, ' ');
+	}
+	
+	/**
+	 * Gets the prefixed name of an object or data property from the provided concept.
+	 *
+	 * @param concept, The concept
+	 * @return The prefixed name
+	 */
+	private static String getPropertyName(String concept) {
+		return ":" + StringUtils.uncapitalize(StringUtils.remove(concept, ' '));
 	}
 	
 	
@@ -386,6 +650,18 @@ public class Core {
 	 */
 	// SubclassOf
 	public Set<OWLAxiom> getSubClassOfAxiomsFromLine(String fileLine) throws FileNotExistsException {
+		return getSubClassOfAxiomsFromCells(TableReader.split(fileLine, CoreConfiguration.SEPARATOR));
+	}
+	
+	/**
+	 * Gets the Subclass-Of axioms from the cell views of a single row (or sub-row) of the formatted text file.
+	 * The cells are only materialised to String when their classes are created.
+	 *
+	 * @param cells, the cell views of the row
+	 * @return The Subclass-Of axioms set
+	 * @throws FileNotExistsException if the jump file not exists
+	 */
+	public Set<OWLAxiom> getSubClassOfAxiomsFromCells(List<CharSequence> cells) throws FileNotExistsException {
 		OWLDataFactory factory = manager.getOWLDataFactory();
 		String generalization = null, specialization = null;
 		OWLClass generalizationClass = null, specializationClass = null;
@@ -393,45 +669,47 @@ public class Core {
 		OWLAxiom subclassAxiom = null, generalizationClassLabelAxiom = null, specializationClassLabelAxiom = null;
 		Set<OWLAxiom> axiomSet = new HashSet<OWLAxiom>();
 		
-		String[] parts = fileLine.split(CoreConfiguration.SEPARATOR);
-		for (int i = 0; i < parts.length - 1; i++) {
-			generalization = parts[i];
-			specialization = parts[i + 1];
+		for (int i = 0; i < cells.size() - 1; i++) {
+			CharSequence generalizationCell = cells.get(i), specializationCell = cells.get(i + 1);
 			
 			// Jump to another table
-			Pattern jumpPattern = Pattern.compile("\\[\\s*[Cc]ontinue[sd]?\\s*in\\s*([Tt]able\\s*\\d+\\w?)\\s*\\]{1}");
-			Matcher jumpMatcher = jumpPattern.matcher(specialization);
-			if (jumpMatcher.matches()) {
+			CellToken specializationToken = CellParser.parse(specializationCell);
+			if (specializationToken.is(CellToken.Type.JUMP)) {
 				// Seek the file
-				File continueTable = Util.getContinuedTable(specialization);
-				if (continueTable == null)
-					throw new FileNotExistsException("File related to " + jumpMatcher.group(1));	
+				String fileName = null;
+				try {
+					fileName = getTableDirectory().getTableFileName(specializationToken.getName());
+				} catch (IOException e) {
+					e.printStackTrace();
+				}
+				if (fileName == null)
+					throw new FileNotExistsException("File related to " + specializationToken.getName());	
 				
 				// Process the file			
-				String fileName = continueTable.getName();
 
 				// Pruning mechanism, for tables with several jumps to the same table
-				if (!processedTables.contains(fileName)) {
-					addSubClassOfAxiomsFromTables(fileName);
-					processedTables.add(fileName);
+				if (processedTables.add(fileName)) {
+					Set<OWLAxiom> jumpAxioms = getSubClassOfAxiomsFromTables(fileName);
+					if (jumpAxioms != null)
+						axiomSet.addAll(jumpAxioms);
 				}
 			}
 			// Case without jumps
-			else if (!specialization.equals(CoreConfiguration.STOP)) {		
-				Pattern pattern = Pattern.compile("([\\s*\\w+\\-\\/]+)\\(([\\w+\\,\\-\\/\\s*]+)\\)");				
-				Matcher matcherGeneralization = pattern.matcher(generalization.trim());
-				Matcher matcherespecialization = pattern.matcher(specialization.trim());
+			else if (!CoreConfiguration.STOP.contentEquals(specializationCell)) {
+				generalization = generalizationCell.toString();
+				specialization = specializationCell.toString();
+				CellToken generalizationToken = CellParser.parse(generalizationCell);
 				
 				// Generalization Synonyms
-				if (matcherGeneralization.matches()) {
-					generalization = matcherGeneralization.group(1).trim();
-					String detail = matcherGeneralization.group(2).trim();
+				if (generalizationToken.is(CellToken.Type.SYNONYMS)) {
+					generalization = generalizationToken.getName();
+					String detail = generalizationToken.getDetail();
 					axiomSet.addAll(getEquivalentClassesAxioms(generalization, detail));
 				}			
 				// Specialization Synonyms 
-				if (matcherespecialization.matches()) {
-					specialization = matcherespecialization.group(1).trim();
-					String detail = matcherespecialization.group(2).trim();
+				if (specializationToken.is(CellToken.Type.SYNONYMS)) {
+					specialization = specializationToken.getName();
+					String detail = specializationToken.getDetail();
 					
 					// Special case, other detail
 					if (detail.equalsIgnoreCase("Open") || detail.equalsIgnoreCase("Close")) {
@@ -468,49 +746,57 @@ public class Core {
 	 * @param tableFileName, the table file name
 	 */
 	public void addSubClassOfAxiomsFromTables(String tableFileName) {
-		String fileLine = null;
+		addAxioms(getSubClassOfAxiomsFromTables(tableFileName));
+	}
+	
+	/**
+	 * Gets the Subclass-Of axioms from table file, including the jumped tables, without changing the ontology.
+	 *
+	 * @param tableFileName, the table file name
+	 * @return The Subclass-Of axioms set
+	 */
+	public Set<OWLAxiom> getSubClassOfAxiomsFromTables(String tableFileName) {
 		Set<OWLAxiom> axiomSet = new HashSet<OWLAxiom>();
 		try {
-			File fp = new File(cfg.getFiles_Path() + "\\" + tableFileName);
-			FileReader inputFile = new FileReader(fp);
-			LineNumberReader lnr = new LineNumberReader(inputFile);
+			SourceTable table = getTable(tableFileName);
+			// Parse the jumped tables ahead
+			getJumpedTables(tableFileName);
 			boolean discardLast = false;
 			
-			while ((fileLine = lnr.readLine()) != null) {
-				String[] parts = fileLine.split(CoreConfiguration.SEPARATOR);
-				
-				// Header
-				if (lnr.getLineNumber() == 2) {	
-					// Discard Examples column if exists
-					for (int i = 0; i < parts.length; i++) {
-						if (StringUtils.containsIgnoreCase(parts[i], "EXAMPLE") && i == parts.length - 1)
-							discardLast = true;							
+			// Header
+			List<String> header = table.getHeader();
+			// Discard Examples column if exists
+			for (int i = 0; i < header.size(); i++) {
+				if (StringUtils.containsIgnoreCase(header.get(i), "EXAMPLE") && i == header.size() - 1)
+					discardLast = true;							
+			}
+			// Data
+			for (TableRow row : table.getRows()) {
+				if (row.isContinued()) {
+					for (List<CharSequence> cells : row.getSubRowViews())
+						axiomSet.addAll(getSubClassOfAxiomsFromCells(cells));
+				} else {
+					List<CharSequence> cells = row.getCellViews();
+					if (discardLast && (cells.size() > 1)) {
+						// Discard the last (Examples) cell, and the empty cells left before it
+						int last = cells.size() - 1;
+						while ((last > 0) && (cells.get(last - 1).length() == 0))
+							last--;
+						cells = cells.subList(0, last);
 					}
-				}
-				// Data
-				if (lnr.getLineNumber() > 2) {					
-					if (fileLine.contains(CoreConfiguration.CARRIAGE_RETURN_SEPARATOR)) {
-						String[] lines = fileLine.split("\\" + CoreConfiguration.CARRIAGE_RETURN_SEPARATOR + CoreConfiguration.SEPARATOR);
-						for (String line : lines)
-							axiomSet.addAll(getSubClassOfAxiomsFromLine(line));
-					} else {
-						if (discardLast) {
-							fileLine = StringUtils.substringBeforeLast(StringUtils.stripEnd(fileLine, CoreConfiguration.SEPARATOR), CoreConfiguration.SEPARATOR) + CoreConfiguration.SEPARATOR; 
-							axiomSet.addAll(getSubClassOfAxiomsFromLine(fileLine));
-						}
-						else 				
-							axiomSet.addAll(getSubClassOfAxiomsFromLine(fileLine));	
-					}						
+					axiomSet.addAll(getSubClassOfAxiomsFromCells(cells));
 				}
 			}
-			lnr.close();
-			manager.addAxioms(this.getOntology(), axiomSet);
+			return axiomSet;
 		} catch (FileNotFoundException e) {
 			e.printStackTrace();
+			return null;
 		} catch (IOException e) {
 			e.printStackTrace();
+			return null;
 		} catch (FileNotExistsException e) {
 			e.printStackTrace();
+			return null;
 		}
 	}
 
@@ -521,55 +807,66 @@ public class Core {
 	 */
 	// PartOf
 	public void generatePartOfRelationSet() {
+		addAxioms(getPartOfRelationSetAxioms());
+	}
+	
+	/**
+	 * Gets the Part-Of relation set axioms (partOf/hasPart and their direct sub-relations).
+	 *
+	 * @return The Part-Of relation set axioms
+	 */
+	public Set<OWLAxiom> getPartOfRelationSetAxioms() {
 		OWLDataFactory factory = manager.getOWLDataFactory();
+		Set<OWLAxiom> axiomSet = new HashSet<OWLAxiom>();
 		
 		// PartOf Relation
 		OWLObjectProperty partOf = factory.getOWLObjectProperty(":partOf", pm);
 		OWLAxiom partOf_TransitiveAxiom = factory.getOWLTransitiveObjectPropertyAxiom(partOf);
-		manager.applyChange(new AddAxiom(ontology, partOf_TransitiveAxiom));
+		axiomSet.add(partOf_TransitiveAxiom);
 		
 		// Label
 		OWLAnnotation lbl = factory.getOWLAnnotation(factory.getRDFSLabel(), factory.getOWLLiteral("partOf", "en"));
 		OWLAnnotationAssertionAxiom lblAxiom = factory.getOWLAnnotationAssertionAxiom(partOf.getIRI(), lbl);
-		manager.applyChange(new AddAxiom(ontology, lblAxiom));
+		axiomSet.add(lblAxiom);
 
 		// Inverse relation (HasPart)
 		OWLObjectProperty hasPart = factory.getOWLObjectProperty(":hasPart", pm);
 		OWLInverseObjectPropertiesAxiom inversePartOf = factory.getOWLInverseObjectPropertiesAxiom(partOf, hasPart);
-		manager.applyChange(new AddAxiom(ontology, inversePartOf));
+		axiomSet.add(inversePartOf);
 		
 		// Label
 		lbl = factory.getOWLAnnotation(factory.getRDFSLabel(), factory.getOWLLiteral("hasPart", "en"));
 		lblAxiom = factory.getOWLAnnotationAssertionAxiom(hasPart.getIRI(), lbl);
-		manager.applyChange(new AddAxiom(ontology, lblAxiom));
+		axiomSet.add(lblAxiom);
 
 		// W3C recommendation: In order to avoid problems with the reasoner, define as transitive only one
 		OWLAxiom hasPart_TransitiveAxiom = factory.getOWLTransitiveObjectPropertyAxiom(hasPart);
-		manager.applyChange(new AddAxiom(ontology, hasPart_TransitiveAxiom));
+		axiomSet.add(hasPart_TransitiveAxiom);
 
 		// Lower level relations
 		// partOf_directly
 		OWLObjectProperty partOf_directly = factory.getOWLObjectProperty(":partOf_directly", pm);
 		OWLAxiom partOf_directlyAxiom = factory.getOWLSubObjectPropertyOfAxiom(partOf_directly.asOWLObjectProperty(), partOf.asOWLObjectProperty());
-		manager.applyChange(new AddAxiom(ontology, partOf_directlyAxiom));
+		axiomSet.add(partOf_directlyAxiom);
 		
 		// Label
 		lbl = factory.getOWLAnnotation(factory.getRDFSLabel(), factory.getOWLLiteral("partOf directly", "en"));
 		lblAxiom = factory.getOWLAnnotationAssertionAxiom(partOf_directly.getIRI(), lbl);
-		manager.applyChange(new AddAxiom(ontology, lblAxiom));
+		axiomSet.add(lblAxiom);
 
 		// hasPart_directly
 		OWLObjectProperty hasPart_directly = factory.getOWLObjectProperty(":hasPart_directly", pm);
 		OWLAxiom hasPart_directlyAxiom = factory.getOWLSubObjectPropertyOfAxiom(hasPart_directly.asOWLObjectProperty(), hasPart.asOWLObjectProperty());
-		manager.applyChange(new AddAxiom(ontology, hasPart_directlyAxiom));
+		axiomSet.add(hasPart_directlyAxiom);
 		
 		// Label
 		lbl = factory.getOWLAnnotation(factory.getRDFSLabel(), factory.getOWLLiteral("hasPart directly", "en"));
 		lblAxiom = factory.getOWLAnnotationAssertionAxiom(hasPart_directly.getIRI(), lbl);
-		manager.applyChange(new AddAxiom(ontology, lblAxiom));
+		axiomSet.add(lblAxiom);
 		
 		OWLInverseObjectPropertiesAxiom inversePartOf_directly = factory.getOWLInverseObjectPropertiesAxiom(partOf_directly, hasPart_directly);
-		manager.applyChange(new AddAxiom(ontology, inversePartOf_directly));
+		axiomSet.add(inversePartOf_directly);
+		return axiomSet;
 	}
 	
 	/**
@@ -578,121 +875,29 @@ public class Core {
 	 * @param tableFileName, the Part-Of relations table file name
 	 */
 	public void addPartOfAxiomsFromTable(String tableFileName) {
-		OWLDataFactory factory = manager.getOWLDataFactory();
-		String fileLine = null;
-		List<String[]> relations = new ArrayList<String[]>();
-		Set<String> holonyms = new HashSet<String>();
+		addAxioms(getPartOfAxiomsFromTable(tableFileName));
+	}
+	
+	/**
+	 * Gets the Part-Of axioms, including the Part-Of relation set, from table file without changing the ontology.
+	 *
+	 * @param tableFileName, the Part-Of relations table file name
+	 * @return The Part-Of axioms set
+	 */
+	public Set<OWLAxiom> getPartOfAxiomsFromTable(String tableFileName) {
 		try {
-			File fp = new File(cfg.getFiles_Path() + "\\" + tableFileName);
-			FileReader inputFile = new FileReader(fp);
-			LineNumberReader lnr = new LineNumberReader(inputFile);
-			int meronymCol = -1, holonymCol = -1;
-			
-			while ((fileLine = lnr.readLine()) != null) {
-				String[] parts = fileLine.split(CoreConfiguration.SEPARATOR);			
-				// Header
-				if (lnr.getLineNumber() == 2) {
-					String part = null;				
-					// Infer column order (array indexes)
-					for (int i = 0; i < parts.length; i++) {
-						part = parts[i];
-						if (StringUtils.containsIgnoreCase(part, "HOLONYM")) 
-							holonymCol = i;
-						else if (StringUtils.containsIgnoreCase(part, "MERONYM")) 
-							meronymCol = i;
-					}
-				}		
-				// Data
-				else if ((lnr.getLineNumber() > 2) && (meronymCol != -1) && (holonymCol != -1)) {
-					parts = fileLine.split(CoreConfiguration.SEPARATOR);
-					holonyms.add(parts[holonymCol]);
-					relations.add(parts);
-				}
-			}			
-			lnr.close();
-			
+			SourceTable table = getTable(tableFileName);
 			// Generate basic meronymy relations (partOf/hasPart):
-			generatePartOfRelationSet();
-
-			// Classify the relation by its holonym
-			int holonymsSize = holonyms.size();
-			List<String> holonymsAL = new ArrayList<String>(holonyms);
-			List<List<String>> classifier = new ArrayList<List<String>>(holonymsSize);
-			for (int i = 0; i < holonymsSize; i++) {
-				ArrayList<String> innerArrayList = new ArrayList<String>();
-				classifier.add(innerArrayList);
-			}
-			for (String[] relation : relations)
-				classifier.get(holonymsAL.indexOf(relation[holonymCol])).add(relation[meronymCol]);
-
-			// hasPart:
-			// Process 'allValuesFrom' restrictions for each holonym
-			Pattern pattern = Pattern.compile("([\\s*\\w+\\-\\/]+)\\(([\\w+\\.\\-\\/\\s*]+)\\)");
-			for (String holonym : holonymsAL) {
-				List<String> meronymLiterals = classifier.get(holonymsAL.indexOf(holonym));
-				Set<OWLClass> meronymsAllValuesFrom = new HashSet<OWLClass>();
-				for (String meronym : meronymLiterals) {
-					Matcher matcherSource = pattern.matcher(meronym);
-					if (matcherSource.matches()) 
-						meronym = matcherSource.group(1).replace("/", "-").trim();
-					OWLClass meronymClass = factory.getOWLClass(":" + meronym.replaceAll(" ", ""), pm);
-					// If the concept wasn't previously defined (Import), define labels
-					if (!ontology.containsClassInSignature(pm.getIRI(meronym.replace(" ", "")))) {
-						// Label
-						OWLAnnotation lblNewClass = factory.getOWLAnnotation(factory.getRDFSLabel(), factory.getOWLLiteral(meronym, "en"));
-						manager.applyChange(new AddAxiom(ontology, factory.getOWLAnnotationAssertionAxiom(meronymClass.getIRI(), lblNewClass)));
-					}	
-					meronymsAllValuesFrom.add(meronymClass);
-				}
-				// Closure axiom
-				OWLObjectIntersectionOf intersectionOf = null;
-				OWLQuantifiedObjectRestriction aRestriction = null;
-				OWLObjectProperty hasPart = getOWLObjectPropertyFromName("hasPart");
-				if (meronymsAllValuesFrom.size() > 1) {
-					intersectionOf = factory.getOWLObjectIntersectionOf(meronymsAllValuesFrom);
-					aRestriction = factory.getOWLObjectAllValuesFrom(hasPart, intersectionOf);
-				} else if (meronymsAllValuesFrom.size() == 1)
-					aRestriction = factory.getOWLObjectAllValuesFrom(hasPart, meronymsAllValuesFrom.iterator().next());
-				
-				// Meronym
-				Matcher matcherTarget = pattern.matcher(holonym);
-				if (matcherTarget.matches())
-					holonym = matcherTarget.group(1).replace("/", "-").trim();				
-				OWLClass claseHolonym = getOWLClassFromName(holonym);
-				// If the concept wasn't previously defined (Import), define labels
-				if (!ontology.containsClassInSignature(pm.getIRI(holonym.replace(" ", "")))) {
-					// Label
-					OWLAnnotation lblNewClass = factory.getOWLAnnotation(factory.getRDFSLabel(), factory.getOWLLiteral(holonym, "en"));
-					manager.applyChange(new AddAxiom(ontology, factory.getOWLAnnotationAssertionAxiom(claseHolonym.getIRI(), lblNewClass)));
-				}				
-				manager.applyChange(new AddAxiom(ontology, factory.getOWLSubClassOfAxiom(claseHolonym, aRestriction)));
-			}
-//			 	// PartOf: (to be asserted for the Individuals)
-//			 	// Process 'someValuesFrom' restrictions for each holonym
-//				OWLObjectSomeValuesFrom sRestriction = null;
-//				for (String[] relation : relations) {
-//				String holonym = relation[holonymCol];
-//				String meronym = relation[meronymCol];
-//				
-//				Matcher matcherSource = pattern.matcher(meronym); 
-//				if (matcherSource.matches())
-//				meronym = matcherSource.group(1).replace("/", "-");
-//				
-//				OWLClass claseMeronym = factory.getOWLClass(":"+holonym.replaceAll(" ", ""), pm);	
-//				Matcher matcherTarget = pattern.matcher(holonym);
-//				if (matcherTarget.matches())
-//				holonym = matcherTarget.group(1).replace("/", "-");
-//				
-//				OWLClass claseHolonym = factory.getOWLClass(":"+holonym.replaceAll(" ", ""), pm);
-//				OWLObjectProperty partOf_directly = getOWLObjectPropertyFromName("partOf_directly");
-//				sRestriction = factory.getOWLObjectSomeValuesFrom(partOf_directly, claseHolonym);
-//				manager.applyChange(new AddAxiom(ontology, factory.getOWLSubClassOfAxiom(claseMeronym, sRestriction)));
-//			}
+			Set<OWLAxiom> axiomSet = getPartOfRelationSetAxioms();
+			axiomSet.addAll(new PartOfEngine(this).getAxioms(table));
+			return axiomSet;
 		} catch (FileNotFoundException e) {
 			e.printStackTrace();
+			return null;
 		}
 		catch (IOException e) {
 			e.printStackTrace();
+			return null;
 		}
 	}
 
@@ -704,229 +909,169 @@ public class Core {
 	 * @see http://www.w3.org/TR/owl-ref/#disjointWith-def
 	 */ 
 	public void addDisjointDecompositionsFromTable(String tableFileName) {
-		OWLDataFactory factory = this.getManager().getOWLDataFactory();
-		String fileLine = null;
-		Set<OWLClass> components = new HashSet<OWLClass>();
-		try {
-			File fp = new File(this.getCfg().getFiles_Path() + "\\" + tableFileName);
-			FileReader inputFile = new FileReader(fp);
-			LineNumberReader lnr = new LineNumberReader(inputFile);
-			int targetCol = 0, componentsCol = 1;	
-			String target = null, targetRef = null;
-			boolean firstRef = true;
-			
-			// Preprocessing: Shuffle & Sort
-			List <Pair<String, String>> decompositions = new ArrayList <Pair<String, String>>();
-			while((fileLine = lnr.readLine()) != null) {		
-				// Data	
-				if (lnr.getLineNumber() > 2) {		
-					if (fileLine.contains("$CRLF")) {
-						String[] lines = fileLine.split("\\$CRLF~~");
-						
-						for (String line : lines) {
-							String[] parts = line.split(CoreConfiguration.SEPARATOR);
-							decompositions.add(new Pair<String, String>(parts[targetCol], parts[componentsCol]));
-						}
-					}
-				}
-			}
-			lnr.close();
-			
-			// Sort decompositions by target
-			Collections.sort(decompositions, Comparator.comparing(p -> p.first()));		
+		addAxioms(getDisjointDecompositionsFromTable(tableFileName));
+	}
+	
+	/**
+	 * Gets the Class Disjoint-Decompositions axioms from table file without changing the ontology.
+	 *
+	 * @param tableFileName, the Disjoint-Decompositions table file name
+	 * @return The Disjoint-Decompositions axioms set
+	 */ 
+	public Set<OWLAxiom> getDisjointDecompositionsFromTable(String tableFileName) {
+		return getDecompositionsFromTables(DecompositionProcessor.Kind.DISJOINT, tableFileName);
+	}
 
-			// Process the decompositions list
-			for (Pair<String, String> decomposition : decompositions) {
-				String disjointComponent = decomposition.second();
-				target = decomposition.first();				
-				if (firstRef) { 
-					targetRef = target;
-					firstRef = false;
-				}				
-				// Same group
-				if (target.compareTo(targetRef) == 0) {
-					OWLClass disjointClass = this.getOWLClassFromName(disjointComponent);
-					components.add(disjointClass);
-				}
-				// Different group
-				else{
-					OWLDisjointClassesAxiom disjointAxiom = factory.getOWLDisjointClassesAxiom(components);
-					this.getManager().applyChange(new AddAxiom(this.getOntology(), disjointAxiom));						
-					OWLObjectUnionOf unionOf = factory.getOWLObjectUnionOf(components);
-					OWLClass targetClass = getOWLClassFromName(targetRef);
-					OWLEquivalentClassesAxiom equivalentClasses = factory.getOWLEquivalentClassesAxiom(targetClass, unionOf);
-					this.getManager().applyChange(new AddAxiom(this.getOntology(), equivalentClasses));
-					
-					// SubclassOf
-					for (OWLClass component : components) {
-						OWLSubClassOfAxiom subClassOf = factory.getOWLSubClassOfAxiom(component, targetClass);
-						this.getManager().applyChange(new AddAxiom(this.getOntology(), subClassOf));
-					}							
-					components.clear();				
-					targetRef = target;					
-					OWLClass disjointClass = this.getOWLClassFromName(disjointComponent);
-					components.add(disjointClass);
-				}	
-			}
-			// Disjointness
-			OWLDisjointClassesAxiom disjointAxiom = factory.getOWLDisjointClassesAxiom(components);
-			this.getManager().applyChange(new AddAxiom(this.getOntology(), disjointAxiom));
-			
-			// Union & Equivalence
-			OWLObjectUnionOf unionOf = factory.getOWLObjectUnionOf(components);
-			OWLClass targetClass = this.getOWLClassFromName(target);
-			OWLEquivalentClassesAxiom equivalentClasses = factory.getOWLEquivalentClassesAxiom(targetClass, unionOf);
-			this.getManager().applyChange(new AddAxiom(this.getOntology(), equivalentClasses));
+	/**
+	 * Adds the exhaustive decompositions from table file to the Core ontology.
+	 *
+	 * @param tableFileName, the Exhaustive-Decompositions table file name
+	 */
+	// Exhaustive Decompositions
+	public void addExhaustiveDecompositionsFromTable(String tableFileName) {
+		addAxioms(getExhaustiveDecompositionsFromTable(tableFileName));
+	}
+	
+	/**
+	 * Gets the exhaustive decompositions axioms from table file without changing the ontology.
+	 *
+	 * @param tableFileName, the Exhaustive-Decompositions table file name
+	 * @return The Exhaustive-Decompositions axioms set
+	 */
+	public Set<OWLAxiom> getExhaustiveDecompositionsFromTable(String tableFileName) {
+		return getDecompositionsFromTables(DecompositionProcessor.Kind.EXHAUSTIVE, tableFileName);
+	}
 
-			// SubclassOf					
-			for (OWLClass component : components) {
-				OWLSubClassOfAxiom subClassOf = factory.getOWLSubClassOfAxiom(component, targetClass);
-				this.getManager().applyChange(new AddAxiom(this.getOntology(), subClassOf));
-			}
-			components.clear();
+	// Decompositions
+	/**
+	 * Adds the decompositions of one or more tables to the Core ontology. The decompositions of a target spread over
+	 * several tables are merged.
+	 *
+	 * @param kind, the decomposition kind
+	 * @param tableFileNames, the Decompositions table file names
+	 */
+	public void addDecompositionsFromTables(DecompositionProcessor.Kind kind, String... tableFileNames) {
+		addAxioms(getDecompositionsFromTables(kind, tableFileNames));
+	}
+
+	/**
+	 * Gets the decompositions axioms of one or more tables without changing the ontology. The rows are grouped by
+	 * target in a single pass, without sorting them. The tables are streamed (neither loaded nor cached), only the
+	 * component classes of each decomposition are kept until the axioms are built.
+	 *
+	 * @param kind, the decomposition kind
+	 * @param tableFileNames, the Decompositions table file names
+	 * @return The decompositions axioms set
+	 */
+	public Set<OWLAxiom> getDecompositionsFromTables(DecompositionProcessor.Kind kind, String... tableFileNames) {
+		DecompositionProcessor processor = new DecompositionProcessor(this, kind);
+		try {
+			for (String tableFileName : tableFileNames)
+				TableReader.read(getTableFile(tableFileName), getDecompositionsHandler(processor));
+			return processor.getAxioms();
 		} catch (FileNotFoundException e) {
 			e.printStackTrace();
+			return null;
 		} catch (IOException e) {
 			e.printStackTrace();
+			return null;
 		}
 	}
 
 	/**
-	 * Adds the exhaustive decompositions from table file to the Core ontology.
+	 * Gets the line handler that adds the decompositions of a table to the processor: the target and component pairs
+	 * of the continued rows.
 	 *
-	 * @param tableFileName, the Exhaustive-Decompositions table file name
+	 * @param processor, the decomposition processor
+	 * @return the Decompositions table line handler
 	 */
-	// Exhaustive Decompositions
-	public void addExhaustiveDecompositionsFromTable(String tableFileName) {
-		OWLDataFactory factory = this.getManager().getOWLDataFactory();
-		String fileLine = null;
-		Set<OWLClass> components = new HashSet<OWLClass>();		
-		try {
-			File fp = new File(this.getCfg().getFiles_Path() + "\\" + tableFileName);
-			FileReader inputFile = new FileReader(fp);
-			LineNumberReader lnr = new LineNumberReader(inputFile);
-			int targetCol = 0, componentsCol = 1;	
-			String target = null, targetRef = null, component = null;
-			OWLClass targetClass = null, unionClass = null; 
-			boolean firstRef = true;
-			
-			// Preprocessing: Shuffle & Sort
-			List <Pair<String, String>> decompositions = new ArrayList <Pair<String, String>>();
-			while((fileLine = lnr.readLine()) != null) {		
-				// Data	
-				if (lnr.getLineNumber() > 2) {		
-					if (fileLine.contains("$CRLF")) {
-						String[] lines = fileLine.split("\\$CRLF~~");
-						
-						for (String line : lines) {
-							String[] parts = line.split(CoreConfiguration.SEPARATOR);
-							decompositions.add(new Pair<String, String>(parts[targetCol], parts[componentsCol]));
-						}
+	protected TableReader.LineHandler getDecompositionsHandler(final DecompositionProcessor processor) {
+		return new TableReader.LineHandler() {
+			@Override
+			public void line(int lineNumber, CharSequence line) {
+				int targetCol = 0, componentsCol = 1;
+				// Data
+				if (lineNumber > SourceTable.HEADER_LINE) {
+					TableRow row = new TableRow(lineNumber, line);
+					if (row.isContinued()) {
+						for (List<CharSequence> cells : row.getSubRowViews())
+							processor.add(cells.get(targetCol).toString(), cells.get(componentsCol).toString());
 					}
 				}
 			}
-			lnr.close();
-			
-			// Sort decompositions by target
-			Collections.sort(decompositions, Comparator.comparing(p -> p.first()));		
+		};
+	}
 
-			// Process the decompositions list
-			for (Pair<String, String> decomposition : decompositions) {
-				component = decomposition.second();
-				target = decomposition.first();	
-				if (firstRef) {
-					targetRef = target;
-					firstRef = false;
-					targetClass = getOWLClassFromName(target);
-				}				
-				// Same group
-				if (target.compareTo(targetRef) == 0) {
-					unionClass = this.getOWLClassFromName(component);
-					components.add(unionClass);
-				}			
-				// Different group
-				else{
-					///owl:equivalentClass(owl:unionOf)
-					OWLObjectUnionOf unionOf = factory.getOWLObjectUnionOf(components);
-					OWLEquivalentClassesAxiom equivalentClasses = factory.getOWLEquivalentClassesAxiom(targetClass, unionOf);
-					this.getManager().applyChange(new AddAxiom(this.getOntology(), equivalentClasses));		
-					components.clear();
-					targetRef = target;				
-					targetClass = this.getOWLClassFromName(target);
-					unionClass = this.getOWLClassFromName(component);
-					components.add(unionClass);
-				}	
+	
+	// DOMAINS & RANGES
+	/**
+	 * Gets the domain (concepts) column index of the given table.
+	 *
+	 * @param table, the Attributes or AdHoc relations table
+	 * @return The domain column index, or -1 if it doesn't exist
+	 */
+	private int getDomainColumn(SourceTable table) {
+		List<String> header = table.getHeader();
+		// Infer column order (array indexes)
+		for (int i = 0; i < header.size(); i++) {
+			if (StringUtils.containsIgnoreCase(header.get(i), "CONCEPT")) {
+				// For the AdHoc relation tables, there are 2 column names containing the literal 'CONCEPT': 
+				// SURCE CONCEPT and TARGET CONCEPT, discard TARGET CONCEPT 
+				if (StringUtils.containsIgnoreCase(header.get(i), "TARGET"))
+					continue;
+				return i;
 			}
-			OWLObjectUnionOf unionOf = factory.getOWLObjectUnionOf(components);
-			OWLEquivalentClassesAxiom equivalentClasses = factory.getOWLEquivalentClassesAxiom(targetClass, unionOf);
-			this.getManager().applyChange(new AddAxiom(this.getOntology(), equivalentClasses));		
-		} catch (FileNotFoundException e) {
-			e.printStackTrace();
-		} catch (IOException e) {
-			e.printStackTrace();
 		}
-	}	
-
+		return -1;
+	}
+	
+	/**
+	 * Gets the range (target concepts) column index of the given table.
+	 *
+	 * @param table, the AdHoc relations table
+	 * @return The range column index, or -1 if it doesn't exist
+	 */
+	private int getRangeColumn(SourceTable table) {
+		List<String> header = table.getHeader();
+		// Infer column order (array indexes)
+		for (int i = 0; i < header.size(); i++) {
+			if (StringUtils.containsIgnoreCase(header.get(i), "TARGET"))
+				return i;
+		}
+		return -1;
+	}
+	
+	/**
+	 * Gets the values (data types) column index of the given table.
+	 *
+	 * @param table, the Attributes table
+	 * @return The values column index, or -1 if it doesn't exist
+	 */
+	private int getValuesColumn(SourceTable table) {
+		List<String> header = table.getHeader();
+		// Infer column order (array indexes)
+		for (int i = 0; i < header.size(); i++) {
+			if (StringUtils.containsIgnoreCase(header.get(i), "VALUE TYPE") || 
+				StringUtils.containsIgnoreCase(header.get(i), "VALUES") ||
+				StringUtils.containsIgnoreCase(header.get(i), "COMPUTATIONAL TYPE") )
+				return i;
+		}
+		return -1;
+	}
 	
-	// DOMAINS & RANGES
 	/**
 	 * Gets the domain classes for the given Attribute (DataProperty) or AdHoc Relation (Object Property) from the Attributes or AdHoc Relations table file.
 	 *
 	 * @param tableFileName, Attributes or AdHoc relations table file name
 	 * @param propertyName, the Attribute (DataProperty) or AdHoc Relation (Object Property) name
+	 * @param axiomSet, the axioms set where the labels of the new classes are added, for the caller to add
 	 * @return The domain classes set
 	 */
 	// Attribute (DataProperty) | AdHoc Relation (Object Property) Domain
-	public Set<OWLClass> getDomainClassesFromTable(String tableFileName, String propertyName) {
-		OWLDataFactory factory = manager.getOWLDataFactory();
-		String fileLine = null;
-		Set<OWLClass> domains = new HashSet<OWLClass>();
+	public Set<OWLClass> getDomainClassesFromTable(String tableFileName, String propertyName, Set<OWLAxiom> axiomSet) {
 		try {		
-			File fp = new File(cfg.getFiles_Path() + "\\" + tableFileName);
-			FileReader inputFile = new FileReader(fp);
-			LineNumberReader lnr = new LineNumberReader(inputFile);
-			int conceptsCol = -1;
-			
-			while ((fileLine = lnr.readLine()) != null) {
-				String[] parts = fileLine.split(CoreConfiguration.SEPARATOR);
-				// Header
-				if (lnr.getLineNumber() == 2) {
-					// Infer column order (array indexes)
-					for (int i = 0; i < parts.length; i++) {
-						if (StringUtils.containsIgnoreCase(parts[i], "CONCEPT")) {
-							// For the AdHoc relation tables, there are 2 column names containing the literal 'CONCEPT': 
-							// SURCE CONCEPT and TARGET CONCEPT, discard TARGET CONCEPT 
-							if (StringUtils.containsIgnoreCase(parts[i], "TARGET"))
-								continue;
-							conceptsCol = i;
-							break;
-						}
-					}
-				}
-				// Data
-				if ((lnr.getLineNumber() > 2) && (conceptsCol != -1)) {
-					if (fileLine.contains(propertyName)) {
-						Pattern pattern = Pattern.compile("([\\s*\\w+\\-\\/]+)\\(([\\w+\\,\\-\\/\\s*]+)\\)");
-						String domain = parts[conceptsCol].trim().replace("/", "-");
-						Matcher matcher = pattern.matcher(domain);
-
-						// Keep only the name
-						if (matcher.matches())
-							domain = matcher.group(1);
-						OWLClass domainClass = getOWLClassFromName(domain);
-						
-						// If the concept wasn't previously defined (Import), define labels
-						if (!ontology.containsClassInSignature(pm.getIRI(domain.replace(" ", "")))) {
-							// Label
-							OWLAnnotation lblNewClass = factory.getOWLAnnotation(factory.getRDFSLabel(), factory.getOWLLiteral(domain, "en"));
-							manager.applyChange(new AddAxiom(ontology, factory.getOWLAnnotationAssertionAxiom(domainClass.getIRI(), lblNewClass)));
-						}	
-						domains.add(domainClass);
-					}
-				}
-			}
-			lnr.close();
-			return domains;
+			SourceTable table = getTable(tableFileName);
+			return getDomainClassesFromRows(table.getRowsContaining(propertyName), getDomainColumn(table), axiomSet);
 		} catch (FileNotFoundException e) {
 			e.printStackTrace();
 			return null;
@@ -936,60 +1081,51 @@ public class Core {
 		}
 	}
 	
+	/**
+	 * Gets the domain classes from the given data rows.
+	 *
+	 * @param rows, the data rows of the property
+	 * @param conceptsCol, the domain column index
+	 * @param axiomSet, the axioms set where the labels of the new classes are added
+	 * @return The domain classes set
+	 */
+	private Set<OWLClass> getDomainClassesFromRows(List<TableRow> rows, int conceptsCol, Set<OWLAxiom> axiomSet) {
+		OWLDataFactory factory = manager.getOWLDataFactory();
+		Set<OWLClass> domains = new HashSet<OWLClass>();
+		if (conceptsCol == -1)
+			return domains;
+		
+		for (TableRow row : rows) {
+			String domain = row.getCell(conceptsCol).trim().replace("/", "-");
+
+			// Keep only the name
+			domain = CellParser.getName(domain);
+			OWLClass domainClass = getOWLClassFromName(domain);
+			
+			// If the concept wasn't previously defined (Import), define labels
+			if (!containsClass(domain)) {
+				// Label
+				OWLAnnotation lblNewClass = factory.getOWLAnnotation(factory.getRDFSLabel(), factory.getOWLLiteral(domain, "en"));
+				axiomSet.add(factory.getOWLAnnotationAssertionAxiom(domainClass.getIRI(), lblNewClass));
+			}	
+			domains.add(domainClass);
+		}
+		return domains;
+	}
+	
 	/**
 	 * Gets the range classes for the given AdHoc Relation (Object Property) from the AdHoc Relations table file.
 	 *
 	 * @param tableFileName, the AdHoc Relations table file name
 	 * @param propertyName, the AdHoc Relation (Object Property) name
+	 * @param axiomSet, the axioms set where the labels of the new classes are added, for the caller to add
 	 * @return The range classes set
 	 */
 	// AdHoc Relation (Object Property) Range
-	public Set<OWLClass> getRangeClassesFromTable(String tableFileName, String propertyName) {
-		OWLDataFactory factory = manager.getOWLDataFactory();
-		String fileLine = null;
-		Set<OWLClass> ranges = new HashSet<OWLClass>();		
+	public Set<OWLClass> getRangeClassesFromTable(String tableFileName, String propertyName, Set<OWLAxiom> axiomSet) {
 		try {
-			File fp = new File(cfg.getFiles_Path() + "\\" + tableFileName);
-			FileReader inputFile = new FileReader(fp);
-			LineNumberReader lnr = new LineNumberReader(inputFile);
-			int conceptsCol = -1;
-
-			while ((fileLine = lnr.readLine()) != null) {
-				String[] parts = fileLine.split(CoreConfiguration.SEPARATOR);		
-				// Header
-				if (lnr.getLineNumber() == 2) {
-					// Infer column order (array indexes)
-					for (int i = 0; i < parts.length; i++) {
-						if (StringUtils.containsIgnoreCase(parts[i], "TARGET")) {
-							conceptsCol = i;
-							break;
-						}
-					}
-				}
-				// Data
-				if ((lnr.getLineNumber() > 2) && (conceptsCol != -1)) {
-					if (fileLine.contains(propertyName)) {
-						Pattern pattern = Pattern.compile("([\\s*\\w+\\-\\/]+)\\(([\\w+\\,\\-\\/\\s*]+)\\)");					
-						String range = parts[conceptsCol].trim().replace("/", "-");
-						Matcher matcher = pattern.matcher(range);
-
-						// Keep only the name
-						if (matcher.matches())
-							range = matcher.group(1);
-						OWLClass rangeClass = getOWLClassFromName(range);
-						
-						// If the concept wasn't previously defined (Import), define labels
-						if (!ontology.containsClassInSignature(pm.getIRI(range.replace(" ", "")))) {
-							// Label
-							OWLAnnotation lblNewClass = factory.getOWLAnnotation(factory.getRDFSLabel(), factory.getOWLLiteral(range, "en"));
-							manager.applyChange(new AddAxiom(ontology, factory.getOWLAnnotationAssertionAxiom(rangeClass.getIRI(), lblNewClass)));
-						}			
-						ranges.add(rangeClass);
-					}
-				}
-			}
-			lnr.close();
-			return ranges;
+			SourceTable table = getTable(tableFileName);
+			return getRangeClassesFromRows(table.getRowsContaining(propertyName), getRangeColumn(table), axiomSet);
 		} catch (FileNotFoundException e) {
 			e.printStackTrace();
 			return null;
@@ -998,6 +1134,38 @@ public class Core {
 			return null;
 		}
 	}	
+	
+	/**
+	 * Gets the range classes from the given data rows.
+	 *
+	 * @param rows, the data rows of the property
+	 * @param conceptsCol, the range column index
+	 * @param axiomSet, the axioms set where the labels of the new classes are added
+	 * @return The range classes set
+	 */
+	private Set<OWLClass> getRangeClassesFromRows(List<TableRow> rows, int conceptsCol, Set<OWLAxiom> axiomSet) {
+		OWLDataFactory factory = manager.getOWLDataFactory();
+		Set<OWLClass> ranges = new HashSet<OWLClass>();		
+		if (conceptsCol == -1)
+			return ranges;
+		
+		for (TableRow row : rows) {
+			String range = row.getCell(conceptsCol).trim().replace("/", "-");
+
+			// Keep only the name
+			range = CellParser.getName(range);
+			OWLClass rangeClass = getOWLClassFromName(range);
+			
+			// If the concept wasn't previously defined (Import), define labels
+			if (!containsClass(range)) {
+				// Label
+				OWLAnnotation lblNewClass = factory.getOWLAnnotation(factory.getRDFSLabel(), factory.getOWLLiteral(range, "en"));
+				axiomSet.add(factory.getOWLAnnotationAssertionAxiom(rangeClass.getIRI(), lblNewClass));
+			}			
+			ranges.add(rangeClass);
+		}
+		return ranges;
+	}
 
 	/**
 	 * Gets the range axioms for the given Attribute (DataProperty) from the Attributes table file.
@@ -1008,90 +1176,15 @@ public class Core {
 	 */	
 	// Data Property Values (DataTypes)
 	public Set<OWLDataPropertyRangeAxiom> getDataRangeAxiomsFromTable(String tableFileName, OWLDataProperty dataProperty) {
-		OWLDataFactory factory = manager.getOWLDataFactory();
-		String fileLine = null;
-		Set<OWLDataPropertyRangeAxiom> rangeAxioms = new HashSet<OWLDataPropertyRangeAxiom>();	
 		try {
-			File fp = new File(cfg.getFiles_Path() + "\\" + tableFileName);
-			FileReader inputFile = new FileReader(fp);
-			LineNumberReader lnr = new LineNumberReader(inputFile);
-			int valuesCol = -1;	
-
-			while ((fileLine = lnr.readLine()) != null) {
-				String[] parts = fileLine.split(CoreConfiguration.SEPARATOR);		
-				// Header
-				if (lnr.getLineNumber() == 2) {		
-					// Infer column order (array indexes)
-					for (int i = 0; i < parts.length; i++) {
-						if (StringUtils.containsIgnoreCase(parts[i], "VALUE TYPE") || 
-							StringUtils.containsIgnoreCase(parts[i], "VALUES") ||
-							StringUtils.containsIgnoreCase(parts[i], "COMPUTATIONAL TYPE") ) {
-							valuesCol = i;
-							break;
-						}
-					}
-				}
-				// Data
-				if ((lnr.getLineNumber() > 2) && (valuesCol != -1)) {
-					OWLDataPropertyRangeAxiom rangeAxiom = null;
-					String propName = WordUtils.capitalize(dataProperty.getIRI().getShortForm());
-					if (fileLine.contains(propName) || fileLine.contains(dataProperty.getIRI().getShortForm()) ) {
-						HashSet<OWLLiteral> valuesSet = new HashSet<OWLLiteral>();						
-						Pattern pattern = Pattern.compile("\\{([\\w+\\-\\/[\\,\\s]*]+)\\}");							
-						boolean isBooleanExtension = false;							
-						OWLDatatype dataType = null;
-						
-						String valueType = parts[valuesCol];
-						switch (valueType.toLowerCase()) {
-							case ("boolean"):
-								dataType = factory.getBooleanOWLDatatype();
-								break;
-	
-							case ("cardinal"):
-								dataType = factory.getIntegerOWLDatatype();
-								break;
-	
-							case ("string"):
-								dataType = factory.getOWLDatatype(XSDVocabulary.parseShortName("xsd:string").getIRI());
-								break;
-	
-							default:
-								Matcher matcher = pattern.matcher(valueType);
-								if (matcher.matches()) {
-									String values = matcher.group(1).replaceAll(", ", ",");
-									String[] rangeValues = values.split("\\,");																			
-
-									// Boolean Extension
-									List<String> rangeValuesList = Arrays.asList(rangeValues);	
-									rangeValuesList = new ArrayList<String>(rangeValuesList);	
-									if (rangeValuesList.contains("TRUE") || rangeValuesList.contains("FALSE") ||
-									    rangeValuesList.contains("true") || rangeValuesList.contains("false")) {
-										
-										rangeValuesList.removeIf(p -> p.equalsIgnoreCase("TRUE") || p.equalsIgnoreCase("FALSE"));
-										rangeValues= rangeValuesList.toArray(new String[rangeValuesList.size()]);
-										isBooleanExtension = true;
-									}				
-									for (String value : rangeValues) 
-										valuesSet.add(factory.getOWLLiteral(value.replace(" ", "_")));								
-								}
-						}		
-						if (valuesSet.size() != 0) {
-							OWLDataOneOf valuesRange = factory.getOWLDataOneOf(valuesSet);	
-							rangeAxiom = factory.getOWLDataPropertyRangeAxiom(dataProperty, valuesRange);
-							valuesSet.clear();	
-							if (isBooleanExtension) {
-								OWLDataUnionOf unionOf = factory.getOWLDataUnionOf(rangeAxiom.getRange(), factory.getBooleanOWLDatatype());
-								rangeAxiom = factory.getOWLDataPropertyRangeAxiom(dataProperty, unionOf);
-							}
-						} 
-						else 
-							rangeAxiom = factory.getOWLDataPropertyRangeAxiom(dataProperty, dataType);						
-						rangeAxioms.add(rangeAxiom);
-					}							
-				}
-			}	
-			lnr.close();
-			return rangeAxioms;
+			SourceTable table = getTable(tableFileName);
+			String propName = WordUtils.capitalize(dataProperty.getIRI().getShortForm());
+			List<TableRow> rows = new ArrayList<TableRow>();
+			for (TableRow row : table.getRows()) {
+				if (row.contains(propName) || row.contains(dataProperty.getIRI().getShortForm()))
+					rows.add(row);
+			}
+			return getDataRangeAxiomsFromRows(rows, getValuesColumn(table), dataProperty);
 		} catch (FileNotFoundException e) {
 			e.printStackTrace();
 			return null;
@@ -1100,6 +1193,74 @@ public class Core {
 			return null;
 		}
 	 }
+	
+	/**
+	 * Gets the range axioms for the given Attribute (DataProperty) from the given data rows.
+	 *
+	 * @param rows, the data rows of the Attribute
+	 * @param valuesCol, the values column index
+	 * @param dataProperty, the Attribute (DataProperty)
+	 * @return The range axioms set
+	 */
+	private Set<OWLDataPropertyRangeAxiom> getDataRangeAxiomsFromRows(List<TableRow> rows, int valuesCol, OWLDataProperty dataProperty) {
+		OWLDataFactory factory = manager.getOWLDataFactory();
+		Set<OWLDataPropertyRangeAxiom> rangeAxioms = new HashSet<OWLDataPropertyRangeAxiom>();	
+		if (valuesCol == -1)
+			return rangeAxioms;
+		
+		for (TableRow row : rows) {
+			OWLDataPropertyRangeAxiom rangeAxiom = null;
+			HashSet<OWLLiteral> valuesSet = new HashSet<OWLLiteral>();						
+			boolean isBooleanExtension = false;							
+			OWLDatatype dataType = null;
+			
+			String valueType = row.getCell(valuesCol);
+			switch (valueType.toLowerCase()) {
+				case ("boolean"):
+					dataType = factory.getBooleanOWLDatatype();
+					break;
+
+				case ("cardinal"):
+					dataType = factory.getIntegerOWLDatatype();
+					break;
+
+				case ("string"):
+					dataType = factory.getOWLDatatype(XSDVocabulary.parseShortName("xsd:string").getIRI());
+					break;
+
+				default:
+					CellToken valuesToken = CellParser.parse(valueType);
+					if (valuesToken.is(CellToken.Type.VALUE_SET)) {
+						String[] rangeValues = null;
+
+						// Boolean Extension
+						List<String> rangeValuesList = new ArrayList<String>(valuesToken.getValues());	
+						if (rangeValuesList.contains("TRUE") || rangeValuesList.contains("FALSE") ||
+						    rangeValuesList.contains("true") || rangeValuesList.contains("false")) {
+							
+							rangeValuesList.removeIf(p -> p.equalsIgnoreCase("TRUE") || p.equalsIgnoreCase("FALSE"));
+							isBooleanExtension = true;
+						}
+						rangeValues = rangeValuesList.toArray(new String[rangeValuesList.size()]);				
+						for (String value : rangeValues) 
+							valuesSet.add(factory.getOWLLiteral(value.replace(" ", "_")));								
+					}
+			}		
+			if (valuesSet.size() != 0) {
+				OWLDataOneOf valuesRange = factory.getOWLDataOneOf(valuesSet);	
+				rangeAxiom = factory.getOWLDataPropertyRangeAxiom(dataProperty, valuesRange);
+				valuesSet.clear();	
+				if (isBooleanExtension) {
+					OWLDataUnionOf unionOf = factory.getOWLDataUnionOf(rangeAxiom.getRange(), factory.getBooleanOWLDatatype());
+					rangeAxiom = factory.getOWLDataPropertyRangeAxiom(dataProperty, unionOf);
+				}
+			} 
+			else 
+				rangeAxiom = factory.getOWLDataPropertyRangeAxiom(dataProperty, dataType);						
+			rangeAxioms.add(rangeAxiom);
+		}
+		return rangeAxioms;
+	}
 
 	/**
 	 * Adds the Attributes (Data Properties) from table file to the Core ontology.
@@ -1108,84 +1269,83 @@ public class Core {
 	 */
 	// DATA PROPERTIES
 	public void addAttributesFromTable(String tableFileName) {
+		addAxioms(getAttributesFromTable(tableFileName));
+	}
+	
+	/**
+	 * Gets the Attributes (Data Properties) axioms from table file without changing the ontology.
+	 *
+	 * @param tableFileName, the Attributes (Data Properties) table file name
+	 * @return The Attributes axioms set
+	 */
+	public Set<OWLAxiom> getAttributesFromTable(String tableFileName) {
 		OWLDataFactory factory = manager.getOWLDataFactory();
-		String fileLine = null;
 		Set<OWLAxiom> axiomSet = new HashSet<OWLAxiom>();	
 		try {
-			File fp = new File(cfg.getFiles_Path() + "\\" + tableFileName);
-			FileReader inputFile = new FileReader(fp);
-			LineNumberReader lnr = new LineNumberReader(inputFile);
-			List<String> header = null, processedAttributes = new ArrayList<String>();
-
-			while ((fileLine = lnr.readLine()) != null) {
-				String[] parts = fileLine.split(CoreConfiguration.SEPARATOR);			
-				// Header
-				if (lnr.getLineNumber() == 2) {
-					header = new ArrayList<String>();			
-					for (String part : parts) {
-						header.add(part);
-					}
+			SourceTable table = getTable(tableFileName);
+			List<String> header = table.getHeader();
+			int attributeCol = header.indexOf("ATTRIBUTE");
+			if (attributeCol == -1)
+				return axiomSet;
+			int conceptsCol = getDomainColumn(table), valuesCol = getValuesColumn(table);
+			
+			// Data, the rows of each attribute are processed together
+			for (List<TableRow> rows : table.groupBy(attributeCol).values()) {
+				// DataProperty
+				String attributeName = rows.get(0).getCell(attributeCol);
+				OWLDataProperty dataProperty = getOWLDataPropertyFromName(attributeName);
+				
+				// Label
+				OWLAnnotation lbl = factory.getOWLAnnotation(factory.getRDFSLabel(), factory.getOWLLiteral(attributeName.trim().replace("_", " "), "en"));
+				OWLAnnotationAssertionAxiom lblAxiom = factory.getOWLAnnotationAssertionAxiom(dataProperty.getIRI(), lbl);
+				axiomSet.add(lblAxiom);	
+				
+				// Domain
+				if (header.contains("CONCEPT")) {
+					Set<OWLClass> domains = getDomainClassesFromRows(rows, conceptsCol, axiomSet);
+					OWLDataPropertyDomainAxiom domainAxiom = null;
+					if (domains.size() > 1) {
+						OWLObjectUnionOf unionOf = factory.getOWLObjectUnionOf(domains);
+						domainAxiom = factory.getOWLDataPropertyDomainAxiom(dataProperty, unionOf);
+					} else 
+						domainAxiom = factory.getOWLDataPropertyDomainAxiom(dataProperty, domains.iterator().next());				
+					axiomSet.add(domainAxiom);
 				}
-				// Data
-				else if (lnr.getLineNumber() > 2) {
-					// DataProperty
-					OWLDataProperty dataProperty = null;
-					String attributeName = null;
-					if (header.contains("ATTRIBUTE")) {
-						attributeName = parts[header.indexOf("ATTRIBUTE")];
-						dataProperty = getOWLDataPropertyFromName(attributeName);
-						
-						// Label
-						OWLAnnotation lbl = factory.getOWLAnnotation(factory.getRDFSLabel(), factory.getOWLLiteral(attributeName.trim().replace("_", " "), "en"));
-						OWLAnnotationAssertionAxiom lblAxiom = factory.getOWLAnnotationAssertionAxiom(dataProperty.getIRI(), lbl);
-						axiomSet.add(lblAxiom);	
-					}
-					// Domain
-					if (header.contains("CONCEPT")) {
-						Set<OWLClass> domains = getDomainClassesFromTable(tableFileName, attributeName);
-						OWLDataPropertyDomainAxiom domainAxiom = null;
-						if (domains.size() > 1) {
-							OWLObjectUnionOf unionOf = factory.getOWLObjectUnionOf(domains);
-							domainAxiom = factory.getOWLDataPropertyDomainAxiom(dataProperty, unionOf);
-						} else 
-							domainAxiom = factory.getOWLDataPropertyDomainAxiom(dataProperty, domains.iterator().next());				
-						axiomSet.add(domainAxiom);
-					}
-					// Range
-					if (header.contains("VALUE TYPE") || header.contains("VALUES") || header.contains("COMPUTATIONAL TYPE")) {
-						Set<OWLDataPropertyRangeAxiom> rangeAxioms = getDataRangeAxiomsFromTable(tableFileName, dataProperty);
-						if (rangeAxioms.size() > 1) {
-							OWLDataPropertyRangeAxiom rangeAxiom = null;
-							Set <OWLDataRange> rangesIn = new HashSet<OWLDataRange>();		
-							for (OWLDataPropertyRangeAxiom rangeAxiom_ : rangeAxioms) {
-								rangesIn.add(rangeAxiom_.getRange());
-							}		
-							OWLDataUnionOf unionOf = factory.getOWLDataUnionOf(rangesIn);
-							rangeAxiom = factory.getOWLDataPropertyRangeAxiom(dataProperty, unionOf);
-							axiomSet.add(rangeAxiom);
-						} else
-							axiomSet.add(rangeAxioms.iterator().next());		
-					}
-					// Description
-					if (header.contains("DESCRIPTION")) {
-						String description = parts[header.indexOf("DESCRIPTION")];
+				// Range
+				if (header.contains("VALUE TYPE") || header.contains("VALUES") || header.contains("COMPUTATIONAL TYPE")) {
+					Set<OWLDataPropertyRangeAxiom> rangeAxioms = getDataRangeAxiomsFromRows(rows, valuesCol, dataProperty);
+					if (rangeAxioms.size() > 1) {
+						OWLDataPropertyRangeAxiom rangeAxiom = null;
+						Set <OWLDataRange> rangesIn = new HashSet<OWLDataRange>();		
+						for (OWLDataPropertyRangeAxiom rangeAxiom_ : rangeAxioms) {
+							rangesIn.add(rangeAxiom_.getRange());
+						}		
+						OWLDataUnionOf unionOf = factory.getOWLDataUnionOf(rangesIn);
+						rangeAxiom = factory.getOWLDataPropertyRangeAxiom(dataProperty, unionOf);
+						axiomSet.add(rangeAxiom);
+					} else
+						axiomSet.add(rangeAxioms.iterator().next());		
+				}
+				// Description
+				if (header.contains("DESCRIPTION")) {
+					for (TableRow row : rows) {
+						String description = row.getCell(header.indexOf("DESCRIPTION"));
 						
 						if (!description.equals(CoreConfiguration.NOTHING)) {
 							OWLAnnotation commentName = factory.getOWLAnnotation(factory.getRDFSComment(), factory.getOWLLiteral(description, "en"));
 							OWLAnnotationAssertionAxiom axiom = factory.getOWLAnnotationAssertionAxiom(dataProperty.getIRI() , commentName);
-							manager.applyChange(new AddAxiom(ontology, axiom));
+							axiomSet.add(axiom);
 						}
-					}					
-					// Prune iterations
-					processedAttributes.add(attributeName);
-				}
+					}
+				}					
 			}
-			lnr.close();
-			manager.addAxioms(this.getOntology(), axiomSet);
+			return axiomSet;
 		} catch (FileNotFoundException e) {
 			e.printStackTrace();
+			return null;
 		} catch (IOException e) {
 			e.printStackTrace();
+			return null;
 		}
 	}
 
@@ -1196,70 +1356,96 @@ public class Core {
 	 */
 	// OBJECT PROPERTIES
 	public void addAdHocRelationsFromTable(String tableFileName) {
+		addAxioms(getAdHocRelationsFromTable(tableFileName));
+		inferInverseAdHocRelations(tableFileName);
+	}
+	
+	/**
+	 * Gets the Ad-Hoc Relations (Object Properties) axioms from table file without changing the ontology.
+	 *
+	 * @param tableFileName, the Ad-Hoc Relations (Object Properties) table file name
+	 * @return The Ad-Hoc Relations axioms set
+	 */
+	public Set<OWLAxiom> getAdHocRelationsFromTable(String tableFileName) {
 		OWLDataFactory factory = manager.getOWLDataFactory();
-		String fileLine = null;	
+		Set<OWLAxiom> axiomSet = new HashSet<OWLAxiom>();
 		try {
-			File fp = new File(cfg.getFiles_Path() + "\\" + tableFileName);
-			FileReader inputFile = new FileReader(fp);
-			LineNumberReader lnr = new LineNumberReader(inputFile);
-			int sourceCol = -1, relationCol = -1, targetCol = -1, inverseCol = -1;
+			SourceTable table = getTable(tableFileName);
+			List<String> header = table.getHeader();
+			int sourceCol = -1, relationCol = -1, targetCol = -1;
 			
-			while ((fileLine = lnr.readLine()) != null) {
-				String[] parts = fileLine.split(CoreConfiguration.SEPARATOR);				
-				// Header
-				if (lnr.getLineNumber() == 2) {
-					// Infer column order (array indexes)
-					for (int i = 0; i < parts.length; i++) {
-						if (StringUtils.containsIgnoreCase(parts[i], "SOURCE"))
-							sourceCol = i;
-						else if (StringUtils.containsIgnoreCase(parts[i], "RELATION"))
-							relationCol = i;
-						else if (StringUtils.containsIgnoreCase(parts[i], "TARGET"))
-							targetCol = i;
-						else if (StringUtils.containsIgnoreCase(parts[i], "INVERSE"))
-							inverseCol = i;							
-					}
-				}			
-				// Data
-				if ((lnr.getLineNumber() > 2) && (sourceCol != -1) && (relationCol != -1) && (targetCol != -1)) {
-					parts = fileLine.split(CoreConfiguration.SEPARATOR);
+			// Infer column order (array indexes)
+			for (int i = 0; i < header.size(); i++) {
+				if (StringUtils.containsIgnoreCase(header.get(i), "SOURCE"))
+					sourceCol = i;
+				else if (StringUtils.containsIgnoreCase(header.get(i), "RELATION"))
+					relationCol = i;
+				else if (StringUtils.containsIgnoreCase(header.get(i), "TARGET"))
+					targetCol = i;
+			}
+			
+			// Data, the rows of each relation are processed together
+			if ((sourceCol != -1) && (relationCol != -1) && (targetCol != -1)) {
+				int domainCol = getDomainColumn(table), rangeCol = getRangeColumn(table);
+				for (List<TableRow> rows : table.groupBy(relationCol).values()) {
 					// Relation
-					String relation = parts[relationCol];
+					String relation = rows.get(0).getCell(relationCol);
 					OWLObjectProperty objectProp = getOWLObjectPropertyFromName(relation);				
 					// Label
 					OWLAnnotation lbl = factory.getOWLAnnotation(factory.getRDFSLabel(), factory.getOWLLiteral(relation.trim().replace("_", " "), "en"));
 					OWLAnnotationAssertionAxiom lblAxiom = factory.getOWLAnnotationAssertionAxiom(objectProp.getIRI(), lbl);
-					manager.applyChange(new AddAxiom(ontology, lblAxiom));
-
+					axiomSet.add(lblAxiom);
+	
 					// Domain
-					Set<OWLClass> domains = getDomainClassesFromTable(tableFileName, relation);
+					Set<OWLClass> domains = getDomainClassesFromRows(rows, domainCol, axiomSet);
 					OWLObjectPropertyDomainAxiom domainAxiom = null;
 					if (domains.size() > 1) {
 						OWLObjectUnionOf unionOf = factory.getOWLObjectUnionOf(domains);
 						domainAxiom = factory.getOWLObjectPropertyDomainAxiom(objectProp, unionOf);
 					} else 
 						domainAxiom = factory.getOWLObjectPropertyDomainAxiom(objectProp, domains.iterator().next());
-					manager.applyChange(new AddAxiom(ontology, domainAxiom));
-
+					axiomSet.add(domainAxiom);
+	
 					// Range
-					Set<OWLClass> ranges = getRangeClassesFromTable(tableFileName, relation);
+					Set<OWLClass> ranges = getRangeClassesFromRows(rows, rangeCol, axiomSet);
 					OWLObjectPropertyRangeAxiom rangeAxiom = null;
 					if (ranges.size() > 1) {
 						OWLObjectUnionOf unionOf = factory.getOWLObjectUnionOf(ranges);
 						rangeAxiom = factory.getOWLObjectPropertyRangeAxiom(objectProp, unionOf);
 					} else 
 						rangeAxiom = factory.getOWLObjectPropertyRangeAxiom(objectProp, ranges.iterator().next());
-					manager.applyChange(new AddAxiom(ontology, rangeAxiom));					
+					axiomSet.add(rangeAxiom);					
 				}
 			}
-			lnr.close();
-			
+			return axiomSet;
+		} catch (FileNotFoundException e) {
+			e.printStackTrace();
+			return null;
+		} catch (IOException e) {
+			e.printStackTrace();
+			return null;
+		}
+	}
+	
+	/**
+	 * Infers the inverse Ad-Hoc Relations (Only trivial cases) if the table file has no inverse column.
+	 * It reads the ontology, so it must be called once the relations of the table are committed.
+	 *
+	 * @param tableFileName, the Ad-Hoc Relations (Object Properties) table file name
+	 */
+	public void inferInverseAdHocRelations(String tableFileName) {
+		try {
+			SourceTable table = getTable(tableFileName);
+			for (String column : table.getHeader()) {
+				if (StringUtils.containsIgnoreCase(column, "INVERSE"))
+					return;
+			}
 			// If no inverse column exists, try to infer them (Only trivial cases)
-			if (inverseCol == -1){
+			synchronized (ontology) {
 				InferInverseRelations generator = new InferInverseRelations();
 				generator.setOntology(ontology);
 				generator.inferInverseAdHocs(this);
-			}  
+			}
 		} catch (FileNotFoundException e) {
 			e.printStackTrace();
 		} catch (IOException e) {
@@ -1274,104 +1460,100 @@ public class Core {
 	 */
 	// RULES (Data Property Value restrictions)
 	public void addAttributeRulesFromTable(String tableFileName) {
-		OWLDataFactory factory = manager.getOWLDataFactory();
-		String fileLine = null;	
 		try {
-			File fp = new File(cfg.getFiles_Path() + "\\" + tableFileName);
-			FileReader inputFile = new FileReader(fp);
-			LineNumberReader lnr = new LineNumberReader(inputFile);
-			int sourceCol = -1, attributeCol = -1, targetCol = -1;
-			
-			while ((fileLine = lnr.readLine()) != null) {
-				String[] parts = fileLine.split(CoreConfiguration.SEPARATOR);
-				
-				// Header
-				if (lnr.getLineNumber() == 2) {
-					// Infer column order (array indexes)
-					for (int i = 0; i < parts.length; i++) {
-						if (StringUtils.containsIgnoreCase(parts[i], "CONCEPT"))
-							sourceCol = i;
-						else if (StringUtils.containsIgnoreCase(parts[i], "ATTRIBUTE"))
-							attributeCol = i;
-						else if (StringUtils.containsIgnoreCase(parts[i], "VALUE") &&
-								!StringUtils.containsIgnoreCase(parts[i], "TYPE"))
-							targetCol = i;
-					}
-				}			
-				// Data
-				if ((lnr.getLineNumber() > 2) && (sourceCol != -1) && (attributeCol != -1) && (targetCol != -1)) {
-					// Regex to skip what is in brackets for the Domain
-					Pattern patternDomain = Pattern.compile("([\\s*\\w+\\-\\/]+)\\(([\\w+\\,\\/\\s*]+)\\)");
-
-					// Attribute
-					String attribute = parts[attributeCol].trim();
-					OWLDataProperty dataProperty = getOWLDataPropertyFromName(attribute);
+			addAxioms(getAttributeRuleAxiomsFromTable(getTable(tableFileName)));
+		} catch (FileNotFoundException e) {
+			e.printStackTrace();
+		} catch (IOException e) {
+			e.printStackTrace();
+		}
+	}
+	
+	/**
+	 * Gets the attribute rules (Data Property Value restrictions) from the given parsed table.
+	 *
+	 * @param table, the rules table
+	 * @return The attribute rules axioms set
+	 */
+	public Set<OWLAxiom> getAttributeRuleAxiomsFromTable(SourceTable table) {
+		OWLDataFactory factory = manager.getOWLDataFactory();
+		Set<OWLAxiom> axiomSet = new HashSet<OWLAxiom>();
+		List<String> header = table.getHeader();
+		int sourceCol = -1, attributeCol = -1, targetCol = -1;
+		
+		// Header
+		// Infer column order (array indexes)
+		for (int i = 0; i < header.size(); i++) {
+			if (StringUtils.containsIgnoreCase(header.get(i), "CONCEPT"))
+				sourceCol = i;
+			else if (StringUtils.containsIgnoreCase(header.get(i), "ATTRIBUTE"))
+				attributeCol = i;
+			else if (StringUtils.containsIgnoreCase(header.get(i), "VALUE") &&
+					!StringUtils.containsIgnoreCase(header.get(i), "TYPE"))
+				targetCol = i;
+		}
+		// Data
+		if ((sourceCol != -1) && (attributeCol != -1) && (targetCol != -1)) {
+			for (TableRow row : table.getRows()) {
+				// Attribute
+				String attribute = row.getCell(attributeCol).trim();
+				OWLDataProperty dataProperty = getOWLDataPropertyFromName(attribute);
 
-					// Domain
-					String domain = parts[sourceCol].trim().replace("/", "-");
-					Matcher matcherSource = patternDomain.matcher(domain);
-					if (matcherSource.matches())
-						domain = matcherSource.group(1);
-					OWLClass domainClass = getOWLClassFromName(domain);
+				// Domain
+				// Skip what is in brackets
+				String domain = CellParser.getName(row.getCell(sourceCol).trim().replace("/", "-"));
+				OWLClass domainClass = getOWLClassFromName(domain);
 
-					// Value
-					OWLRestriction hasValue = null;
-					OWLSubClassOfAxiom attributeValueRestrictionAxiom = null;
-					String value = parts[targetCol].trim().replace("/", "-");
-					switch (value.toLowerCase()) {
-						case "true":
-							hasValue = factory.getOWLDataHasValue(dataProperty, factory.getOWLLiteral(true));
-							break;
-							
-						case "false":
-							hasValue = factory.getOWLDataHasValue(dataProperty, factory.getOWLLiteral(false));
-							break;
-	
-						default:						
-							Set<OWLLiteral> valuesSet = new HashSet<OWLLiteral>();						
-							Pattern patternValues = Pattern.compile("\\{([\\w+\\-\\/[\\,\\s\\/]*]+)\\}");								
-							Matcher matcherValues = patternValues.matcher(value);
-							
-							// Multiple values
-							if (matcherValues.matches() || value.contains(CoreConfiguration.INNER_SEPARATOR)) {
-								String valuesString = null;
-								String[] values = null;
-								OWLDataOneOf valuesRange = null;
+				// Value
+				OWLRestriction hasValue = null;
+				OWLSubClassOfAxiom attributeValueRestrictionAxiom = null;
+				String value = row.getCell(targetCol).trim().replace("/", "-");
+				switch (value.toLowerCase()) {
+					case "true":
+						hasValue = factory.getOWLDataHasValue(dataProperty, factory.getOWLLiteral(true));
+						break;
+						
+					case "false":
+						hasValue = factory.getOWLDataHasValue(dataProperty, factory.getOWLLiteral(false));
+						break;
+	
+					default:						
+						Set<OWLLiteral> valuesSet = new HashSet<OWLLiteral>();						
+						CellToken valuesToken = CellParser.parse(value);
+						
+						// Multiple values
+						if (valuesToken.is(CellToken.Type.VALUE_SET) || value.contains(CoreConfiguration.INNER_SEPARATOR)) {
+							String[] values = null;
+							OWLDataOneOf valuesRange = null;
 
-								if(value.contains(CoreConfiguration.INNER_SEPARATOR))
-									values = value.split(CoreConfiguration.INNER_SEPARATOR);
-								else {
-									valuesString = matcherValues.group(1).replaceAll(", ", ",");
-									values = valuesString.split("\\,");
-								}	
-								for (String value_ : values) 
-									valuesSet.add(factory.getOWLLiteral(value_.replace(" ", "_")));			
-								if (valuesSet.size() != 0) {
-									if (valuesSet.size() > 1) {
-										valuesRange = factory.getOWLDataOneOf(valuesSet);	
-										hasValue = factory.getOWLDataExactCardinality(valuesSet.size(), dataProperty, valuesRange); 
-									} 
-									// If by mistake it specified a set with one element
-									else 
-										hasValue = factory.getOWLDataHasValue(dataProperty, valuesSet.iterator().next());
-									valuesSet.clear();								
-								}
+							if(value.contains(CoreConfiguration.INNER_SEPARATOR))
+								values = value.split(CoreConfiguration.INNER_SEPARATOR);
+							else 
+								values = valuesToken.getValues().toArray(new String[0]);
+							for (String value_ : values) 
+								valuesSet.add(factory.getOWLLiteral(value_.replace(" ", "_")));			
+							if (valuesSet.size() != 0) {
+								if (valuesSet.size() > 1) {
+									valuesRange = factory.getOWLDataOneOf(valuesSet);	
+									hasValue = factory.getOWLDataExactCardinality(valuesSet.size(), dataProperty, valuesRange); 
+								} 
+								// If by mistake it specified a set with one element
+								else 
+									hasValue = factory.getOWLDataHasValue(dataProperty, valuesSet.iterator().next());
+								valuesSet.clear();								
 							}
-							// One value
-							else
-								hasValue = factory.getOWLDataHasValue(dataProperty, factory.getOWLLiteral(value.replace(" ", "_")));
-					}
-					if (hasValue != null)
-						attributeValueRestrictionAxiom = factory.getOWLSubClassOfAxiom(domainClass, hasValue);
-					manager.applyChange(new AddAxiom(ontology, attributeValueRestrictionAxiom));
+						}
+						// One value
+						else
+							hasValue = factory.getOWLDataHasValue(dataProperty, factory.getOWLLiteral(value.replace(" ", "_")));
+				}
+				if (hasValue != null) {
+					attributeValueRestrictionAxiom = factory.getOWLSubClassOfAxiom(domainClass, hasValue);
+					axiomSet.add(attributeValueRestrictionAxiom);
 				}
 			}
-			lnr.close();
-		} catch (FileNotFoundException e) {
-			e.printStackTrace();
-		} catch (IOException e) {
-			e.printStackTrace();
 		}
+		return axiomSet;
 	}
 	
 	/**
@@ -1381,62 +1563,64 @@ public class Core {
 	 */
 	// INDIVIDUALS
 	public void addClassIndividualsFromTable(String tableFileName) {
+		addAxioms(getClassIndividualsFromTable(tableFileName));
+	}
+	
+	/**
+	 * Gets the class individuals axioms from table file without changing the ontology.
+	 *
+	 * @param tableFileName, the Class Individuals table file name
+	 * @return The class individuals axioms set
+	 */
+	public Set<OWLAxiom> getClassIndividualsFromTable(String tableFileName) {
 		OWLDataFactory factory = manager.getOWLDataFactory();
-		String fileLine = null;		
+		Set<OWLAxiom> axiomSet = new HashSet<OWLAxiom>();
 		try {	
-			File fp = new File(cfg.getFiles_Path() + "\\" + tableFileName);
-			FileReader inputFile = new FileReader(fp);
-			LineNumberReader lnr = new LineNumberReader(inputFile);
+			SourceTable table = getTable(tableFileName);
+			List<String> header = table.getHeader();
 			int classCol = -1, individualCol = -1, descriptionCol = -1;
 			
-			while ((fileLine = lnr.readLine()) != null) {
-				String[] parts = fileLine.split(CoreConfiguration.SEPARATOR);
-				
-				// Header
-				if (lnr.getLineNumber() == 2) {
-					// Infer column order (array indexes)
-					for (int i = 0; i < parts.length; i++) {
-						if (StringUtils.containsIgnoreCase(parts[i], "CONCEPTS") ||
-							StringUtils.containsIgnoreCase(parts[i], "CONCEPT NAME")	)
-							classCol = i;
-						else if (StringUtils.containsIgnoreCase(parts[i], "INSTANCES") ||
-								 StringUtils.containsIgnoreCase(parts[i], "INSTANCE NAME") )
-							individualCol = i;
-						else if (StringUtils.containsIgnoreCase(parts[i], "DESCRIPTION"))
-							descriptionCol = i;
-					}
-				}
-				// Data
-				if ((lnr.getLineNumber() > 2) && (classCol != -1) && (individualCol != -1)) {
+			// Header
+			// Infer column order (array indexes)
+			for (int i = 0; i < header.size(); i++) {
+				if (StringUtils.containsIgnoreCase(header.get(i), "CONCEPTS") ||
+					StringUtils.containsIgnoreCase(header.get(i), "CONCEPT NAME")	)
+					classCol = i;
+				else if (StringUtils.containsIgnoreCase(header.get(i), "INSTANCES") ||
+						 StringUtils.containsIgnoreCase(header.get(i), "INSTANCE NAME") )
+					individualCol = i;
+				else if (StringUtils.containsIgnoreCase(header.get(i), "DESCRIPTION"))
+					descriptionCol = i;
+			}
+			// Data
+			if ((classCol != -1) && (individualCol != -1)) {
+				for (TableRow row : table.getRows()) {
 					// Class (Concept)
-					String className = parts[classCol].trim();
-					Pattern patternClass = Pattern.compile("([\\s*\\w+\\-\\/]+)\\%{0,1}\\s*\\(([\\w+\\-\\/{0,1}\\s*]+)\\)");
-					Matcher matcherConceptClass = patternClass.matcher(className.trim());
-					if (matcherConceptClass.matches())
-						className = matcherConceptClass.group(1).trim();
+					String className = row.getCell(classCol).trim();
+					// The class may be followed by an inner separator before the brackets ("Name% (detail)")
+					className = CellParser.parse(className, "", true).getName();
 					OWLClass conceptClass = getOWLClassFromName(className);
 
 					// Individual (Instance)
-					String instanceLbl = parts[individualCol].trim(), instanceName = null;
+					String instanceLbl = row.getCell(individualCol).trim(), instanceName = null;
 					OWLIndividual conceptInstance = null;
 
 					// Synonyms in brackets
-					Pattern patternInstance = Pattern.compile("([\\s*\\w+\\-{{0,1}}]+)\\(([\\w+\\-{0,1}\\s*]+)\\)");
-					Matcher matcherConceptInstance = patternInstance.matcher(instanceLbl);
-					if (matcherConceptInstance.matches()) {
-						String detail = matcherConceptInstance.group(2);
+					CellToken instanceToken = CellParser.parse(instanceLbl);
+					if (instanceToken.is(CellToken.Type.SYNONYMS)) {
+						String detail = instanceToken.getDetail();
 						if (detail.equalsIgnoreCase("open") || detail.equalsIgnoreCase("close")) {
-							instanceName = matcherConceptInstance.group(1) + "_" + detail;
+							instanceName = instanceToken.getName() + "_" + detail;
 						}
 						else {
-							instanceName = matcherConceptInstance.group(1);
+							instanceName = instanceToken.getName();
 							instanceLbl = instanceName;
 						}
 					} else
 						instanceName = instanceLbl;
 					conceptInstance = getOWLIndividualFromName(instanceName);				
 					OWLAxiom axiom = factory.getOWLClassAssertionAxiom(conceptClass, conceptInstance);
-					manager.applyChange(new AddAxiom(ontology, axiom));
+					axiomSet.add(axiom);
 
 					// Subscript special characters
 					if (instanceLbl.contains("_csub"))
@@ -1445,24 +1629,26 @@ public class Core {
 					// Label
 					OWLAnnotation labelName = factory.getOWLAnnotation(factory.getRDFSLabel() , factory.getOWLLiteral(instanceLbl, "en"));
 					axiom = factory.getOWLAnnotationAssertionAxiom(conceptInstance.asOWLNamedIndividual().getIRI(), labelName);
-					manager.applyChange(new AddAxiom(ontology, axiom));
+					axiomSet.add(axiom);
 					
 					// Description
 					if (descriptionCol != -1) {
-						String description = parts[descriptionCol];						
+						String description = row.getCell(descriptionCol);						
 						if (!description.equals(CoreConfiguration.NOTHING)) {
 							OWLAnnotation commentName = factory.getOWLAnnotation(factory.getRDFSComment(), factory.getOWLLiteral(description, "en"));
 							axiom = factory.getOWLAnnotationAssertionAxiom(conceptInstance.asOWLNamedIndividual().getIRI() , commentName);
-							manager.applyChange(new AddAxiom(ontology, axiom));
+							axiomSet.add(axiom);
 						}
 					}
 				}
 			}
-			lnr.close();
+			return axiomSet;
 		} catch (FileNotFoundException e) {
 			e.printStackTrace();
+			return null;
 		} catch (IOException e) {
 			e.printStackTrace();
+			return null;
 		}
 	}
 }
@@ -52,13 +52,14 @@ public class CoreConfiguration {
 //	}
 	
 	/**
-	 * Instantiates a new core configuration.
+	 * Instantiates a new core configuration, for a Core generator built with it (several configurations can be used
+	 * in the same process, one for each ontology).
 	 *
 	 * @param baseUrl, the base url for the Core ontology
 	 * @param filesPath, the source formatted text files path
 	 * @param ontologyName, the Core ontology name
 	 */
-	private CoreConfiguration(String baseUrl, String filesPath, String ontologyName) {
+	public CoreConfiguration(String baseUrl, String filesPath, String ontologyName) {
 		BASE_URL = baseUrl;
 		FILES_PATH = filesPath;
 		ONTOLOGY_NAME = ontologyName;
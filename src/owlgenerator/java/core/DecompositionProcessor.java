@@ -0,0 +1,146 @@
+/*
+ * The Class DecompositionProcessor, builder of the Disjoint and Exhaustive Decompositions axioms.
+ */
+package owlgenerator.java.core;
+
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
+import java.util.Map;
+import java.util.Set;
+
+import org.semanticweb.owlapi.model.OWLAxiom;
+import org.semanticweb.owlapi.model.OWLClass;
+import org.semanticweb.owlapi.model.OWLDataFactory;
+
+/**
+ * The Class DecompositionProcessor, groups the components of the decompositions by target (and group, for the
+ * WebODE tables) in a single hash based pass, so the rows need neither be sorted nor contiguous, and the rows of
+ * several tables can be fed in one run. A decomposition is only complete at the end of the input (its rows may be
+ * spread over the tables), so each one keeps its distinct component classes until getAxioms: the memory is
+ * proportional to the number of decomposition components of all the tables, not to their number of rows.
+ * A Disjoint-Decomposition generates the disjointness of its components, the equivalence of the target with their
+ * union and the components subclass axioms; an Exhaustive-Decomposition only the union equivalence.
+ * The axioms are only built: the Core adds them in a single batch.
+ *
+ * @author Oscar Mateos Lopez
+ * @version: 20161103
+ */
+public class DecompositionProcessor {
+
+	/**
+	 * The Enum Kind, the kinds of decomposition.
+	 */
+	public enum Kind {
+		/** The Disjoint-Decompositions. */
+		DISJOINT,
+		/** The Exhaustive-Decompositions. */
+		EXHAUSTIVE
+	}
+
+	/** The Core generator. */
+	private final Core core;
+
+	/** The decomposition kind. */
+	private final Kind kind;
+
+	/** The target classes by decomposition key. */
+	private final Map<String, OWLClass> targets = new LinkedHashMap<String, OWLClass>();
+
+	/** The component classes by decomposition key. */
+	private final Map<String, Set<OWLClass>> components = new LinkedHashMap<String, Set<OWLClass>>();
+
+	/**
+	 * Instantiates a new decomposition processor.
+	 *
+	 * @param core, the Core generator
+	 * @param kind, the decomposition kind
+	 */
+	public DecompositionProcessor(Core core, Kind kind) {
+		if (kind == null)
+			throw new IllegalArgumentException("Decomposition kind required");
+		this.core = core;
+		this.kind = kind;
+	}
+
+	// GETTERS
+	/**
+	 * Gets the decomposition kind.
+	 *
+	 * @return the decomposition kind
+	 */
+	public Kind getKind() {
+		return kind;
+	}
+
+	/**
+	 * Gets the number of decompositions.
+	 *
+	 * @return the number of decompositions
+	 */
+	public int size() {
+		return components.size();
+	}
+
+	// MAIN METHODS
+	/**
+	 * Adds a component to the decomposition of a target.
+	 *
+	 * @param target, the target concept
+	 * @param component, the component concept
+	 */
+	public void add(String target, String component) {
+		add(null, target, component);
+	}
+
+	/**
+	 * Adds a component to the decomposition of a target within a group.
+	 *
+	 * @param group, the group name (null if the decompositions are identified by target only)
+	 * @param target, the target concept
+	 * @param component, the component concept
+	 */
+	public void add(String group, String target, String component) {
+		String key = (group == null) ? target : group + CoreConfiguration.SEPARATOR + target;
+		Set<OWLClass> decomposition = components.get(key);
+		if (decomposition == null) {
+			decomposition = new LinkedHashSet<OWLClass>();
+			components.put(key, decomposition);
+			targets.put(key, core.getOWLClassFromName(target));
+		}
+		decomposition.add(core.getOWLClassFromName(component));
+	}
+
+	/**
+	 * Gets the axioms of all the added decompositions.
+	 *
+	 * @return The decompositions axioms set
+	 */
+	public Set<OWLAxiom> getAxioms() {
+		OWLDataFactory factory = core.getManager().getOWLDataFactory();
+		Set<OWLAxiom> axiomSet = new HashSet<OWLAxiom>();
+		for (Map.Entry<String, Set<OWLClass>> decomposition : components.entrySet()) {
+			OWLClass targetClass = targets.get(decomposition.getKey());
+			Set<OWLClass> componentClasses = decomposition.getValue();
+
+			// Union & Equivalence
+			axiomSet.add(factory.getOWLEquivalentClassesAxiom(targetClass, factory.getOWLObjectUnionOf(componentClasses)));
+			if (kind == Kind.DISJOINT) {
+				// Disjointness
+				axiomSet.add(factory.getOWLDisjointClassesAxiom(componentClasses));
+				// SubclassOf
+				for (OWLClass component : componentClasses)
+					axiomSet.add(factory.getOWLSubClassOfAxiom(component, targetClass));
+			}
+		}
+		return axiomSet;
+	}
+
+	/**
+	 * Discards the added decompositions.
+	 */
+	public void clear() {
+		targets.clear();
+		components.clear();
+	}
+}
@@ -0,0 +1,138 @@
+/*
+ * The Class EntityCache, cache of the OWL entities generated from concept names.
+ */
+package owlgenerator.java.core;
+
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.Function;
+
+import org.semanticweb.owlapi.model.EntityType;
+import org.semanticweb.owlapi.model.OWLEntity;
+
+/**
+ * The Class EntityCache, maps each raw concept name and entity type to its OWL entity, so the name normalisation
+ * and the IRI resolution are done once per distinct concept. It is shared by all the table handlers (and
+ * FootNotes) through the Core entity getters and can be used concurrently.
+ * The cache is bounded: when the entities of a type reach the maximum size, they are discarded and cached again
+ * on demand.
+ *
+ * @author Oscar Mateos Lopez
+ * @version: 20161103
+ */
+public class EntityCache {
+
+	/** The Constant DEFAULT_MAX_SIZE value, maximum number of entities of each type. */
+	public static final int DEFAULT_MAX_SIZE = 100000;
+
+	/** The maximum number of entities of each type. */
+	private final int maxSize;
+
+	/** The entities by type and concept name. */
+	private final Map<EntityType<?>, Map<String, OWLEntity>> entities = new ConcurrentHashMap<EntityType<?>, Map<String, OWLEntity>>();
+
+	/** The number of hits. */
+	private final LongAdder hits = new LongAdder();
+
+	/** The number of misses. */
+	private final LongAdder misses = new LongAdder();
+
+	/**
+	 * Instantiates a new entity cache with the default maximum size.
+	 */
+	public EntityCache() {
+		this(DEFAULT_MAX_SIZE);
+	}
+
+	/**
+	 * Instantiates a new entity cache.
+	 *
+	 * @param maxSize, the maximum number of entities of each type
+	 */
+	public EntityCache(int maxSize) {
+		if (maxSize < 1)
+			throw new IllegalArgumentException("Maximum size must be positive: " + maxSize);
+		this.maxSize = maxSize;
+	}
+
+	// MAIN METHODS
+	/**
+	 * Gets the entity for a concept name, creating it the first time.
+	 *
+	 * @param <E> the entity type
+	 * @param type, the entity type
+	 * @param concept, the raw concept name
+	 * @param factory, creates the entity from the concept name (on a miss)
+	 * @return the entity
+	 */
+	@SuppressWarnings("unchecked")
+	public <E extends OWLEntity> E get(EntityType<E> type, String concept, Function<String, E> factory) {
+		Map<String, OWLEntity> typeEntities = entities.computeIfAbsent(type, t -> new ConcurrentHashMap<String, OWLEntity>());
+		OWLEntity entity = typeEntities.get(concept);
+		if (entity != null) {
+			hits.increment();
+			return (E) entity;
+		}
+		misses.increment();
+		entity = factory.apply(concept);
+		if (typeEntities.size() >= maxSize)
+			typeEntities.clear();
+		typeEntities.put(concept, entity);
+		return (E) entity;
+	}
+
+	/**
+	 * Discards all the cached entities and resets the counters.
+	 */
+	public void clear() {
+		entities.clear();
+		hits.reset();
+		misses.reset();
+	}
+
+	// GETTERS
+	/**
+	 * Gets the maximum number of entities of each type.
+	 *
+	 * @return the maximum size
+	 */
+	public int getMaxSize() {
+		return maxSize;
+	}
+
+	/**
+	 * Gets the number of cached entities.
+	 *
+	 * @return the number of cached entities
+	 */
+	public int size() {
+		int size = 0;
+		for (Map<String, OWLEntity> typeEntities : entities.values())
+			size += typeEntities.size();
+		return size;
+	}
+
+	/**
+	 * Gets the number of hits.
+	 *
+	 * @return the number of hits
+	 */
+	public long getHits() {
+		return hits.sum();
+	}
+
+	/**
+	 * Gets the number of misses.
+	 *
+	 * @return the number of misses
+	 */
+	public long getMisses() {
+		return misses.sum();
+	}
+
+	@Override
+	public String toString() {
+		return "EntityCache [size=" + size() + ", hits=" + getHits() + ", misses=" + getMisses() + "]";
+	}
+}
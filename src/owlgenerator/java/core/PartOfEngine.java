@@ -0,0 +1,157 @@
+/*
+ * The Class PartOfEngine, builder of the Part-Of axioms of the meronymy tables.
+ */
+package owlgenerator.java.core;
+
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+import org.apache.commons.lang3.StringUtils;
+import org.semanticweb.owlapi.model.OWLAxiom;
+import org.semanticweb.owlapi.model.OWLClass;
+import org.semanticweb.owlapi.model.OWLClassExpression;
+import org.semanticweb.owlapi.model.OWLDataFactory;
+import org.semanticweb.owlapi.model.OWLObjectProperty;
+
+import owlgenerator.java.core.table.CellParser;
+import owlgenerator.java.core.table.CellToken;
+import owlgenerator.java.core.table.SourceTable;
+import owlgenerator.java.core.table.TableRow;
+
+/**
+ * The Class PartOfEngine, builds the Part-Of axioms of a meronymy table (HOLONYM and MERONYM columns): one
+ * 'allValuesFrom' closure axiom over hasPart for each holonym, and the labels of the classes not yet in the
+ * ontology.
+ * The meronyms are grouped per holonym with hash maps, each distinct concept is parsed and looked up once, and the
+ * ontology signature is checked for all the concepts under a single lock, so the cost grows linearly with the rows.
+ * The axioms are only built: the Core adds them in a single batch.
+ *
+ * @author Oscar Mateos Lopez
+ * @version: 20161103
+ */
+public class PartOfEngine {
+
+	/** The Core generator. */
+	private final Core core;
+
+	/** The data factory. */
+	private final OWLDataFactory factory;
+
+	/** The concept names by cell. */
+	private final Map<String, String> conceptNames = new HashMap<String, String>();
+
+	/**
+	 * Instantiates a new Part-Of engine.
+	 *
+	 * @param core, the Core generator
+	 */
+	public PartOfEngine(Core core) {
+		this.core = core;
+		this.factory = core.getManager().getOWLDataFactory();
+	}
+
+	// MAIN METHODS
+	/**
+	 * Gets the Part-Of axioms of a table, without the Part-Of relation set.
+	 *
+	 * @param table, the Part-Of relations table
+	 * @return The Part-Of axioms set (empty if the table has no HOLONYM and MERONYM columns)
+	 */
+	public Set<OWLAxiom> getAxioms(SourceTable table) {
+		Set<OWLAxiom> axiomSet = new HashSet<OWLAxiom>();
+		int meronymCol = -1, holonymCol = -1;
+
+		// Header
+		List<String> header = table.getHeader();
+		// Infer column order (array indexes)
+		for (int i = 0; i < header.size(); i++) {
+			String part = header.get(i);
+			if (StringUtils.containsIgnoreCase(part, "HOLONYM"))
+				holonymCol = i;
+			else if (StringUtils.containsIgnoreCase(part, "MERONYM"))
+				meronymCol = i;
+		}
+		if ((meronymCol == -1) || (holonymCol == -1))
+			return axiomSet;
+
+		// Data
+		// Classify the relations by their holonym
+		Map<String, Set<String>> classifier = new LinkedHashMap<String, Set<String>>();
+		for (TableRow row : table.getRows()) {
+			Set<String> meronyms = classifier.get(row.getCell(holonymCol));
+			if (meronyms == null) {
+				meronyms = new LinkedHashSet<String>();
+				classifier.put(row.getCell(holonymCol), meronyms);
+			}
+			meronyms.add(getConceptName(row.getCell(meronymCol)));
+		}
+
+		// Concepts not previously defined (Import), checked at once
+		Set<String> concepts = new HashSet<String>();
+		for (Map.Entry<String, Set<String>> entry : classifier.entrySet()) {
+			concepts.add(getConceptName(entry.getKey()));
+			concepts.addAll(entry.getValue());
+		}
+		Set<String> undefined = core.getUndefinedClasses(concepts);
+
+		// hasPart:
+		// Process 'allValuesFrom' restrictions for each holonym
+		OWLObjectProperty hasPart = core.getOWLObjectPropertyFromName("hasPart");
+		Set<String> labelled = new HashSet<String>();
+		for (Map.Entry<String, Set<String>> entry : classifier.entrySet()) {
+			Set<OWLClass> meronymsAllValuesFrom = new HashSet<OWLClass>();
+			for (String meronym : entry.getValue()) {
+				OWLClass meronymClass = core.getOWLClassFromName(meronym);
+				if (undefined.contains(meronym) && labelled.add(meronym))
+					axiomSet.add(getLabelAxiom(meronymClass, meronym));
+				meronymsAllValuesFrom.add(meronymClass);
+			}
+			// Closure axiom
+			OWLClassExpression closure = (meronymsAllValuesFrom.size() > 1)
+					? factory.getOWLObjectIntersectionOf(meronymsAllValuesFrom)
+					: meronymsAllValuesFrom.iterator().next();
+
+			// Holonym
+			String holonym = getConceptName(entry.getKey());
+			OWLClass holonymClass = core.getOWLClassFromName(holonym);
+			if (undefined.contains(holonym) && labelled.add(holonym))
+				axiomSet.add(getLabelAxiom(holonymClass, holonym));
+			axiomSet.add(factory.getOWLSubClassOfAxiom(holonymClass, factory.getOWLObjectAllValuesFrom(hasPart, closure)));
+		}
+		return axiomSet;
+	}
+
+	/**
+	 * Gets the concept name of a cell: the name of a SYNONYMS cell ("A/B" is "A-B"), or the cell itself.
+	 *
+	 * @param cell, the cell
+	 * @return the concept name
+	 */
+	private String getConceptName(String cell) {
+		String name = conceptNames.get(cell);
+		if (name == null) {
+			// The Part-Of tables also accept periods in the detail ("(e.g. X)")
+			CellToken token = CellParser.parse(cell, ".", false);
+			name = token.is(CellToken.Type.SYNONYMS) ? token.getName().replace("/", "-").trim() : cell;
+			conceptNames.put(cell, name);
+		}
+		return name;
+	}
+
+	/**
+	 * Gets the label axiom of a new class.
+	 *
+	 * @param owlClass, the class
+	 * @param concept, the concept name
+	 * @return the label axiom
+	 */
+	private OWLAxiom getLabelAxiom(OWLClass owlClass, String concept) {
+		return factory.getOWLAnnotationAssertionAxiom(owlClass.getIRI(),
+				factory.getOWLAnnotation(factory.getRDFSLabel(), factory.getOWLLiteral(concept, "en")));
+	}
+}
@@ -0,0 +1,387 @@
+/*
+ * The Class AxiomCache, on-disk cache of the axioms produced by each table.
+ */
+package owlgenerator.java.core.ingestion;
+
+import java.io.File;
+import java.io.FileInputStream;
+import java.io.FileNotFoundException;
+import java.io.FileOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStreamWriter;
+import java.io.Writer;
+import java.net.URISyntaxException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.security.CodeSource;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.Collections;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+
+import org.semanticweb.owlapi.apibinding.OWLManager;
+import org.semanticweb.owlapi.functional.renderer.FunctionalSyntaxObjectRenderer;
+import org.semanticweb.owlapi.model.OWLAxiom;
+import org.semanticweb.owlapi.model.OWLOntology;
+import org.semanticweb.owlapi.model.OWLOntologyCreationException;
+import org.semanticweb.owlapi.model.OWLOntologyManager;
+import org.semanticweb.owlapi.model.OWLOntologyStorageException;
+
+import owlgenerator.java.core.Core;
+import owlgenerator.java.core.CoreConfiguration;
+
+/**
+ * The Class AxiomCache, keeps on disk the axioms produced by each table, in OWL functional syntax.
+ * An entry is valid while the handler, the code version (see CODE_VERSION), the upstream stages and the content
+ * (SHA-256) of every table file read to build it are unchanged, so a rebuild only processes the changed tables and
+ * replays the rest.
+ *
+ * @author Oscar Mateos Lopez
+ * @version: 20161103
+ */
+public class AxiomCache {
+
+	/**
+	 * The Constant HANDLERS_VERSION value, to be changed when the table handlers produce different axioms without a
+	 * change of the generator classes (e.g. an updated OWL API or CoreNLP library).
+	 */
+	public static final String HANDLERS_VERSION = "20161103.2";
+
+	/**
+	 * The Constant CODE_VERSION value, the handlers version and the digest of the generator classes, so any change of
+	 * the code invalidates the cached entries.
+	 */
+	public static final String CODE_VERSION = getCodeVersion();
+
+	/** The cache directory. */
+	private final File directory;
+
+	/** The table files hashes by file path, each file is hashed once. */
+	private final Map<String, String> fileHashes = new ConcurrentHashMap<String, String>();
+
+	/**
+	 * The Class Entry, the cached axioms of a single table.
+	 */
+	public static class Entry {
+
+		/** The entry key, digest of its inputs. */
+		private final String key;
+
+		/** The axioms file. */
+		private final File axiomsFile;
+
+		/** The post-commit axioms file. */
+		private final File committedFile;
+
+		/**
+		 * Instantiates a new entry.
+		 *
+		 * @param key, the entry key
+		 * @param axiomsFile, the axioms file
+		 * @param committedFile, the post-commit axioms file
+		 */
+		private Entry(String key, File axiomsFile, File committedFile) {
+			this.key = key;
+			this.axiomsFile = axiomsFile;
+			this.committedFile = committedFile;
+		}
+
+		// GETTERS
+		/**
+		 * Gets the entry key, the stages depending on this one include it in their upstream key.
+		 *
+		 * @return the entry key
+		 */
+		public String getKey() {
+			return key;
+		}
+
+		/**
+		 * Gets the cached axioms of the table.
+		 *
+		 * @return the axioms set, or null if it cannot be read
+		 */
+		public Set<OWLAxiom> getAxioms() {
+			return loadAxioms(axiomsFile);
+		}
+
+		/**
+		 * Gets the cached axioms added once the table was committed (e.g. footnotes, inferred inverse relations).
+		 *
+		 * @return the axioms set, or null if it cannot be read
+		 */
+		public Set<OWLAxiom> getCommittedAxioms() {
+			return loadAxioms(committedFile);
+		}
+	}
+
+	/**
+	 * Instantiates a new axiom cache.
+	 *
+	 * @param directory, the cache directory, created if it doesn't exist
+	 */
+	public AxiomCache(File directory) {
+		this.directory = directory;
+		directory.mkdirs();
+	}
+
+	// MAIN METHODS
+	/**
+	 * Gets the valid cached entry for a table.
+	 *
+	 * @param core, the generator
+	 * @param handler, the table handler
+	 * @param tableFileName, the table file name
+	 * @param upstreamKey, the digest of the keys of the stages it depends on
+	 * @return the entry, or null if there is no valid entry
+	 */
+	public Entry lookup(Core core, TableHandler handler, String tableFileName, String upstreamKey) {
+		String name = getEntryName(handler, tableFileName);
+		File metadataFile = new File(directory, name + ".txt");
+		File axiomsFile = new File(directory, name + ".ofn"), committedFile = new File(directory, name + ".committed.ofn");
+		if (!metadataFile.exists() || !axiomsFile.exists() || !committedFile.exists())
+			return null;
+		try {
+			List<String> metadata = Files.readAllLines(metadataFile.toPath(), StandardCharsets.UTF_8);
+			if (metadata.size() < 3 || !metadata.get(0).equals("HANDLER" + CoreConfiguration.SEPARATOR + handler.name())
+					|| !metadata.get(1).equals("VERSION" + CoreConfiguration.SEPARATOR + CODE_VERSION)
+					|| !metadata.get(2).equals("UPSTREAM" + CoreConfiguration.SEPARATOR + upstreamKey))
+				return null;
+			// Inputs
+			for (int i = 3; i < metadata.size(); i++) {
+				String[] parts = metadata.get(i).split(CoreConfiguration.SEPARATOR, 3);
+				if (parts.length != 3 || !parts[1].equals(getFileHash(core.getTableFile(parts[2]))))
+					return null;
+			}
+			return new Entry(digest(String.join("\n", metadata)), axiomsFile, committedFile);
+		} catch (FileNotFoundException e) {
+			// An input table was removed
+			return null;
+		} catch (IOException e) {
+			e.printStackTrace();
+			return null;
+		}
+	}
+
+	/**
+	 * Stores the axioms of a table.
+	 *
+	 * @param core, the generator
+	 * @param handler, the table handler
+	 * @param tableFileName, the table file name
+	 * @param upstreamKey, the digest of the keys of the stages it depends on
+	 * @param inputs, the table file names read to build the axioms
+	 * @param axiomSet, the axioms of the table
+	 * @param committedAxioms, the axioms added once the table was committed
+	 * @return the entry key, or null if it cannot be stored
+	 */
+	public String store(Core core, TableHandler handler, String tableFileName, String upstreamKey, Set<String> inputs,
+			Set<OWLAxiom> axiomSet, Set<OWLAxiom> committedAxioms) {
+		String name = getEntryName(handler, tableFileName);
+		File metadataFile = new File(directory, name + ".txt");
+		try {
+			// Metadata
+			StringBuilder metadata = new StringBuilder();
+			metadata.append("HANDLER").append(CoreConfiguration.SEPARATOR).append(handler.name()).append('\n');
+			metadata.append("VERSION").append(CoreConfiguration.SEPARATOR).append(CODE_VERSION).append('\n');
+			metadata.append("UPSTREAM").append(CoreConfiguration.SEPARATOR).append(upstreamKey);
+			for (String input : inputs) {
+				metadata.append('\n').append("INPUT").append(CoreConfiguration.SEPARATOR)
+						.append(getFileHash(core.getTableFile(input))).append(CoreConfiguration.SEPARATOR).append(input);
+			}
+			// The metadata is written last, so an interrupted store leaves no valid entry
+			metadataFile.delete();
+			saveAxioms(axiomSet, new File(directory, name + ".ofn"));
+			saveAxioms(committedAxioms, new File(directory, name + ".committed.ofn"));
+			Writer writer = new OutputStreamWriter(new FileOutputStream(metadataFile), StandardCharsets.UTF_8);
+			try {
+				writer.write(metadata.toString());
+			} finally {
+				writer.close();
+			}
+			return digest(metadata.toString());
+		} catch (FileNotFoundException e) {
+			e.printStackTrace();
+			return null;
+		} catch (IOException e) {
+			e.printStackTrace();
+			return null;
+		} catch (OWLOntologyStorageException e) {
+			e.printStackTrace();
+			return null;
+		}
+	}
+
+	/**
+	 * Gets the upstream key of a stage from the keys of the stages it depends on.
+	 *
+	 * @param dependencyKeys, the keys of the stages it depends on, in dependency order
+	 * @return the upstream key
+	 */
+	public static String getUpstreamKey(List<String> dependencyKeys) {
+		return digest(String.join("\n", dependencyKeys));
+	}
+
+	// HELPERS
+	/**
+	 * Gets the code version: the handlers version followed by the SHA-256 of the generator classes (the class files
+	 * under owlgenerator, or the jar file, the Core class is loaded from), or the handlers version alone if they cannot
+	 * be read.
+	 *
+	 * @return the code version
+	 */
+	private static String getCodeVersion() {
+		try {
+			CodeSource source = Core.class.getProtectionDomain().getCodeSource();
+			if (source == null)
+				return HANDLERS_VERSION;
+			Path location = Paths.get(source.getLocation().toURI());
+			MessageDigest digest = newDigest();
+			if (Files.isDirectory(location)) {
+				List<Path> classFiles;
+				try (Stream<Path> paths = Files.walk(location.resolve("owlgenerator"))) {
+					classFiles = paths.filter(path -> path.toString().endsWith(".class")).sorted().collect(Collectors.toList());
+				}
+				for (Path classFile : classFiles) {
+					digest.update(location.relativize(classFile).toString().replace('\\', '/').getBytes(StandardCharsets.UTF_8));
+					digest.update(Files.readAllBytes(classFile));
+				}
+			} else
+				digest.update(Files.readAllBytes(location));
+			return HANDLERS_VERSION + "-" + toHex(digest.digest());
+		} catch (URISyntaxException e) {
+			e.printStackTrace();
+			return HANDLERS_VERSION;
+		} catch (IOException e) {
+			e.printStackTrace();
+			return HANDLERS_VERSION;
+		}
+	}
+
+	/**
+	 * Gets the entry file name (without extension) for a table.
+	 *
+	 * @param handler, the table handler
+	 * @param tableFileName, the table file name
+	 * @return the entry name
+	 */
+	private static String getEntryName(TableHandler handler, String tableFileName) {
+		return digest(handler.name() + CoreConfiguration.SEPARATOR + tableFileName);
+	}
+
+	/**
+	 * Gets the SHA-256 of the content of a file.
+	 *
+	 * @param file, the file
+	 * @return the hexadecimal digest
+	 * @throws IOException, if the file cannot be read
+	 */
+	private String getFileHash(File file) throws IOException {
+		String path = file.getAbsolutePath();
+		String hash = fileHashes.get(path);
+		if (hash == null) {
+			MessageDigest digest = newDigest();
+			InputStream is = new FileInputStream(file);
+			try {
+				byte[] buffer = new byte[64 * 1024];
+				int read;
+				while ((read = is.read(buffer)) != -1)
+					digest.update(buffer, 0, read);
+			} finally {
+				is.close();
+			}
+			hash = toHex(digest.digest());
+			fileHashes.put(path, hash);
+		}
+		return hash;
+	}
+
+	/**
+	 * Gets the SHA-256 of a text.
+	 *
+	 * @param text, the text
+	 * @return the hexadecimal digest
+	 */
+	private static String digest(String text) {
+		return toHex(newDigest().digest(text.getBytes(StandardCharsets.UTF_8)));
+	}
+
+	/**
+	 * Creates a new SHA-256 message digest.
+	 *
+	 * @return the message digest
+	 */
+	private static MessageDigest newDigest() {
+		try {
+			return MessageDigest.getInstance("SHA-256");
+		} catch (NoSuchAlgorithmException e) {
+			// Every Java platform supports SHA-256
+			throw new IllegalStateException(e);
+		}
+	}
+
+	/**
+	 * Converts bytes to hexadecimal.
+	 *
+	 * @param bytes, the bytes
+	 * @return the hexadecimal string
+	 */
+	private static String toHex(byte[] bytes) {
+		StringBuilder hex = new StringBuilder(bytes.length * 2);
+		for (byte b : bytes)
+			hex.append(Character.forDigit((b >> 4) & 0xF, 16)).append(Character.forDigit(b & 0xF, 16));
+		return hex.toString();
+	}
+
+	/**
+	 * Saves an axioms set in OWL functional syntax.
+	 *
+	 * @param axiomSet, the axioms set
+	 * @param file, the file
+	 * @throws IOException, if the file cannot be written
+	 * @throws OWLOntologyStorageException if the axioms cannot be serialised
+	 */
+	private static void saveAxioms(Set<OWLAxiom> axiomSet, File file) throws IOException, OWLOntologyStorageException {
+		OWLOntologyManager manager = OWLManager.createOWLOntologyManager();
+		try {
+			OWLOntology ontology = manager.createOntology((axiomSet != null) ? axiomSet : Collections.<OWLAxiom>emptySet());
+			Writer writer = new OutputStreamWriter(new FileOutputStream(file), StandardCharsets.UTF_8);
+			try {
+				// Only the given axioms, without the declarations of their entities
+				FunctionalSyntaxObjectRenderer renderer = new FunctionalSyntaxObjectRenderer(ontology, writer);
+				renderer.setAddMissingDeclarations(false);
+				renderer.visit(ontology);
+			} finally {
+				writer.close();
+			}
+		} catch (OWLOntologyCreationException e) {
+			throw new OWLOntologyStorageException(e);
+		}
+	}
+
+	/**
+	 * Loads an axioms set saved in OWL functional syntax.
+	 *
+	 * @param file, the file
+	 * @return the axioms set, or null if it cannot be read
+	 */
+	private static Set<OWLAxiom> loadAxioms(File file) {
+		OWLOntologyManager manager = OWLManager.createOWLOntologyManager();
+		try {
+			OWLOntology ontology = manager.loadOntologyFromOntologyDocument(file);
+			return new HashSet<OWLAxiom>(ontology.getAxioms());
+		} catch (OWLOntologyCreationException e) {
+			e.printStackTrace();
+			return null;
+		}
+	}
+}
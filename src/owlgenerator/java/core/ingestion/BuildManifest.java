@@ -0,0 +1,216 @@
+/*
+ * The Class BuildManifest, declarative description of an ontology build.
+ */
+package owlgenerator.java.core.ingestion;
+
+import java.io.File;
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+import org.apache.commons.lang3.StringUtils;
+
+import owlgenerator.java.core.CoreConfiguration;
+import owlgenerator.java.core.table.SourceTable;
+import owlgenerator.java.core.table.TableRow;
+
+/**
+ * The Class BuildManifest, declarative description of an ontology build, written as a formatted text table:
+ * 1st line is the ontology name, 2nd line the header (STAGE~~HANDLER~~TABLE~~DEPENDS ON) and each following
+ * line a build stage: its identifier, table handler, table file name and the comma separated identifiers of the
+ * stages it depends on ("--" for none, "*" for all the previous stages).
+ *
+ * @author Oscar Mateos Lopez
+ * @version: 20161103
+ */
+public class BuildManifest {
+
+	/** The Constant ALL_PREVIOUS value, depends on all the previous stages. */
+	public static final String ALL_PREVIOUS = "*";
+
+	/** The ontology name. */
+	private final String ontologyName;
+
+	/** The stages by identifier, in manifest order. */
+	private final Map<String, Stage> stages = new LinkedHashMap<String, Stage>();
+
+	/**
+	 * The Class Stage, a single table of the build.
+	 */
+	public static class Stage {
+
+		/** The identifier. */
+		private final String id;
+
+		/** The table handler. */
+		private final TableHandler handler;
+
+		/** The table file name. */
+		private final String tableFileName;
+
+		/** The identifiers of the stages it depends on. */
+		private final List<String> dependencies;
+
+		/**
+		 * Instantiates a new stage.
+		 *
+		 * @param id, the identifier
+		 * @param handler, the table handler
+		 * @param tableFileName, the table file name
+		 * @param dependencies, the identifiers of the stages it depends on
+		 */
+		public Stage(String id, TableHandler handler, String tableFileName, List<String> dependencies) {
+			this.id = id;
+			this.handler = handler;
+			this.tableFileName = tableFileName;
+			this.dependencies = Collections.unmodifiableList(new ArrayList<String>(dependencies));
+		}
+
+		// GETTERS
+		/**
+		 * Gets the identifier.
+		 *
+		 * @return the identifier
+		 */
+		public String getId() {
+			return id;
+		}
+
+		/**
+		 * Gets the table handler.
+		 *
+		 * @return the table handler
+		 */
+		public TableHandler getHandler() {
+			return handler;
+		}
+
+		/**
+		 * Gets the table file name.
+		 *
+		 * @return the table file name
+		 */
+		public String getTableFileName() {
+			return tableFileName;
+		}
+
+		/**
+		 * Gets the identifiers of the stages it depends on.
+		 *
+		 * @return the dependencies
+		 */
+		public List<String> getDependencies() {
+			return dependencies;
+		}
+
+		@Override
+		public String toString() {
+			return id + " (" + handler + ": " + tableFileName + ")";
+		}
+	}
+
+	/**
+	 * Instantiates a new empty build manifest.
+	 *
+	 * @param ontologyName, the ontology name
+	 */
+	public BuildManifest(String ontologyName) {
+		this.ontologyName = ontologyName;
+	}
+
+	// BUILDER
+	/**
+	 * Loads a build manifest file.
+	 *
+	 * @param file, the manifest file
+	 * @return the build manifest
+	 * @throws IOException, if the file cannot be read
+	 * @throws IllegalArgumentException if a stage is not valid
+	 */
+	public static BuildManifest load(File file) throws IOException {
+		SourceTable table = SourceTable.load(file);
+		BuildManifest manifest = new BuildManifest(StringUtils.trim(table.getTitle()));
+		int stageCol = -1, handlerCol = -1, tableCol = -1, dependsCol = -1;
+
+		// Header
+		List<String> header = table.getHeader();
+		// Infer column order (array indexes)
+		for (int i = 0; i < header.size(); i++) {
+			String part = header.get(i);
+			if (StringUtils.containsIgnoreCase(part, "STAGE"))
+				stageCol = i;
+			else if (StringUtils.containsIgnoreCase(part, "HANDLER"))
+				handlerCol = i;
+			else if (StringUtils.containsIgnoreCase(part, "TABLE"))
+				tableCol = i;
+			else if (StringUtils.containsIgnoreCase(part, "DEPENDS"))
+				dependsCol = i;
+		}
+		if ((stageCol == -1) || (handlerCol == -1) || (tableCol == -1))
+			throw new IllegalArgumentException("Manifest header must contain STAGE, HANDLER and TABLE columns: " + file);
+
+		// Data
+		for (TableRow row : table.getRows()) {
+			if (row.isBlank())
+				continue;
+			List<String> dependencies = new ArrayList<String>();
+			if ((dependsCol != -1) && (dependsCol < row.getCellCount())) {
+				String depends = row.getCell(dependsCol).trim();
+				if (depends.equals(ALL_PREVIOUS))
+					dependencies.addAll(manifest.stages.keySet());
+				else if (!depends.equals(CoreConfiguration.NOTHING)) {
+					for (String dependency : depends.split(","))
+						if (!dependency.trim().isEmpty())
+							dependencies.add(dependency.trim());
+				}
+			}
+			manifest.addStage(new Stage(row.getCell(stageCol).trim(), TableHandler.fromLiteral(row.getCell(handlerCol)),
+					row.getCell(tableCol).trim(), dependencies));
+		}
+		return manifest;
+	}
+
+	/**
+	 * Adds a stage to the manifest.
+	 *
+	 * @param stage, the stage
+	 * @throws IllegalArgumentException if the stage identifier is repeated
+	 */
+	public void addStage(Stage stage) {
+		if (stages.containsKey(stage.getId()))
+			throw new IllegalArgumentException("Repeated stage: " + stage.getId());
+		stages.put(stage.getId(), stage);
+	}
+
+	// GETTERS
+	/**
+	 * Gets the ontology name.
+	 *
+	 * @return the ontology name
+	 */
+	public String getOntologyName() {
+		return ontologyName;
+	}
+
+	/**
+	 * Gets the stages, in manifest order.
+	 *
+	 * @return the stages
+	 */
+	public List<Stage> getStages() {
+		return new ArrayList<Stage>(stages.values());
+	}
+
+	/**
+	 * Gets the stage for the given identifier.
+	 *
+	 * @param id, the stage identifier
+	 * @return the stage, or null if it doesn't exist
+	 */
+	public Stage getStage(String id) {
+		return stages.get(id);
+	}
+}
@@ -0,0 +1,284 @@
+/*
+ * The Class BuildScheduler, dependency-aware scheduler for the ontology builds.
+ */
+package owlgenerator.java.core.ingestion;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.Callable;
+
+import org.semanticweb.owlapi.model.AddAxiom;
+import org.semanticweb.owlapi.model.OWLAxiom;
+import org.semanticweb.owlapi.model.OWLOntologyChange;
+import org.semanticweb.owlapi.model.OWLOntologyChangeListener;
+
+import owlgenerator.java.core.Core;
+import owlgenerator.java.core.ingestion.BuildManifest.Stage;
+
+/**
+ * The Class BuildScheduler, builds an ontology from a manifest.
+ * The stages and their dependencies form a DAG, which is split in waves: a stage belongs to the wave after the
+ * last wave of its dependencies. The stages of a wave are processed in parallel and committed, in manifest order,
+ * before the next wave starts, so the build is reproducible.
+ * With an axiom cache (incremental mode), only the stages whose tables, upstream stages or code changed are
+ * processed again, the axioms of the rest are replayed from the cache.
+ *
+ * @author Oscar Mateos Lopez
+ * @version: 20161103
+ */
+public class BuildScheduler {
+
+	/** The build manifest. */
+	private final BuildManifest manifest;
+
+	/** The waves of stages. */
+	private final List<List<Stage>> waves;
+
+	/** The axiom cache (incremental mode), or null. */
+	private AxiomCache cache = null;
+
+	/** The number of stages replayed from the cache in the last build. */
+	private int replayed = 0;
+
+	/**
+	 * Instantiates a new build scheduler.
+	 *
+	 * @param manifest, the build manifest
+	 * @throws IllegalArgumentException if a dependency doesn't exist or the dependencies are cyclic
+	 */
+	public BuildScheduler(BuildManifest manifest) {
+		this.manifest = manifest;
+		this.waves = Collections.unmodifiableList(getWaves(manifest));
+	}
+
+	/**
+	 * Splits the manifest stages in waves (topological levels of the DAG), keeping the manifest order in each wave.
+	 *
+	 * @param manifest, the build manifest
+	 * @return the waves of stages
+	 * @throws IllegalArgumentException if a dependency doesn't exist or the dependencies are cyclic
+	 */
+	private static List<List<Stage>> getWaves(BuildManifest manifest) {
+		List<Stage> stages = manifest.getStages();
+		for (Stage stage : stages) {
+			for (String dependency : stage.getDependencies()) {
+				if (manifest.getStage(dependency) == null)
+					throw new IllegalArgumentException("Unknown dependency " + dependency + " of stage " + stage.getId());
+			}
+		}
+
+		// Kahn's algorithm, level by level
+		Map<String, Integer> levels = new HashMap<String, Integer>();
+		List<List<Stage>> waves = new ArrayList<List<Stage>>();
+		while (levels.size() < stages.size()) {
+			List<Stage> wave = new ArrayList<Stage>();
+			for (Stage stage : stages) {
+				if (levels.containsKey(stage.getId()))
+					continue;
+				boolean ready = true;
+				for (String dependency : stage.getDependencies()) {
+					Integer level = levels.get(dependency);
+					if ((level == null) || (level == waves.size())) {
+						ready = false;
+						break;
+					}
+				}
+				if (ready)
+					wave.add(stage);
+			}
+			if (wave.isEmpty()) {
+				List<String> cyclic = new ArrayList<String>();
+				for (Stage stage : stages)
+					if (!levels.containsKey(stage.getId()))
+						cyclic.add(stage.getId());
+				throw new IllegalArgumentException("Cyclic dependencies between stages " + cyclic);
+			}
+			for (Stage stage : wave)
+				levels.put(stage.getId(), waves.size());
+			waves.add(Collections.unmodifiableList(wave));
+		}
+		return waves;
+	}
+
+	// GETTERS
+	/**
+	 * Gets the build manifest.
+	 *
+	 * @return the build manifest
+	 */
+	public BuildManifest getManifest() {
+		return manifest;
+	}
+
+	/**
+	 * Gets the waves of stages, in execution order.
+	 *
+	 * @return the waves
+	 */
+	public List<List<Stage>> getWaves() {
+		return waves;
+	}
+
+	/**
+	 * Gets the axiom cache.
+	 *
+	 * @return the axiom cache, or null if the incremental mode is off
+	 */
+	public AxiomCache getCache() {
+		return cache;
+	}
+
+	/**
+	 * Sets the axiom cache, enabling the incremental mode.
+	 *
+	 * @param cache, the axiom cache, or null to disable the incremental mode
+	 */
+	public void setCache(AxiomCache cache) {
+		this.cache = cache;
+	}
+
+	/**
+	 * Gets the number of stages replayed from the cache in the last build.
+	 *
+	 * @return the number of replayed stages
+	 */
+	public int getReplayed() {
+		return replayed;
+	}
+
+	// MAIN METHODS
+	/**
+	 * Builds the manifest stages into the generator ontology, with one worker per available processor.
+	 *
+	 * @param core, the generator
+	 * @return the number of committed axioms (the post-commit processing, e.g. footnotes, is not counted)
+	 */
+	public int build(Core core) {
+		return build(core, Runtime.getRuntime().availableProcessors());
+	}
+
+	/**
+	 * Builds the manifest stages into the generator ontology.
+	 *
+	 * @param core, the generator
+	 * @param threads, the number of workers
+	 * @return the number of committed axioms (the post-commit processing, e.g. footnotes, is not counted)
+	 */
+	public int build(Core core, int threads) {
+		int committed = 0;
+		replayed = 0;
+		Map<String, String> stageKeys = new HashMap<String, String>();
+		ParallelIngestion ingestion = new ParallelIngestion(core, threads);
+		try {
+			for (List<Stage> wave : waves) {
+				for (Stage stage : wave) {
+					if (cache == null)
+						ingestion.submit(stage.getHandler(), stage.getTableFileName());
+					else
+						submitIncremental(ingestion, core, stage, stageKeys);
+				}
+				committed += ingestion.barrier();
+			}
+		} finally {
+			ingestion.close();
+		}
+		return committed;
+	}
+
+	/**
+	 * Submits a stage in incremental mode: the worker replays the cached axioms if the entry is still valid,
+	 * otherwise it processes the table recording the tables it reads, and the result is stored once committed.
+	 *
+	 * @param ingestion, the parallel ingestion
+	 * @param core, the generator
+	 * @param stage, the stage
+	 * @param stageKeys, the keys of the committed stages
+	 */
+	private void submitIncremental(ParallelIngestion ingestion, final Core core, final Stage stage, final Map<String, String> stageKeys) {
+		final TableHandler handler = stage.getHandler();
+		final String tableFileName = stage.getTableFileName();
+		List<String> dependencyKeys = new ArrayList<String>();
+		for (String dependency : stage.getDependencies()) {
+			// A failed stage has no key and invalidates the stages depending on it
+			String key = stageKeys.get(dependency);
+			dependencyKeys.add((key != null) ? key : "uncached:" + System.nanoTime());
+		}
+		final String upstreamKey = AxiomCache.getUpstreamKey(dependencyKeys);
+
+		// The worker results, visible to the committing thread once the barrier gets them
+		final Set<String> inputs = new LinkedHashSet<String>();
+		final AxiomCache.Entry[] hit = new AxiomCache.Entry[1];
+		final List<Set<OWLAxiom>> computed = new ArrayList<Set<OWLAxiom>>(1);
+
+		ingestion.submit(new Callable<Set<OWLAxiom>>() {
+			@Override
+			public Set<OWLAxiom> call() {
+				AxiomCache.Entry entry = cache.lookup(core, handler, tableFileName, upstreamKey);
+				if (entry != null) {
+					Set<OWLAxiom> axiomSet = entry.getAxioms();
+					if (axiomSet != null) {
+						hit[0] = entry;
+						return axiomSet;
+					}
+				}
+				// Changed (or unreadable entry): process the table
+				core.startRecordingTableReads();
+				try {
+					Set<OWLAxiom> axiomSet = handler.getAxioms(core, tableFileName);
+					computed.add(axiomSet);
+					return axiomSet;
+				} finally {
+					inputs.add(tableFileName);
+					inputs.addAll(core.stopRecordingTableReads());
+				}
+			}
+		}, new Runnable() {
+			@Override
+			public void run() {
+				// Replay
+				if (hit[0] != null) {
+					Set<OWLAxiom> committedAxioms = hit[0].getCommittedAxioms();
+					if (committedAxioms != null) {
+						core.addAxioms(committedAxioms);
+						stageKeys.put(stage.getId(), hit[0].getKey());
+						replayed++;
+						return;
+					}
+					handler.committed(core, tableFileName);
+					stageKeys.put(stage.getId(), "uncached:" + System.nanoTime());
+					return;
+				}
+
+				// Post-processing, recording the added axioms
+				final Set<OWLAxiom> committedAxioms = new HashSet<OWLAxiom>();
+				OWLOntologyChangeListener listener = new OWLOntologyChangeListener() {
+					@Override
+					public void ontologiesChanged(List<? extends OWLOntologyChange> changes) {
+						for (OWLOntologyChange change : changes) {
+							if (change instanceof AddAxiom && change.getOntology().equals(core.getOntology()))
+								committedAxioms.add(change.getAxiom());
+						}
+					}
+				};
+				core.getManager().addOntologyChangeListener(listener);
+				core.startRecordingTableReads();
+				try {
+					handler.committed(core, tableFileName);
+				} finally {
+					inputs.addAll(core.stopRecordingTableReads());
+					core.getManager().removeOntologyChangeListener(listener);
+				}
+				Set<OWLAxiom> axiomSet = computed.isEmpty() ? null : computed.get(0);
+				String key = (axiomSet != null) ? cache.store(core, handler, tableFileName, upstreamKey, inputs, axiomSet, committedAxioms) : null;
+				// Unstored stages invalidate the stages depending on them
+				stageKeys.put(stage.getId(), (key != null) ? key : "uncached:" + System.nanoTime());
+			}
+		});
+	}
+}
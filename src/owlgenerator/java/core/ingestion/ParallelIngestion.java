@@ -0,0 +1,182 @@
+/*
+ * The Class ParallelIngestion, parallel table ingestion for the Core generator.
+ */
+package owlgenerator.java.core.ingestion;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.semanticweb.owlapi.model.OWLAxiom;
+
+import owlgenerator.java.core.Core;
+
+/**
+ * The Class ParallelIngestion, processes independent tables concurrently on a worker pool.
+ * The workers only build the axioms sets of their tables, the ontology is changed by a single thread at the
+ * barriers: all the pending tables are waited for first, and only then committed in submission order, so the
+ * result doesn't depend on the scheduling. The handlers see the ontology as it was at the last barrier (e.g. to label new classes), so
+ * tables that depend on the axioms of other tables must be submitted after a barrier.
+ *
+ * @author Oscar Mateos Lopez
+ * @version: 20161103
+ */
+public class ParallelIngestion implements AutoCloseable {
+
+	/** The generator. */
+	private final Core core;
+
+	/** The worker pool. */
+	private final ExecutorService executor;
+
+	/** The submitted tables, pending to be committed. */
+	private final List<Task> pending = new ArrayList<Task>();
+
+	/**
+	 * The Class Task, a submitted table.
+	 */
+	private static class Task {
+
+		/** The axioms of the table. */
+		private final Future<Set<OWLAxiom>> axioms;
+
+		/** The post-processing once the axioms are committed, or null. */
+		private final Runnable committed;
+
+		/**
+		 * Instantiates a new task.
+		 *
+		 * @param axioms, the axioms of the table
+		 * @param committed, the post-processing once the axioms are committed, or null
+		 */
+		private Task(Future<Set<OWLAxiom>> axioms, Runnable committed) {
+			this.axioms = axioms;
+			this.committed = committed;
+		}
+	}
+
+	/**
+	 * Instantiates a new parallel ingestion with one worker per available processor.
+	 *
+	 * @param core, the generator
+	 */
+	public ParallelIngestion(Core core) {
+		this(core, Runtime.getRuntime().availableProcessors());
+	}
+
+	/**
+	 * Instantiates a new parallel ingestion.
+	 *
+	 * @param core, the generator
+	 * @param threads, the number of workers
+	 */
+	public ParallelIngestion(Core core, int threads) {
+		if (threads < 1)
+			throw new IllegalArgumentException("Number of workers must be positive: " + threads);
+		this.core = core;
+		this.executor = Executors.newFixedThreadPool(threads, new ThreadFactory() {
+			private final AtomicInteger count = new AtomicInteger();
+
+			@Override
+			public Thread newThread(Runnable runnable) {
+				Thread thread = new Thread(runnable, "table-ingestion-" + count.incrementAndGet());
+				thread.setDaemon(true);
+				return thread;
+			}
+		});
+	}
+
+	// MAIN METHODS
+	/**
+	 * Submits a table to be processed by the workers.
+	 *
+	 * @param handler, the table handler
+	 * @param tableFileName, the table file name
+	 */
+	public void submit(final TableHandler handler, final String tableFileName) {
+		submit(new Callable<Set<OWLAxiom>>() {
+			@Override
+			public Set<OWLAxiom> call() {
+				return handler.getAxioms(core, tableFileName);
+			}
+		}, new Runnable() {
+			@Override
+			public void run() {
+				handler.committed(core, tableFileName);
+			}
+		});
+	}
+
+	/**
+	 * Submits a task that builds the axioms of a table, to be processed by the workers.
+	 *
+	 * @param axioms, the task building the axioms (it must not change the ontology)
+	 * @param committed, the post-processing once the axioms are committed (on the committing thread), or null
+	 */
+	public void submit(Callable<Set<OWLAxiom>> axioms, Runnable committed) {
+		pending.add(new Task(executor.submit(axioms), committed));
+	}
+
+	/**
+	 * Waits for all the submitted tables and then commits their axioms to the ontology, in submission order. No table
+	 * is committed while another of the same wave is still running, so the handlers never see a partial wave.
+	 *
+	 * @return the number of committed axioms
+	 */
+	public int barrier() {
+		int committed = 0;
+		try {
+			// Wait for the whole wave
+			List<Set<OWLAxiom>> results = new ArrayList<Set<OWLAxiom>>(pending.size());
+			List<Boolean> failed = new ArrayList<Boolean>(pending.size());
+			for (Task task : pending) {
+				try {
+					results.add(task.axioms.get());
+					failed.add(false);
+				} catch (ExecutionException e) {
+					// Keep the other tables, as in the sequential mode
+					e.getCause().printStackTrace();
+					results.add(null);
+					failed.add(true);
+				}
+			}
+			// Commit
+			for (int i = 0; i < pending.size(); i++) {
+				if (failed.get(i))
+					continue;
+				Set<OWLAxiom> axiomSet = results.get(i);
+				if (axiomSet != null) {
+					core.addAxioms(axiomSet);
+					committed += axiomSet.size();
+				}
+				Task task = pending.get(i);
+				if (task.committed != null)
+					task.committed.run();
+			}
+		} catch (InterruptedException e) {
+			Thread.currentThread().interrupt();
+		} finally {
+			pending.clear();
+		}
+		return committed;
+	}
+
+	/**
+	 * Commits the pending tables and stops the workers.
+	 */
+	@Override
+	public void close() {
+		try {
+			barrier();
+		} finally {
+			executor.shutdown();
+		}
+	}
+}
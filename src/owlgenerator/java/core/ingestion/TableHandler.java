@@ -0,0 +1,169 @@
+/*
+ * The Enum TableHandler, the table handlers of the Core generator.
+ */
+package owlgenerator.java.core.ingestion;
+
+import java.io.FileNotFoundException;
+import java.io.IOException;
+import java.util.Collections;
+import java.util.Set;
+
+import org.semanticweb.owlapi.model.OWLAxiom;
+
+import owlgenerator.java.core.Core;
+import owlgenerator.java.footnotes.FootNotes;
+
+/**
+ * The Enum TableHandler, the table handlers of the Core generator.
+ * Each handler builds the axioms of a table without changing the ontology, so independent tables can be
+ * processed concurrently and committed later (see ParallelIngestion).
+ *
+ * @author Oscar Mateos Lopez
+ * @version: 20161103
+ */
+public enum TableHandler {
+
+	/** The Subclass-Of tables (taxonomies), including the jumped tables. */
+	SUBCLASS_OF {
+		@Override
+		public Set<OWLAxiom> getAxioms(Core core, String tableFileName) {
+			return core.getSubClassOfAxiomsFromTables(tableFileName);
+		}
+	},
+
+	/** The Part-Of relations tables. */
+	PART_OF {
+		@Override
+		public Set<OWLAxiom> getAxioms(Core core, String tableFileName) {
+			return core.getPartOfAxiomsFromTable(tableFileName);
+		}
+	},
+
+	/** The Disjoint-Decompositions tables. */
+	DISJOINT_DECOMPOSITIONS {
+		@Override
+		public Set<OWLAxiom> getAxioms(Core core, String tableFileName) {
+			return core.getDisjointDecompositionsFromTable(tableFileName);
+		}
+	},
+
+	/** The Exhaustive-Decompositions tables. */
+	EXHAUSTIVE_DECOMPOSITIONS {
+		@Override
+		public Set<OWLAxiom> getAxioms(Core core, String tableFileName) {
+			return core.getExhaustiveDecompositionsFromTable(tableFileName);
+		}
+	},
+
+	/** The Attributes (Data Properties) tables. */
+	ATTRIBUTES {
+		@Override
+		public Set<OWLAxiom> getAxioms(Core core, String tableFileName) {
+			return core.getAttributesFromTable(tableFileName);
+		}
+	},
+
+	/** The Ad-Hoc Relations (Object Properties) tables, the inverse relations are inferred once committed. */
+	AD_HOC_RELATIONS {
+		@Override
+		public Set<OWLAxiom> getAxioms(Core core, String tableFileName) {
+			return core.getAdHocRelationsFromTable(tableFileName);
+		}
+
+		@Override
+		public void committed(Core core, String tableFileName) {
+			core.inferInverseAdHocRelations(tableFileName);
+		}
+	},
+
+	/** The attribute rules (Data Property Value restrictions) tables. */
+	ATTRIBUTE_RULES {
+		@Override
+		public Set<OWLAxiom> getAxioms(Core core, String tableFileName) {
+			try {
+				return core.getAttributeRuleAxiomsFromTable(core.getTable(tableFileName));
+			} catch (FileNotFoundException e) {
+				e.printStackTrace();
+				return null;
+			} catch (IOException e) {
+				e.printStackTrace();
+				return null;
+			}
+		}
+	},
+
+	/** The Class Individuals tables. */
+	CLASS_INDIVIDUALS {
+		@Override
+		public Set<OWLAxiom> getAxioms(Core core, String tableFileName) {
+			return core.getClassIndividualsFromTable(tableFileName);
+		}
+	},
+
+	/** The footnotes tables, they read the ontology so they are processed once committed. */
+	FOOTNOTES {
+		@Override
+		public Set<OWLAxiom> getAxioms(Core core, String tableFileName) {
+			return Collections.emptySet();
+		}
+
+		@Override
+		public void committed(Core core, String tableFileName) {
+			new FootNotes().addAxiomsFromFootNotes(tableFileName, core);
+		}
+	};
+
+	/**
+	 * Gets the table handler for the given literal, the handler name or its usual name in the manifests
+	 * (TAXONOMY, PART-OF, AD HOC, RULES...), ignoring case.
+	 *
+	 * @param literal, the handler literal
+	 * @return the table handler
+	 * @throws IllegalArgumentException if the literal is not a table handler
+	 */
+	public static TableHandler fromLiteral(String literal) {
+		String name = literal.trim().toUpperCase().replace('-', '_').replace(' ', '_');
+		switch (name) {
+		case ("TAXONOMY"):
+			return SUBCLASS_OF;
+		case ("AD_HOC"):
+		case ("ADHOC"):
+			return AD_HOC_RELATIONS;
+		case ("RULES"):
+			return ATTRIBUTE_RULES;
+		case ("INDIVIDUALS"):
+			return CLASS_INDIVIDUALS;
+		default:
+			return valueOf(name);
+		}
+	}
+
+	/**
+	 * Gets the axioms of the given table without changing the ontology.
+	 *
+	 * @param core, the generator
+	 * @param tableFileName, the table file name
+	 * @return The axioms set, or null if the table cannot be read
+	 */
+	public abstract Set<OWLAxiom> getAxioms(Core core, String tableFileName);
+
+	/**
+	 * Post-processing once the axioms of the table are committed to the ontology (nothing by default).
+	 *
+	 * @param core, the generator
+	 * @param tableFileName, the table file name
+	 */
+	public void committed(Core core, String tableFileName) {
+	}
+
+	/**
+	 * Adds the axioms of the given table to the ontology (sequential mode).
+	 *
+	 * @param core, the generator
+	 * @param tableFileName, the table file name
+	 */
+	public void add(Core core, String tableFileName) {
+		core.addAxioms(getAxioms(core, tableFileName));
+		committed(core, tableFileName);
+	}
+}
@@ -0,0 +1,371 @@
+/*
+ * The Class CellParser, hand-written parser for the table cell grammar.
+ */
+package owlgenerator.java.core.table;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * The Class CellParser, scans a table cell once and classifies it into a typed CellToken:
+ * names, names with synonyms "Name (syn1, syn2)", value sets "{v1, v2}", jumps "[Continued in Table 12b]",
+ * cardinalities "(0, n)" and numeric ranges "1 .. 5".
+ * No regular expressions are used, so it can be called for every cell of the ingestion loops.
+ *
+ * @author Oscar Mateos Lopez
+ * @version: 20161103
+ */
+public final class CellParser {
+
+	/**
+	 * Instantiates a new cell parser (static methods only).
+	 */
+	private CellParser() {
+	}
+
+	// MAIN METHODS
+	/**
+	 * Parses a table cell.
+	 *
+	 * @param cell, the cell
+	 * @return the typed cell token
+	 */
+	public static CellToken parse(CharSequence cell) {
+		return parse(cell, "", false);
+	}
+
+	/**
+	 * Parses a table cell, accepting the variants of the names with detail of some tables.
+	 *
+	 * @param cell, the cell
+	 * @param detailChars, the characters accepted in the detail besides the common ones (e.g. "." in the Part-Of tables)
+	 * @param innerSeparator, accept an inner separator between the name and the brackets (e.g. in the instances tables)
+	 * @return the typed cell token
+	 */
+	public static CellToken parse(CharSequence cell, String detailChars, boolean innerSeparator) {
+		int start = skipSpaces(cell, 0, cell.length());
+		int end = trimEnd(cell, start, cell.length());
+		String text = cell.subSequence(start, end).toString();
+		if (start == end)
+			return new CellToken(CellToken.Type.NAME, text, text, null, null, 0, 0);
+
+		char first = cell.charAt(start), last = cell.charAt(end - 1);
+		CellToken token = null;
+		if (first == '[' && last == ']')
+			token = parseJump(cell, start + 1, end - 1, text);
+		else if (first == '{' && last == '}')
+			token = new CellToken(CellToken.Type.VALUE_SET, text, text, null, splitValues(cell, start + 1, end - 1), 0, 0);
+		else if (first == '(' && last == ')')
+			token = parseCardinality(cell, start + 1, end - 1, text);
+		else if (isDigit(first) && isDigit(last))
+			token = parseRange(cell, start, end, text);
+		else if (last == ')')
+			token = parseSynonyms(cell, start, end, text, detailChars, innerSeparator);
+
+		if (token == null)
+			token = new CellToken(CellToken.Type.NAME, text, text, null, null, 0, 0);
+		return token;
+	}
+
+	/**
+	 * Gets the name of a cell, without the detail in brackets.
+	 *
+	 * @param cell, the cell
+	 * @return the name
+	 */
+	public static String getName(CharSequence cell) {
+		return parse(cell).getName();
+	}
+
+	// GRAMMAR
+	/**
+	 * Parses a jump: [Continue(s|d) in Table N], only the initials may be upper case.
+	 *
+	 * @param cell, the cell
+	 * @param from, the first index inside brackets
+	 * @param to, the last index (exclusive) inside brackets
+	 * @param text, the trimmed cell text
+	 * @return the JUMP token, or null
+	 */
+	private static CellToken parseJump(CharSequence cell, int from, int to, String text) {
+		int i = skipSpaces(cell, from, to);
+		if (!matchesInitialIgnoreCase(cell, i, to, "continue"))
+			return null;
+		i += "continue".length();
+		if (i < to && (cell.charAt(i) == 's' || cell.charAt(i) == 'd'))
+			i++;
+		i = skipSpaces(cell, i, to);
+		if (!matches(cell, i, to, "in"))
+			return null;
+		i = skipSpaces(cell, i + 2, to);
+
+		// Table reference
+		int refStart = i;
+		if (!matchesInitialIgnoreCase(cell, i, to, "table"))
+			return null;
+		i = skipSpaces(cell, i + "table".length(), to);
+		int digits = i;
+		while (i < to && isDigit(cell.charAt(i)))
+			i++;
+		if (i == digits)
+			return null;
+		if (i < to && isWordChar(cell.charAt(i)))
+			i++;
+		int refEnd = i;
+		if (skipSpaces(cell, i, to) != to)
+			return null;
+		return new CellToken(CellToken.Type.JUMP, text, cell.subSequence(refStart, refEnd).toString(), null, null, 0, 0);
+	}
+
+	/**
+	 * Parses a cardinality: (lower, upper|n).
+	 *
+	 * @param cell, the cell
+	 * @param from, the first index inside brackets
+	 * @param to, the last index (exclusive) inside brackets
+	 * @param text, the trimmed cell text
+	 * @return the CARDINALITY token, or null
+	 */
+	private static CellToken parseCardinality(CharSequence cell, int from, int to, String text) {
+		int i = skipSpaces(cell, from, to);
+		int lowerStart = i;
+		while (i < to && isDigit(cell.charAt(i)))
+			i++;
+		if (i == lowerStart)
+			return null;
+		int lower = toInt(cell, lowerStart, i);
+		i = skipSpaces(cell, i, to);
+		if (i >= to || cell.charAt(i) != ',')
+			return null;
+		i = skipSpaces(cell, i + 1, to);
+
+		int upper;
+		if (i < to && (cell.charAt(i) == 'n' || cell.charAt(i) == 'N')) {
+			upper = CellToken.UNBOUNDED;
+			i++;
+		} else {
+			int upperStart = i;
+			while (i < to && isDigit(cell.charAt(i)))
+				i++;
+			if (i == upperStart)
+				return null;
+			upper = toInt(cell, upperStart, i);
+		}
+		if (skipSpaces(cell, i, to) != to)
+			return null;
+		return new CellToken(CellToken.Type.CARDINALITY, text, text, null, null, lower, upper);
+	}
+
+	/**
+	 * Parses a numeric range: lower .. upper.
+	 *
+	 * @param cell, the cell
+	 * @param from, the first index of the trimmed cell
+	 * @param to, the last index (exclusive) of the trimmed cell
+	 * @param text, the trimmed cell text
+	 * @return the RANGE token, or null
+	 */
+	private static CellToken parseRange(CharSequence cell, int from, int to, String text) {
+		int i = from;
+		while (i < to && isDigit(cell.charAt(i)))
+			i++;
+		int lower = toInt(cell, from, i);
+		i = skipSpaces(cell, i, to);
+		if (i + 1 >= to || cell.charAt(i) != '.' || cell.charAt(i + 1) != '.')
+			return null;
+		i = skipSpaces(cell, i + 2, to);
+		int upperStart = i;
+		while (i < to && isDigit(cell.charAt(i)))
+			i++;
+		if (i == upperStart || i != to)
+			return null;
+		return new CellToken(CellToken.Type.RANGE, text, text, null, null, lower, toInt(cell, upperStart, to));
+	}
+
+	/**
+	 * Parses a name with detail: Name (detail).
+	 *
+	 * @param cell, the cell
+	 * @param from, the first index of the trimmed cell
+	 * @param to, the last index (exclusive) of the trimmed cell
+	 * @param text, the trimmed cell text
+	 * @param detailChars, the characters accepted in the detail besides the common ones
+	 * @param innerSeparator, accept an inner separator between the name and the brackets
+	 * @return the SYNONYMS token, or null
+	 */
+	private static CellToken parseSynonyms(CharSequence cell, int from, int to, String text, String detailChars,
+			boolean innerSeparator) {
+		int open = -1;
+		for (int i = from; i < to - 1; i++) {
+			if (cell.charAt(i) == '(') {
+				open = i;
+				break;
+			}
+		}
+		if (open <= from)
+			return null;
+
+		// Name
+		int nameEnd = trimEnd(cell, from, open);
+		if (innerSeparator && nameEnd > from && cell.charAt(nameEnd - 1) == '%')
+			nameEnd = trimEnd(cell, from, nameEnd - 1);
+		if (nameEnd == from)
+			return null;
+		for (int i = from; i < nameEnd; i++) {
+			if (!isNameChar(cell.charAt(i)))
+				return null;
+		}
+
+		// Detail
+		int detailStart = skipSpaces(cell, open + 1, to - 1), detailEnd = trimEnd(cell, detailStart, to - 1);
+		if (detailStart == detailEnd)
+			return null;
+		for (int i = detailStart; i < detailEnd; i++) {
+			if (!isDetailChar(cell.charAt(i)) && (detailChars.indexOf(cell.charAt(i)) == -1))
+				return null;
+		}
+		String name = cell.subSequence(from, nameEnd).toString();
+		String detail = cell.subSequence(detailStart, detailEnd).toString();
+		return new CellToken(CellToken.Type.SYNONYMS, text, name, detail, splitValues(cell, detailStart, detailEnd), 0, 0);
+	}
+
+	// SCANNING
+	/**
+	 * Splits the comma separated values between the given indexes, each value is trimmed.
+	 *
+	 * @param cell, the cell
+	 * @param from, the first index
+	 * @param to, the last index (exclusive)
+	 * @return the values
+	 */
+	private static List<String> splitValues(CharSequence cell, int from, int to) {
+		List<String> values = new ArrayList<String>();
+		int valueStart = from;
+		for (int i = from; i <= to; i++) {
+			if (i == to || cell.charAt(i) == ',') {
+				int start = skipSpaces(cell, valueStart, i), end = trimEnd(cell, start, i);
+				if (start < end)
+					values.add(cell.subSequence(start, end).toString());
+				valueStart = i + 1;
+			}
+		}
+		return values;
+	}
+
+	/**
+	 * Skips the white spaces from the given index.
+	 *
+	 * @param cell, the cell
+	 * @param from, the first index
+	 * @param to, the last index (exclusive)
+	 * @return the index of the first non white space character, or to
+	 */
+	private static int skipSpaces(CharSequence cell, int from, int to) {
+		while (from < to && Character.isWhitespace(cell.charAt(from)))
+			from++;
+		return from;
+	}
+
+	/**
+	 * Skips the trailing white spaces before the given index.
+	 *
+	 * @param cell, the cell
+	 * @param from, the first index
+	 * @param to, the last index (exclusive)
+	 * @return the index after the last non white space character, or from
+	 */
+	private static int trimEnd(CharSequence cell, int from, int to) {
+		while (to > from && Character.isWhitespace(cell.charAt(to - 1)))
+			to--;
+		return to;
+	}
+
+	/**
+	 * Checks if the literal is at the given index.
+	 *
+	 * @param cell, the cell
+	 * @param from, the index
+	 * @param to, the last index (exclusive)
+	 * @param literal, the literal
+	 * @return true, if the literal is found
+	 */
+	private static boolean matches(CharSequence cell, int from, int to, String literal) {
+		if (to - from < literal.length())
+			return false;
+		for (int i = 0; i < literal.length(); i++) {
+			if (cell.charAt(from + i) != literal.charAt(i))
+				return false;
+		}
+		return true;
+	}
+
+	/**
+	 * Checks if the literal (lower case) is at the given index, ignoring the case of its initial only.
+	 *
+	 * @param cell, the cell
+	 * @param from, the index
+	 * @param to, the last index (exclusive)
+	 * @param literal, the lower case literal
+	 * @return true, if the literal is found
+	 */
+	private static boolean matchesInitialIgnoreCase(CharSequence cell, int from, int to, String literal) {
+		if ((to - from < literal.length()) || (Character.toLowerCase(cell.charAt(from)) != literal.charAt(0)))
+			return false;
+		return matches(cell, from + 1, to, literal.substring(1));
+	}
+
+	/**
+	 * Converts the digits between the given indexes.
+	 *
+	 * @param cell, the cell
+	 * @param from, the first index
+	 * @param to, the last index (exclusive)
+	 * @return the number
+	 */
+	private static int toInt(CharSequence cell, int from, int to) {
+		int value = 0;
+		for (int i = from; i < to; i++)
+			value = value * 10 + (cell.charAt(i) - '0');
+		return value;
+	}
+
+	/**
+	 * Checks if it is a decimal digit.
+	 *
+	 * @param c, the character
+	 * @return true, if it is a digit
+	 */
+	private static boolean isDigit(char c) {
+		return c >= '0' && c <= '9';
+	}
+
+	/**
+	 * Checks if it is a word character (letter, digit or underscore).
+	 *
+	 * @param c, the character
+	 * @return true, if it is a word character
+	 */
+	private static boolean isWordChar(char c) {
+		return Character.isLetterOrDigit(c) || c == '_';
+	}
+
+	/**
+	 * Checks if it is a valid character for names.
+	 *
+	 * @param c, the character
+	 * @return true, if it is valid
+	 */
+	private static boolean isNameChar(char c) {
+		return isWordChar(c) || Character.isWhitespace(c) || c == '-' || c == '/' || c == '*' || c == '+';
+	}
+
+	/**
+	 * Checks if it is a valid character for details in brackets.
+	 *
+	 * @param c, the character
+	 * @return true, if it is valid
+	 */
+	private static boolean isDetailChar(char c) {
+		return isNameChar(c) || c == ',';
+	}
+}
@@ -0,0 +1,164 @@
+/*
+ * The Class CellToken, a typed table cell.
+ */
+package owlgenerator.java.core.table;
+
+import java.util.Collections;
+import java.util.List;
+
+/**
+ * The Class CellToken, a typed table cell as recognized by the CellParser.
+ *
+ * @author Oscar Mateos Lopez
+ * @version: 20161103
+ */
+public class CellToken {
+
+	/**
+	 * The cell types of the table cell grammar.
+	 */
+	public enum Type {
+		/** A plain name: "Name". */
+		NAME,
+		/** A name with a detail in brackets, usually synonyms: "Name (syn1, syn2)". */
+		SYNONYMS,
+		/** A set of values: "{v1, v2}". */
+		VALUE_SET,
+		/** A jump to another table: "[Continued in Table 12b]". */
+		JUMP,
+		/** A cardinality: "(0, n)". */
+		CARDINALITY,
+		/** A numeric range: "1 .. 5". */
+		RANGE
+	}
+
+	/** The Constant UNBOUNDED value, for the 'n' upper bound. */
+	public static final int UNBOUNDED = -1;
+
+	/** The type. */
+	private final Type type;
+
+	/** The trimmed cell text. */
+	private final String text;
+
+	/** The name, or the table reference for the jumps. */
+	private final String name;
+
+	/** The detail in brackets. */
+	private final String detail;
+
+	/** The values of the detail or the value set. */
+	private final List<String> values;
+
+	/** The lower and upper bounds. */
+	private final int lower, upper;
+
+	/**
+	 * Instantiates a new cell token.
+	 *
+	 * @param type, the type
+	 * @param text, the trimmed cell text
+	 * @param name, the name or table reference
+	 * @param detail, the detail in brackets
+	 * @param values, the values
+	 * @param lower, the lower bound
+	 * @param upper, the upper bound
+	 */
+	CellToken(Type type, String text, String name, String detail, List<String> values, int lower, int upper) {
+		this.type = type;
+		this.text = text;
+		this.name = name;
+		this.detail = detail;
+		this.values = (values != null) ? Collections.unmodifiableList(values) : Collections.<String>emptyList();
+		this.lower = lower;
+		this.upper = upper;
+	}
+
+	// GETTERS
+	/**
+	 * Gets the type.
+	 *
+	 * @return the type
+	 */
+	public Type getType() {
+		return type;
+	}
+
+	/**
+	 * Checks if the token is of the given type.
+	 *
+	 * @param type, the type
+	 * @return true, if it is of the given type
+	 */
+	public boolean is(Type type) {
+		return this.type == type;
+	}
+
+	/**
+	 * Gets the trimmed cell text.
+	 *
+	 * @return the text
+	 */
+	public String getText() {
+		return text;
+	}
+
+	/**
+	 * Gets the name (NAME, SYNONYMS) or the table reference (JUMP), the trimmed text otherwise.
+	 *
+	 * @return the name
+	 */
+	public String getName() {
+		return name;
+	}
+
+	/**
+	 * Gets the detail in brackets (SYNONYMS).
+	 *
+	 * @return the detail, or null
+	 */
+	public String getDetail() {
+		return detail;
+	}
+
+	/**
+	 * Gets the values of the detail (SYNONYMS) or the value set (VALUE_SET).
+	 *
+	 * @return the values
+	 */
+	public List<String> getValues() {
+		return values;
+	}
+
+	/**
+	 * Gets the lower bound (CARDINALITY, RANGE).
+	 *
+	 * @return the lower bound
+	 */
+	public int getLower() {
+		return lower;
+	}
+
+	/**
+	 * Gets the upper bound (CARDINALITY, RANGE).
+	 *
+	 * @return the upper bound, or UNBOUNDED for 'n'
+	 */
+	public int getUpper() {
+		return upper;
+	}
+
+	/**
+	 * Checks if the upper bound is 'n'.
+	 *
+	 * @return true, if it is unbounded
+	 */
+	public boolean isUnbounded() {
+		return upper == UNBOUNDED;
+	}
+
+	@Override
+	public String toString() {
+		return type + "[" + text + "]";
+	}
+}
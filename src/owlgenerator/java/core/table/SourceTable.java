@@ -0,0 +1,179 @@
+/*
+ * The Class SourceTable, in-memory model of a formatted text table file.
+ */
+package owlgenerator.java.core.table;
+
+import java.io.File;
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+
+/**
+ * The Class SourceTable, in-memory model of a formatted text table file.
+ * The file is read once (memory-mapped and decoded in chunks), each data row keeps a copy of its line: 1st line is the table title, 2nd line the header and the following lines the data rows.
+ *
+ * @author Oscar Mateos Lopez
+ * @version: 20161103
+ */
+public class SourceTable {
+
+	/** The Constant HEADER_LINE value. */
+	public static final int HEADER_LINE = 2;
+
+	/** The table file name. */
+	private final String name;
+
+	/** The table title. */
+	private String title = null;
+
+	/** The header. */
+	private List<String> header = Collections.emptyList();
+
+	/** The header to column index map. */
+	private final Map<String, Integer> columns = new HashMap<String, Integer>();
+
+	/** The data rows. */
+	private final List<TableRow> rows = new ArrayList<TableRow>();
+
+	/**
+	 * Instantiates a new source table.
+	 *
+	 * @param name, the table file name
+	 */
+	private SourceTable(String name) {
+		this.name = name;
+	}
+
+	// BUILDER
+	/**
+	 * Loads and parses a formatted text table file.
+	 *
+	 * @param file, the table file
+	 * @return the parsed source table
+	 * @throws IOException, if the file cannot be read
+	 */
+	public static SourceTable load(File file) throws IOException {
+		final SourceTable table = new SourceTable(file.getName());
+		TableReader.read(file, new TableReader.LineHandler() {
+			@Override
+			public void line(int lineNumber, CharSequence line) {
+				// Title
+				if (lineNumber < HEADER_LINE)
+					table.title = line.toString();
+				// Header
+				else if (lineNumber == HEADER_LINE)
+					table.setHeader(new TableRow(lineNumber, line).getCells());
+				// Data (the line view is only valid during the call)
+				else
+					table.rows.add(new TableRow(lineNumber, TableReader.copy(line)));
+			}
+		});
+		return table;
+	}
+
+	/**
+	 * Sets the header and builds the header to column index map.
+	 *
+	 * @param headerParts, the header cells
+	 */
+	private void setHeader(String[] headerParts) {
+		header = Collections.unmodifiableList(Arrays.asList(headerParts));
+		for (int i = 0; i < headerParts.length; i++) {
+			// Keep the first column for repeated header names
+			if (!columns.containsKey(headerParts[i]))
+				columns.put(headerParts[i], i);
+		}
+	}
+
+	// GETTERS
+	/**
+	 * Gets the table file name.
+	 *
+	 * @return the table file name
+	 */
+	public String getName() {
+		return name;
+	}
+
+	/**
+	 * Gets the table title (1st line).
+	 *
+	 * @return the table title
+	 */
+	public String getTitle() {
+		return title;
+	}
+
+	/**
+	 * Gets the header cells.
+	 *
+	 * @return the header
+	 */
+	public List<String> getHeader() {
+		return header;
+	}
+
+	/**
+	 * Gets the column index for the given header name.
+	 *
+	 * @param headerName, the header name
+	 * @return the column index, or -1 if the column doesn't exist
+	 */
+	public int getColumn(String headerName) {
+		Integer column = columns.get(headerName);
+		return (column != null) ? column : -1;
+	}
+
+	/**
+	 * Gets the data rows.
+	 *
+	 * @return the data rows
+	 */
+	public List<TableRow> getRows() {
+		return Collections.unmodifiableList(rows);
+	}
+
+	// QUERIES
+	/**
+	 * Gets the data rows whose raw line contains the given literal.
+	 *
+	 * @param literal, the literal
+	 * @return the matched data rows
+	 */
+	public List<TableRow> getRowsContaining(String literal) {
+		List<TableRow> matches = new ArrayList<TableRow>();
+		for (TableRow row : rows) {
+			if (row.contains(literal))
+				matches.add(row);
+		}
+		return matches;
+	}
+
+	/**
+	 * Groups the data rows by the trimmed value of the given column, keeping the table order.
+	 *
+	 * @param column, the key column index
+	 * @return the data rows grouped by key
+	 */
+	public Map<String, List<TableRow>> groupBy(int column) {
+		Map<String, List<TableRow>> groups = new LinkedHashMap<String, List<TableRow>>();
+		for (TableRow row : rows) {
+			if (column < 0 || column >= row.getCellCount())
+				continue;
+			String key = TableReader.trim(row.getCellView(column)).toString();
+			List<TableRow> group = groups.get(key);
+			if (group == null) {
+				group = new ArrayList<TableRow>();
+				groups.put(key, group);
+			}
+			group.add(row);
+		}
+		return groups;
+	}
+}
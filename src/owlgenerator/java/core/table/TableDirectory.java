@@ -0,0 +1,129 @@
+/*
+ * The Class TableDirectory, index of the table files of a build.
+ */
+package owlgenerator.java.core.table;
+
+import java.io.File;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+
+/**
+ * The Class TableDirectory, indexes once the table files of a build by table number ("Table 12b - ...txt" is
+ * table 12b), including the ones in sub-directories, so the jumps "[Continued in Table 12b]" are resolved without
+ * listing the directory. The file names are relative to the files path; when a table number is repeated, the file
+ * closest to the files path (then the first in name order) is kept.
+ *
+ * @author Oscar Mateos Lopez
+ * @version: 20161103
+ */
+public class TableDirectory {
+
+	/** The Constant TABLE_FILE_EXTENSION value. */
+	public static final String TABLE_FILE_EXTENSION = ".txt";
+
+	/** The table number pattern: "Table 12b", "table12". */
+	private static final Pattern TABLE_NUMBER = Pattern.compile("[Tt]able\\s*(\\d+[A-Za-z]?)(?![A-Za-z0-9])");
+
+	/** The files path. */
+	private final File root;
+
+	/** The relative table file names by table number. */
+	private final Map<String, String> tables = new LinkedHashMap<String, String>();
+
+	/**
+	 * Instantiates a new table directory.
+	 *
+	 * @param root, the files path
+	 */
+	private TableDirectory(File root) {
+		this.root = root;
+	}
+
+	// BUILDER
+	/**
+	 * Indexes the table files in the given files path and its sub-directories.
+	 *
+	 * @param root, the files path
+	 * @return the table directory
+	 * @throws IOException, if the directory cannot be read
+	 */
+	public static TableDirectory build(File root) throws IOException {
+		TableDirectory directory = new TableDirectory(root);
+		Path rootPath = root.toPath();
+		List<Path> files;
+		try (Stream<Path> paths = Files.walk(rootPath)) {
+			files = paths.filter(path -> Files.isRegularFile(path) && path.getFileName().toString().endsWith(TABLE_FILE_EXTENSION))
+					.sorted(Comparator.comparingInt(Path::getNameCount).thenComparing(Comparator.naturalOrder()))
+					.collect(Collectors.toList());
+		}
+		for (Path file : files) {
+			String number = getTableNumber(file.getFileName().toString());
+			if (number != null)
+				directory.tables.putIfAbsent(number, rootPath.relativize(file).toString());
+		}
+		return directory;
+	}
+
+	// MAIN METHODS
+	/**
+	 * Gets the table number of a table reference or file name: "Table 12b" is 12b.
+	 *
+	 * @param reference, the table reference or file name
+	 * @return the normalised table number, or null if there is none
+	 */
+	public static String getTableNumber(String reference) {
+		Matcher matcher = TABLE_NUMBER.matcher(reference);
+		return matcher.find() ? matcher.group(1).toLowerCase(Locale.ENGLISH) : null;
+	}
+
+	/**
+	 * Gets the table file name for a table reference.
+	 *
+	 * @param reference, the table reference ("Table 12b", the name of a JUMP cell)
+	 * @return the table file name, relative to the files path, or null if there is no such table
+	 */
+	public String getTableFileName(String reference) {
+		String number = getTableNumber(reference);
+		return (number != null) ? tables.get(number) : null;
+	}
+
+	// GETTERS
+	/**
+	 * Gets the files path.
+	 *
+	 * @return the files path
+	 */
+	public File getRoot() {
+		return root;
+	}
+
+	/**
+	 * Gets the indexed table file names, relative to the files path.
+	 *
+	 * @return the table file names
+	 */
+	public List<String> getTableFileNames() {
+		return Collections.unmodifiableList(new ArrayList<String>(tables.values()));
+	}
+
+	/**
+	 * Gets the number of indexed tables.
+	 *
+	 * @return the number of tables
+	 */
+	public int size() {
+		return tables.size();
+	}
+}
@@ -0,0 +1,280 @@
+/*
+ * The Class TableReader, memory-mapped reader for formatted text table files.
+ */
+package owlgenerator.java.core.table;
+
+import java.io.File;
+import java.io.IOException;
+import java.io.RandomAccessFile;
+import java.nio.CharBuffer;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.Charset;
+import java.nio.charset.CharsetDecoder;
+import java.nio.charset.CoderResult;
+import java.nio.charset.CodingErrorAction;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * The Class TableReader, reads formatted text table files through a memory-mapped FileChannel.
+ * The mapped bytes are decoded incrementally, in fixed-size chunks, into a single reused character buffer, so the
+ * memory used doesn't depend on the file size. Each line is handed to a LineHandler as a CharSequence view over that
+ * buffer, only valid during the call: the handlers that keep lines must copy them (see copy). The separators
+ * (~~, $CRLF, %) are scanned directly on the views instead of using String.split, and the views are materialised to
+ * String only when they are needed (e.g. to create an OWL entity).
+ *
+ * @author Oscar Mateos Lopez
+ * @version: 20161103
+ */
+public final class TableReader {
+
+	/** The Constant CHUNK_SIZE value, the number of characters decoded at a time. */
+	private static final int CHUNK_SIZE = 64 * 1024;
+
+	/**
+	 * The Interface LineHandler, receives the lines of a table file.
+	 */
+	public interface LineHandler {
+
+		/**
+		 * Handles a file line.
+		 *
+		 * @param lineNumber, the line number (starting at 1)
+		 * @param line, the line view, only valid during the call
+		 * @throws IOException, if the line cannot be handled
+		 */
+		void line(int lineNumber, CharSequence line) throws IOException;
+	}
+
+	/**
+	 * The Class LineSplitter, splits the decoded chunks into lines, a line ends with \n, \r or \r\n (as
+	 * LineNumberReader does). The lines crossing a chunk boundary are assembled in a carry buffer.
+	 */
+	private static class LineSplitter {
+
+		/** The line handler. */
+		private final LineHandler handler;
+
+		/** The start of the line crossing the chunk boundary. */
+		private final StringBuilder carry = new StringBuilder();
+
+		/** The number of lines. */
+		private int lineNumber = 0;
+
+		/** The previous chunk ended with \r, a leading \n ends no line. */
+		private boolean skipLF = false;
+
+		/**
+		 * Instantiates a new line splitter.
+		 *
+		 * @param handler, the line handler
+		 */
+		private LineSplitter(LineHandler handler) {
+			this.handler = handler;
+		}
+
+		/**
+		 * Splits a decoded chunk.
+		 *
+		 * @param chars, the chunk (flipped)
+		 * @throws IOException, if a line cannot be handled
+		 */
+		private void scan(CharBuffer chars) throws IOException {
+			int length = chars.remaining(), start = 0;
+			for (int i = 0; i < length; i++) {
+				char c = chars.charAt(i);
+				if (skipLF) {
+					skipLF = false;
+					if (c == '\n') {
+						start = i + 1;
+						continue;
+					}
+				}
+				if (c == '\n' || c == '\r') {
+					line(chars, start, i);
+					if (c == '\r') {
+						if (i + 1 == length)
+							skipLF = true;
+						else if (chars.charAt(i + 1) == '\n')
+							i++;
+					}
+					start = i + 1;
+				}
+			}
+			if (start < length)
+				carry.append(chars, start, length);
+		}
+
+		/**
+		 * Hands a line to the handler.
+		 *
+		 * @param chars, the chunk
+		 * @param start, the line start in the chunk
+		 * @param end, the line end (exclusive) in the chunk
+		 * @throws IOException, if the line cannot be handled
+		 */
+		private void line(CharBuffer chars, int start, int end) throws IOException {
+			if (carry.length() == 0)
+				handler.line(++lineNumber, chars.subSequence(start, end));
+			else {
+				carry.append(chars, start, end);
+				handler.line(++lineNumber, carry);
+				carry.setLength(0);
+			}
+		}
+
+		/**
+		 * Hands the last line without terminator, if any.
+		 *
+		 * @return the number of lines
+		 * @throws IOException, if the line cannot be handled
+		 */
+		private int finish() throws IOException {
+			if (carry.length() > 0) {
+				handler.line(++lineNumber, carry);
+				carry.setLength(0);
+			}
+			return lineNumber;
+		}
+	}
+
+	/**
+	 * Instantiates a new table reader (static methods only).
+	 */
+	private TableReader() {
+	}
+
+	// MAIN METHODS
+	/**
+	 * Reads the lines of a table file, decoded with the platform charset (as FileReader does).
+	 * A line ends with \n, \r or \r\n (as LineNumberReader does).
+	 *
+	 * @param file, the table file
+	 * @param handler, the line handler
+	 * @return the number of lines
+	 * @throws IOException, if the file cannot be read
+	 */
+	public static int read(File file, LineHandler handler) throws IOException {
+		RandomAccessFile raf = new RandomAccessFile(file, "r");
+		try {
+			FileChannel channel = raf.getChannel();
+			long size = channel.size();
+			if (size > Integer.MAX_VALUE)
+				throw new IOException("Table file too large: " + file);
+			MappedByteBuffer bytes = channel.map(FileChannel.MapMode.READ_ONLY, 0, size);
+			CharsetDecoder decoder = Charset.defaultCharset().newDecoder()
+					.onMalformedInput(CodingErrorAction.REPLACE)
+					.onUnmappableCharacter(CodingErrorAction.REPLACE);
+			CharBuffer chunk = CharBuffer.allocate(CHUNK_SIZE);
+			LineSplitter splitter = new LineSplitter(handler);
+
+			// Decode and split chunk by chunk
+			CoderResult result;
+			do {
+				result = decoder.decode(bytes, chunk, true);
+				chunk.flip();
+				splitter.scan(chunk);
+				chunk.clear();
+			} while (result.isOverflow());
+			do {
+				result = decoder.flush(chunk);
+				chunk.flip();
+				splitter.scan(chunk);
+				chunk.clear();
+			} while (result.isOverflow());
+			return splitter.finish();
+		} finally {
+			raf.close();
+		}
+	}
+
+	/**
+	 * Copies a line view, for the handlers that keep it after the call.
+	 *
+	 * @param seq, the line view
+	 * @return the copy, a view that can be sliced without copying
+	 */
+	public static CharSequence copy(CharSequence seq) {
+		return CharBuffer.wrap(seq.toString());
+	}
+
+	// SCANNING
+	/**
+	 * Splits a character sequence by a literal separator, as String.split does the trailing empty cells are removed.
+	 *
+	 * @param seq, the character sequence
+	 * @param separator, the literal separator
+	 * @return the cell views
+	 */
+	public static List<CharSequence> split(CharSequence seq, String separator) {
+		List<CharSequence> cells = new ArrayList<CharSequence>();
+		int length = seq.length(), start = 0, index;
+		while ((index = indexOf(seq, separator, start)) != -1) {
+			cells.add(seq.subSequence(start, index));
+			start = index + separator.length();
+		}
+		cells.add(seq.subSequence(start, length));
+
+		// Remove trailing empty cells
+		int size = cells.size();
+		while (size > 1 && cells.get(size - 1).length() == 0)
+			cells.remove(--size);
+		if (length == 0 || size > 1 || cells.get(0).length() > 0)
+			return cells;
+		// Only empty cells (e.g. "~~~~"): String.split returns no cells
+		cells.clear();
+		return cells;
+	}
+
+	/**
+	 * Gets the index of a literal in a character sequence.
+	 *
+	 * @param seq, the character sequence
+	 * @param literal, the literal
+	 * @param from, the first index
+	 * @return the index of the literal, or -1 if it is not found
+	 */
+	public static int indexOf(CharSequence seq, String literal, int from) {
+		int last = seq.length() - literal.length();
+		if (literal.isEmpty())
+			return (from <= seq.length()) ? from : -1;
+		char first = literal.charAt(0);
+		for (int i = from; i <= last; i++) {
+			if (seq.charAt(i) != first)
+				continue;
+			int j = 1;
+			while (j < literal.length() && seq.charAt(i + j) == literal.charAt(j))
+				j++;
+			if (j == literal.length())
+				return i;
+		}
+		return -1;
+	}
+
+	/**
+	 * Checks if a character sequence contains a literal.
+	 *
+	 * @param seq, the character sequence
+	 * @param literal, the literal
+	 * @return true, if the literal is found
+	 */
+	public static boolean contains(CharSequence seq, String literal) {
+		return indexOf(seq, literal, 0) != -1;
+	}
+
+	/**
+	 * Trims the white spaces of a character sequence.
+	 *
+	 * @param seq, the character sequence
+	 * @return the trimmed view
+	 */
+	public static CharSequence trim(CharSequence seq) {
+		int start = 0, end = seq.length();
+		while (start < end && seq.charAt(start) <= ' ')
+			start++;
+		while (end > start && seq.charAt(end - 1) <= ' ')
+			end--;
+		return (start == 0 && end == seq.length()) ? seq : seq.subSequence(start, end);
+	}
+}
@@ -0,0 +1,227 @@
+/*
+ * The Class TableRow, a single data row of a formatted text table file.
+ */
+package owlgenerator.java.core.table;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+
+import owlgenerator.java.core.CoreConfiguration;
+
+/**
+ * The Class TableRow, a single data row of a formatted text table file.
+ * Rows that span several lines in the source document (joined with $CRLF) are kept together.
+ * The cells are views over the table file buffer, they are materialised to String only when requested.
+ *
+ * @author Oscar Mateos Lopez
+ * @version: 20161103
+ */
+public class TableRow {
+
+	/** The Constant SUB_ROW_SEPARATOR value. */
+	private static final String SUB_ROW_SEPARATOR = CoreConfiguration.CARRIAGE_RETURN_SEPARATOR + CoreConfiguration.SEPARATOR;
+
+	/** The line number in the source file. */
+	private final int lineNumber;
+
+	/** The raw file line view. */
+	private final CharSequence line;
+
+	/** The cell views. */
+	private final CharSequence[] cells;
+
+	/** The row contains carriage return separators. */
+	private final boolean continued;
+
+	/** The sub-line views, when the row contains carriage return separators. */
+	private final List<CharSequence> subLines;
+
+	/**
+	 * Instantiates a new table row.
+	 *
+	 * @param lineNumber, the line number in the source file
+	 * @param line, the raw file line (or a view of it)
+	 */
+	public TableRow(int lineNumber, CharSequence line) {
+		this.lineNumber = lineNumber;
+		this.line = line;
+		List<CharSequence> cells = TableReader.split(line, CoreConfiguration.SEPARATOR);
+		this.cells = cells.toArray(new CharSequence[cells.size()]);
+
+		// Split $CRLF sub-rows
+		this.continued = TableReader.contains(line, CoreConfiguration.CARRIAGE_RETURN_SEPARATOR);
+		if (continued)
+			this.subLines = Collections.unmodifiableList(TableReader.split(line, SUB_ROW_SEPARATOR));
+		else
+			this.subLines = Collections.singletonList(line);
+	}
+
+	// GETTERS
+	/**
+	 * Gets the line number in the source file.
+	 *
+	 * @return the line number
+	 */
+	public int getLineNumber() {
+		return lineNumber;
+	}
+
+	/**
+	 * Gets the raw file line.
+	 *
+	 * @return the raw file line
+	 */
+	public String getLine() {
+		return line.toString();
+	}
+
+	/**
+	 * Gets the raw file line view.
+	 *
+	 * @return the raw file line view
+	 */
+	public CharSequence getLineView() {
+		return line;
+	}
+
+	/**
+	 * Checks if the row is blank (only white spaces), without materialising it.
+	 *
+	 * @return true, if the row is blank
+	 */
+	public boolean isBlank() {
+		return TableReader.trim(line).length() == 0;
+	}
+
+	/**
+	 * Gets the cells of the row.
+	 *
+	 * @return the cells
+	 */
+	public String[] getCells() {
+		return toStrings(cells);
+	}
+
+	/**
+	 * Gets the cell views of the row.
+	 *
+	 * @return the cell views
+	 */
+	public List<CharSequence> getCellViews() {
+		return Collections.unmodifiableList(Arrays.asList(cells));
+	}
+
+	/**
+	 * Gets the number of cells of the row.
+	 *
+	 * @return the number of cells
+	 */
+	public int getCellCount() {
+		return cells.length;
+	}
+
+	/**
+	 * Gets the cell for the given column.
+	 *
+	 * @param column, the column index
+	 * @return the cell literal
+	 */
+	public String getCell(int column) {
+		return cells[column].toString();
+	}
+
+	/**
+	 * Gets the cell view for the given column.
+	 *
+	 * @param column, the column index
+	 * @return the cell view
+	 */
+	public CharSequence getCellView(int column) {
+		return cells[column];
+	}
+
+	/**
+	 * Checks if the row is continued in several lines ($CRLF).
+	 *
+	 * @return true, if the row contains carriage return separators
+	 */
+	public boolean isContinued() {
+		return continued;
+	}
+
+	/**
+	 * Checks if the raw file line contains a literal, without materialising it.
+	 *
+	 * @param literal, the literal
+	 * @return true, if the literal is found
+	 */
+	public boolean contains(String literal) {
+		return TableReader.contains(line, literal);
+	}
+
+	/**
+	 * Gets the sub-lines of the row, or the line itself if it is not continued.
+	 *
+	 * @return the sub-lines
+	 */
+	public List<String> getSubLines() {
+		List<String> lines = new ArrayList<String>(subLines.size());
+		for (CharSequence subLine : subLines)
+			lines.add(subLine.toString());
+		return lines;
+	}
+
+	/**
+	 * Gets the sub-line views of the row, or the line view itself if it is not continued.
+	 *
+	 * @return the sub-line views
+	 */
+	public List<CharSequence> getSubLineViews() {
+		return subLines;
+	}
+
+	/**
+	 * Gets the sub-rows cell views of the row, or the row cell views if it is not continued.
+	 *
+	 * @return the sub-rows cell views
+	 */
+	public List<List<CharSequence>> getSubRowViews() {
+		if (!continued)
+			return Collections.singletonList(getCellViews());
+		List<List<CharSequence>> rows = new ArrayList<List<CharSequence>>(subLines.size());
+		for (CharSequence subLine : subLines)
+			rows.add(TableReader.split(subLine, CoreConfiguration.SEPARATOR));
+		return rows;
+	}
+
+	/**
+	 * Gets the sub-rows cells of the row, or the row cells if it is not continued.
+	 *
+	 * @return the sub-rows cells
+	 */
+	public List<String[]> getSubRows() {
+		if (!continued)
+			return Collections.singletonList(getCells());
+		List<String[]> rows = new ArrayList<String[]>(subLines.size());
+		for (CharSequence subLine : subLines) {
+			List<CharSequence> subCells = TableReader.split(subLine, CoreConfiguration.SEPARATOR);
+			rows.add(toStrings(subCells.toArray(new CharSequence[subCells.size()])));
+		}
+		return rows;
+	}
+
+	/**
+	 * Materialises the given views.
+	 *
+	 * @param views, the views
+	 * @return the strings
+	 */
+	private static String[] toStrings(CharSequence[] views) {
+		String[] strings = new String[views.length];
+		for (int i = 0; i < views.length; i++)
+			strings[i] = views[i].toString();
+		return strings;
+	}
+}
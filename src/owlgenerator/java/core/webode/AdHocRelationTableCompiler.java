@@ -0,0 +1,278 @@
+/*
+ * The Class AdHocRelationTableCompiler, one-pass compiler for the WebODE ad hoc relation tables.
+ */
+package owlgenerator.java.core.webode;
+
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+import org.apache.commons.lang3.StringUtils;
+import org.apache.commons.lang3.math.NumberUtils;
+import org.semanticweb.owlapi.model.OWLAxiom;
+import org.semanticweb.owlapi.model.OWLDataFactory;
+import org.semanticweb.owlapi.model.OWLObjectCardinalityRestriction;
+import org.semanticweb.owlapi.model.OWLObjectProperty;
+import org.semanticweb.owlapi.model.OWLObjectPropertyCharacteristicAxiom;
+import org.semanticweb.owlapi.model.OWLObjectPropertyDomainAxiom;
+import org.semanticweb.owlapi.model.OWLObjectPropertyRangeAxiom;
+
+import owlgenerator.java.core.table.SourceTable;
+import owlgenerator.java.core.table.TableRow;
+
+/**
+ * The Class AdHocRelationTableCompiler, reads an ad hoc relations WebODE formatted table once and builds the
+ * domain, range, source cardinality and mathematical properties axioms for all its relations.
+ *
+ * @author Oscar Mateos Lopez
+ * @version: 20161103
+ */
+public class AdHocRelationTableCompiler {
+
+	/** The generator. */
+	private final WebODEExtension generator;
+
+	/** The column indexes. */
+	private int nameCol = -1, domainCol = -1, rangeCol = -1, cardinalityCol = -1, mathCol = -1;
+
+	/** The relations details by relation name, in table order. */
+	private final Map<String, RelationDetail> relations = new LinkedHashMap<String, RelationDetail>();
+
+	/**
+	 * The Class RelationDetail, the details of a single ad hoc relation collected from its table rows.
+	 */
+	private static class RelationDetail {
+
+		/** The ad hoc relation. */
+		private OWLObjectProperty objectProp = null;
+
+		/** The domain (last row). */
+		private String domain = null;
+
+		/** The range (last row). */
+		private String range = null;
+
+		/** The cardinality domain and bound (last row). */
+		private String cardinalityDomain = null;
+		private int cardinalityBound = -1;
+
+		/** Some row has an unbounded (N) or negative cardinality. */
+		private boolean unbounded = false;
+
+		/** The mathematical property (last recognized). */
+		private OWLObjectPropertyCharacteristicAxiom mathProperty = null;
+	}
+
+	/**
+	 * Instantiates a new ad hoc relation table compiler, the table rows are read in a single pass.
+	 *
+	 * @param generator, the WebODE generator
+	 * @param table, the parsed ad hoc relations table
+	 */
+	public AdHocRelationTableCompiler(WebODEExtension generator, SourceTable table) {
+		this.generator = generator;
+
+		// Header
+		List<String> header = table.getHeader();
+		// Infer column order (array indexes)
+		for (int i = 0; i < header.size(); i++) {
+			String part = header.get(i);
+			if (StringUtils.containsIgnoreCase(part, "RELATION NAME"))
+				nameCol = i;
+			else if (StringUtils.containsIgnoreCase(part, "SOURCE CONCEPT"))
+				domainCol = i;
+			else if (StringUtils.containsIgnoreCase(part, "TARGET CONCEPT"))
+				rangeCol = i;
+			else if (StringUtils.containsIgnoreCase(part, "SOURCE CARDINALITY"))
+				cardinalityCol = i;
+			else if (StringUtils.containsIgnoreCase(part, "MATHEMATIC PROPERTIES"))
+				mathCol = i;
+		}
+		// Data
+		if (nameCol != -1) {
+			for (TableRow row : table.getRows())
+				readRow(row);
+		}
+	}
+
+	/**
+	 * Reads a single data row into the details of its relation.
+	 *
+	 * @param row, the data row
+	 */
+	private void readRow(TableRow row) {
+		String relationName = row.getCell(nameCol).trim();
+		RelationDetail detail = relations.get(relationName);
+		if (detail == null) {
+			detail = new RelationDetail();
+			detail.objectProp = generator.getOWLObjectPropertyFromName(relationName);
+			relations.put(relationName, detail);
+		}
+
+		// Domain & Range
+		if (domainCol != -1)
+			detail.domain = row.getCell(domainCol).trim();
+		if (rangeCol != -1)
+			detail.range = row.getCell(rangeCol).trim();
+
+		// Source Cardinality
+		if ((domainCol != -1) && (cardinalityCol != -1)) {
+			String cardinality = row.getCell(cardinalityCol).trim();
+			if (cardinality.toUpperCase().compareTo("N") == 0)
+				detail.unbounded = true;
+			else if (NumberUtils.isNumber(cardinality)) {
+				int cardinalityBound = NumberUtils.toInt(cardinality, -1);
+				if (cardinalityBound < 0)
+					detail.unbounded = true;
+				else {
+					detail.cardinalityDomain = row.getCell(domainCol).trim();
+					detail.cardinalityBound = cardinalityBound;
+				}
+			}
+		}
+
+		// Math Properties
+		if (mathCol != -1) {
+			OWLObjectPropertyCharacteristicAxiom property = getMathProperty(detail.objectProp, row.getCell(mathCol));
+			if (property != null)
+				detail.mathProperty = property;
+		}
+	}
+
+	/**
+	 * Gets the mathematical property axiom from a given literal.
+	 *
+	 * @param objectProp, the ad hoc relation
+	 * @param literalMathProperty, the mathematical property literal
+	 * @return the mathematical property axiom, or null if the literal is not recognized
+	 */
+	private OWLObjectPropertyCharacteristicAxiom getMathProperty(OWLObjectProperty objectProp, String literalMathProperty) {
+		OWLDataFactory factory = generator.getManager().getOWLDataFactory();
+		switch (literalMathProperty.trim().toLowerCase()) {
+		case ("functional"):
+			return factory.getOWLFunctionalObjectPropertyAxiom(objectProp);
+
+		case ("inverse functional"):
+		case ("inverse-functional"):
+			return factory.getOWLInverseFunctionalObjectPropertyAxiom(objectProp);
+
+		case ("transitive"):
+			return factory.getOWLTransitiveObjectPropertyAxiom(objectProp);
+
+		case ("symmetrical"):
+		case ("symmetric"):
+			return factory.getOWLSymmetricObjectPropertyAxiom(objectProp);
+
+		case ("asymmetrical"):
+		case ("asymmetric"):
+			return factory.getOWLAsymmetricObjectPropertyAxiom(objectProp);
+
+		case ("reflexive"):
+			return factory.getOWLReflexiveObjectPropertyAxiom(objectProp);
+
+		case ("irreflexive"):
+			return factory.getOWLIrreflexiveObjectPropertyAxiom(objectProp);
+		}
+		return null;
+	}
+
+	// GETTERS
+	/**
+	 * Gets the relation names, in table order.
+	 *
+	 * @return the relation names
+	 */
+	public Set<String> getRelationNames() {
+		return relations.keySet();
+	}
+
+	/**
+	 * Gets the domain axiom for the given relation.
+	 *
+	 * @param relationName, the relation name
+	 * @return the relation domain axiom, or null if it has no domain
+	 */
+	public OWLObjectPropertyDomainAxiom getDomainAxiom(String relationName) {
+		OWLDataFactory factory = generator.getManager().getOWLDataFactory();
+		RelationDetail detail = relations.get(relationName);
+		if (detail == null || detail.domain == null)
+			return null;
+		return factory.getOWLObjectPropertyDomainAxiom(detail.objectProp, generator.getOWLClassFromName(detail.domain));
+	}
+
+	/**
+	 * Gets the range axiom for the given relation.
+	 *
+	 * @param relationName, the relation name
+	 * @return the relation range axiom, or null if it has no range
+	 */
+	public OWLObjectPropertyRangeAxiom getRangeAxiom(String relationName) {
+		OWLDataFactory factory = generator.getManager().getOWLDataFactory();
+		RelationDetail detail = relations.get(relationName);
+		if (detail == null || detail.range == null)
+			return null;
+		return factory.getOWLObjectPropertyRangeAxiom(detail.objectProp, generator.getOWLClassFromName(detail.range));
+	}
+
+	/**
+	 * Gets the source cardinality restriction for the given relation.
+	 *
+	 * @param relationName, the relation name
+	 * @return the relation cardinality restriction, or null if it is unbounded
+	 */
+	public OWLObjectCardinalityRestriction getCardinalityRestriction(String relationName) {
+		OWLDataFactory factory = generator.getManager().getOWLDataFactory();
+		RelationDetail detail = relations.get(relationName);
+		if (detail == null || detail.unbounded || detail.cardinalityDomain == null)
+			return null;
+		return factory.getOWLObjectMaxCardinality(detail.cardinalityBound, detail.objectProp, generator.getOWLClassFromName(detail.cardinalityDomain));
+	}
+
+	/**
+	 * Gets the mathematical properties axiom for the given relation.
+	 *
+	 * @param relationName, the relation name
+	 * @return the relation mathematical properties axiom, or null if it has none
+	 */
+	public OWLObjectPropertyCharacteristicAxiom getMathPropertiesAxiom(String relationName) {
+		RelationDetail detail = relations.get(relationName);
+		if (detail == null || detail.mathProperty == null)
+			return null;
+		return detail.mathProperty;
+	}
+
+	// MAIN METHODS
+	/**
+	 * Compiles the domain, range, source cardinality and mathematical properties axioms for all the relations of the table.
+	 *
+	 * @return the relation axioms set
+	 */
+	public Set<OWLAxiom> compile() {
+		OWLDataFactory factory = generator.getManager().getOWLDataFactory();
+		Set<OWLAxiom> axiomSet = new HashSet<OWLAxiom>();
+		for (String relationName : relations.keySet()) {
+			//Domain & Range
+			OWLObjectPropertyDomainAxiom domainAxiom = getDomainAxiom(relationName);
+			if (domainAxiom != null)
+				axiomSet.add(domainAxiom);
+			OWLObjectPropertyRangeAxiom rangeAxiom = getRangeAxiom(relationName);
+			if (rangeAxiom != null)
+				axiomSet.add(rangeAxiom);
+
+			//Source Cardinality
+			OWLObjectCardinalityRestriction cardinalityRestriction = getCardinalityRestriction(relationName);
+			if (cardinalityRestriction != null) {
+				OWLObjectProperty objectProp = relations.get(relationName).objectProp;
+				axiomSet.add(factory.getOWLObjectPropertyDomainAxiom(objectProp, cardinalityRestriction));
+			}
+
+			//Math Properties
+			OWLObjectPropertyCharacteristicAxiom properties = getMathPropertiesAxiom(relationName);
+			if (properties != null)
+				axiomSet.add(properties);
+		}
+		return axiomSet;
+	}
+}
@@ -0,0 +1,281 @@
+/*
+ * The Class AttributeTableCompiler, one-pass compiler for the WebODE attribute tables.
+ */
+package owlgenerator.java.core.webode;
+
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+import org.apache.commons.lang3.StringUtils;
+import org.semanticweb.owlapi.model.OWLAxiom;
+import org.semanticweb.owlapi.model.OWLClass;
+import org.semanticweb.owlapi.model.OWLDataFactory;
+import org.semanticweb.owlapi.model.OWLDataProperty;
+import org.semanticweb.owlapi.model.OWLDataPropertyDomainAxiom;
+import org.semanticweb.owlapi.model.OWLDataPropertyRangeAxiom;
+import org.semanticweb.owlapi.model.OWLDataRange;
+import org.semanticweb.owlapi.model.OWLLiteral;
+import org.semanticweb.owlapi.model.OWLSubClassOfAxiom;
+import org.semanticweb.owlapi.vocab.XSDVocabulary;
+
+import owlgenerator.java.core.CoreConfiguration;
+import owlgenerator.java.core.table.SourceTable;
+import owlgenerator.java.core.table.TableReader;
+import owlgenerator.java.core.table.TableRow;
+
+/**
+ * The Class AttributeTableCompiler, reads a Instance or Class attributes WebODE formatted table once and
+ * builds the domain, range, value-range, cardinality and rule axioms for all its attributes.
+ *
+ * @author Oscar Mateos Lopez
+ * @version: 20161103
+ */
+public class AttributeTableCompiler {
+
+	/** The generator. */
+	private final WebODEExtension generator;
+
+	/** The attributes table. */
+	private final SourceTable table;
+
+	/** The column indexes. */
+	private int nameCol = -1, domainCol = -1, valueTypeCol = -1, valueRangeCol = -1, valuesCol = -1, cardinalityCol = -1;
+
+	/** The attributes details by attribute name, in table order. */
+	private final Map<String, AttributeDetail> attributes = new LinkedHashMap<String, AttributeDetail>();
+
+	/**
+	 * The Class AttributeDetail, the details of a single attribute collected from its table rows.
+	 */
+	private static class AttributeDetail {
+
+		/** The domain classes. */
+		private final Set<OWLClass> domains = new HashSet<OWLClass>();
+
+		/** The last value type read. */
+		private String valueType = null;
+
+		/** The data type. */
+		private OWLDataRange dataType = null;
+
+		/** The literal values, for string attributes with values column. */
+		private final Set<OWLLiteral> valuesSet = new HashSet<OWLLiteral>();
+
+		/** The range is complete. */
+		private boolean exit = false;
+
+		/** The literal cardinality (first row). */
+		private String literalCardinality = null;
+	}
+
+	/**
+	 * Instantiates a new attribute table compiler, the table rows are read in a single pass.
+	 *
+	 * @param generator, the WebODE generator
+	 * @param table, the parsed attributes table
+	 */
+	public AttributeTableCompiler(WebODEExtension generator, SourceTable table) {
+		this.generator = generator;
+		this.table = table;
+
+		// Header
+		List<String> header = table.getHeader();
+		// Infer column order (array indexes)
+		for (int i = 0; i < header.size(); i++) {
+			String part = header.get(i);
+			if (StringUtils.containsIgnoreCase(part, "ATTRIBUTE NAME"))
+				nameCol = i;
+			else if (StringUtils.containsIgnoreCase(part, "CONCEPT NAME"))
+				domainCol = i;
+			else if (StringUtils.containsIgnoreCase(part, "VALUE TYPE"))
+				valueTypeCol = i;
+			else if (StringUtils.containsIgnoreCase(part, "VALUE RANGE"))
+				valueRangeCol = i;
+			else if (StringUtils.containsIgnoreCase(part, "VALUES"))
+				valuesCol = i;
+			else if (StringUtils.containsIgnoreCase(part, "CARDINALITY"))
+				cardinalityCol = i;
+		}
+		// Data
+		if (nameCol != -1) {
+			for (TableRow row : table.getRows())
+				readRow(row);
+		}
+	}
+
+	/**
+	 * Reads a single data row into the details of its attribute.
+	 *
+	 * @param row, the data row
+	 */
+	private void readRow(TableRow row) {
+		OWLDataFactory factory = generator.getManager().getOWLDataFactory();
+		String attributeName = row.getCell(nameCol).trim();
+		AttributeDetail detail = attributes.get(attributeName);
+		if (detail == null) {
+			detail = new AttributeDetail();
+			attributes.put(attributeName, detail);
+		}
+
+		// Domain
+		if (domainCol != -1)
+			detail.domains.add(generator.getOWLClassFromName(row.getCell(domainCol).trim()));
+
+		// Range, until the first row defining the data type
+		if ((valueTypeCol != -1) && !detail.exit) {
+			detail.valueType = row.getCell(valueTypeCol).trim().toLowerCase();
+			switch (detail.valueType) {
+			case ("boolean"):
+				detail.dataType = factory.getBooleanOWLDatatype();
+				detail.exit = true;
+				break;
+
+			case ("cardinal"):
+				// INSTANCE ATTRIBUTES
+				if (valueRangeCol != -1) {
+					// If Value Range column belongs to the table, range definition is included
+					String valueRange = row.getCell(valueRangeCol).trim();
+					if (valueRange.compareTo(CoreConfiguration.NOTHING) != 0) {
+						//xsd:integer comes implicit for type of argument
+						detail.dataType = generator.getValueRangeRestrictionFromLiteral(valueRange);
+						detail.exit = true;
+						break;
+					}
+				}
+				detail.dataType = factory.getIntegerOWLDatatype();
+				detail.exit = true;
+				break;
+
+			case ("date"):
+				detail.dataType = factory.getOWLDatatype(XSDVocabulary.parseShortName("xsd:date").getIRI());
+				detail.exit = true;
+				break;
+
+			case ("string"):
+				// CLASS ATTRIBUTES
+				if (valuesCol != -1) {
+					CharSequence values = TableReader.trim(row.getCellView(valuesCol));
+					for (CharSequence value : TableReader.split(values, CoreConfiguration.INNER_SEPARATOR)) {
+						detail.valuesSet.add(factory.getOWLLiteral(value.toString()));
+					}
+					break;
+				}
+				else {
+					detail.dataType = factory.getOWLDatatype(XSDVocabulary.parseShortName("xsd:string").getIRI());
+					detail.exit = true;
+					break;
+				}
+
+			case ("url"):
+				detail.dataType = factory.getOWLDatatype(XSDVocabulary.parseShortName("xsd:anyURI").getIRI());
+				detail.exit = true;
+				break;
+			}
+		}
+
+		// Cardinality, the first row of the attribute
+		if ((cardinalityCol != -1) && (detail.literalCardinality == null))
+			detail.literalCardinality = row.getCell(cardinalityCol);
+	}
+
+	// GETTERS
+	/**
+	 * Gets the attribute names, in table order.
+	 *
+	 * @return the attribute names
+	 */
+	public Set<String> getAttributeNames() {
+		return attributes.keySet();
+	}
+
+	/**
+	 * Gets the domain axiom for the given attribute.
+	 *
+	 * @param attributeName, the attribute name
+	 * @return the attribute domain axiom, or null if the attribute has no domain
+	 */
+	public OWLDataPropertyDomainAxiom getDomainAxiom(String attributeName) {
+		OWLDataFactory factory = generator.getManager().getOWLDataFactory();
+		AttributeDetail detail = attributes.get(attributeName);
+		if (detail == null)
+			return null;
+
+		OWLDataProperty dataProperty = generator.getOWLDataPropertyFromName(attributeName);
+		OWLDataPropertyDomainAxiom domainAxiom = null;
+		if (detail.domains.size() > 1)
+			domainAxiom = factory.getOWLDataPropertyDomainAxiom(dataProperty, factory.getOWLObjectUnionOf(detail.domains));
+		else if (detail.domains.size() == 1)
+			domainAxiom = factory.getOWLDataPropertyDomainAxiom(dataProperty, detail.domains.iterator().next());
+		return domainAxiom;
+	}
+
+	/**
+	 * Gets the range axiom for the given attribute.
+	 *
+	 * @param attributeName, the attribute name
+	 * @return the attribute range axiom, or null if the attribute has no known value type
+	 */
+	public OWLDataPropertyRangeAxiom getRangeAxiom(String attributeName) {
+		OWLDataFactory factory = generator.getManager().getOWLDataFactory();
+		AttributeDetail detail = attributes.get(attributeName);
+		if (detail == null || detail.valueType == null)
+			return null;
+
+		// Generate the range with the literal values
+		OWLDataRange dataType = detail.dataType;
+		if (detail.valueType.equalsIgnoreCase("string") && (valuesCol != -1))
+			dataType = factory.getOWLDataOneOf(detail.valuesSet);
+		if (dataType == null)
+			return null;
+		return factory.getOWLDataPropertyRangeAxiom(generator.getOWLDataPropertyFromName(attributeName), dataType);
+	}
+
+	/**
+	 * Gets the cardinality axiom for the given attribute.
+	 *
+	 * @param attributeName, the attribute name
+	 * @param domainAxiom, the domain axiom for the given attribute
+	 * @param rangeAxiom, the range axiom for the given attribute
+	 * @return the attribute cardinality axiom
+	 */
+	public OWLSubClassOfAxiom getCardinalityAxiom(String attributeName, OWLDataPropertyDomainAxiom domainAxiom, OWLDataPropertyRangeAxiom rangeAxiom) {
+		AttributeDetail detail = attributes.get(attributeName);
+		if (detail == null || detail.literalCardinality == null)
+			return null;
+		return generator.getAttributeCardinalityFromLiteral(attributeName, detail.literalCardinality, domainAxiom, rangeAxiom);
+	}
+
+	// MAIN METHODS
+	/**
+	 * Compiles the domain, range, cardinality and rule axioms for all the attributes of the table.
+	 *
+	 * @return the attribute axioms set
+	 */
+	public Set<OWLAxiom> compile() {
+		Set<OWLAxiom> axiomSet = new HashSet<OWLAxiom>();
+		for (String attributeName : attributes.keySet()) {
+			//Domain & Range
+			OWLDataPropertyDomainAxiom domainAxiom = getDomainAxiom(attributeName);
+			if (domainAxiom != null)
+				axiomSet.add(domainAxiom);
+			OWLDataPropertyRangeAxiom rangeAxiom = getRangeAxiom(attributeName);
+			if (rangeAxiom != null)
+				axiomSet.add(rangeAxiom);
+
+			//Cardinality
+			if (domainAxiom != null) {
+				OWLSubClassOfAxiom cardinality = getCardinalityAxiom(attributeName, domainAxiom, rangeAxiom);
+				if (cardinality != null)
+					axiomSet.add(cardinality);
+			}
+		}
+
+		//Attribute Rules (Value Restrictions), once for the whole table
+		if (!attributes.isEmpty() && (valuesCol != -1))
+			axiomSet.addAll(generator.getAttributeRuleAxiomsFromTable(table));
+		return axiomSet;
+	}
+}
@@ -0,0 +1,158 @@
+/*
+ * The Class InstanceTableLoader, streaming loader for the WebODE instance tables.
+ */
+package owlgenerator.java.core.webode;
+
+import java.io.File;
+import java.io.IOException;
+import java.util.HashSet;
+import java.util.Set;
+
+import org.apache.commons.lang3.StringUtils;
+import org.semanticweb.owlapi.model.OWLAxiom;
+
+import owlgenerator.java.core.table.SourceTable;
+import owlgenerator.java.core.table.TableReader;
+import owlgenerator.java.core.table.TableRow;
+
+/**
+ * The Class InstanceTableLoader, reads a WebODE formatted instance table line by line (memory-mapped and decoded in
+ * fixed-size chunks by TableReader) and builds the class and attribute/relation assertions of all the individuals in a
+ * single pass. No line is kept after it is read and the assertions are committed to the ontology in batches, so the
+ * memory used doesn't depend on the table size.
+ *
+ * @author Oscar Mateos Lopez
+ * @version: 20161103
+ */
+public class InstanceTableLoader {
+
+	/** The Constant DEFAULT_BATCH_SIZE value. */
+	public static final int DEFAULT_BATCH_SIZE = 10000;
+
+	/** The generator. */
+	private final WebODEExtension generator;
+
+	/** The maximum number of assertions per batch. */
+	private final int batchSize;
+
+	/** The pending assertions. */
+	private final Set<OWLAxiom> batch = new HashSet<OWLAxiom>();
+
+	/** The number of committed assertions. */
+	private int committed = 0;
+
+	/** The column indexes. */
+	private int nameCol = -1, conceptCol = -1, attributeCol = -1, valueCol = -1;
+
+	/**
+	 * Instantiates a new instance table loader with the default batch size.
+	 *
+	 * @param generator, the WebODE generator
+	 */
+	public InstanceTableLoader(WebODEExtension generator) {
+		this(generator, DEFAULT_BATCH_SIZE);
+	}
+
+	/**
+	 * Instantiates a new instance table loader.
+	 *
+	 * @param generator, the WebODE generator
+	 * @param batchSize, the maximum number of assertions per batch
+	 */
+	public InstanceTableLoader(WebODEExtension generator, int batchSize) {
+		if (batchSize < 1)
+			throw new IllegalArgumentException("Batch size must be positive: " + batchSize);
+		this.generator = generator;
+		this.batchSize = batchSize;
+	}
+
+	// MAIN METHODS
+	/**
+	 * Loads the class and attribute/relation assertions from the WebODE formatted instance table file.
+	 *
+	 * @param file, the instance table file
+	 * @return the number of committed assertions
+	 * @throws IOException, if the file cannot be read
+	 */
+	public int load(File file) throws IOException {
+		nameCol = -1;
+		conceptCol = -1;
+		attributeCol = -1;
+		valueCol = -1;
+		committed = 0;
+		TableReader.read(file, new TableReader.LineHandler() {
+			@Override
+			public void line(int lineNumber, CharSequence line) {
+				// Header
+				if (lineNumber == SourceTable.HEADER_LINE)
+					readHeader(new TableRow(lineNumber, line));
+				// Data
+				else if ((lineNumber > SourceTable.HEADER_LINE) && (nameCol != -1))
+					readRow(new TableRow(lineNumber, line));
+			}
+		});
+		flush();
+		return committed;
+	}
+
+	/**
+	 * Reads the header row.
+	 *
+	 * @param header, the header row
+	 */
+	private void readHeader(TableRow header) {
+		// Infer column order (array indexes)
+		for (int i = 0; i < header.getCellCount(); i++) {
+			String part = header.getCell(i);
+			if (StringUtils.containsIgnoreCase(part, "INSTANCE NAME"))
+				nameCol = i;
+			else if (StringUtils.containsIgnoreCase(part, "CONCEPT NAME"))
+				conceptCol = i;
+			else if (StringUtils.containsIgnoreCase(part, "ATTRIBUTE") ||
+					 StringUtils.containsIgnoreCase(part, "INSTANCED RELATION"))
+				attributeCol = i;
+			else if (StringUtils.containsIgnoreCase(part, "VALUE") ||
+					 StringUtils.containsIgnoreCase(part, "TARGET INSTANCE"))
+				valueCol = i;
+		}
+	}
+
+	/**
+	 * Reads a single data row, only the used cells are materialised.
+	 *
+	 * @param row, the data row
+	 */
+	private void readRow(TableRow row) {
+		String instanceName = row.getCell(nameCol).trim();
+		// Class assertion
+		if (conceptCol != -1)
+			add(generator.getInstanceClassAssertion(instanceName, row.getCell(conceptCol)));
+		// Attribute or relation assertion
+		if ((attributeCol != -1) && (valueCol != -1))
+			add(generator.getInstanceAttributeAssertion(instanceName, row.getCell(attributeCol).trim(), row.getCell(valueCol).trim()));
+	}
+
+	/**
+	 * Adds an assertion to the current batch, committing the batch when it is full.
+	 *
+	 * @param axiom, the assertion
+	 */
+	private void add(OWLAxiom axiom) {
+		if (axiom == null)
+			return;
+		batch.add(axiom);
+		if (batch.size() >= batchSize)
+			flush();
+	}
+
+	/**
+	 * Commits the pending assertions to the ontology.
+	 */
+	private void flush() {
+		if (batch.isEmpty())
+			return;
+		generator.addAxioms(batch);
+		committed += batch.size();
+		batch.clear();
+	}
+}
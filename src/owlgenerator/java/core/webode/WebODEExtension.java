@@ -3,19 +3,15 @@
  */
 package owlgenerator.java.core.webode;
 
-import java.io.File;
 import java.io.FileNotFoundException;
-import java.io.FileReader;
 import java.io.IOException;
-import java.io.LineNumberReader;
 import java.util.HashSet;
+import java.util.List;
 import java.util.Set;
 import java.util.regex.Matcher;
 import java.util.regex.Pattern;
 
 import org.apache.commons.lang3.StringUtils;
-import org.apache.commons.lang3.math.NumberUtils;
-import org.semanticweb.owlapi.model.AddAxiom;
 import org.semanticweb.owlapi.model.OWLAnnotation;
 import org.semanticweb.owlapi.model.OWLAnnotationAssertionAxiom;
 import org.semanticweb.owlapi.model.OWLAxiom;
@@ -32,8 +28,6 @@ import org.semanticweb.owlapi.model.OWLDataRange;
 import org.semanticweb.owlapi.model.OWLDataSomeValuesFrom;
 import org.semanticweb.owlapi.model.OWLDatatypeRestriction;
 import org.semanticweb.owlapi.model.OWLDeclarationAxiom;
-import org.semanticweb.owlapi.model.OWLDisjointClassesAxiom;
-import org.semanticweb.owlapi.model.OWLEquivalentClassesAxiom;
 import org.semanticweb.owlapi.model.OWLIndividual;
 import org.semanticweb.owlapi.model.OWLLiteral;
 import org.semanticweb.owlapi.model.OWLNamedIndividual;
@@ -44,12 +38,18 @@ import org.semanticweb.owlapi.model.OWLObjectPropertyAssertionAxiom;
 import org.semanticweb.owlapi.model.OWLObjectPropertyCharacteristicAxiom;
 import org.semanticweb.owlapi.model.OWLObjectPropertyDomainAxiom;
 import org.semanticweb.owlapi.model.OWLObjectPropertyRangeAxiom;
-import org.semanticweb.owlapi.model.OWLObjectUnionOf;
 import org.semanticweb.owlapi.model.OWLSubClassOfAxiom;
 import org.semanticweb.owlapi.vocab.XSDVocabulary;
 
 import owlgenerator.java.core.Core;
 import owlgenerator.java.core.CoreConfiguration;
+import owlgenerator.java.core.DecompositionProcessor;
+import owlgenerator.java.core.table.CellParser;
+import owlgenerator.java.core.table.CellToken;
+import owlgenerator.java.core.table.SourceTable;
+import owlgenerator.java.core.table.TableReader;
+import owlgenerator.java.core.table.TableRow;
+import owlgenerator.java.util.ChangeBuffer;
 
 /**
  * The Class WebODEExtension extends Core to process WebODE formatted source tables.
@@ -58,6 +58,27 @@ import owlgenerator.java.core.CoreConfiguration;
  * @version: 20161103
  */
 public class WebODEExtension extends Core {
+	
+	/** The class attribute pattern of the attributes glossary: "Concept: attribute". */
+	private static final Pattern CLASS_ATTRIBUTE = Pattern.compile("(\\w*\\s*\\w+)\\s*:\\s*(\\w+)" + CoreConfiguration.INNER_SEPARATOR + "{0,1}");
+	
+	// CONSTRUCTOR
+	/**
+	 * Instantiates a new WebODE generator with the single instance of CoreConfiguration.
+	 */
+	public WebODEExtension() {
+		super();
+	}
+	
+	/**
+	 * Instantiates a new WebODE generator.
+	 *
+	 * @param cfg, the configuration
+	 */
+	public WebODEExtension(CoreConfiguration cfg) {
+		super(cfg);
+	}
+	
 	// GLOSSARY -> NAME, LABEL, SYNONYMS, DESCRIPTION 
 	/**
 	 * Adds the concepts (OWL Classes) details, such as name; label; synonyms and description from WebODE glossary tables to the ontology.
@@ -67,64 +88,56 @@ public class WebODEExtension extends Core {
 	// Concepts -> Classes
 	public void addConceptsFromGlossary(String tableFileName) {
 		OWLDataFactory factory = this.getManager().getOWLDataFactory();
-		String fileLine = null;
 		Set<OWLAxiom> axiomSet = new HashSet<OWLAxiom>();
 		try {
-			File fp = new File(this.getCfg().getFiles_Path() + "\\" + tableFileName);
-			FileReader inputFile = new FileReader(fp);
-			LineNumberReader lnr = new LineNumberReader(inputFile);
+			SourceTable table = getTable(tableFileName);
 			int nameCol = -1, synonymsCol = -1, descriptionCol = -1;
 			
-			while((fileLine = lnr.readLine())!=null) {
-				String[] parts = fileLine.split(CoreConfiguration.SEPARATOR);			
-				// Header
-				if (lnr.getLineNumber() == 2) {
-					// Infer column order (array indexes)
-					for (int i = 0; i < parts.length; i++) {
-						String part = parts[i];
-						if (StringUtils.containsIgnoreCase(part, "NAME")) 
-							nameCol = i;
-						else if (StringUtils.containsIgnoreCase(part, "SYNONYM")) 
-							synonymsCol = i;
-						else if (StringUtils.containsIgnoreCase(part, "DESCRIPTION")) 
-							descriptionCol = i;
-					}
-				}				
-				// Data
-				else if (lnr.getLineNumber() > 2) {
-					if (nameCol != -1) {
-						//Name
-						String name = parts[nameCol];
-						OWLClass clase = this.getOWLClassFromName(name);
-						OWLDeclarationAxiom declaration = factory.getOWLDeclarationAxiom(clase);
-						this.getManager().addAxiom(this.getOntology(), declaration);
-						
-						// Label
-						OWLAnnotation labelName = factory.getOWLAnnotation(factory.getRDFSLabel() , factory.getOWLLiteral(name, "en"));
-						OWLAxiom axiom = factory.getOWLAnnotationAssertionAxiom(clase.getIRI() , labelName);
-						axiomSet.add(axiom);	
+			// Header
+			List<String> header = table.getHeader();
+			// Infer column order (array indexes)
+			for (int i = 0; i < header.size(); i++) {
+				String part = header.get(i);
+				if (StringUtils.containsIgnoreCase(part, "NAME")) 
+					nameCol = i;
+				else if (StringUtils.containsIgnoreCase(part, "SYNONYM")) 
+					synonymsCol = i;
+				else if (StringUtils.containsIgnoreCase(part, "DESCRIPTION")) 
+					descriptionCol = i;
+			}
+			// Data
+			for (TableRow row : table.getRows()) {
+				if (nameCol != -1) {
+					//Name
+					String name = row.getCell(nameCol);
+					OWLClass clase = this.getOWLClassFromName(name);
+					OWLDeclarationAxiom declaration = factory.getOWLDeclarationAxiom(clase);
+					axiomSet.add(declaration);
+					
+					// Label
+					OWLAnnotation labelName = factory.getOWLAnnotation(factory.getRDFSLabel() , factory.getOWLLiteral(name, "en"));
+					OWLAxiom axiom = factory.getOWLAnnotationAssertionAxiom(clase.getIRI() , labelName);
+					axiomSet.add(axiom);	
+					
+					//Synonyms
+					if (synonymsCol != -1) {
+						String synonyms = row.getCell(synonymsCol);	
+						if (!synonyms.equals(CoreConfiguration.NOTHING))
+							axiomSet.addAll(this.getEquivalentClassesAxioms(name, synonyms.replace(CoreConfiguration.INNER_SEPARATOR, ",")));
+					}						
+					//Description
+					if (descriptionCol != -1) {
+						String description = row.getCell(descriptionCol);
 						
-						//Synonyms
-						if (synonymsCol != -1) {
-							String synonyms = parts[synonymsCol];	
-							if (!synonyms.equals(CoreConfiguration.NOTHING))
-								axiomSet.addAll(this.getEquivalentClassesAxioms(name, synonyms.replace(CoreConfiguration.INNER_SEPARATOR, ",")));
-						}						
-						//Description
-						if (descriptionCol != -1) {
-							String description = parts[descriptionCol];
-							
-							if (!description.equals(CoreConfiguration.NOTHING)) {
-								OWLAnnotation commentName = factory.getOWLAnnotation(factory.getRDFSComment(), factory.getOWLLiteral(description, "en"));
-								axiom = factory.getOWLAnnotationAssertionAxiom(clase.getIRI() , commentName);
-								axiomSet.add(axiom);
-							}
+						if (!description.equals(CoreConfiguration.NOTHING)) {
+							OWLAnnotation commentName = factory.getOWLAnnotation(factory.getRDFSComment(), factory.getOWLLiteral(description, "en"));
+							axiom = factory.getOWLAnnotationAssertionAxiom(clase.getIRI() , commentName);
+							axiomSet.add(axiom);
 						}
 					}
-				}		
-			}	
-			lnr.close();
-			this.getManager().addAxioms(this.getOntology(), axiomSet);
+				}
+			}
+			this.addAxioms(axiomSet);
 		} catch (FileNotFoundException e) {
 			e.printStackTrace();
 		} catch (IOException e) {
@@ -140,74 +153,65 @@ public class WebODEExtension extends Core {
 	// Class/Instance Attributes -> Data Properties
 	public void addAttributesFromGlosary(String tableFileName) {
 		OWLDataFactory factory = this.getManager().getOWLDataFactory();
-		String fileLine = null;
 		Set<OWLAxiom> axiomSet = new HashSet<OWLAxiom>();
 		try {
-			File fp = new File(this.getCfg().getFiles_Path() + "\\" + tableFileName);
-			FileReader inputFile = new FileReader(fp);
-			LineNumberReader lnr = new LineNumberReader(inputFile);
+			SourceTable table = getTable(tableFileName);
 			int nameCol = -1, synonymsCol = -1, descriptionCol = -1;
 			
-			while((fileLine = lnr.readLine())!=null) {
-				String[] parts = fileLine.split(CoreConfiguration.SEPARATOR);		
-				// Header
-				if (lnr.getLineNumber() == 2) {
-					// Infer column order (array indexes)
-					for (int i = 0; i < parts.length; i++) {
-						String part = parts[i];
-						if (StringUtils.containsIgnoreCase(part, "NAME")) 
-							nameCol = i;
-						else if (StringUtils.containsIgnoreCase(part, "SYNONYM")) 
-							synonymsCol = i;
-						else if (StringUtils.containsIgnoreCase(part, "DESCRIPTION")) 
-							descriptionCol = i;
+			// Header
+			List<String> header = table.getHeader();
+			// Infer column order (array indexes)
+			for (int i = 0; i < header.size(); i++) {
+				String part = header.get(i);
+				if (StringUtils.containsIgnoreCase(part, "NAME")) 
+					nameCol = i;
+				else if (StringUtils.containsIgnoreCase(part, "SYNONYM")) 
+					synonymsCol = i;
+				else if (StringUtils.containsIgnoreCase(part, "DESCRIPTION")) 
+					descriptionCol = i;
+			}
+			// Data
+			for (TableRow row : table.getRows()) {
+				if (nameCol != -1) {
+					// Name
+					String attribute = row.getCell(nameCol);							
+					OWLDataProperty dataProperty = null; 
+					Matcher matcher = CLASS_ATTRIBUTE.matcher(attribute);
+					OWLAnnotation labelName = null;
+					
+					// CLASS ATTRIBUTES
+					if (matcher.find()) {
+						String name = matcher.group(2);						
+						dataProperty = this.getOWLDataPropertyFromName(name);
+						labelName = factory.getOWLAnnotation(factory.getRDFSLabel() , factory.getOWLLiteral(name, "en"));
 					}
-				}			
-				// Data
-				else if (lnr.getLineNumber() > 2) {
-					if (nameCol != -1) {
-						// Name
-						String attribute = parts[nameCol];							
-						OWLDataProperty dataProperty = null; 
-						Pattern pattern = Pattern.compile("(\\w*\\s*\\w+)\\s*:\\s*(\\w+)" + CoreConfiguration.INNER_SEPARATOR + "{0,1}");
-						Matcher matcher = pattern.matcher(attribute);
-						OWLAnnotation labelName = null;
-						
-						// CLASS ATTRIBUTES
-						if (matcher.find()) {
-							String name = matcher.group(2);						
-							dataProperty = this.getOWLDataPropertyFromName(name);
-							labelName = factory.getOWLAnnotation(factory.getRDFSLabel() , factory.getOWLLiteral(name, "en"));
-						}
-						// INSTANCE ATTRIBUTES
-						else {
-							dataProperty = this.getOWLDataPropertyFromName(attribute); 
-							labelName = factory.getOWLAnnotation(factory.getRDFSLabel() , factory.getOWLLiteral(attribute, "en"));
-						}
-						// Label
-						OWLAxiom axiom = factory.getOWLAnnotationAssertionAxiom(dataProperty.getIRI() , labelName);
-						axiomSet.add(axiom);
-						
-						//Synonyms
-						if (synonymsCol != -1) {
-							String synonyms = parts[synonymsCol];	
-							if (!synonyms.equals(CoreConfiguration.NOTHING))
-								axiomSet.addAll(this.getEquivalentDataPropertyAxioms(attribute, synonyms.replace(CoreConfiguration.INNER_SEPARATOR, ",")));
-						}						
-						//Description
-						if (descriptionCol != -1) {
-							String description = parts[descriptionCol];	
-							if (!description.equals(CoreConfiguration.NOTHING)) {
-								OWLAnnotation commentName = factory.getOWLAnnotation(factory.getRDFSComment(), factory.getOWLLiteral(description, "en"));
-								axiom = factory.getOWLAnnotationAssertionAxiom(dataProperty.getIRI() , commentName);
-								axiomSet.add(axiom);
-							}
-						}						
+					// INSTANCE ATTRIBUTES
+					else {
+						dataProperty = this.getOWLDataPropertyFromName(attribute); 
+						labelName = factory.getOWLAnnotation(factory.getRDFSLabel() , factory.getOWLLiteral(attribute, "en"));
 					}
-				}	
-			}		
-			lnr.close();
-			this.getManager().addAxioms(this.getOntology(), axiomSet);
+					// Label
+					OWLAxiom axiom = factory.getOWLAnnotationAssertionAxiom(dataProperty.getIRI() , labelName);
+					axiomSet.add(axiom);
+					
+					//Synonyms
+					if (synonymsCol != -1) {
+						String synonyms = row.getCell(synonymsCol);	
+						if (!synonyms.equals(CoreConfiguration.NOTHING))
+							axiomSet.addAll(this.getEquivalentDataPropertyAxioms(attribute, synonyms.replace(CoreConfiguration.INNER_SEPARATOR, ",")));
+					}						
+					//Description
+					if (descriptionCol != -1) {
+						String description = row.getCell(descriptionCol);	
+						if (!description.equals(CoreConfiguration.NOTHING)) {
+							OWLAnnotation commentName = factory.getOWLAnnotation(factory.getRDFSComment(), factory.getOWLLiteral(description, "en"));
+							axiom = factory.getOWLAnnotationAssertionAxiom(dataProperty.getIRI() , commentName);
+							axiomSet.add(axiom);
+						}
+					}						
+				}
+			}
+			this.addAxioms(axiomSet);
 		} catch (FileNotFoundException e) {
 			e.printStackTrace();
 		} catch (IOException e) {
@@ -223,66 +227,57 @@ public class WebODEExtension extends Core {
 	// Ad-Hoc Relations -> Object Properties
 	public void addAdHocRelationsFromGlosary(String tableFileName) {
 		OWLDataFactory factory = this.getManager().getOWLDataFactory();
-		String fileLine = null;
 		Set<OWLAxiom> axiomSet = new HashSet<OWLAxiom>();
 		try {
-			File fp = new File(this.getCfg().getFiles_Path() + "\\" + tableFileName);
-			FileReader inputFile = new FileReader(fp);
-			LineNumberReader lnr = new LineNumberReader(inputFile);
+			SourceTable table = getTable(tableFileName);
 			int nameCol = -1, synonymsCol = -1, descriptionCol = -1;
 			
-			while((fileLine = lnr.readLine())!=null) {
-				String[] parts = fileLine.split(CoreConfiguration.SEPARATOR);			
-				// Header
-				if (lnr.getLineNumber() == 2) {
-					// Infer column order (array indexes)
-					for (int i = 0; i < parts.length; i++) {
-						String part = parts[i];
-						if (StringUtils.containsIgnoreCase(part, "NAME")) 
-							nameCol = i;
-						else if (StringUtils.containsIgnoreCase(part, "SYNONYM")) 
-							synonymsCol = i;
-						else if (StringUtils.containsIgnoreCase(part, "DESCRIPTION")) 
-							descriptionCol = i;
-					}
-				}				
-				// Data
-				else if (lnr.getLineNumber() > 2)  {
-					if (nameCol != -1) {
-						//Name
-						String relation = parts[nameCol];
-						String name = null; 
-						Pattern pattern = Pattern.compile("(\\w+)\\s*\\((\\w+\\-*[\\s\\w+]*)\\,\\s(\\w+\\-*[\\s\\w+]*)\\)");
-						Matcher matcher = pattern.matcher(relation);
-						if (matcher.matches()) 
-							name = matcher.group(1);
-						OWLObjectProperty objectProp = this.getOWLObjectPropertyFromName(name);
+			// Header
+			List<String> header = table.getHeader();
+			// Infer column order (array indexes)
+			for (int i = 0; i < header.size(); i++) {
+				String part = header.get(i);
+				if (StringUtils.containsIgnoreCase(part, "NAME")) 
+					nameCol = i;
+				else if (StringUtils.containsIgnoreCase(part, "SYNONYM")) 
+					synonymsCol = i;
+				else if (StringUtils.containsIgnoreCase(part, "DESCRIPTION")) 
+					descriptionCol = i;
+			}
+			// Data
+			for (TableRow row : table.getRows()) {
+				if (nameCol != -1) {
+					//Name
+					String relation = row.getCell(nameCol);
+					String name = null; 
+					CellToken token = CellParser.parse(relation);
+					if (token.is(CellToken.Type.SYNONYMS) && (token.getValues().size() == 2)) 
+						name = token.getName();
+					OWLObjectProperty objectProp = this.getOWLObjectPropertyFromName(name);
 
-						// Label
-						OWLAnnotation labelName = factory.getOWLAnnotation(factory.getRDFSLabel() , factory.getOWLLiteral(name, "en"));
-						OWLAxiom axiom = factory.getOWLAnnotationAssertionAxiom(objectProp.getIRI() , labelName);
-						axiomSet.add(axiom);	
-						
-						//Synonyms
-						if (synonymsCol != -1) {
-							String synonyms = parts[synonymsCol];	
-							if (!synonyms.equals(CoreConfiguration.NOTHING))
-								axiomSet.addAll(this.getEquivalentObjectPropertyAxioms(relation, synonyms.replace(CoreConfiguration.INNER_SEPARATOR, ",")));
+					// Label
+					OWLAnnotation labelName = factory.getOWLAnnotation(factory.getRDFSLabel() , factory.getOWLLiteral(name, "en"));
+					OWLAxiom axiom = factory.getOWLAnnotationAssertionAxiom(objectProp.getIRI() , labelName);
+					axiomSet.add(axiom);	
+					
+					//Synonyms
+					if (synonymsCol != -1) {
+						String synonyms = row.getCell(synonymsCol);	
+						if (!synonyms.equals(CoreConfiguration.NOTHING))
+							axiomSet.addAll(this.getEquivalentObjectPropertyAxioms(relation, synonyms.replace(CoreConfiguration.INNER_SEPARATOR, ",")));
+					}
+					//Description
+					if (descriptionCol != -1) {
+						String description = row.getCell(descriptionCol);					
+						if (!description.equals(CoreConfiguration.NOTHING)) {
+							OWLAnnotation commentName = factory.getOWLAnnotation(factory.getRDFSComment(), factory.getOWLLiteral(description, "en"));
+							axiom = factory.getOWLAnnotationAssertionAxiom(objectProp.getIRI() , commentName);
+							axiomSet.add(axiom);
 						}
-						//Description
-						if (descriptionCol != -1) {
-							String description = parts[descriptionCol];					
-							if (!description.equals(CoreConfiguration.NOTHING)) {
-								OWLAnnotation commentName = factory.getOWLAnnotation(factory.getRDFSComment(), factory.getOWLLiteral(description, "en"));
-								axiom = factory.getOWLAnnotationAssertionAxiom(objectProp.getIRI() , commentName);
-								axiomSet.add(axiom);
-							}
-						}						
-					}
-				}	
-			}		
-			lnr.close();
-			this.getManager().addAxioms(this.getOntology(), axiomSet);
+					}						
+				}
+			}
+			this.addAxioms(axiomSet);
 		} catch (FileNotFoundException e) {
 			e.printStackTrace();
 		} catch (IOException e) {
@@ -298,59 +293,53 @@ public class WebODEExtension extends Core {
 	// Instances -> Individuals
 	public void addInstancesFromGlossary(String tableFileName) {
 		OWLDataFactory factory = this.getManager().getOWLDataFactory();
-		String fileLine = null;
+		ChangeBuffer changes = this.newChangeBuffer();
 		try {
-			File fp = new File(this.getCfg().getFiles_Path() + "\\" + tableFileName);
-			FileReader inputFile = new FileReader(fp);
-			LineNumberReader lnr = new LineNumberReader(inputFile);
+			SourceTable table = getTable(tableFileName);
 			int nameCol = -1, synonymsCol = -1, descriptionCol = -1;
 			
-			while((fileLine = lnr.readLine())!=null) {
-				String[] parts = fileLine.split(CoreConfiguration.SEPARATOR);			
-				// Header
-				if (lnr.getLineNumber() == 2) {
-					// Infer column order (array indexes)
-					for (int i = 0; i < parts.length; i++) {
-						String part = parts[i];
-						if (StringUtils.containsIgnoreCase(part, "NAME")) 
-							nameCol = i;
-						else if (StringUtils.containsIgnoreCase(part, "SYNONYM")) 
-							synonymsCol = i;
-						else if (StringUtils.containsIgnoreCase(part, "DESCRIPTION")) 
-							descriptionCol = i;
-					}
-				}					
-				// Data
-				else if ((lnr.getLineNumber() > 2)) {
-					if (nameCol != -1) {
-						//Name
-						String individualName = parts[nameCol];		
-						OWLIndividual namedIndividual = getOWLIndividualFromName(individualName);						
-						
-						// Label
-						OWLAnnotation labelName = factory.getOWLAnnotation(factory.getRDFSLabel() , factory.getOWLLiteral(individualName, "en"));
-						OWLAxiom axiom = factory.getOWLAnnotationAssertionAxiom(namedIndividual.asOWLNamedIndividual().getIRI() , labelName);
-						this.getManager().applyChange(new AddAxiom(this.getOntology(), axiom));									
+			// Header
+			List<String> header = table.getHeader();
+			// Infer column order (array indexes)
+			for (int i = 0; i < header.size(); i++) {
+				String part = header.get(i);
+				if (StringUtils.containsIgnoreCase(part, "NAME")) 
+					nameCol = i;
+				else if (StringUtils.containsIgnoreCase(part, "SYNONYM")) 
+					synonymsCol = i;
+				else if (StringUtils.containsIgnoreCase(part, "DESCRIPTION")) 
+					descriptionCol = i;
+			}
+			// Data
+			for (TableRow row : table.getRows()) {
+				if (nameCol != -1) {
+					//Name
+					String individualName = row.getCell(nameCol);		
+					OWLIndividual namedIndividual = getOWLIndividualFromName(individualName);						
+					
+					// Label
+					OWLAnnotation labelName = factory.getOWLAnnotation(factory.getRDFSLabel() , factory.getOWLLiteral(individualName, "en"));
+					OWLAxiom axiom = factory.getOWLAnnotationAssertionAxiom(namedIndividual.asOWLNamedIndividual().getIRI() , labelName);
+					changes.add(this.getOntology(), axiom);
 
-						//Synonyms
-						if (synonymsCol != -1) {
-							String synonyms = parts[synonymsCol];	
-							if (!synonyms.equals(CoreConfiguration.NOTHING))
-							    this.getManager().addAxioms(this.getOntology(), this.getEquivalentIndividualsAxioms(individualName, synonyms.replace(CoreConfiguration.INNER_SEPARATOR, ",")));
+					//Synonyms
+					if (synonymsCol != -1) {
+						String synonyms = row.getCell(synonymsCol);	
+						if (!synonyms.equals(CoreConfiguration.NOTHING))
+						    changes.addAll(this.getOntology(), this.getEquivalentIndividualsAxioms(individualName, synonyms.replace(CoreConfiguration.INNER_SEPARATOR, ",")));
+					}
+					//Description
+					if (descriptionCol != -1) {
+						String description = row.getCell(descriptionCol);							
+						if (!description.equals(CoreConfiguration.NOTHING)) {
+							OWLAnnotation commentName = factory.getOWLAnnotation(factory.getRDFSComment(), factory.getOWLLiteral(description, "en"));
+							axiom = factory.getOWLAnnotationAssertionAxiom(namedIndividual.asOWLNamedIndividual().getIRI() , commentName);
+							changes.add(this.getOntology(), axiom);
 						}
-						//Description
-						if (descriptionCol != -1) {
-							String description = parts[descriptionCol];							
-							if (!description.equals(CoreConfiguration.NOTHING)) {
-								OWLAnnotation commentName = factory.getOWLAnnotation(factory.getRDFSComment(), factory.getOWLLiteral(description, "en"));
-								axiom = factory.getOWLAnnotationAssertionAxiom(namedIndividual.asOWLNamedIndividual().getIRI() , commentName);
-								this.getManager().applyChange(new AddAxiom(this.getOntology(), axiom));
-							}
-						}										
-					}
-				}	
+					}										
+				}
 			}
-			lnr.close();
+			changes.flush();
 		} catch (FileNotFoundException e) {
 			e.printStackTrace();
 		} catch (IOException e) {
@@ -366,54 +355,9 @@ public class WebODEExtension extends Core {
 	// Instance Attribute Table -> Domain, Range, Value Range, Cardinality
 	// Class Attribute Table -> Domain, Range, Attribute Rules (Value Restrictions), Cardinality
 	public void addAttributeAxiomsFromTable(String tableFileName) {
-		String fileLine = null;
-		Set<String> attributeNames = new HashSet<String>();
 		try {
-			File fp = new File(this.getCfg().getFiles_Path() + "\\" + tableFileName);
-			FileReader inputFile = new FileReader(fp);
-			LineNumberReader lnr = new LineNumberReader(inputFile);
-			int nameCol = -1, valuesCol = -1;
-			
-			while((fileLine = lnr.readLine())!=null) {
-				String[] parts = fileLine.split(CoreConfiguration.SEPARATOR);			
-				// Header
-				if (lnr.getLineNumber() == 2) {
-					// Infer column order (array indexes)
-					for (int i = 0; i < parts.length; i++) {
-						String part = parts[i];
-						if (StringUtils.containsIgnoreCase(part, "ATTRIBUTE NAME")) 
-							nameCol = i;
-						else if (StringUtils.containsIgnoreCase(part, "VALUES")) 
-							valuesCol = i;
-					}
-				}				
-				// Data
-				else if ((lnr.getLineNumber() > 2) && (nameCol != -1)) {
-					//Name
-					String name = parts[nameCol];
-					attributeNames.add(name);
-				}		
-			}			
-			lnr.close();
-			
-			for (String attributeName : attributeNames) {
-				//Domain & Range
-				OWLDataPropertyDomainAxiom domainAxiom = getAttributeDomainFromTable(tableFileName, attributeName);
-				if (domainAxiom != null)
-					this.getManager().applyChange(new AddAxiom(this.getOntology(), domainAxiom));			
-				OWLDataPropertyRangeAxiom rangeAxiom = getAttributeRangeFromTable(tableFileName, attributeName);
-				if (rangeAxiom != null)
-					this.getManager().applyChange(new AddAxiom(this.getOntology(), rangeAxiom));
-
-				//Cardinality
-				OWLSubClassOfAxiom cardinality = getAttributeCardinalityFromTable(tableFileName, attributeName, domainAxiom, rangeAxiom);
-				if (cardinality != null)
-					this.getManager().applyChange(new AddAxiom(this.getOntology(), cardinality));
-				
-				//Attribute Rules (Value Restrictions)
-				if (valuesCol != -1)
-					this.addAttributeRulesFromTable(tableFileName);
-			}
+			AttributeTableCompiler compiler = new AttributeTableCompiler(this, this.getTable(tableFileName));
+			this.addAxioms(compiler.compile());
 		} catch (FileNotFoundException e) {
 			e.printStackTrace();
 		} catch (IOException e) {
@@ -429,50 +373,8 @@ public class WebODEExtension extends Core {
 	 * @return the attribute domain axiom
 	 */
 	public OWLDataPropertyDomainAxiom getAttributeDomainFromTable(String tableFileName, String attributeName) {
-		OWLDataFactory factory = this.getManager().getOWLDataFactory();
-		String fileLine = null;
-		Set<OWLClass> domains = new HashSet<OWLClass>();		
 		try {
-			File fp = new File(this.getCfg().getFiles_Path() + "\\" + tableFileName);		
-			FileReader inputFile = new FileReader(fp);
-			LineNumberReader lnr = new LineNumberReader(inputFile);
-			int nameCol = -1, domainCol = -1;
-			OWLDataProperty dataProperty = this.getOWLDataPropertyFromName(attributeName); 
-			
-			while((fileLine = lnr.readLine())!=null) {
-				String[] parts = fileLine.split(CoreConfiguration.SEPARATOR);			
-				// Header
-				if ((lnr.getLineNumber() == 2)) {
-					// Infer column order (array indexes)
-					for (int i = 0; i < parts.length; i++) {
-						String part = parts[i];
-						if (StringUtils.containsIgnoreCase(part, "ATTRIBUTE NAME")) 
-							nameCol = i;
-						else if (StringUtils.containsIgnoreCase(part, "CONCEPT NAME")) 
-							domainCol = i;
-					}
-				}				
-				// Data
-				else if (lnr.getLineNumber() > 2 && (nameCol != -1) && (domainCol != -1)) {
-					String currentAttribute = parts[nameCol].trim();				
-					if (currentAttribute.equals(attributeName)) {
-						String domain = parts[domainCol].trim();		
-						OWLClass domainClass = this.getOWLClassFromName(domain);
-						domains.add(domainClass);
-					}
-				}			
-			}			
-			lnr.close();
-			
-			OWLObjectUnionOf unionOf = null;
-			OWLDataPropertyDomainAxiom domainAxiom = null;			
-			if (domains.size() > 1) {
-				unionOf = factory.getOWLObjectUnionOf(domains);
-				domainAxiom = factory.getOWLDataPropertyDomainAxiom(dataProperty, unionOf);
-			}
-			else if (domains.size() == 1)
-				domainAxiom = factory.getOWLDataPropertyDomainAxiom(dataProperty, domains.iterator().next() );									
-			return domainAxiom;
+			return new AttributeTableCompiler(this, this.getTable(tableFileName)).getDomainAxiom(attributeName);
 		} catch (FileNotFoundException e) {
 			e.printStackTrace();
 			return null;
@@ -490,97 +392,8 @@ public class WebODEExtension extends Core {
 	 * @return the attribute range axiom
 	 */	
 	public OWLDataPropertyRangeAxiom getAttributeRangeFromTable(String tableFileName, String attributeName) {
-		OWLDataFactory factory = this.getManager().getOWLDataFactory();
-		String fileLine = null;
-		Set<OWLLiteral> valuesSet = new HashSet<OWLLiteral>();
-		Boolean exit = false;		
 		try {
-			File fp = new File(this.getCfg().getFiles_Path() + "\\" + tableFileName);		
-			FileReader inputFile = new FileReader(fp);
-			LineNumberReader lnr = new LineNumberReader(inputFile);
-			int nameCol = -1, valueTypeCol = -1, valueRangeCol = -1, valuesCol = -1;		
-			OWLDataProperty dataProperty = this.getOWLDataPropertyFromName(attributeName);
-			String valueType = null;
-			OWLDataRange dataType = null;
-			
-			while((fileLine = lnr.readLine()) != null && (!exit)) {
-				String[] parts = fileLine.split(CoreConfiguration.SEPARATOR);			
-				// Header
-				if ((lnr.getLineNumber() == 2)) {
-					// Infer column order (array indexes)
-					for (int i = 0; i < parts.length; i++) {
-						String part = parts[i];
-						if (StringUtils.containsIgnoreCase(part, "ATTRIBUTE NAME")) 
-							nameCol = i;
-						else if (StringUtils.containsIgnoreCase(part, "VALUE TYPE")) 
-							valueTypeCol = i;
-						else if (StringUtils.containsIgnoreCase(part, "VALUE RANGE")) 
-							valueRangeCol = i;
-						else if (StringUtils.containsIgnoreCase(part, "VALUES")) 
-							valuesCol = i;
-					}
-				}			
-				// Data
-				else if (lnr.getLineNumber() > 2 && (nameCol != -1) && (valueTypeCol != -1)) {
-					String currentAttribute = parts[nameCol].trim();			
-					if (currentAttribute.equals(attributeName)) {
-						valueType = parts[valueTypeCol].trim().toLowerCase();				
-						switch (valueType) {
-						case ("boolean"):
-							dataType = factory.getBooleanOWLDatatype();
-							exit = true;
-							break;		
-							
-						case ("cardinal"):
-							// INSTANCE ATTRIBUTES
-							if (valueRangeCol != -1) {							
-								// If Value Range column belongs to the table, range definition is included
-								String valueRange = parts[valueRangeCol].trim();		
-								if (valueRange.compareTo(CoreConfiguration.NOTHING) != 0) {	
-									//xsd:integer comes implicit for type of argument
-									dataType = getValueRangeRestrictionFromLiteral(valueRange);
-									exit = true;
-									break;
-								}
-							}					
-							dataType = factory.getIntegerOWLDatatype();							
-							exit = true;
-							break;
-							
-						case ("date"):
-							dataType = factory.getOWLDatatype(XSDVocabulary.parseShortName("xsd:date").getIRI());
-							exit = true;
-							break;
-							
-						case ("string"):
-							// CLASS ATTRIBUTES
-							if (valuesCol != -1) {
-								String[] values =  parts[valuesCol].trim().split(CoreConfiguration.INNER_SEPARATOR);
-								for (String value : values) {
-									valuesSet.add(factory.getOWLLiteral(value));
-								}
-								break;
-							}
-							else {
-								dataType = factory.getOWLDatatype(XSDVocabulary.parseShortName("xsd:string").getIRI());
-								exit = true;
-								break;
-							}
-						
-						case ("url"):
-							dataType = factory.getOWLDatatype(XSDVocabulary.parseShortName("xsd:anyURI").getIRI());
-							exit = true;
-							break;
-						}
-					}
-				}			
-			}		
-			lnr.close();
-			
-			// Generate the range with the literal values
-			if (valueType.equalsIgnoreCase("string") && (valuesCol != -1))
-				dataType = factory.getOWLDataOneOf(valuesSet);
-			return factory.getOWLDataPropertyRangeAxiom(dataProperty, dataType);
+			return new AttributeTableCompiler(this, this.getTable(tableFileName)).getRangeAxiom(attributeName);
 		} catch (FileNotFoundException e) {
 			e.printStackTrace();
 			return null;
@@ -601,14 +414,9 @@ public class WebODEExtension extends Core {
 		OWLDatatypeRestriction valueRangeRestriction = null;	
 		if (!literalValueRange.equals(CoreConfiguration.NOTHING)) {
 			OWLDataFactory factory = this.getManager().getOWLDataFactory();
-			String lowerBound = null, upperBound = null;
-			Pattern pattern = Pattern.compile("(\\d+)\\s+\\.{2}\\s+(\\d+)");
-			Matcher matcher = pattern.matcher(literalValueRange);
-			if (matcher.matches()) {
-				lowerBound = matcher.group(1);
-				upperBound = matcher.group(2);
-			}	
-			valueRangeRestriction = factory.getOWLDatatypeMinMaxInclusiveRestriction(Integer.parseInt(lowerBound), Integer.parseInt(upperBound));	
+			CellToken token = CellParser.parse(literalValueRange);
+			if (token.is(CellToken.Type.RANGE))
+				valueRangeRestriction = factory.getOWLDatatypeMinMaxInclusiveRestriction(token.getLower(), token.getUpper());	
 		} 
 		return valueRangeRestriction;
 	}
@@ -623,92 +431,8 @@ public class WebODEExtension extends Core {
 	 * @return the attribute cardinality axiom
 	 */
 	public OWLSubClassOfAxiom getAttributeCardinalityFromTable(String tableFileName, String attributeName, OWLDataPropertyDomainAxiom domainAxiom, OWLDataPropertyRangeAxiom rangeAxiom) {
-		OWLDataFactory factory = this.getManager().getOWLDataFactory();
-		String fileLine = null;	
 		try {
-			File fp = new File(this.getCfg().getFiles_Path() + "\\" + tableFileName);		
-			FileReader inputFile = new FileReader(fp);
-			LineNumberReader lnr = new LineNumberReader(inputFile);
-			int nameCol = -1, cardinalityCol = -1;	
-			OWLDataProperty dataProperty = this.getOWLDataPropertyFromName(attributeName); 
-			String literalCardinality = null;
-			
-			// Get the literal with cardinality
-			while((fileLine = lnr.readLine())!=null) {
-				String[] parts = fileLine.split(CoreConfiguration.SEPARATOR);		
-				// Header
-				if ((lnr.getLineNumber() == 2)) {
-					// Infer column order (array indexes)
-					for (int i = 0; i < parts.length; i++) {
-						String part = parts[i];
-						if (StringUtils.containsIgnoreCase(part, "ATTRIBUTE NAME")) 
-							nameCol = i;
-						else if (StringUtils.containsIgnoreCase(part, "CARDINALITY")) 
-							cardinalityCol = i;
-					}
-				}					
-				// Data
-				else if (lnr.getLineNumber() > 2 && (nameCol != -1) && (cardinalityCol != -1)) {
-					String currentAttribute = parts[nameCol].trim();				
-					if (currentAttribute.equals(attributeName)) {
-						literalCardinality = parts[cardinalityCol];
-						break;
-					}
-				}			
-			}		
-			lnr.close();
-			
-			// Gettning the axiom
-			String lowerBound = null, upperBound = null;
-			OWLSubClassOfAxiom subclassOfAxiom = null;
-			Pattern pattern = Pattern.compile("\\((\\d+)\\,\\s*(\\d+|n|N)\\)");
-			Matcher matcher = pattern.matcher(literalCardinality);
-		
-			if (matcher.matches()) {
-				lowerBound = matcher.group(1);
-				upperBound = matcher.group(2);
-				
-				//VALUE CONSTRAINTS
-				if (upperBound.compareToIgnoreCase("n") == 0) {
-					// (1, n): SomeValuesFrom
-					if (lowerBound.compareTo("1") == 0){
-						OWLDataSomeValuesFrom someValuesFrom = factory.getOWLDataSomeValuesFrom(dataProperty, rangeAxiom.getRange());
-						subclassOfAxiom = factory.getOWLSubClassOfAxiom(domainAxiom.getDomain(), someValuesFrom);
-						return subclassOfAxiom;
-					}
-					// (0, n): AllValuesFrom 
-					else if (lowerBound.compareTo("0") == 0) {
-						OWLDataAllValuesFrom allValuesFrom = factory.getOWLDataAllValuesFrom(dataProperty, rangeAxiom.getRange());
-						subclassOfAxiom = factory.getOWLSubClassOfAxiom(domainAxiom.getDomain(), allValuesFrom);
-						return subclassOfAxiom;
-					}					
-				}			
-				//CARDINALITY CONSTRAINTS	
-				// (0, 1) and other numeric:		
-				else if (NumberUtils.isNumber(lowerBound) && NumberUtils.isNumber(upperBound)) {
-					HashSet<OWLClassExpression> cardinalities = new HashSet<OWLClassExpression>();
-					int lower = Integer.parseInt(lowerBound);
-					int upper = Integer.parseInt(upperBound);
-					
-					if (lower != upper) {
-						// MinCardinality
-						OWLClassExpression minCardinality = factory.getOWLDataMinCardinality(lower, dataProperty);
-						cardinalities.add(minCardinality);
-						// MaxCardinality
-						OWLClassExpression maxCardinality = factory.getOWLDataMaxCardinality(upper, dataProperty);
-						cardinalities.add(maxCardinality);	
-						// Intersection
-						OWLObjectIntersectionOf intersectionOf = factory.getOWLObjectIntersectionOf (cardinalities);
-						subclassOfAxiom = factory.getOWLSubClassOfAxiom(domainAxiom.getDomain(), intersectionOf);
-					}
-					else {
-						// ExactCardinality
-						OWLClassExpression exactCardinality = factory.getOWLDataExactCardinality(lower, dataProperty);
-						subclassOfAxiom = factory.getOWLSubClassOfAxiom(domainAxiom.getDomain(), exactCardinality);
-					}
-				}
-			}
-			return subclassOfAxiom;				
+			return new AttributeTableCompiler(this, this.getTable(tableFileName)).getCardinalityAxiom(attributeName, domainAxiom, rangeAxiom);
 		} catch (FileNotFoundException e) {
 			e.printStackTrace();
 			return null;
@@ -718,6 +442,68 @@ public class WebODEExtension extends Core {
 		}
 	}
 	
+	/**
+	 * Gets the attribute cardinality axiom from a given cardinality literal, such as (0, n) or (1, 1).
+	 *
+	 * @param attributeName, the attribute name
+	 * @param literalCardinality, the literal cardinality
+	 * @param domainAxiom, the domain axiom for the given attribute
+	 * @param rangeAxiom, the range axiom for the given attribute
+	 * @return the attribute cardinality axiom
+	 */
+	public OWLSubClassOfAxiom getAttributeCardinalityFromLiteral(String attributeName, String literalCardinality, OWLDataPropertyDomainAxiom domainAxiom, OWLDataPropertyRangeAxiom rangeAxiom) {
+		OWLDataFactory factory = this.getManager().getOWLDataFactory();
+		OWLDataProperty dataProperty = this.getOWLDataPropertyFromName(attributeName); 
+		
+		// Gettning the axiom
+		OWLSubClassOfAxiom subclassOfAxiom = null;
+		CellToken token = CellParser.parse(literalCardinality);
+		
+		if (token.is(CellToken.Type.CARDINALITY)) {
+			int lower = token.getLower();
+			
+			//VALUE CONSTRAINTS (need the range)
+			if (token.isUnbounded() && (rangeAxiom != null)) {
+				// (1, n): SomeValuesFrom
+				if (lower == 1){
+					OWLDataSomeValuesFrom someValuesFrom = factory.getOWLDataSomeValuesFrom(dataProperty, rangeAxiom.getRange());
+					subclassOfAxiom = factory.getOWLSubClassOfAxiom(domainAxiom.getDomain(), someValuesFrom);
+					return subclassOfAxiom;
+				}
+				// (0, n): AllValuesFrom 
+				else if (lower == 0) {
+					OWLDataAllValuesFrom allValuesFrom = factory.getOWLDataAllValuesFrom(dataProperty, rangeAxiom.getRange());
+					subclassOfAxiom = factory.getOWLSubClassOfAxiom(domainAxiom.getDomain(), allValuesFrom);
+					return subclassOfAxiom;
+				}					
+			}			
+			//CARDINALITY CONSTRAINTS	
+			// (0, 1) and other numeric:		
+			else if (!token.isUnbounded()) {
+				HashSet<OWLClassExpression> cardinalities = new HashSet<OWLClassExpression>();
+				int upper = token.getUpper();
+				
+				if (lower != upper) {
+					// MinCardinality
+					OWLClassExpression minCardinality = factory.getOWLDataMinCardinality(lower, dataProperty);
+					cardinalities.add(minCardinality);
+					// MaxCardinality
+					OWLClassExpression maxCardinality = factory.getOWLDataMaxCardinality(upper, dataProperty);
+					cardinalities.add(maxCardinality);	
+					// Intersection
+					OWLObjectIntersectionOf intersectionOf = factory.getOWLObjectIntersectionOf (cardinalities);
+					subclassOfAxiom = factory.getOWLSubClassOfAxiom(domainAxiom.getDomain(), intersectionOf);
+				}
+				else {
+					// ExactCardinality
+					OWLClassExpression exactCardinality = factory.getOWLDataExactCardinality(lower, dataProperty);
+					subclassOfAxiom = factory.getOWLSubClassOfAxiom(domainAxiom.getDomain(), exactCardinality);
+				}
+			}
+		}
+		return subclassOfAxiom;
+	}
+	
 	// Rules (Data Property restrictions)
 	// Use Core.getAttributeRulesFromTable(String tableFileName)
 	
@@ -728,59 +514,9 @@ public class WebODEExtension extends Core {
 	 */
 	// AD HOC BINARY RELATION TABLE -> DOMAIN, RANGE, MATH PROPERTIES, CARDINALITY
 	public void addAdHocRelationAxiomsFromTable(String tableFileName) {
-		OWLDataFactory factory = this.getManager().getOWLDataFactory();
-		String fileLine = null;
-		Set<String> relationNames = new HashSet<String>();
 		try {
-			File fp = new File(this.getCfg().getFiles_Path() + "\\" + tableFileName);
-			FileReader inputFile = new FileReader(fp);
-			LineNumberReader lnr = new LineNumberReader(inputFile);
-			int nameCol = -1;
-			
-			while((fileLine = lnr.readLine())!=null) {
-				String[] parts = fileLine.split(CoreConfiguration.SEPARATOR);
-				
-				// Header
-				if (lnr.getLineNumber() == 2) {
-					// Infer column order (array indexes)
-					for (int i = 0; i < parts.length; i++) {
-						String part = parts[i];
-						if (StringUtils.containsIgnoreCase(part, "RELATION NAME")) 
-							nameCol = i;
-					}
-				}			
-				// Data
-				else if ((lnr.getLineNumber() > 2) && (nameCol != -1)) {
-					//Name
-					String name = parts[nameCol];
-					relationNames.add(name);
-				}		
-			}	
-			lnr.close();
-			
-			for (String relationName : relationNames) {
-				//Domain & Range	
-				OWLObjectPropertyDomainAxiom domainAxiom = getAdHocRelationDomainFromTable(tableFileName, relationName);
-				if (domainAxiom != null)
-					this.getManager().applyChange(new AddAxiom(this.getOntology(), domainAxiom));
-				OWLObjectPropertyRangeAxiom rangeAxiom = getAdHocRelationRangeFromTable(tableFileName, relationName);
-				if (rangeAxiom != null)
-					this.getManager().applyChange(new AddAxiom(this.getOntology(), rangeAxiom));
-				
-				//Source Cardinality
-				OWLObjectCardinalityRestriction cardinalityRestriction = getAdHocRelationCardinalityFromTable(tableFileName, relationName);
-				if (cardinalityRestriction != null) {
-					OWLObjectProperty objectProp = getOWLObjectPropertyFromName(relationName);
-					OWLObjectPropertyDomainAxiom cardinalityDomainRestriciton = factory.getOWLObjectPropertyDomainAxiom(objectProp, cardinalityRestriction);
-					this.getManager().applyChange(new AddAxiom(this.getOntology(), cardinalityDomainRestriciton));		
-				}
-				
-				//Math Properties
-				OWLObjectPropertyCharacteristicAxiom properties = getAdHocRelationMathPropertiesFromTable(tableFileName, relationName);
-				if (properties != null)
-					this.getManager().applyChange(new AddAxiom(this.getOntology(), properties));
-			}
-
+			AdHocRelationTableCompiler compiler = new AdHocRelationTableCompiler(this, this.getTable(tableFileName));
+			this.addAxioms(compiler.compile());
 		} catch (FileNotFoundException e) {
 			e.printStackTrace();
 		} catch (IOException e) {
@@ -796,42 +532,8 @@ public class WebODEExtension extends Core {
 	 * @return the attribute domain axiom
 	 */
 	public OWLObjectPropertyDomainAxiom getAdHocRelationDomainFromTable(String tableFileName, String relationName) {
-		OWLDataFactory factory = this.getManager().getOWLDataFactory();
-		String fileLine = null;
 		try {
-			File fp = new File(this.getCfg().getFiles_Path() + "\\" + tableFileName);		
-			FileReader inputFile = new FileReader(fp);
-			LineNumberReader lnr = new LineNumberReader(inputFile);
-			int nameCol = -1, domainCol = -1;
-			OWLObjectProperty objectProp = this.getOWLObjectPropertyFromName(relationName); 
-			OWLObjectPropertyDomainAxiom domainAxiom = null;
-			
-			while((fileLine = lnr.readLine())!=null) {
-				String[] parts = fileLine.split(CoreConfiguration.SEPARATOR);
-				
-				// Header
-				if ((lnr.getLineNumber() == 2)) {
-					// Infer column order (array indexes)
-					for (int i = 0; i < parts.length; i++) {
-						String part = parts[i];
-						if (StringUtils.containsIgnoreCase(part, "RELATION NAME")) 
-							nameCol = i;
-						else if (StringUtils.containsIgnoreCase(part, "SOURCE CONCEPT")) 
-							domainCol = i;
-					}
-				}			
-				// Data
-				else if (lnr.getLineNumber() > 2 && (nameCol != -1) && (domainCol != -1)) {
-					String currentRelation = parts[nameCol].trim();				
-					if (currentRelation.equals(relationName)) {
-						String domain = parts[domainCol].trim();					
-						OWLClass domainClass = this.getOWLClassFromName(domain);
-						domainAxiom = factory.getOWLObjectPropertyDomainAxiom(objectProp, domainClass);					
-					}
-				}			
-			}	
-			lnr.close();
-			return domainAxiom;
+			return new AdHocRelationTableCompiler(this, this.getTable(tableFileName)).getDomainAxiom(relationName);
 		} catch (FileNotFoundException e) {
 			e.printStackTrace();
 			return null;
@@ -839,8 +541,7 @@ public class WebODEExtension extends Core {
 			e.printStackTrace();
 			return null;
 		}				
-	}		
-
+	}	
 	/**
 	 * Gets the range axiom for the given ad hoc relation (OWL Object Property) from ad hoc relations WebODE formatted table.
 	 *
@@ -849,41 +550,8 @@ public class WebODEExtension extends Core {
 	 * @return the ad hoc relation range axiom
 	 */
 	public OWLObjectPropertyRangeAxiom getAdHocRelationRangeFromTable(String tableFileName, String relationName) {
-		OWLDataFactory factory = this.getManager().getOWLDataFactory();
-		String fileLine = null;	
 		try {
-			File fp = new File(this.getCfg().getFiles_Path() + "\\" + tableFileName);		
-			FileReader inputFile = new FileReader(fp);
-			LineNumberReader lnr = new LineNumberReader(inputFile);
-			int nameCol = -1, rangeCol = -1;
-			OWLObjectProperty objectProp = this.getOWLObjectPropertyFromName(relationName); 
-			OWLObjectPropertyRangeAxiom rangeAxiom = null;
-			
-			while((fileLine = lnr.readLine())!=null) {
-				String[] parts = fileLine.split(CoreConfiguration.SEPARATOR);		
-				// Header
-				if ((lnr.getLineNumber() == 2)) {
-					// Infer column order (array indexes)
-					for (int i = 0; i < parts.length; i++) {
-						String part = parts[i];
-						if (StringUtils.containsIgnoreCase(part, "RELATION NAME")) 
-							nameCol = i;
-						else if (StringUtils.containsIgnoreCase(part, "TARGET CONCEPT")) 
-							rangeCol = i;
-					}
-				}			
-				// Data
-				else if (lnr.getLineNumber() > 2 && (nameCol != -1) && (rangeCol != -1)) {
-					String currentRelation = parts[nameCol].trim();					
-					if (currentRelation.equals(relationName)) {
-						String range = parts[rangeCol].trim();					
-						OWLClass rangeClass = this.getOWLClassFromName(range);
-						rangeAxiom = factory.getOWLObjectPropertyRangeAxiom(objectProp, rangeClass);					
-					}
-				}			
-			}	
-			lnr.close();
-			return rangeAxiom;
+			return new AdHocRelationTableCompiler(this, this.getTable(tableFileName)).getRangeAxiom(relationName);
 		} catch (FileNotFoundException e) {
 			e.printStackTrace();
 			return null;
@@ -891,8 +559,7 @@ public class WebODEExtension extends Core {
 			e.printStackTrace();
 			return null;
 		}				
-	}
-
+	}	
 	/**
 	 * Gets the ad hoc relation cardinality from the attributes WebODE formatted table file.
 	 *
@@ -901,56 +568,8 @@ public class WebODEExtension extends Core {
 	 * @return the ad hoc relation cardinality
 	 */
 	public OWLObjectCardinalityRestriction getAdHocRelationCardinalityFromTable(String tableFileName, String relationName) {
-		OWLDataFactory factory = this.getManager().getOWLDataFactory();
-		String fileLine = null;		
 		try {
-			File fp = new File(this.getCfg().getFiles_Path() + "\\" + tableFileName);		
-			FileReader inputFile = new FileReader(fp);
-			LineNumberReader lnr = new LineNumberReader(inputFile);
-			int nameCol = -1, domainCol = -1, cardinalityCol = -1;		
-			OWLObjectProperty objectProp = this.getOWLObjectPropertyFromName(relationName); 
-			OWLObjectCardinalityRestriction cardinalityRestriction = null;
-			
-			while((fileLine = lnr.readLine())!=null) {
-				String[] parts = fileLine.split(CoreConfiguration.SEPARATOR);			
-				// Header
-				if ((lnr.getLineNumber() == 2)) {
-					// Infer column order (array indexes)
-					for (int i = 0; i < parts.length; i++) {
-						String part = parts[i];
-						if (StringUtils.containsIgnoreCase(part, "RELATION NAME")) 
-							nameCol = i;
-						else if (StringUtils.containsIgnoreCase(part, "SOURCE CONCEPT")) 
-							domainCol = i;
-						else if (StringUtils.containsIgnoreCase(part, "SOURCE CARDINALITY")) 
-							cardinalityCol = i;
-					}
-				}			
-				// Data
-				else if (lnr.getLineNumber() > 2 && (nameCol != -1) && (domainCol != -1) && (cardinalityCol != -1)) {
-					String currentRelation = parts[nameCol].trim();			
-					if (currentRelation.equals(relationName)) {
-						String domain = parts[domainCol].trim();
-						OWLClass domainClass = this.getOWLClassFromName(domain);				
-						String cardinality = parts[cardinalityCol].trim();
-						int cardinalityBound = 0;				
-						if(cardinality.trim().toUpperCase().compareTo("N") == 0){
-							lnr.close();
-							return null;
-						}
-						else{
-							cardinalityBound = Integer.parseInt(cardinality);
-							if (cardinalityBound < 0) {
-								lnr.close();
-								return null;
-							}
-						}
-						cardinalityRestriction = factory.getOWLObjectMaxCardinality(cardinalityBound, objectProp, domainClass);				
-					}
-				}			
-			}			
-			lnr.close();
-			return cardinalityRestriction;
+			return new AdHocRelationTableCompiler(this, this.getTable(tableFileName)).getCardinalityRestriction(relationName);
 		} catch (FileNotFoundException e) {
 			e.printStackTrace();
 			return null;
@@ -959,7 +578,6 @@ public class WebODEExtension extends Core {
 			return null;
 		}				
 	}	
-
 	/**
 	 * Gets the ad hoc relation math properties from the ad hoc relations WebODE formatted table file.
 	 *
@@ -968,81 +586,8 @@ public class WebODEExtension extends Core {
 	 * @return the ad hoc relation math properties
 	 */
 	public OWLObjectPropertyCharacteristicAxiom getAdHocRelationMathPropertiesFromTable(String tableFileName, String relationName) {
-		OWLDataFactory factory = this.getManager().getOWLDataFactory();
-		String fileLine = null;
 		try {
-			File fp = new File(this.getCfg().getFiles_Path() + "\\" + tableFileName);		
-			FileReader inputFile = new FileReader(fp);
-			LineNumberReader lnr = new LineNumberReader(inputFile);
-			int nameCol = -1, mathCol = -1;	
-			OWLObjectProperty objectProp = this.getOWLObjectPropertyFromName(relationName);
-			OWLObjectPropertyCharacteristicAxiom property = null;
-			while((fileLine = lnr.readLine())!=null) {
-				String[] parts = fileLine.split(CoreConfiguration.SEPARATOR);		
-				// Header
-				if ((lnr.getLineNumber() == 2)) {
-					// Infer column order (array indexes)
-					for (int i = 0; i < parts.length; i++) {
-						String part = parts[i];
-						if (StringUtils.containsIgnoreCase(part, "RELATION NAME")) 
-							nameCol = i;
-						else if (StringUtils.containsIgnoreCase(part, "MATHEMATIC PROPERTIES")) 
-							mathCol = i;
-					}
-				}			
-				// Data
-				else if (lnr.getLineNumber() > 2 && (nameCol != -1) && (mathCol != -1)) {
-					String currentRelation = parts[nameCol].trim();			
-					if (currentRelation.equals(relationName)) {
-						if (fileLine.contains(relationName)) {
-							String mathProperty = parts[mathCol].trim();				
-							switch (mathProperty.trim().toLowerCase()) {
-							case ("functional"):
-								property = factory.getOWLFunctionalObjectPropertyAxiom(objectProp);
-								break;
-								
-							case ("inverse functional"):
-								property = factory.getOWLInverseFunctionalObjectPropertyAxiom(objectProp);		
-								break;
-								
-							case ("inverse-functional"):
-								property = factory.getOWLInverseFunctionalObjectPropertyAxiom(objectProp);
-								break;
-								
-							case ("transitive"):
-								property = factory.getOWLTransitiveObjectPropertyAxiom(objectProp);	
-								break;
-								
-							case ("symmetrical"):
-								property = factory.getOWLSymmetricObjectPropertyAxiom(objectProp);
-								break;
-								
-							case ("symmetric"):
-								property = factory.getOWLSymmetricObjectPropertyAxiom(objectProp);						
-								break;
-						
-							case ("asymmetrical"):
-								property = factory.getOWLAsymmetricObjectPropertyAxiom(objectProp);
-								break;
-								
-							case ("asymmetric"):
-								property = factory.getOWLAsymmetricObjectPropertyAxiom(objectProp);
-								break;
-								
-							case ("reflexive"):
-								property = factory.getOWLReflexiveObjectPropertyAxiom(objectProp);						
-								break;
-								
-							case ("irreflexive"):
-								property = factory.getOWLIrreflexiveObjectPropertyAxiom(objectProp);
-								break;
-							}
-						}				
-					}
-				}			
-			}				
-			lnr.close();
-			return property;	
+			return new AdHocRelationTableCompiler(this, this.getTable(tableFileName)).getMathPropertiesAxiom(relationName);
 		} catch (FileNotFoundException e) {
 			e.printStackTrace();
 			return null;
@@ -1060,37 +605,9 @@ public class WebODEExtension extends Core {
 	 */
 	// INSTANCE TABLE -> CLASS AND ATTRIBUTE/RELATION ASSERTIONS	
 	public void addInstanceAssertionsFromTable(String tableFileName) {
-		String fileLine = null;
-		Set<String> instanceNames = new HashSet<String>();
 		try {
-			File fp = new File(this.getCfg().getFiles_Path() + "\\" + tableFileName);
-			FileReader inputFile = new FileReader(fp);
-			LineNumberReader lnr = new LineNumberReader(inputFile);
-			int nameCol = -1;
-			
-			while((fileLine = lnr.readLine())!=null) {
-				String[] parts = fileLine.split(CoreConfiguration.SEPARATOR);			
-				// Header
-				if (lnr.getLineNumber() == 2) {
-					// Infer column order (array indexes)
-					for (int i = 0; i < parts.length; i++) {
-						String part = parts[i];
-						if (StringUtils.containsIgnoreCase(part, "INSTANCE NAME")) 
-							nameCol = i;
-					}
-				}			
-				// Data
-				else if ((lnr.getLineNumber() > 2) && (nameCol != -1)) {
-					//Name
-					String name = parts[nameCol];
-					instanceNames.add(name);
-				}		
-			}	
-			lnr.close();		
-			for (String instanceName : instanceNames) {
-				this.getManager().addAxioms(this.getOntology(), getInstanceClassAssertionsFromTable(tableFileName, instanceName));
-				this.getManager().addAxioms(this.getOntology(), getInstanceAttributeAssertionsFromTable(tableFileName, instanceName));
-			}
+			InstanceTableLoader loader = new InstanceTableLoader(this);
+			loader.load(getTableFile(tableFileName));
 		} catch (FileNotFoundException e) {
 			e.printStackTrace();
 		} catch (IOException e) {
@@ -1106,40 +623,29 @@ public class WebODEExtension extends Core {
 	 * @return the instance class assertions set
 	 */
 	public HashSet<OWLAxiom> getInstanceClassAssertionsFromTable(String tableFileName, String instanceName) {
-		OWLDataFactory factory = this.getManager().getOWLDataFactory();
-		String fileLine = null;
 		HashSet<OWLAxiom> assertions = new HashSet<OWLAxiom>();	
 		try {
-			File fp = new File(this.getCfg().getFiles_Path() + "\\" + tableFileName);		
-			FileReader inputFile = new FileReader(fp);
-			LineNumberReader lnr = new LineNumberReader(inputFile);
+			SourceTable table = this.getTable(tableFileName);
 			int nameCol = -1, conceptCol = -1;		
-			OWLIndividual individual = this.getOWLIndividualFromName(instanceName);
 			
-			while((fileLine = lnr.readLine())!=null) {
-				String[] parts = fileLine.split(CoreConfiguration.SEPARATOR);			
-				// Header
-				if ((lnr.getLineNumber() == 2)) {
-					// Infer column order (array indexes)
-					for (int i = 0; i < parts.length; i++) {
-						String part = parts[i];
-						if (StringUtils.containsIgnoreCase(part, "INSTANCE NAME")) 
-							nameCol = i;
-						else if (StringUtils.containsIgnoreCase(part, "CONCEPT NAME")) 
-							conceptCol = i;
-					}
-				}				
-				// Data						
-				if (lnr.getLineNumber() > 2 && (nameCol != -1) && (conceptCol != -1)) {	
-					String currentInstance = parts[nameCol].trim();
-					if (currentInstance.equals(instanceName)) {
-						OWLClass instancedClass = getOWLClassFromName(parts[conceptCol]);						
-						OWLClassAssertionAxiom classAssertion = factory.getOWLClassAssertionAxiom(instancedClass, individual);
-						assertions.add(classAssertion);	
-					}
-				}			
-			}		
-			lnr.close();
+			// Header
+			List<String> header = table.getHeader();
+			// Infer column order (array indexes)
+			for (int i = 0; i < header.size(); i++) {
+				String part = header.get(i);
+				if (StringUtils.containsIgnoreCase(part, "INSTANCE NAME")) 
+					nameCol = i;
+				else if (StringUtils.containsIgnoreCase(part, "CONCEPT NAME")) 
+					conceptCol = i;
+			}
+			// Data						
+			if ((nameCol != -1) && (conceptCol != -1)) {	
+				for (TableRow row : table.getRows()) {
+					String currentInstance = row.getCell(nameCol).trim();
+					if (currentInstance.equals(instanceName))
+						assertions.add(getInstanceClassAssertion(instanceName, row.getCell(conceptCol)));
+				}
+			}
 			return assertions;
 		} catch (FileNotFoundException e) { 
 			e.printStackTrace();
@@ -1158,59 +664,36 @@ public class WebODEExtension extends Core {
 	 * @return the instance attribute assertions set
 	 */
 	public HashSet<OWLAxiom> getInstanceAttributeAssertionsFromTable(String tableFileName, String instanceName) {
-		OWLDataFactory factory = this.getManager().getOWLDataFactory();
-		String fileLine = null;
 		HashSet<OWLAxiom> assertions = new HashSet<OWLAxiom>();	
 		try {
-			File fp = new File(this.getCfg().getFiles_Path() + "\\" + tableFileName);		
-			FileReader inputFile = new FileReader(fp);
-			LineNumberReader lnr = new LineNumberReader(inputFile);
+			SourceTable table = this.getTable(tableFileName);
 			int nameCol = -1, attributeCol = -1, valueCol = -1;		
-			OWLIndividual individual = this.getOWLIndividualFromName(instanceName);
 			
-			while((fileLine = lnr.readLine())!=null) {
-				String[] parts = fileLine.split(CoreConfiguration.SEPARATOR);			
-				// Header
-				if ((lnr.getLineNumber() == 2)) {
-					// Infer column order (array indexes)
-					for (int i = 0; i < parts.length; i++) {
-						String part = parts[i];
-						if (StringUtils.containsIgnoreCase(part, "INSTANCE NAME")) 
-							nameCol = i;
-						else if (StringUtils.containsIgnoreCase(part, "ATTRIBUTE") ||
-								 StringUtils.containsIgnoreCase(part, "INSTANCED RELATION")) 
-							attributeCol = i;
-						else if (StringUtils.containsIgnoreCase(part, "VALUE") ||
-								 StringUtils.containsIgnoreCase(part, "TARGET INSTANCE")) 
-							valueCol = i;
-					}
-				}			
-				// Data						
-				if (lnr.getLineNumber() > 2 && (nameCol != -1) && (attributeCol != -1) && (valueCol != -1)) {	
-					String currentInstance = parts[nameCol].trim();
+			// Header
+			List<String> header = table.getHeader();
+			// Infer column order (array indexes)
+			for (int i = 0; i < header.size(); i++) {
+				String part = header.get(i);
+				if (StringUtils.containsIgnoreCase(part, "INSTANCE NAME")) 
+					nameCol = i;
+				else if (StringUtils.containsIgnoreCase(part, "ATTRIBUTE") ||
+						 StringUtils.containsIgnoreCase(part, "INSTANCED RELATION")) 
+					attributeCol = i;
+				else if (StringUtils.containsIgnoreCase(part, "VALUE") ||
+						 StringUtils.containsIgnoreCase(part, "TARGET INSTANCE")) 
+					valueCol = i;
+			}
+			// Data						
+			if ((nameCol != -1) && (attributeCol != -1) && (valueCol != -1)) {	
+				for (TableRow row : table.getRows()) {
+					String currentInstance = row.getCell(nameCol).trim();
 					if (currentInstance.equals(instanceName)) {
-						String attribute = parts[attributeCol].trim();
-						String value = parts[valueCol].trim();				
-						if(value.compareTo(CoreConfiguration.NOTHING) != 0) {
-							//ObjectProperty
-							if(Character.isUpperCase(attribute.charAt(0))) {
-								OWLObjectProperty objectProp = this.getOWLObjectPropertyFromName(attribute); 
-								OWLNamedIndividual propertyValue = factory.getOWLNamedIndividual(":"+value.replaceAll(" ", ""), this.getPm());
-								OWLObjectPropertyAssertionAxiom propertyAssertion = factory.getOWLObjectPropertyAssertionAxiom(objectProp, individual, propertyValue); 
-								assertions.add(propertyAssertion);
-							}
-							//DataProperty
-							else {
-								OWLDataProperty dataProperty = this.getOWLDataPropertyFromName(attribute);					
-								OWLLiteral propertyValue = factory.getOWLLiteral(Boolean.getBoolean(value));
-								OWLDataPropertyAssertionAxiom propertyAssertion = factory.getOWLDataPropertyAssertionAxiom(dataProperty, individual, propertyValue); 
-								assertions.add(propertyAssertion);
-							}		
-						}
+						OWLAxiom propertyAssertion = getInstanceAttributeAssertion(instanceName, row.getCell(attributeCol).trim(), row.getCell(valueCol).trim());
+						if (propertyAssertion != null)
+							assertions.add(propertyAssertion);
 					}
-				}			
-			}			
-			lnr.close();
+				}
+			}
 			return assertions;
 		} catch (FileNotFoundException e) { 
 			e.printStackTrace();
@@ -1221,37 +704,81 @@ public class WebODEExtension extends Core {
 		}				
 	}	
 	
+	/**
+	 * Gets the class assertion for a single instance table row.
+	 *
+	 * @param instanceName, the instance name
+	 * @param conceptName, the instanced concept name
+	 * @return the instance class assertion
+	 */
+	public OWLClassAssertionAxiom getInstanceClassAssertion(String instanceName, String conceptName) {
+		OWLDataFactory factory = this.getManager().getOWLDataFactory();
+		OWLIndividual individual = this.getOWLIndividualFromName(instanceName);
+		OWLClass instancedClass = getOWLClassFromName(conceptName);						
+		return factory.getOWLClassAssertionAxiom(instancedClass, individual);
+	}
+	
+	/**
+	 * Gets the attribute (Data Property) or relation (Object Property) assertion for a single instance table row.
+	 * Attributes starting with upper case are instanced relations.
+	 *
+	 * @param instanceName, the instance name
+	 * @param attribute, the attribute or instanced relation name
+	 * @param value, the value or target instance
+	 * @return the property assertion, or null if there is no value
+	 */
+	public OWLAxiom getInstanceAttributeAssertion(String instanceName, String attribute, String value) {
+		OWLDataFactory factory = this.getManager().getOWLDataFactory();
+		if (value.compareTo(CoreConfiguration.NOTHING) == 0)
+			return null;
+		
+		OWLIndividual individual = this.getOWLIndividualFromName(instanceName);
+		//ObjectProperty
+		if (Character.isUpperCase(attribute.charAt(0))) {
+			OWLObjectProperty objectProp = this.getOWLObjectPropertyFromName(attribute); 
+			OWLNamedIndividual propertyValue = factory.getOWLNamedIndividual(":"+value.replaceAll(" ", ""), this.getPm());
+			OWLObjectPropertyAssertionAxiom propertyAssertion = factory.getOWLObjectPropertyAssertionAxiom(objectProp, individual, propertyValue); 
+			return propertyAssertion;
+		}
+		//DataProperty
+		else {
+			OWLDataProperty dataProperty = this.getOWLDataPropertyFromName(attribute);					
+			OWLLiteral propertyValue = factory.getOWLLiteral(Boolean.getBoolean(value));
+			OWLDataPropertyAssertionAxiom propertyAssertion = factory.getOWLDataPropertyAssertionAxiom(dataProperty, individual, propertyValue); 
+			return propertyAssertion;
+		}		
+	}	
+	
 
 	// TAXONOMY
 	// SubclassOf	
 	/**
-	 * Gets the Subclass-Of axioms from a single line of the formatted text file as input.
+	 * Gets the Subclass-Of axioms from the cell views of a single row of the formatted text file.
 	 *
-	 * @param fileLine, a single file line from the source file
+	 * @param cells, the cell views of the row
 	 * @return The Subclass-Of axioms set
 	 */	
-	//@Override
-	public Set<OWLAxiom> getSubClassOfAxiomsFromLine(String fileLine) {
+	@Override
+	public Set<OWLAxiom> getSubClassOfAxiomsFromCells(List<CharSequence> cells) {
 		OWLDataFactory factory = this.getManager().getOWLDataFactory();
 		Set<OWLAxiom> axiomSet = new HashSet<OWLAxiom>();
-		String[] parts = fileLine.split(CoreConfiguration.SEPARATOR);
 		int specializationCol = 0, generalizationCol = 1;
-		String specialization = parts[specializationCol], generalization = parts[generalizationCol];
+		CharSequence specializationCell = cells.get(specializationCol), generalizationCell = cells.get(generalizationCol);
 
 		// If there is some detail in brackets with the name
-		Pattern pattern = Pattern.compile("([\\s*\\w+\\-\\/]+)\\(([\\w+\\,\\-\\/\\s*]+)\\)");				
-		Matcher matcherGeneralization = pattern.matcher(generalization.trim());
-		Matcher matcherSpecialization = pattern.matcher(specialization.trim());	
-		if (matcherGeneralization.matches()) {
-			generalization = matcherGeneralization.group(1).trim();
-			String detail = matcherGeneralization.group(2).trim();		
+		CellToken tokenGeneralization = CellParser.parse(generalizationCell);
+		CellToken tokenSpecialization = CellParser.parse(specializationCell);
+		String specialization = specializationCell.toString(), generalization = generalizationCell.toString();
+		if (tokenGeneralization.is(CellToken.Type.SYNONYMS)) {
+			generalization = tokenGeneralization.getName();
+			String detail = tokenGeneralization.getDetail();		
 			// Special case: Not synonyms
 			if (detail.equalsIgnoreCase("Open") || detail.equalsIgnoreCase("Close")) 
 				generalization = generalization + "_" + detail;
 		}			
-		if (matcherSpecialization.matches()) {
-			specialization = matcherSpecialization.group(1).trim();
-			String detail = matcherSpecialization.group(2).trim();	
+		if (tokenSpecialization.is(CellToken.Type.SYNONYMS)) {
+			specialization = tokenSpecialization.getName();
+			String detail = tokenSpecialization.getDetail();	
 			// Special case: Not synonyms
 			if (detail.equals("Open") || detail.equals("Close")) 
 				specialization = specialization + "_" + detail;
@@ -1272,178 +799,44 @@ public class WebODEExtension extends Core {
 		return axiomSet;
 	}	
 
-	// Disjoint Decompositions
+	// Decompositions
 	/**
-	 * Adds the Class Disjoint-Decompositions from table file to the ontology.
+	 * Gets the line handler that adds the decompositions of a WebODE table to the processor: each decomposition is
+	 * identified by its group and target.
 	 *
-	 * @param tableFileName, the Disjoint-Decompositions table file name
+	 * @param processor, the decomposition processor
+	 * @return the Disjoint or Exhaustive Decompositions table line handler
 	 * @see http://www.w3.org/TR/owl-ref/#disjointWith-def
-	 */ 
+	 */
 	@Override
-	public void addDisjointDecompositionsFromTable(String tableFileName) {
-		OWLDataFactory factory = this.getManager().getOWLDataFactory();
-		String fileLine = null;
-		Set<OWLClass> components = new HashSet<OWLClass>();
-		try {
-			File fp = new File(this.getCfg().getFiles_Path() + "\\" + tableFileName);
-			FileReader inputFile = new FileReader(fp);
-			LineNumberReader lnr = new LineNumberReader(inputFile);
-			int groupCol = -1, componentsCol = -1, targetCol = -1;	
-			String group = null, target = null; 	
-			String groupRef = null, targetRef = null;
-			boolean firstRef = true;
-			
-			while((fileLine = lnr.readLine()) != null) {
-				String[] parts = fileLine.split(CoreConfiguration.SEPARATOR);		
+	protected TableReader.LineHandler getDecompositionsHandler(final DecompositionProcessor processor) {
+		return new TableReader.LineHandler() {
+			/** The column indexes. */
+			private int groupCol = -1, componentsCol = -1, targetCol = -1;
+
+			@Override
+			public void line(int lineNumber, CharSequence line) {
 				// Header
-				if (lnr.getLineNumber() == 2) {
+				if (lineNumber == SourceTable.HEADER_LINE) {
+					List<CharSequence> header = TableReader.split(line, CoreConfiguration.SEPARATOR);
 					// Infer column order (array indexes)
-					for (int i = 0; i < parts.length; i++) {
-						if (StringUtils.containsIgnoreCase(parts[i], "GROUP COMPONENTS"))
+					for (int i = 0; i < header.size(); i++) {
+						if (StringUtils.containsIgnoreCase(header.get(i), "GROUP COMPONENTS"))
 							componentsCol = i;
-						else if (StringUtils.containsIgnoreCase(parts[i], "GROUP"))
+						else if (StringUtils.containsIgnoreCase(header.get(i), "GROUP"))
 							groupCol = i;
-						else if (StringUtils.containsIgnoreCase(parts[i], "TARGET"))
-							targetCol = i;					
-					}
-				}		
-				// Data	
-				if ((lnr.getLineNumber() > 2) && (groupCol != -1) && (componentsCol != -1) && (targetCol != -1)) {			
-					parts = fileLine.split(CoreConfiguration.SEPARATOR); 
-					group = parts[groupCol];
-					String disjointComponent = parts[componentsCol];
-					target = parts[targetCol];				
-					if (firstRef) {
-						groupRef = group; 
-						targetRef = target;
-						firstRef = false;
-					}			
-					// Same group
-					if ((group.compareTo(groupRef) == 0) && (target.compareTo(targetRef) == 0)) {
-						OWLClass disjointClass = this.getOWLClassFromName(disjointComponent);
-						components.add(disjointClass);
+						else if (StringUtils.containsIgnoreCase(header.get(i), "TARGET"))
+							targetCol = i;
 					}
-					// Different group
-					else{
-						OWLDisjointClassesAxiom disjointAxiom = factory.getOWLDisjointClassesAxiom(components);
-						this.getManager().applyChange(new AddAxiom(this.getOntology(), disjointAxiom));						
-						OWLObjectUnionOf unionOf = factory.getOWLObjectUnionOf(components);
-						OWLClass targetClass = getOWLClassFromName(targetRef);
-						OWLEquivalentClassesAxiom equivalentClasses = factory.getOWLEquivalentClassesAxiom(targetClass, unionOf);
-						this.getManager().applyChange(new AddAxiom(this.getOntology(), equivalentClasses));
-		
-						// SubclassOf
-						for (OWLClass component : components) {
-							OWLSubClassOfAxiom subClassOf = factory.getOWLSubClassOfAxiom(component, targetClass);
-							this.getManager().applyChange(new AddAxiom(this.getOntology(), subClassOf));
-						}							
-						components.clear();			
-						groupRef = group; 
-						targetRef = target;					
-						OWLClass disjointClass = this.getOWLClassFromName(disjointComponent);
-						components.add(disjointClass);
-					}	
+				}
+				// Data
+				else if ((lineNumber > SourceTable.HEADER_LINE) && (groupCol != -1) && (componentsCol != -1) && (targetCol != -1)) {
+					TableRow row = new TableRow(lineNumber, line);
+					processor.add(row.getCell(groupCol), row.getCell(targetCol), row.getCell(componentsCol));
 				}
 			}
-			lnr.close();
-			
-			// Ultima line del fichero de entrada
-			OWLDisjointClassesAxiom disjointAxiom = factory.getOWLDisjointClassesAxiom(components);
-			this.getManager().applyChange(new AddAxiom(this.getOntology(), disjointAxiom));		
-			OWLObjectUnionOf unionOf = factory.getOWLObjectUnionOf(components);
-			OWLClass targetClass = this.getOWLClassFromName(target);
-			OWLEquivalentClassesAxiom equivalentClasses = factory.getOWLEquivalentClassesAxiom(targetClass, unionOf);
-			this.getManager().applyChange(new AddAxiom(this.getOntology(), equivalentClasses));
-
-			// SubclassOf					
-			for (OWLClass component : components) {
-				OWLSubClassOfAxiom subClassOf = factory.getOWLSubClassOfAxiom(component, targetClass);
-				this.getManager().applyChange(new AddAxiom(this.getOntology(), subClassOf));
-			}
-			components.clear();
-		} catch (FileNotFoundException e) {
-			e.printStackTrace();
-		} catch (IOException e) {
-			e.printStackTrace();
-		}
+		};
 	}
-
-	// Exhaustive Decompositions
-	/**
-	 * Adds the Class Exhaustive-Decompositions from table file to the ontology.
-	 *
-	 * @param tableFileName, the Exhaustive-Decompositions table file name
-	 */
-	@Override
-	public void addExhaustiveDecompositionsFromTable(String tableFileName) {
-		OWLDataFactory factory = this.getManager().getOWLDataFactory();
-		String fileLine = null;
-		Set<OWLClass> components = new HashSet<OWLClass>();
-		try {
-			File fp = new File(this.getCfg().getFiles_Path() + "\\" + tableFileName);
-			FileReader inputFile = new FileReader(fp);
-			LineNumberReader lnr = new LineNumberReader(inputFile);
-			int groupCol = -1, componentsCol = -1, targetCol = -1;	
-			String group = null, target = null, component = null; 	
-			String groupRef = null, targetRef = null;
-			OWLClass targetClass = null, unionClass = null;
-			boolean firstRef = true;
-			
-			while((fileLine = lnr.readLine()) != null) {
-				String[] parts = fileLine.split(CoreConfiguration.SEPARATOR);		
-				// Header
-				if (lnr.getLineNumber() == 2) {
-					// Infer column order (array indexes)
-					for (int i = 0; i < parts.length; i++) {
-						if (StringUtils.containsIgnoreCase(parts[i], "GROUP COMPONENTS"))
-							componentsCol = i;
-						else if (StringUtils.containsIgnoreCase(parts[i], "GROUP"))
-							groupCol = i;
-						else if (StringUtils.containsIgnoreCase(parts[i], "TARGET"))
-							targetCol = i;					
-					}
-				}		
-				// Data	
-				if ((lnr.getLineNumber() > 2) && (groupCol != -1) && (componentsCol != -1) && (targetCol != -1)) {	
-					group = parts[groupCol];
-					component = parts[componentsCol];
-					target = parts[targetCol];		
-					if (firstRef) {
-						groupRef = group; 
-						targetRef = target;
-						firstRef = false;
-						targetClass = getOWLClassFromName(target);
-					}		
-					// Same group
-					if ((group.compareTo(groupRef) == 0) && (target.compareTo(targetRef) == 0)) {
-						unionClass = this.getOWLClassFromName(component);
-						components.add(unionClass);
-					}
-					// Different group
-					else{
-						///owl:equivalentClass(owl:unionOf)
-						OWLObjectUnionOf unionOf = factory.getOWLObjectUnionOf(components);
-						OWLEquivalentClassesAxiom equivalentClasses = factory.getOWLEquivalentClassesAxiom(targetClass, unionOf);
-						this.getManager().applyChange(new AddAxiom(this.getOntology(), equivalentClasses));
-						components.clear();			
-						groupRef = group; 
-						targetRef = target;
-						targetClass = this.getOWLClassFromName(target);
-						unionClass = this.getOWLClassFromName(component);
-						components.add(unionClass);
-					}	
-				}
-			}	
-			lnr.close();		
-			OWLObjectUnionOf unionOf = factory.getOWLObjectUnionOf(components);
-			OWLEquivalentClassesAxiom equivalentClasses = factory.getOWLEquivalentClassesAxiom(targetClass, unionOf);
-			this.getManager().applyChange(new AddAxiom(this.getOntology(), equivalentClasses));		
-		} catch (FileNotFoundException e) {
-			e.printStackTrace();
-		} catch (IOException e) {
-			e.printStackTrace();
-		}
-	}	
 	
 	// Taxonomy (Part-Of)
 	// Use Core.getPartOfAxiomsFromTable(String tableFileName)
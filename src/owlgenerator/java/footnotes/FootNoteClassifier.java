@@ -0,0 +1,208 @@
+/*
+ * The Class FootNoteClassifier, classifier of the footnotes by type.
+ */
+package owlgenerator.java.footnotes;
+
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.regex.Pattern;
+
+import org.apache.commons.lang3.StringUtils;
+import org.apache.commons.validator.routines.UrlValidator;
+
+import owlgenerator.java.footnotes.FootNoteStore.FootNote;
+
+/**
+ * The Class FootNoteClassifier, classifies the footnotes of a footnote store by type (Subclass-Of, seeAlso,
+ * comment, alsoReferred, takesValue), in parallel, into concurrent per-type buckets of footnote lines, and keeps the
+ * count and the classification time of each type. The rules are compiled once: as they are checked in priority
+ * order, each note is matched against the patterns of its candidate types only.
+ * The footnotes referencing sections of the source document are excluded (useless outside the document).
+ *
+ * @author Oscar Mateos Lopez
+ * @version: 20161103
+ */
+public class FootNoteClassifier {
+
+	/** The Constant SUBCLASS_OF value, footnote type. */
+	public static final String SUBCLASS_OF = "Subclass-Of";
+
+	/** The Constant SEE_ALSO value, footnote type. */
+	public static final String SEE_ALSO = "seeAlso";
+
+	/** The Constant COMMENT value, footnote type. */
+	public static final String COMMENT = "comment";
+
+	/** The Constant ALSO_REFERRED value, footnote type. */
+	public static final String ALSO_REFERRED = "alsoReferred";
+
+	/** The Constant TAKES_VALUE value, footnote type. */
+	public static final String TAKES_VALUE = "takesValue";
+
+	/** The Constant EXCLUDED value, the statistics key of the excluded footnotes. */
+	public static final String EXCLUDED = "excluded";
+
+	/** The section reference pattern. */
+	private static final Pattern SECTION_REFERENCE = Pattern.compile("[Ss]ection\\s(?:\\d\\.*)+");
+
+	/** The Subclass-Of mention pattern. */
+	private static final Pattern SUBCLASS_OF_MENTION = Pattern.compile("[Ss]ubclass-?[Oo]f");
+
+	/** The Subclass-Of footnote pattern. */
+	private static final Pattern VALID_SUBCLASS_OF = Pattern.compile(
+			"([\\s*\\w+\\-\\/]+)((?:is\\s+|are\\s+)(?:also\\s+)?a?\\s*Subclass-Of\\s+)([\\s*\\w+\\-\\/]+)");
+
+	/** The takes value footnote pattern, also used to extract its rule. */
+	static final Pattern VALID_TAKES_VALUE = Pattern.compile(
+			"([\\w\\s\\-\\/]+)(\\s+takes\\s+the\\s+value\\s+)([\\w\\s\\-\\/]+)\\s+for\\s+([\\w\\s\\-\\/]+(?:,[\\w\\s\\-\\/]*)*)\\s*.*");
+
+	/** The previous/next footnote reference pattern. */
+	static final Pattern FOOTNOTE_REFERENCE = Pattern.compile("([Pp]revious|[Nn]ext)\\s+[Ff]ootnote");
+
+	/** The also referred footnote entities pattern. */
+	static final Pattern ALSO_REFERRED_ENTITIES = Pattern.compile(
+			"(?:[Aa]lso\\s+referred\\s+to\\s+as|[Aa]lso\\s+known\\s+as)((?:\\s+|\\w+|\\-*)+)(?:(\\s*\\(\\s*or\\s*\\w+\\-*\\)))?((?:\\s+\\w+\\-*)+)?");
+
+	/** The also referred footnote OR composition pattern ("(or X)"). */
+	static final Pattern OR_COMPOSITION = Pattern.compile("\\(\\s*or\\s+(\\w+\\-*\\s*)+\\)");
+
+	/** The white space pattern. */
+	private static final Pattern WHITE_SPACE = Pattern.compile("\\s+");
+
+	/** The footnote lines by type. */
+	private final Map<String, Set<String>> buckets = new ConcurrentHashMap<String, Set<String>>();
+
+	/** The number of classified notes by type. */
+	private final Map<String, LongAdder> counts = new ConcurrentHashMap<String, LongAdder>();
+
+	/** The classification time (nanoseconds) by type. */
+	private final Map<String, LongAdder> timings = new ConcurrentHashMap<String, LongAdder>();
+
+	// MAIN METHODS
+	/**
+	 * Gets the foot note type for a given foot note text.
+	 *
+	 * @param footNote, the foot note text
+	 * @return the foot note type, or null if it is excluded
+	 */
+	public static String getType(String footNote) {
+		// Exclude FootNotes that references sections of the source document,
+		// are useless outside the document
+		if (SECTION_REFERENCE.matcher(footNote).find())
+			return null;
+
+		// Type Subclass-Of : Contains "is" + ["also"] + "Subclass-Of"
+		if (SUBCLASS_OF_MENTION.matcher(footNote).find())
+			return VALID_SUBCLASS_OF.matcher(footNote).find() ? SUBCLASS_OF : null;
+
+		// SPECIAL: Also referred to as... [synonyms + seeAlso]
+		if (StringUtils.containsIgnoreCase(footNote, "also referred to as")
+				|| StringUtils.containsIgnoreCase(footNote, "also known as"))
+			return ALSO_REFERRED;
+
+		// SPECIAL: takesValue [Rules]
+		if (StringUtils.containsIgnoreCase(footNote, "takes the value"))
+			return VALID_TAKES_VALUE.matcher(footNote).matches() ? TAKES_VALUE : COMMENT;
+
+		// Type rdfs:seeAlso : Contains "See" + URL
+		String[] tokens = WHITE_SPACE.split(footNote);
+		boolean see = false;
+		for (String token : tokens)
+			if (token.equals("See") || token.equals("see")) {
+				see = true;
+				break;
+			}
+		if (see) {
+			// SPECIAL: Note that references another
+			if (FOOTNOTE_REFERENCE.matcher(footNote).find())
+				return SEE_ALSO;
+			// Detect if contains an URL
+			UrlValidator urlValidator = UrlValidator.getInstance();
+			for (String token : tokens)
+				if (urlValidator.isValid(token))
+					return SEE_ALSO;
+		}
+		// Type rdfs:comment (others containing literal "see" too)
+		return COMMENT;
+	}
+
+	/**
+	 * Classifies the notes (and inner notes) of a footnote store, in parallel.
+	 *
+	 * @param store, the footnote store
+	 */
+	public void classify(FootNoteStore store) {
+		store.getFootNotes().parallelStream().forEach(footNote -> {
+			for (String subNote : footNote.getSubNotes())
+				classify(footNote, subNote);
+		});
+	}
+
+	/**
+	 * Classifies a note of a footnote.
+	 *
+	 * @param footNote, the footnote
+	 * @param subNote, the note (the footnote text or one of its inner notes)
+	 */
+	private void classify(FootNote footNote, String subNote) {
+		long start = System.nanoTime();
+		String type = getType(subNote);
+		if (type != null)
+			buckets.computeIfAbsent(type, t -> ConcurrentHashMap.newKeySet()).add(footNote.getSubNoteLine(subNote));
+		String key = (type != null) ? type : EXCLUDED;
+		counts.computeIfAbsent(key, t -> new LongAdder()).increment();
+		timings.computeIfAbsent(key, t -> new LongAdder()).add(System.nanoTime() - start);
+	}
+
+	// GETTERS
+	/**
+	 * Gets the footnote lines of a type.
+	 *
+	 * @param type, the footnote type
+	 * @return the footnote lines (a concurrent set)
+	 */
+	public Set<String> getFootNotes(String type) {
+		return buckets.computeIfAbsent(type, t -> ConcurrentHashMap.newKeySet());
+	}
+
+	/**
+	 * Gets the number of classified notes by type (including the excluded ones).
+	 *
+	 * @return the counts
+	 */
+	public Map<String, Long> getCounts() {
+		Map<String, Long> result = new LinkedHashMap<String, Long>();
+		for (Map.Entry<String, LongAdder> count : counts.entrySet())
+			result.put(count.getKey(), count.getValue().sum());
+		return Collections.unmodifiableMap(result);
+	}
+
+	/**
+	 * Gets the classification time by type, in milliseconds (summed over the classification threads).
+	 *
+	 * @return the timings
+	 */
+	public Map<String, Double> getTimings() {
+		Map<String, Double> result = new LinkedHashMap<String, Double>();
+		for (Map.Entry<String, LongAdder> timing : timings.entrySet())
+			result.put(timing.getKey(), timing.getValue().sum() / 1e6);
+		return Collections.unmodifiableMap(result);
+	}
+
+	@Override
+	public String toString() {
+		StringBuilder sb = new StringBuilder("FootNoteClassifier [");
+		Map<String, Double> times = getTimings();
+		for (Map.Entry<String, Long> count : getCounts().entrySet()) {
+			if (sb.length() > "FootNoteClassifier [".length())
+				sb.append(", ");
+			sb.append(count.getKey()).append('=').append(count.getValue())
+					.append(String.format(" (%.2f ms)", times.get(count.getKey())));
+		}
+		return sb.append(']').toString();
+	}
+}
@@ -0,0 +1,206 @@
+/*
+ * The Class FootNoteStore, index of the footnotes of a footnotes table file.
+ */
+package owlgenerator.java.footnotes;
+
+import java.io.File;
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+import org.apache.commons.lang3.StringUtils;
+
+import owlgenerator.java.core.CoreConfiguration;
+import owlgenerator.java.core.table.SourceTable;
+import owlgenerator.java.core.table.TableRow;
+
+/**
+ * The Class FootNoteStore, reads a footnotes table file once, as a SourceTable ("index~~process~~reference~~text"
+ * rows after the title and the header), and indexes its footnotes by number, so the classification, the see-also
+ * resolution and the "previous/next footnote" cross-references don't read the file again.
+ *
+ * @author Oscar Mateos Lopez
+ * @version: 20161103
+ */
+public class FootNoteStore {
+
+	/** The Constant FN_INDEX value. */
+	// FootNote Constants
+	private static final int FN_INDEX = 0;
+
+	/** The Constant FN_PROCCESS value. */
+	private static final int FN_PROCCESS = 1;
+
+	/** The Constant FN_REF value. */
+	private static final int FN_REF = 2;
+
+	/** The Constant FN_TEXT value. */
+	private static final int FN_TEXT = 3;
+
+	/**
+	 * The Class FootNote, a footnote entry of the table.
+	 */
+	public static class FootNote {
+
+		/** The table line. */
+		private final String line;
+
+		/** The line fields. */
+		private final String[] parts;
+
+		/** The inner (%-split) notes of the text, or the text itself. */
+		private final List<String> subNotes;
+
+		/**
+		 * Instantiates a new footnote.
+		 *
+		 * @param line, the table line
+		 * @param parts, the line fields
+		 */
+		private FootNote(String line, String[] parts) {
+			this.line = line;
+			this.parts = parts;
+			String text = parts[FN_TEXT];
+			if (text.contains(CoreConfiguration.INNER_SEPARATOR))
+				this.subNotes = Collections.unmodifiableList(Arrays.asList(text.split(CoreConfiguration.INNER_SEPARATOR)));
+			else
+				this.subNotes = Collections.singletonList(text);
+		}
+
+		// GETTERS
+		/**
+		 * Gets the table line.
+		 *
+		 * @return the table line
+		 */
+		public String getLine() {
+			return line;
+		}
+
+		/**
+		 * Gets the footnote number.
+		 *
+		 * @return the footnote number
+		 */
+		public String getIndex() {
+			return parts[FN_INDEX];
+		}
+
+		/**
+		 * Checks if the reference needs processing (it wasn't extracted from a table).
+		 *
+		 * @return true, if the reference needs processing
+		 */
+		public boolean isProcess() {
+			return Boolean.parseBoolean(parts[FN_PROCCESS]);
+		}
+
+		/**
+		 * Gets the reference.
+		 *
+		 * @return the reference
+		 */
+		public String getReference() {
+			return parts[FN_REF];
+		}
+
+		/**
+		 * Gets the footnote text.
+		 *
+		 * @return the footnote text
+		 */
+		public String getText() {
+			return parts[FN_TEXT];
+		}
+
+		/**
+		 * Gets the inner (%-split) notes of the text, or the text itself if it has none.
+		 *
+		 * @return the sub-notes texts
+		 */
+		public List<String> getSubNotes() {
+			return subNotes;
+		}
+
+		/**
+		 * Gets the line of an inner note: the footnote line with the sub-note as its text.
+		 *
+		 * @param subNote, the sub-note text
+		 * @return the sub-note line
+		 */
+		public String getSubNoteLine(String subNote) {
+			if (!getText().contains(CoreConfiguration.INNER_SEPARATOR))
+				return line;
+			return StringUtils.substringBefore(line, getText()) + subNote;
+		}
+	}
+
+	/** The footnotes, in table order. */
+	private final List<FootNote> footNotes = new ArrayList<FootNote>();
+
+	/** The footnotes by number. */
+	private final Map<String, FootNote> index = new HashMap<String, FootNote>();
+
+	/**
+	 * Instantiates a new footnote store.
+	 */
+	private FootNoteStore() {
+	}
+
+	// BUILDER
+	/**
+	 * Reads and indexes a footnotes table file.
+	 *
+	 * @param file, the footnotes table file
+	 * @return the footnote store
+	 * @throws IOException, if the file cannot be read
+	 */
+	public static FootNoteStore load(File file) throws IOException {
+		FootNoteStore store = new FootNoteStore();
+		SourceTable table = SourceTable.load(file);
+		// Data
+		for (TableRow row : table.getRows()) {
+			if (row.getCellCount() <= FN_TEXT)
+				continue;
+			FootNote footNote = new FootNote(row.getLine(), row.getCells());
+			store.footNotes.add(footNote);
+			// For a repeated number, the last footnote is kept
+			store.index.put(footNote.getIndex(), footNote);
+		}
+		return store;
+	}
+
+	// MAIN METHODS
+	/**
+	 * Gets the nth footnote.
+	 *
+	 * @param number, the footnote number
+	 * @return the footnote, or null if there is none
+	 */
+	public FootNote get(int number) {
+		return index.get(Integer.toString(number));
+	}
+
+	// GETTERS
+	/**
+	 * Gets the footnotes, in table order.
+	 *
+	 * @return the footnotes
+	 */
+	public List<FootNote> getFootNotes() {
+		return Collections.unmodifiableList(footNotes);
+	}
+
+	/**
+	 * Gets the number of footnotes.
+	 *
+	 * @return the number of footnotes
+	 */
+	public int size() {
+		return footNotes.size();
+	}
+}
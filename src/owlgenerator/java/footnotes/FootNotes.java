@@ -3,31 +3,22 @@
  */
 package owlgenerator.java.footnotes;
 
-import java.io.BufferedWriter;
-import java.io.File;
 import java.io.FileNotFoundException;
-import java.io.FileOutputStream;
-import java.io.FileReader;
 import java.io.IOException;
-import java.io.LineNumberReader;
-import java.io.OutputStreamWriter;
-import java.io.UnsupportedEncodingException;
-import java.io.Writer;
 import java.util.ArrayList;
-import java.util.Arrays;
-import java.util.Collections;
+import java.util.Collection;
+import java.util.HashMap;
 import java.util.HashSet;
 import java.util.Iterator;
 import java.util.List;
 import java.util.Locale;
-import java.util.Properties;
+import java.util.Map;
 import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
 import java.util.regex.Matcher;
-import java.util.regex.Pattern;
 
 import org.apache.commons.lang3.StringUtils;
 import org.apache.commons.lang3.text.WordUtils;
-import org.apache.commons.validator.routines.UrlValidator;
 import org.semanticweb.owlapi.model.IRI;
 import org.semanticweb.owlapi.model.OWLAnnotation;
 import org.semanticweb.owlapi.model.OWLAnnotationAssertionAxiom;
@@ -37,7 +28,6 @@ import org.semanticweb.owlapi.model.OWLDataFactory;
 import org.semanticweb.owlapi.model.OWLDataOneOf;
 import org.semanticweb.owlapi.model.OWLDataProperty;
 import org.semanticweb.owlapi.model.OWLEntity;
-import org.semanticweb.owlapi.model.OWLEquivalentClassesAxiom;
 import org.semanticweb.owlapi.model.OWLLiteral;
 import org.semanticweb.owlapi.model.OWLRestriction;
 import org.semanticweb.owlapi.model.OWLSubClassOfAxiom;
@@ -53,7 +43,10 @@ import edu.stanford.nlp.util.CoreMap;
 import edu.stanford.nlp.util.Pair;
 import owlgenerator.java.core.Core;
 import owlgenerator.java.core.CoreConfiguration;
-import owlgenerator.java.merger.OntologyData;
+import owlgenerator.java.core.table.CellParser;
+import owlgenerator.java.core.table.CellToken;
+import owlgenerator.java.merger.LabelIndex;
+import owlgenerator.java.merger.SynonymIndex;
 
 /**
  * The Class FootNotes, main methods to process footnotes table files
@@ -77,8 +70,33 @@ public class FootNotes {
 	private static final int FN_TEXT = 3;
 
 	/** The StanfordCoreNLP nlp instance. */
-	// Global to save initialization time on the same task
+	// Global to save initialization time on the same task, shared with the other instances (see NLPPipelines)
 	private StanfordCoreNLP nlp = null;
+
+	/** The in-memory RegexNER mapping of the ontology classes, shared with the other instances (see RegexNERMapping). */
+	private RegexNERMapping regexNER = null;
+
+	/** The label matching mode: the ontology classes are found by their labels, without the statistical NER. */
+	private boolean labelMatching = false;
+
+	/** The ontology class labels matcher (label matching mode). */
+	private LabelMatcher labelMatcher = null;
+
+	/** The class labels the label matcher was built from. */
+	private Set<String> labelMatcherLabels = null;
+
+	/** The footnotes classifier of the last classified table. */
+	private FootNoteClassifier classifier = null;
+
+	/** The footnote stores by footnotes table file name, each table is read once. */
+	private Map<String, FootNoteStore> footNoteStores = new HashMap<String, FootNoteStore>();
+
+	/** The cache of the ontology entities extracted from the footnotes texts. */
+	private NamedEntityCache neCache = new NamedEntityCache();
+
+	/** The number of threads used to annotate the footnotes texts. */
+	private int annotationThreads = Runtime.getRuntime().availableProcessors();
+
 	
 	/** The Subclass-Of Footnotes set. */
 	private Set<String> subclassOfFNs = new HashSet<String>();
@@ -95,71 +113,97 @@ public class FootNotes {
 	/** The takes value (rules) Footnotes set. */
 	private Set<String> takesValueFNs = new HashSet<String>();
 
-	// BUILDER
+	// GETTERS & SETTERS
 	/**
-	 * Builds the StanfordCoreNLP object, with POS tagging, lemmatization and NER.
+	 * Checks if the label matching mode is selected.
 	 *
-	 * @param generator, the Core OWL generator instance
+	 * @return true, if the ontology classes are found by their labels
 	 */
-	// parsing, using regexNER file
-	private void buildNLP(Core generator) {
-		// If regexNER file doesn't exists, is created
-		String fileName = "src\\owlgenerator\\resources\\" + generator.getCfg().getOntology_Name() + " - "
-				+ generator.getCfg().getOntology_Version() + ".rgx";
-		File regexNER = new File(fileName);
-		if (!regexNER.exists())
-			this.addRegexNER(generator);
+	public boolean isLabelMatching() {
+		return labelMatching;
+	}
 
-		// Configuration
-		Properties props = new Properties();
-		props.put("annotators", "tokenize, ssplit, pos, lemma, ner, regexner");
-		// props.put("ner.model",
-		// "src\\resources\\english.all.3class.distsim.crf.ser.gz");
-		// props.put("ner.model", "english.muc.7class.distsim.crf.ser.gz");
-		// props.put("ner.model", "english.conll.4class.distsim.crf.ser.gz");
-		props.put("regexner.mapping", fileName);
-		nlp = new StanfordCoreNLP(props);
+	/**
+	 * Selects the label matching mode: the ontology classes mentioned in the footnotes are found by their labels
+	 * (case insensitive, singular or plural) with a dictionary matcher instead of the StanfordCoreNLP POS, NER and
+	 * RegexNER annotators. It is much faster, but the entities that are not labels of the ontology are not found.
+	 *
+	 * @param labelMatching, true to find the ontology classes by their labels
+	 */
+	public void setLabelMatching(boolean labelMatching) {
+		this.labelMatching = labelMatching;
 	}
 
-	// MAIN METHODS
 	/**
-	 * Adds the regex NER.
+	 * Gets the number of threads used to annotate the footnotes texts.
+	 *
+	 * @return the number of annotation threads
+	 */
+	public int getAnnotationThreads() {
+		return annotationThreads;
+	}
+
+	/**
+	 * Sets the number of threads used to annotate the footnotes texts.
+	 *
+	 * @param annotationThreads, the number of annotation threads
+	 */
+	public void setAnnotationThreads(int annotationThreads) {
+		if (annotationThreads < 1)
+			throw new IllegalArgumentException("Annotation threads must be positive: " + annotationThreads);
+		this.annotationThreads = annotationThreads;
+	}
+
+	/**
+	 * Gets the footnotes classifier of the last classified table, with its per-type counts and timings.
+	 *
+	 * @return the footnotes classifier, or null if no table was classified
+	 */
+	public FootNoteClassifier getFootNoteClassifier() {
+		return classifier;
+	}
+
+	/**
+	 * Gets the cache of the ontology entities extracted from the footnotes texts.
+	 *
+	 * @return the named entity cache
+	 */
+	public NamedEntityCache getNECache() {
+		return neCache;
+	}
+
+	/**
+	 * Sets the cache of the ontology entities extracted from the footnotes texts, to share it between instances or
+	 * persist it between runs.
+	 *
+	 * @param neCache, the named entity cache
+	 */
+	public void setNECache(NamedEntityCache neCache) {
+		if (neCache == null)
+			throw new IllegalArgumentException("Named entity cache required");
+		this.neCache = neCache;
+	}
+
+	// BUILDER
+	/**
+	 * Gets the StanfordCoreNLP object, with POS tagging, lemmatization and NER, shared by all the instances
+	 * (see NLPPipelines): the models are only loaded once per JVM. The RegexNER mapping of the ontology classes is
+	 * kept in memory (see RegexNERMapping) and updated with the class labels added since the last call.
 	 *
 	 * @param generator, the Core OWL generator instance
+	 * @return the StanfordCoreNLP object
 	 */
-	// RegexNER
-	private void addRegexNER(Core generator) {
-		List<String> regexNERs = new ArrayList<String>();
-
-		// Get the Regex patterns for each Class
-		for (String class_ : OntologyData.getOntologyClassLabelsAsString(generator.getOntology()))
-			regexNERs.add(class_ + "\tONTOLOGY_CLASS\tORGANIZATION,PERSON,LOCATION,NUMBER,MISC\n");
-		Collections.sort(regexNERs);
-
-		// Write the file
-		Writer out = null;
-		try {
-			String fileName = "src\\owlgenerator\\resources\\" + generator.getCfg().getOntology_Name() + " - "
-					+ generator.getCfg().getOntology_Version() + ".rgx";
-			out = new BufferedWriter(new OutputStreamWriter(new FileOutputStream(fileName), "UTF-8"));
-			for (String regexNER_ : regexNERs) {
-				try {
-					out.write(regexNER_);
-				} catch (IOException e) {
-					e.printStackTrace();
-				}
-			}
-		} catch (UnsupportedEncodingException | FileNotFoundException e) {
-			e.printStackTrace();
-		} finally {
-			try {
-				out.close();
-			} catch (IOException e) {
-				e.printStackTrace();
-			}
-		}
+	// parsing, using the in-memory regexNER mapping
+	private StanfordCoreNLP getNLP(Core generator) {
+		regexNER = RegexNERMapping.getMapping(generator.getOntology());
+
+		// Configuration
+		// ner.model: "src\\resources\\english.all.3class.distsim.crf.ser.gz",
+		// "english.muc.7class.distsim.crf.ser.gz", "english.conll.4class.distsim.crf.ser.gz"
+		return NLPPipelines.getPipeline(NLPPipelines.NER_ANNOTATORS);
 	}
 
+	// MAIN METHODS
 	/**
 	 * Extract the designated Named Entities and their classification from a given piece of text.
 	 *
@@ -169,15 +213,88 @@ public class FootNotes {
 	 * @see http://nlp.stanford.edu/nlp/javadoc/javanlp/edu/stanford/nlp/ie/regexp/RegexNERSequenceClassifier.html
 	 */
 	private Set<Pair<String, String>> extractDesignatedNEs(String text, Core generator) {
-		Set<Pair<String, String>> tokens = new HashSet<Pair<String, String>>();
+		// Label matching mode
+		if (labelMatching)
+			return matchDesignatedNEs(text, generator);
 
 		// Get the NLP
 		if (nlp == null)
-			buildNLP(generator);
+			nlp = getNLP(generator);
 
 		// Run all Annotators on the passed-in text
 		Annotation document = new Annotation(text);
 		nlp.annotate(document);
+		regexNER.annotate(document);
+		return getDesignatedNEs(document);
+	}
+
+	/**
+	 * Annotates a batch of texts across the annotation threads and puts their ontology entities in the Named Entity
+	 * cache, so they are then got without annotating them again.
+	 *
+	 * @param texts, the pieces of text
+	 * @param generator, the Core OWL generator instance
+	 */
+	private void annotateAll(Collection<String> texts, Core generator) {
+		if (labelMatching)
+			return;
+		List<Annotation> documents = new ArrayList<Annotation>();
+		for (String text : texts)
+			documents.add(new Annotation(text));
+		if (documents.isEmpty())
+			return;
+
+		// Get the NLP
+		if (nlp == null)
+			nlp = getNLP(generator);
+
+		// Run all Annotators on the documents, in parallel
+		Map<String, Set<Pair<String, String>>> designatedNEs = new ConcurrentHashMap<String, Set<Pair<String, String>>>();
+		nlp.annotate(documents, annotationThreads, document -> {
+			regexNER.annotate(document);
+			designatedNEs.put(document.get(TextAnnotation.class), getDesignatedNEs(document));
+		});
+		for (Map.Entry<String, Set<Pair<String, String>>> entry : designatedNEs.entrySet())
+			neCache.put(entry.getKey(), extractOntologyNEs(entry.getValue(), generator));
+	}
+
+	/**
+	 * Finds the ontology classes mentioned in a given piece of text by their labels, classified as ONTOLOGY_CLASS.
+	 *
+	 * @param text, the piece of text
+	 * @param generator, the Core OWL generator instance
+	 * @return the set of Pairs<Named Entity,Class>
+	 */
+	private Set<Pair<String, String>> matchDesignatedNEs(String text, Core generator) {
+		if (labelMatcher == null)
+			refreshLabelMatcher(generator);
+		Set<Pair<String, String>> tokens = new HashSet<Pair<String, String>>();
+		for (String label : labelMatcher.match(text))
+			tokens.add(new Pair<String, String>(label, "ONTOLOGY_CLASS"));
+		return tokens;
+	}
+
+	/**
+	 * Rebuilds the label matcher if the class labels of the ontology changed since it was built.
+	 *
+	 * @param generator, the Core OWL generator instance
+	 */
+	private void refreshLabelMatcher(Core generator) {
+		Set<String> classLabels = LabelIndex.getIndex(generator.getOntology()).getClassLabels();
+		if ((labelMatcher == null) || !classLabels.equals(labelMatcherLabels)) {
+			labelMatcher = new LabelMatcher(classLabels);
+			labelMatcherLabels = classLabels;
+		}
+	}
+
+	/**
+	 * Gets the designated Named Entities and their classification from an annotated document.
+	 *
+	 * @param document, the annotated document
+	 * @return the set of Pairs<Named Entity,Class>
+	 */
+	private Set<Pair<String, String>> getDesignatedNEs(Annotation document) {
+		Set<Pair<String, String>> tokens = new HashSet<Pair<String, String>>();
 		List<CoreMap> sentences = document.get(SentencesAnnotation.class);
 		StringBuilder sb = new StringBuilder();
 
@@ -234,6 +351,7 @@ public class FootNotes {
 	 */
 	private Set<String> extractOntologyNEs(Set<Pair<String, String>> designatedNEs, Core generator) {
 		Set<String> ontologyNEs = new HashSet<String>();
+		LabelIndex labelIndex = LabelIndex.getIndex(generator.getOntology());
 		for (Pair<String, String> ne : designatedNEs) {
 			// Wil return only NEs classified as ONTOLOGY_CLASS
 			if (ne.second().equals("ONTOLOGY_CLASS"))
@@ -245,7 +363,7 @@ public class FootNotes {
 				char[] delimiters = { '-', '/', ' ' };
 				String standarizedName = WordUtils.capitalize(Inflector.singularize(ne.first()), delimiters);
 				IRI ontologyClass = generator.getPm().getIRI(standarizedName.replaceAll(" ", ""));
-				if (generator.getOntology().containsClassInSignature(ontologyClass))
+				if (labelIndex.containsClass(ontologyClass))
 					ontologyNEs.add(standarizedName);
 			}
 		}
@@ -261,8 +379,13 @@ public class FootNotes {
 	 */
 	// Extracts NEs from expression
 	private Set<String> getNEsFromReference(String referenceText, Core generator) {
-		Set<Pair<String, String>> referenceNEs = extractDesignatedNEs(referenceText, generator);
-		return extractOntologyNEs(referenceNEs, generator);
+		Set<String> ontologyNEs = neCache.get(referenceText);
+		if (ontologyNEs == null) {
+			Set<Pair<String, String>> referenceNEs = extractDesignatedNEs(referenceText, generator);
+			ontologyNEs = extractOntologyNEs(referenceNEs, generator);
+			neCache.put(referenceText, ontologyNEs);
+		}
+		return new HashSet<String>(ontologyNEs);
 	}
 
 	/**
@@ -272,58 +395,7 @@ public class FootNotes {
 	 * @return the foot note type
 	 */
 	private String getFootNoteType(String footNote) {
-		List<String> tokenList = new ArrayList<String>(Arrays.asList(footNote.split("\\s+")));
-		// Exclude FootNotes that references sections of the source document,
-		// are useless outside the document
-		Pattern validSectionReference = Pattern.compile("[Ss]ection\\s(?:\\d\\.*)+");
-		if (!validSectionReference.matcher(footNote.toString()).find()) {
-			// Type Subclass-Of : Contains "is" + ["also"] + "Subclass-Of"
-			Pattern pattern = Pattern.compile("[Ss]ubclass-?[Oo]f");
-			Matcher subClassOfMatcher = pattern.matcher(footNote);
-			if (subClassOfMatcher.find()) {
-				Pattern validSubclassOf = Pattern.compile(
-						"([\\s*\\w+\\-\\/]+)((?:is\\s+|are\\s+)(?:also\\s+)?a?\\s*Subclass-Of\\s+)([\\s*\\w+\\-\\/]+)");
-				Matcher matcherSubclassOf = validSubclassOf.matcher(footNote);
-				if (matcherSubclassOf.find())
-					return "Subclass-Of";
-			}
-			// SPECIAL: Also referred to as... [synonyms + seeAlso]
-			else if (StringUtils.containsIgnoreCase(footNote, "also referred to as")
-					|| StringUtils.containsIgnoreCase(footNote, "also known as"))
-				return "alsoReferred";
-
-			// SPECIAL: takesValue [Rules]
-			else if (StringUtils.containsIgnoreCase(footNote, "takes the value")) {
-				Pattern validTakesValue = Pattern.compile(
-						"([\\w\\s\\-\\/]+)(\\s+takes\\s+the\\s+value\\s+)([\\w\\s\\-\\/]+)\\s+for\\s+([\\w\\s\\-\\/]+(?:,[\\w\\s\\-\\/]*)*)\\s*.*");
-				Matcher matcherTakesValue = validTakesValue.matcher(footNote);
-				if (matcherTakesValue.matches())
-					return "takesValue";
-				else
-					return "comment";
-			}
-			// Type rdfs:seeAlso : Contains "See" + URL
-			else if (tokenList.contains("See") || tokenList.contains("see")) {
-				Pattern validFootnoteReference = Pattern.compile("([Pp]revious|[Nn]ext)\\s+[Ff]ootnote");
-				Matcher matcherFootnoteReference = validFootnoteReference.matcher(footNote);
-				// SPECIAL: Note that references another
-				if (matcherFootnoteReference.find())
-					return "seeAlso";
-				// Detect if contains an URL
-				for (String token_ : tokenList) {
-					// http://commons.apache.org/proper/commons-validator/apidocs/org/apache/commons/validator/routines/UrlValidator.html
-					UrlValidator URLvalid = UrlValidator.getInstance();
-					if (URLvalid.isValid(token_))
-						return "seeAlso";
-				}
-				// Others containing literal "see" as rdfs:comment
-				return "comment";
-			}
-			// Type rdfs:comment
-			else
-				return "comment";
-		}
-		return null;
+		return FootNoteClassifier.getType(footNote);
 	}
 
 	/**
@@ -343,87 +415,43 @@ public class FootNotes {
 	 * Classify footnotes.
 	 *
 	 * @param tableFileName the footnotes table file name
+	 * @param generator, the Core OWL generator instance
 	 */
-	private void classifyFootNotes(String tableFileName) {
-		try {
-			CoreConfiguration cfg = CoreConfiguration.getInstance();
-			File fp = new File(cfg.getFiles_Path() + "\\" + tableFileName);
-			FileReader inputFile = new FileReader(fp);
-			LineNumberReader lnr = new LineNumberReader(inputFile);
-			String fileLine = null, type = null;
-
-			// FIRST: Classify based on footnote text
-			while ((fileLine = lnr.readLine()) != null) {
-				// Data
-				if (lnr.getLineNumber() > 2) {
-					String[] parts = fileLine.split(CoreConfiguration.SEPARATOR);
-					String noteText = parts[FN_TEXT];
-					if (noteText.contains(CoreConfiguration.INNER_SEPARATOR)) {
-						String[] innerFNs = noteText.split(CoreConfiguration.INNER_SEPARATOR);
-						for (String subnote : innerFNs) {
-							String innerFN = StringUtils.substringBefore(fileLine, noteText) + subnote;
-
-							// If something changes, update note and add to the
-							// corresponding set
-							type = getFootNoteType(subnote);
-							if (type != null)
-								switch (type) {
-								case "Subclass-Of":
-									subclassOfFNs.add(innerFN);
-									break;
-
-								case "seeAlso":
-									seeAlsoFNs.add(innerFN);
-									break;
-
-								case "comment":
-									commentFNs.add(innerFN);
-									break;
-
-								case "alsoReferred":
-									alsoReferredFNs.add(innerFN);
-									break;
-
-								case "takesValue":
-									takesValueFNs.add(innerFN);
-									break;
-								}
-						}
-					} else {
-						// If something changes, the note gets updated and
-						// stored in the corresponding set
-						type = getFootNoteType(noteText);
-						if (type != null)
-							switch (type) {
-							case "Subclass-Of":
-								subclassOfFNs.add(fileLine);
-								break;
-
-							case "seeAlso":
-								seeAlsoFNs.add(fileLine);
-								break;
-
-							case "comment":
-								commentFNs.add(fileLine);
-								break;
-
-							case "alsoReferred":
-								alsoReferredFNs.add(fileLine);
-								break;
+	private void classifyFootNotes(String tableFileName, Core generator) {
+		FootNoteStore store = getFootNoteStore(tableFileName, generator);
+		if (store == null)
+			return;
+
+		// FIRST: Classify based on footnote text
+		classifier = new FootNoteClassifier();
+		classifier.classify(store);
+		subclassOfFNs.addAll(classifier.getFootNotes(FootNoteClassifier.SUBCLASS_OF));
+		seeAlsoFNs.addAll(classifier.getFootNotes(FootNoteClassifier.SEE_ALSO));
+		commentFNs.addAll(classifier.getFootNotes(FootNoteClassifier.COMMENT));
+		alsoReferredFNs.addAll(classifier.getFootNotes(FootNoteClassifier.ALSO_REFERRED));
+		takesValueFNs.addAll(classifier.getFootNotes(FootNoteClassifier.TAKES_VALUE));
+	}
 
-							case "takesValue":
-								takesValueFNs.add(fileLine);
-								break;
-							}
-					}
-				}
+	/**
+	 * Gets the footnote store of a footnotes table, the table is read the first time.
+	 *
+	 * @param tableFileName the footnotes table file name
+	 * @param generator, the Core OWL generator instance
+	 * @return the footnote store, or null if the table cannot be read
+	 */
+	private FootNoteStore getFootNoteStore(String tableFileName, Core generator) {
+		FootNoteStore store = footNoteStores.get(tableFileName);
+		if (store == null) {
+			try {
+				store = FootNoteStore.load(generator.getTableFile(tableFileName));
+				footNoteStores.put(tableFileName, store);
+			} catch (FileNotFoundException e) {
+				e.printStackTrace();
+			} catch (IOException e) {
+				e.printStackTrace();
 			}
-			lnr.close();
-		} catch (FileNotFoundException e) {
-			e.printStackTrace();
-		} catch (IOException e) {
-			e.printStackTrace();
 		}
+		return store;
 	}
 
 	/**
@@ -485,6 +513,75 @@ public class FootNotes {
 		return refinedSet;
 	}
 
+	/**
+	 * Annotates at once, across the annotation threads, all the texts the preprocessing of the classified footnotes
+	 * extracts Named Entities from: the references to process and the Subclass-Of superclasses texts.
+	 *
+	 * @param generator, the Core OWL generator instance
+	 */
+	private void annotateFootNotes(Core generator) {
+		// Refresh the RegexNER mapping (or the label matcher) with the classes ingested since the last footnotes table
+		if (!labelMatching)
+			nlp = getNLP(generator);
+		else
+			refreshLabelMatcher(generator);
+
+		Set<String> texts = new HashSet<String>();
+		for (String fN : subclassOfFNs)
+			texts.add(getSubclassOfNEsText(fN.split(CoreConfiguration.SEPARATOR)));
+		for (String fN : seeAlsoFNs)
+			texts.add(getReferenceNEsText(fN.split(CoreConfiguration.SEPARATOR)));
+		for (String fN : commentFNs)
+			texts.add(getReferenceNEsText(fN.split(CoreConfiguration.SEPARATOR)));
+		texts.remove(null);
+		texts.removeIf(text -> neCache.get(text) != null);
+		annotateAll(texts, generator);
+	}
+
+	/**
+	 * Gets the text the preprocessing of a Subclass-Of foot note extracts ontology entities from: the reference if it
+	 * requires processing, the superclasses text otherwise.
+	 *
+	 * @param parts, the parts of the foot note entry
+	 * @return the text, or null if the foot note is discarded
+	 */
+	private String getSubclassOfNEsText(String[] parts) {
+		String reference = parts[FN_REF];
+		String noteText = StringUtils.substringBefore(parts[FN_TEXT].trim(), ".") + ".";
+		if (StringUtils.isBlank(reference) || StringUtils.isBlank(noteText))
+			return null;
+		return Boolean.parseBoolean(parts[FN_PROCCESS]) ? reference : getSuperclassesText(noteText);
+	}
+
+	/**
+	 * Gets the text the preprocessing of a rdfs:seeAlso or comment foot note extracts ontology entities from: the
+	 * reference if it requires processing or contains synonyms.
+	 *
+	 * @param parts, the parts of the foot note entry
+	 * @return the text, or null if the foot note is discarded or its reference is taken as is
+	 */
+	private String getReferenceNEsText(String[] parts) {
+		String referenceText = parts[FN_REF];
+		if (StringUtils.isBlank(referenceText) || StringUtils.isBlank(parts[FN_TEXT]))
+			return null;
+		if (Boolean.parseBoolean(parts[FN_PROCCESS]) || (referenceText.contains("(") && referenceText.contains(")")))
+			return referenceText;
+		return null;
+	}
+
+	/**
+	 * Gets the text of a Subclass-Of foot note that should contain the superclass(es): the text after "Subclass-Of".
+	 *
+	 * @param noteText, the foot note text
+	 * @return the superclasses text
+	 */
+	private String getSuperclassesText(String noteText) {
+		String superclassesText = noteText
+				.substring(noteText.lastIndexOf("Subclass-Of") + "Subclass-Of".length()).trim();
+		return superclassesText
+				.replaceAll("(\\(\\s*[Aa]\\s*[Tt]ype\\s*[Oo]f(?:(?:\\s+\\w+\\-*)+)\\))", "");
+	}
+
 	// PREPROCESS:
 	/**
 	 * Preprocess step for a Subclass-Of type foot note. Generates the Subclass-Of pair(s) <DerivedClass, Superclass> for a given foot note.
@@ -502,8 +599,8 @@ public class FootNotes {
 		// Parts of the entry
 		boolean refNeedsProcess = Boolean.parseBoolean(parts[FN_PROCCESS]);
 		String reference = parts[FN_REF];
-		String noteText = StringUtils.substringBefore(parts[FN_TEXT].trim(), ".") + ".";
-		if (StringUtils.isNotBlank(reference) && StringUtils.isNotBlank(noteText)) {
+		String neText = getSubclassOfNEsText(parts);
+		if (neText != null) {
 			Set<String> refNEs = null;
 			// Refine reference
 			// Process the reference if requires processing (1st field is true)
@@ -512,7 +609,7 @@ public class FootNotes {
 			// so has to extract the subject entity/-ies from the reference
 			// text.
 			if (refNeedsProcess) {
-				refNEs = getNEsFromReference(reference, generator);
+				refNEs = getNEsFromReference(neText, generator);
 				// Discard the FootNote if no entities were found or exist
 				// ambiguity.
 				// Only should find one Named Entity for each note unless they
@@ -529,12 +626,7 @@ public class FootNotes {
 					reference = StringUtils.substringBefore(reference, "(");
 
 				// Refine FootNote text
-				// Text after "Subclass-Of" should contain the superclass(es)
-				String superclassesText = noteText
-						.substring(noteText.lastIndexOf("Subclass-Of") + "Subclass-Of".length()).trim();
-				superclassesText = superclassesText
-						.replaceAll("(\\(\\s*[Aa]\\s*[Tt]ype\\s*[Oo]f(?:(?:\\s+\\w+\\-*)+)\\))", "");
-				Set<String> superclasses = getNEsFromReference(superclassesText, generator);
+				Set<String> superclasses = getNEsFromReference(neText, generator);
 
 				// If several superclasses are found, generate one
 				// refined-FootNote for each
@@ -554,32 +646,13 @@ public class FootNotes {
 	 *
 	 * @param tableFileName, the foot note table file name
 	 * @param index, the foot note index
+	 * @param generator, the Core OWL generator instance
 	 * @return the nth foot note
 	 */
-	private String getNthFootNote(String tableFileName, int index) {
-		try {
-			CoreConfiguration cfg = CoreConfiguration.getInstance();
-			File fp = new File(cfg.getFiles_Path() + "\\" + tableFileName);
-			FileReader inputFile = new FileReader(fp);
-			LineNumberReader lnr = new LineNumberReader(inputFile);
-			String fileLine = null, noteText = null;
-
-			while ((fileLine = lnr.readLine()) != null) {
-				if (lnr.getLineNumber() > 2
-						&& fileLine.startsWith(Integer.toString(index) + CoreConfiguration.SEPARATOR)) {
-					String[] parts = fileLine.split(CoreConfiguration.SEPARATOR);
-					noteText = parts[FN_TEXT];
-				}
-			}
-			lnr.close();
-			return noteText;
-		} catch (FileNotFoundException e) {
-			e.printStackTrace();
-			return null;
-		} catch (IOException e) {
-			e.printStackTrace();
-			return null;
-		}
+	private String getNthFootNote(String tableFileName, int index, Core generator) {
+		FootNoteStore store = getFootNoteStore(tableFileName, generator);
+		FootNoteStore.FootNote footNote = (store != null) ? store.get(index) : null;
+		return (footNote != null) ? footNote.getText() : null;
 	}
 
 	/**
@@ -602,6 +675,7 @@ public class FootNotes {
 		boolean refNeedsProcess = Boolean.parseBoolean(parts[FN_PROCCESS]);
 		String referenceText = parts[FN_REF];
 		String noteText = parts[FN_TEXT];
+		String neText = getReferenceNEsText(parts);
 		if (StringUtils.isNotBlank(referenceText) && StringUtils.isNotBlank(noteText)) {
 			// Refine reference
 			// Process the reference if requires processing (1st field is true)
@@ -610,7 +684,7 @@ public class FootNotes {
 			// so has to extract the subject entity/-ies from the reference
 			// text.
 			if (refNeedsProcess) {
-				refNEs = getNEsFromReference(referenceText, generator);
+				refNEs = getNEsFromReference(neText, generator);
 				// Discard the FootNote if no entities were found or exist
 				// ambiguity.
 				// Only should find one Named Entity for each note unless they
@@ -622,12 +696,11 @@ public class FootNotes {
 				}
 			} else {
 				// Reference contains synonyms
-				if (referenceText.contains("(") && referenceText.contains(")"))
-					refNEs = getNEsFromReference(referenceText, generator);
+				if (neText != null)
+					refNEs = getNEsFromReference(neText, generator);
 				else {
-					Pattern pattern = Pattern.compile("\\{([\\w+\\-\\/[\\,\\s]*]+)\\}");
-					Matcher matcher = pattern.matcher(referenceText);
-					if (matcher.matches())
+					// Reference is a value set
+					if (isPlainValueSet(CellParser.parse(referenceText)))
 						return null;
 					else {
 						refNEs = new HashSet<String>();
@@ -638,13 +711,12 @@ public class FootNotes {
 			// Refine FootNote text
 			if (tableFileName != null) {
 				// SPECIAL: Note that references another
-				Pattern otherRef = Pattern.compile("([Pp]revious|[Nn]ext)\\s+[Ff]ootnote");
-				Matcher matcherOtherRef = otherRef.matcher(noteText);
+				Matcher matcherOtherRef = FootNoteClassifier.FOOTNOTE_REFERENCE.matcher(noteText);
 				if (matcherOtherRef.find()) {
 					if (StringUtils.containsIgnoreCase(noteText, "PREVIOUS"))
-						noteText = getNthFootNote(tableFileName, entryIndex - 1);
+						noteText = getNthFootNote(tableFileName, entryIndex - 1, generator);
 					else if (StringUtils.containsIgnoreCase(noteText, "NEXT"))
-						noteText = getNthFootNote(tableFileName, entryIndex + 1);
+						noteText = getNthFootNote(tableFileName, entryIndex + 1, generator);
 				}
 			}
 			// Put together the refined reference and FN's text
@@ -656,6 +728,25 @@ public class FootNotes {
 			return null;
 	}
 
+	/**
+	 * Checks if a parsed foot note text is a value set "{v1, v2}" of plain values: word characters, white spaces,
+	 * commas and "+", "*", "-", "/" (e.g. "{1.5 %}" is not).
+	 *
+	 * @param token, the parsed text
+	 * @return true, if it is a plain value set
+	 */
+	private static boolean isPlainValueSet(CellToken token) {
+		String text = token.getText();
+		if (!token.is(CellToken.Type.VALUE_SET) || (text.length() < 3))
+			return false;
+		for (int i = 1; i < text.length() - 1; i++) {
+			char c = text.charAt(i);
+			if (!Character.isLetterOrDigit(c) && !Character.isWhitespace(c) && ("_+*-/,".indexOf(c) == -1))
+				return false;
+		}
+		return true;
+	}
+
 	/**
 	 * Returns true if all the given names from a set are all synonyms in the Core ontology.
 	 *
@@ -665,21 +756,11 @@ public class FootNotes {
 	 */
 	private boolean areAllSynonyms(Set<String> names, Core generator) {
 		if (names.size() > 1) {
-			OWLClass claseEq = generator.getOWLClassFromName(names.iterator().next());
-			Set<OWLEquivalentClassesAxiom> eqClasses = generator.getOntology().getEquivalentClassesAxioms(claseEq);
-			if (eqClasses.size() == 0)
-				return false;
-			else {
-				// If the set is not empty, check if the classes belong to the
-				// synonyms
-				Set<OWLClass> classes = eqClasses.iterator().next().getClassesInSignature();
-				for (String name : names) {
-					OWLClass claseTest = generator.getOWLClassFromName(name);
-					if (!classes.contains(claseTest))
-						return false;
-				}
-				return true;
-			}
+			// Synonyms: in the same equivalence set of the ontology
+			Set<IRI> iris = new HashSet<IRI>();
+			for (String name : names)
+				iris.add(generator.getOWLClassFromName(name).getIRI());
+			return SynonymIndex.getIndex(generator.getOntology()).areSynonyms(iris);
 		} else
 			return false;
 	}
@@ -720,9 +801,7 @@ public class FootNotes {
 			// Refine reference
 			// Process the reference if NOT requires processing
 			if (!refNeedsProcess) {
-				Pattern pattern = Pattern.compile(
-						"(?:[Aa]lso\\s+referred\\s+to\\s+as|[Aa]lso\\s+known\\s+as)((?:\\s+|\\w+|\\-*)+)(?:(\\s*\\(\\s*or\\s*\\w+\\-*\\)))?((?:\\s+\\w+\\-*)+)?");
-				Matcher matcherEntities = pattern.matcher(noteText);
+				Matcher matcherEntities = FootNoteClassifier.ALSO_REFERRED_ENTITIES.matcher(noteText);
 				if (matcherEntities.find()) {
 					String g1 = (matcherEntities.group(1) != null) ? matcherEntities.group(1).trim() : null;
 					String g2 = (matcherEntities.group(2) != null) ? matcherEntities.group(2).trim() : null;
@@ -730,8 +809,7 @@ public class FootNotes {
 
 					// OR Composition
 					if (g2 != null) {
-						Pattern inner = Pattern.compile("\\(\\s*or\\s+(\\w+\\-*\\s*)+\\)");
-						Matcher matcherInner = inner.matcher(g2);
+						Matcher matcherInner = FootNoteClassifier.OR_COMPOSITION.matcher(g2);
 						if (matcherInner.matches()) {
 							String innerG2 = matcherInner.group(1);
 							String e1 = g1 + " " + g3;
@@ -817,9 +895,7 @@ public class FootNotes {
 			// Refine reference
 			// Process the reference if NOT requires processing
 			if (!refNeedsProcess) {
-				Pattern validTakesValue = Pattern.compile(
-						"([\\w\\s\\-\\/]+)(\\s+takes\\s+the\\s+value\\s+)([\\w\\s\\-\\/]+)\\s+for\\s+([\\w\\s\\-\\/]+(?:,[\\w\\s\\-\\/]*)*)\\s*.*");
-				Matcher matcherTakesValue = validTakesValue.matcher(noteText);
+				Matcher matcherTakesValue = FootNoteClassifier.VALID_TAKES_VALUE.matcher(noteText);
 				if (matcherTakesValue.matches()) {
 					String attribute = matcherTakesValue.group(1);
 					String value = matcherTakesValue.group(3);
@@ -1003,15 +1079,13 @@ public class FootNotes {
 
 							default:
 								Set<OWLLiteral> valuesSet = new HashSet<OWLLiteral>();
-								Pattern patternValues = Pattern.compile("\\{([\\w+\\-\\/[\\,\\s\\/]*]+)\\}");
-								Matcher matcherValues = patternValues.matcher(value);
+								CellToken tokenValues = CellParser.parse(value);
 
 								// Multi-valued processing
-								if (matcherValues.matches()) {
-									String valuesString = matcherValues.group(1).replaceAll(" ", "");
-									String[] values = valuesString.split("\\,");
-									for (String value_ : values)
-										valuesSet.add(factory.getOWLLiteral(value_));
+								if (isPlainValueSet(tokenValues)) {
+									// As the attribute rules tables values
+									for (String value_ : tokenValues.getValues())
+										valuesSet.add(factory.getOWLLiteral(value_.replace(" ", "_")));
 
 									OWLDataOneOf valuesRange = null;
 									if (valuesSet.size() != 0) {
@@ -1094,7 +1168,15 @@ public class FootNotes {
 	 */
 	public void addAxiomsFromFootNotes(String tableFileName, Core generator) {
 		// Classify the FootNotes
-		classifyFootNotes(tableFileName);
+		classifyFootNotes(tableFileName, generator);
+
+		// The cached entities are valid while the class labels (and the extraction mode) don't change
+		Set<String> classLabels = LabelIndex.getIndex(generator.getOntology()).getClassLabels();
+		classLabels.add(labelMatching ? "#LABEL MATCHING" : "#NER");
+		neCache.validate(NamedEntityCache.getFingerprint(classLabels));
+
+		// Annotate the texts to process as a batch
+		annotateFootNotes(generator);
 
 		// PREPROCESSING: Find Entities and sanitize text.
 		Set<Pair<String, Object>> preSubclassOf = null, preSeeAlso = null, preComment = null, preAlsoReferred = null,
@@ -1152,5 +1234,6 @@ public class FootNotes {
 		if (hasValueAxioms != null)
 			allAxioms.addAll(hasValueAxioms);
 		generator.getManager().addAxioms(generator.getOntology(), allAxioms);
+		neCache.save();
 	}
 }
@@ -33,6 +33,9 @@ POSSIBILITY OF SUCH DAMAGE.
  */
 
 import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
 import java.util.regex.Matcher;
 import java.util.regex.Pattern;
 
@@ -119,15 +122,10 @@ public class Inflector {
      * @return
      */
     public static String pluralize( String word ) {
-        String out = new String( word );
-        if ( ( out.length() == 0 )
-            || ( !uncountables.contains( word.toLowerCase() ) ) ) {
-            for ( ReplacementRule r : plurals ) {
-                if ( r.find( word ) ) {
-                    out = r.replace( word );
-                    break;
-                }
-            }
+        String out = pluralCache.get( word );
+        if ( out == null ) {
+            out = inflect( word, getPluralRules() );
+            cache( pluralCache, word, out );
         }
         return out;
     }
@@ -139,20 +137,83 @@ public class Inflector {
      * @return
      */
     public static String singularize( String word ) {
-        String out = new String( word );
-        if ( ( out.length() == 0 )
-            || ( !uncountables.contains( out.toLowerCase() ) ) ) {
-            for ( ReplacementRule r : singulars ) {
-                if ( r.find( word ) ) {
-                    out = r.replace( word );
-                    break;
+        String out = singularCache.get( word );
+        if ( out == null ) {
+            out = inflect( word, getSingularRules() );
+            cache( singularCache, word, out );
+        }
+        return out;
+    }
+
+    /**
+     * apply the first matching rule to word, unless it is uncountable
+     * 
+     * @param word
+     * @param rules
+     * @return
+     */
+    private static String inflect( String word, ReplacementRules rules ) {
+        if ( ( word.length() > 0 )
+            && ( uncountables.contains( word.toLowerCase() ) ) ) {
+            return word;
+        }
+        String out = rules.apply( word );
+        return ( out != null ) ? out : word;
+    }
+
+    /**
+     * memoise an inflection (the cache is discarded when it is full)
+     * 
+     * @param cache
+     * @param word
+     * @param out
+     */
+    private static void cache( Map<String, String> cache, String word,
+        String out ) {
+        if ( cache.size() >= MAX_CACHE_SIZE ) {
+            cache.clear();
+        }
+        cache.put( word, out );
+    }
+
+    /**
+     * the compiled plural rules, compiled again after a rule is added
+     * 
+     * @return
+     */
+    private static ReplacementRules getPluralRules() {
+        ReplacementRules rules = compiledPlurals;
+        if ( rules == null ) {
+            synchronized ( Inflector.class ) {
+                if ( compiledPlurals == null ) {
+                    compiledPlurals = new ReplacementRules( plurals );
                 }
+                rules = compiledPlurals;
             }
         }
-        return out;
+        return rules;
+    }
+
+    /**
+     * the compiled singular rules, compiled again after a rule is added
+     * 
+     * @return
+     */
+    private static ReplacementRules getSingularRules() {
+        ReplacementRules rules = compiledSingulars;
+        if ( rules == null ) {
+            synchronized ( Inflector.class ) {
+                if ( compiledSingulars == null ) {
+                    compiledSingulars = new ReplacementRules( singulars );
+                }
+                rules = compiledSingulars;
+            }
+        }
+        return rules;
     }
 
-    public static void irregular( String singular, String plural ) {
+    public static synchronized void irregular( String singular,
+        String plural ) {
         String regexp, repl;
 
         if ( singular.substring( 0, 1 ).toUpperCase().equals(
@@ -193,11 +254,23 @@ public class Inflector {
                 + singular.substring( 1 );
             singulars.add( 0, new ReplacementRule( regexp, repl ) );
         }
+
+        // the rules changed: compile them again
+        compiledPlurals = null;
+        compiledSingulars = null;
+        pluralCache.clear();
+        singularCache.clear();
     }
 
     private static ArrayList<ReplacementRule> plurals;
     private static ArrayList<ReplacementRule> singulars;
-    private static ArrayList<String> uncountables;
+    private static HashSet<String> uncountables;
+
+    private static final int MAX_CACHE_SIZE = 100000;
+    private static final Map<String, String> pluralCache = new ConcurrentHashMap<String, String>();
+    private static final Map<String, String> singularCache = new ConcurrentHashMap<String, String>();
+    private static volatile ReplacementRules compiledPlurals;
+    private static volatile ReplacementRules compiledSingulars;
 
     static {
         plurals = new ArrayList<ReplacementRule>( 17 );
@@ -255,7 +328,7 @@ public class Inflector {
         irregular( "move", "moves" );
         irregular( "cow", "kine" );
 
-        uncountables = new ArrayList<String>( 8 );
+        uncountables = new HashSet<String>( 16 );
         uncountables.add( "equipment" );
         uncountables.add( "information" );
         uncountables.add( "rice" );
@@ -0,0 +1,191 @@
+/*
+ * The Class LabelMatcher, dictionary matcher of the ontology class labels.
+ */
+package owlgenerator.java.footnotes;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * The Class LabelMatcher, finds the mentions of the ontology class labels in a piece of text with an Aho-Corasick
+ * automaton, in a single pass over the text whatever the number of labels. The matching is case insensitive, the
+ * plural form of each label matches it too, and only whole words are matched: when mentions overlap, the leftmost
+ * (then the longest) one is kept. It is a lightweight alternative to the StanfordCoreNLP RegexNER, without the
+ * statistical POS and NER annotators. Once built, it can be used concurrently.
+ *
+ * @author Oscar Mateos Lopez
+ * @version: 20161103
+ */
+public class LabelMatcher {
+
+	/** The children of each node of the automaton (node 0 is the root). */
+	private final List<Map<Character, Integer>> children = new ArrayList<Map<Character, Integer>>();
+
+	/** The failure link of each node. */
+	private final List<Integer> failures = new ArrayList<Integer>();
+
+	/** The index of the label ending at each node, or -1. */
+	private final List<Integer> outputs = new ArrayList<Integer>();
+
+	/** The length of the form ending at each node. */
+	private final List<Integer> depths = new ArrayList<Integer>();
+
+	/** The next node with an output in the failure chain of each node, or -1. */
+	private int[] outputLinks;
+
+	/** The labels. */
+	private final List<String> labels = new ArrayList<String>();
+
+	/**
+	 * Instantiates a new label matcher.
+	 *
+	 * @param classLabels, the ontology class labels (see LabelIndex.getClassLabels)
+	 */
+	public LabelMatcher(Collection<String> classLabels) {
+		newNode(0);
+		for (String label : classLabels) {
+			String form = label.trim();
+			if (form.isEmpty())
+				continue;
+			int index = labels.size();
+			labels.add(form);
+			// Singular and plural forms
+			addForm(form.toLowerCase(Locale.ENGLISH), index);
+			addForm(Inflector.pluralize(form).toLowerCase(Locale.ENGLISH), index);
+		}
+		buildFailures();
+	}
+
+	// BUILDER
+	/**
+	 * Adds a new node to the automaton.
+	 *
+	 * @param depth, the length of the form ending at the node
+	 * @return the node index
+	 */
+	private int newNode(int depth) {
+		children.add(new HashMap<Character, Integer>());
+		failures.add(0);
+		outputs.add(-1);
+		depths.add(depth);
+		return children.size() - 1;
+	}
+
+	/**
+	 * Adds a form of a label to the automaton trie. When two labels have the same form, the first one is kept.
+	 *
+	 * @param form, the case-folded label form
+	 * @param index, the label index
+	 */
+	private void addForm(String form, int index) {
+		int node = 0;
+		for (int i = 0; i < form.length(); i++) {
+			Integer child = children.get(node).get(form.charAt(i));
+			if (child == null) {
+				child = newNode(i + 1);
+				children.get(node).put(form.charAt(i), child);
+			}
+			node = child;
+		}
+		if (outputs.get(node) == -1)
+			outputs.set(node, index);
+	}
+
+	/**
+	 * Computes the failure and output links, breadth first.
+	 */
+	private void buildFailures() {
+		outputLinks = new int[children.size()];
+		outputLinks[0] = -1;
+		List<Integer> queue = new ArrayList<Integer>(children.get(0).values());
+		for (int node : queue)
+			outputLinks[node] = -1;
+		for (int head = 0; head < queue.size(); head++) {
+			int node = queue.get(head);
+			for (Map.Entry<Character, Integer> child : children.get(node).entrySet()) {
+				int failure = failures.get(node);
+				Integer next = children.get(failure).get(child.getKey());
+				while ((next == null) && (failure != 0)) {
+					failure = failures.get(failure);
+					next = children.get(failure).get(child.getKey());
+				}
+				int childFailure = (next != null) ? next : 0;
+				failures.set(child.getValue(), childFailure);
+				outputLinks[child.getValue()] = (outputs.get(childFailure) != -1) ? childFailure : outputLinks[childFailure];
+				queue.add(child.getValue());
+			}
+		}
+	}
+
+	// MAIN METHODS
+	/**
+	 * Finds the labels mentioned in a piece of text.
+	 *
+	 * @param text, the piece of text
+	 * @return the mentioned labels, in order of appearance
+	 */
+	public Set<String> match(String text) {
+		String folded = text.toLowerCase(Locale.ENGLISH);
+		Set<String> matches = new LinkedHashSet<String>();
+		int node = 0, lastEnd = 0;
+		// Pending leftmost-longest mention
+		int bestStart = -1, bestEnd = -1, bestLabel = -1;
+		for (int i = 0; i < folded.length(); i++) {
+			char c = folded.charAt(i);
+			Integer next = children.get(node).get(c);
+			while ((next == null) && (node != 0)) {
+				node = failures.get(node);
+				next = children.get(node).get(c);
+			}
+			node = (next != null) ? next : 0;
+
+			// Mentions ending here, from the longest
+			for (int out = (outputs.get(node) != -1) ? node : outputLinks[node]; out != -1; out = outputLinks[out]) {
+				int start = i + 1 - depths.get(out);
+				if ((start < lastEnd) || !isWordBoundary(folded, start - 1) || !isWordBoundary(folded, i + 1))
+					continue;
+				if ((bestStart == -1) || (start < bestStart) || ((start == bestStart) && (i + 1 > bestEnd))) {
+					bestStart = start;
+					bestEnd = i + 1;
+					bestLabel = outputs.get(out);
+				}
+			}
+			// No longer mention can start at or before the pending one once the automaton state is shorter
+			if ((bestStart != -1) && (i + 1 - depths.get(node) > bestStart)) {
+				matches.add(labels.get(bestLabel));
+				lastEnd = bestEnd;
+				bestStart = -1;
+			}
+		}
+		if (bestStart != -1)
+			matches.add(labels.get(bestLabel));
+		return matches;
+	}
+
+	/**
+	 * Checks if there is a word boundary at a position of the text (outside the text or not a letter or digit).
+	 *
+	 * @param text, the text
+	 * @param index, the position
+	 * @return true, if it is a word boundary
+	 */
+	private static boolean isWordBoundary(String text, int index) {
+		return (index < 0) || (index >= text.length()) || !Character.isLetterOrDigit(text.charAt(index));
+	}
+
+	// GETTERS
+	/**
+	 * Gets the number of labels.
+	 *
+	 * @return the number of labels
+	 */
+	public int size() {
+		return labels.size();
+	}
+}
@@ -0,0 +1,70 @@
+/*
+ * The Class NLPPipelines, process-wide provider of the StanfordCoreNLP pipelines.
+ */
+package owlgenerator.java.footnotes;
+
+import java.util.Map;
+import java.util.Properties;
+import java.util.concurrent.ConcurrentHashMap;
+
+import edu.stanford.nlp.pipeline.StanfordCoreNLP;
+
+/**
+ * The Class NLPPipelines, builds each StanfordCoreNLP pipeline once per JVM and shares it, so the models are loaded
+ * once however many footnote tables and ontologies are processed. The pipelines are cached by annotators, the
+ * ontology classes are annotated afterwards with the in-memory RegexNERMapping, so no pipeline depends on a mapping
+ * file. A pipeline is built by a single thread even if it is requested concurrently, and the annotation of
+ * different documents with the same pipeline is thread-safe.
+ *
+ * @author Oscar Mateos Lopez
+ * @version: 20161103
+ */
+public final class NLPPipelines {
+
+	/** The Constant NER_ANNOTATORS value: POS tagging, lemmatization and NER, without RegexNER. */
+	public static final String NER_ANNOTATORS = "tokenize, ssplit, pos, lemma, ner";
+
+	/** The pipelines by annotators. */
+	private static final Map<String, StanfordCoreNLP> pipelines = new ConcurrentHashMap<String, StanfordCoreNLP>();
+
+	/**
+	 * Instantiates a new NLP pipelines provider (static methods only).
+	 */
+	private NLPPipelines() {
+	}
+
+	// MAIN METHODS
+	/**
+	 * Gets the pipeline with the given annotators, building it the first time.
+	 *
+	 * @param annotators, the annotators list ("tokenize, ssplit, pos, ...")
+	 * @return the shared pipeline
+	 */
+	public static StanfordCoreNLP getPipeline(String annotators) {
+		if (annotators == null)
+			throw new IllegalArgumentException("Annotators required");
+		return pipelines.computeIfAbsent(annotators, k -> {
+			// Configuration
+			Properties props = new Properties();
+			props.put("annotators", annotators);
+			return new StanfordCoreNLP(props);
+		});
+	}
+
+	/**
+	 * Discards the cached pipelines (their models are released when no longer used).
+	 */
+	public static void clear() {
+		pipelines.clear();
+	}
+
+	// GETTERS
+	/**
+	 * Gets the number of cached pipelines.
+	 *
+	 * @return the number of pipelines
+	 */
+	public static int size() {
+		return pipelines.size();
+	}
+}
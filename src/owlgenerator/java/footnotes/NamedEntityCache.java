@@ -0,0 +1,218 @@
+/*
+ * The Class NamedEntityCache, cache of the ontology entities extracted from the footnotes texts.
+ */
+package owlgenerator.java.footnotes;
+
+import java.io.BufferedReader;
+import java.io.File;
+import java.io.FileNotFoundException;
+import java.io.IOException;
+import java.io.Writer;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+
+import org.apache.commons.lang3.StringUtils;
+
+import owlgenerator.java.core.CoreConfiguration;
+
+/**
+ * The Class NamedEntityCache, maps each footnote text (whitespace normalised) to the ontology entities extracted
+ * from it, so a recurring reference is only annotated once. The entries are valid for a single ontology class label
+ * set, identified by its fingerprint: when it changes, the cache is cleared.
+ * It can be persisted between runs in a file: the fingerprint in the first line, then one "text~~entity%entity"
+ * line per entry. It can be used concurrently.
+ *
+ * @author Oscar Mateos Lopez
+ * @version: 20161103
+ */
+public class NamedEntityCache {
+
+	/** The cache file, or null if it is not persisted. */
+	private final File file;
+
+	/** The fingerprint of the label set the entries are valid for. */
+	private volatile String fingerprint = null;
+
+	/** The extracted entities by normalised text. */
+	private final Map<String, Set<String>> entities = new ConcurrentHashMap<String, Set<String>>();
+
+	/**
+	 * Instantiates a new in-memory named entity cache.
+	 */
+	public NamedEntityCache() {
+		this(null);
+	}
+
+	/**
+	 * Instantiates a new named entity cache persisted in a file, loading its entries if it exists.
+	 *
+	 * @param file, the cache file (null if it is not persisted)
+	 */
+	public NamedEntityCache(File file) {
+		this.file = file;
+		if ((file != null) && file.exists())
+			load();
+	}
+
+	// MAIN METHODS
+	/**
+	 * Gets the fingerprint of a class label set (SHA-256 of the sorted labels).
+	 *
+	 * @param labels, the class labels
+	 * @return the fingerprint
+	 */
+	public static String getFingerprint(Collection<String> labels) {
+		List<String> sorted = new ArrayList<String>(labels);
+		Collections.sort(sorted);
+		try {
+			MessageDigest digest = MessageDigest.getInstance("SHA-256");
+			for (String label : sorted) {
+				digest.update(label.getBytes(StandardCharsets.UTF_8));
+				digest.update((byte) '\n');
+			}
+			StringBuilder sb = new StringBuilder();
+			for (byte b : digest.digest())
+				sb.append(String.format("%02x", b));
+			return sb.toString();
+		} catch (NoSuchAlgorithmException e) {
+			throw new IllegalStateException(e);
+		}
+	}
+
+	/**
+	 * Validates the entries for a label set: if its fingerprint is not the one of the entries, they are discarded.
+	 *
+	 * @param fingerprint, the label set fingerprint
+	 * @return true, if the entries were kept
+	 */
+	public synchronized boolean validate(String fingerprint) {
+		if (fingerprint.equals(this.fingerprint))
+			return true;
+		entities.clear();
+		this.fingerprint = fingerprint;
+		return false;
+	}
+
+	/**
+	 * Gets the entities extracted from a text.
+	 *
+	 * @param text, the text
+	 * @return the extracted entities, or null if the text is not cached
+	 */
+	public Set<String> get(String text) {
+		return entities.get(normalise(text));
+	}
+
+	/**
+	 * Caches the entities extracted from a text.
+	 *
+	 * @param text, the text
+	 * @param extracted, the extracted entities
+	 */
+	public void put(String text, Set<String> extracted) {
+		entities.put(normalise(text), Collections.unmodifiableSet(new HashSet<String>(extracted)));
+	}
+
+	/**
+	 * Discards all the entries.
+	 */
+	public void clear() {
+		entities.clear();
+	}
+
+	/**
+	 * Normalises a text: trimmed, with single spaces.
+	 *
+	 * @param text, the text
+	 * @return the normalised text
+	 */
+	private static String normalise(String text) {
+		return StringUtils.normalizeSpace(text);
+	}
+
+	// PERSISTENCE
+	/**
+	 * Loads the entries of the cache file.
+	 */
+	private void load() {
+		try (BufferedReader reader = Files.newBufferedReader(file.toPath(), StandardCharsets.UTF_8)) {
+			fingerprint = reader.readLine();
+			String line = null;
+			while ((line = reader.readLine()) != null) {
+				String[] parts = line.split(CoreConfiguration.SEPARATOR, -1);
+				if (parts.length != 2)
+					continue;
+				Set<String> extracted = new HashSet<String>();
+				for (String entity : parts[1].split(CoreConfiguration.INNER_SEPARATOR))
+					if (!entity.isEmpty())
+						extracted.add(entity);
+				entities.put(parts[0], Collections.unmodifiableSet(extracted));
+			}
+		} catch (FileNotFoundException e) {
+			e.printStackTrace();
+		} catch (IOException e) {
+			e.printStackTrace();
+		}
+	}
+
+	/**
+	 * Saves the entries to the cache file (nothing is done if it is not persisted).
+	 */
+	public synchronized void save() {
+		if ((file == null) || (fingerprint == null))
+			return;
+		try (Writer writer = Files.newBufferedWriter(file.toPath(), StandardCharsets.UTF_8)) {
+			writer.write(fingerprint + "\n");
+			for (Map.Entry<String, Set<String>> entry : entities.entrySet()) {
+				// Entries that can't be written as a line are not persisted
+				if (entry.getKey().contains(CoreConfiguration.SEPARATOR) || entry.getKey().contains("\n")
+						|| entry.getValue().stream().anyMatch(entity -> entity.contains(CoreConfiguration.INNER_SEPARATOR)))
+					continue;
+				writer.write(entry.getKey() + CoreConfiguration.SEPARATOR
+						+ String.join(CoreConfiguration.INNER_SEPARATOR, entry.getValue()) + "\n");
+			}
+		} catch (FileNotFoundException e) {
+			e.printStackTrace();
+		} catch (IOException e) {
+			e.printStackTrace();
+		}
+	}
+
+	// GETTERS
+	/**
+	 * Gets the cache file.
+	 *
+	 * @return the cache file, or null if it is not persisted
+	 */
+	public File getFile() {
+		return file;
+	}
+
+	/**
+	 * Gets the fingerprint of the label set the entries are valid for.
+	 *
+	 * @return the fingerprint, or null if not validated yet
+	 */
+	public String getFingerprint() {
+		return fingerprint;
+	}
+
+	/**
+	 * Gets the number of entries.
+	 *
+	 * @return the number of entries
+	 */
+	public int size() {
+		return entities.size();
+	}
+}
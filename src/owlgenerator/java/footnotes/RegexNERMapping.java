@@ -0,0 +1,173 @@
+/*
+ * The Class RegexNERMapping, in-memory RegexNER mapping of the ontology class labels.
+ */
+package owlgenerator.java.footnotes;
+
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.WeakHashMap;
+import java.util.concurrent.ConcurrentHashMap;
+
+import org.semanticweb.owlapi.model.OWLOntology;
+
+import edu.stanford.nlp.ling.CoreAnnotations.NamedEntityTagAnnotation;
+import edu.stanford.nlp.ling.CoreAnnotations.SentencesAnnotation;
+import edu.stanford.nlp.ling.CoreAnnotations.TextAnnotation;
+import edu.stanford.nlp.ling.CoreAnnotations.TokensAnnotation;
+import edu.stanford.nlp.ling.CoreLabel;
+import edu.stanford.nlp.pipeline.Annotation;
+import edu.stanford.nlp.util.CoreMap;
+import owlgenerator.java.merger.LabelIndex;
+
+/**
+ * The Class RegexNERMapping, the RegexNER mapping of an ontology kept in memory: each class label is an entry
+ * "label ONTOLOGY_CLASS ORGANIZATION,PERSON,LOCATION,NUMBER,MISC" of a token trie, instead of a line of a .rgx file
+ * loaded by the StanfordCoreNLP regexner annotator. It is applied to the documents annotated by the NER pipeline:
+ * the longest label matching a token sequence whose tokens are not tagged or tagged with one of the overwritable
+ * classes is tagged as ONTOLOGY_CLASS.
+ * The mapping of each ontology is shared and updated incrementally with the labels added since its last update, so
+ * neither the mapping nor the pipeline are rebuilt when more tables are ingested. It can be used concurrently.
+ *
+ * @author Oscar Mateos Lopez
+ * @version: 20161103
+ */
+public class RegexNERMapping {
+
+	/** The Constant ONTOLOGY_CLASS value, the class of the entries. */
+	public static final String ONTOLOGY_CLASS = "ONTOLOGY_CLASS";
+
+	/** The Constant OVERWRITABLE_CLASSES value, the NER classes the entries can overwrite. */
+	public static final Set<String> OVERWRITABLE_CLASSES = Collections
+			.unmodifiableSet(new HashSet<String>(Arrays.asList("O", "ORGANIZATION", "PERSON", "LOCATION", "NUMBER", "MISC")));
+
+	/** The shared mappings by ontology. */
+	private static final Map<OWLOntology, RegexNERMapping> mappings = new WeakHashMap<OWLOntology, RegexNERMapping>();
+
+	/**
+	 * The Class Node, a node of the token trie.
+	 */
+	private static class Node {
+
+		/** The children by token. */
+		private final Map<String, Node> children = new ConcurrentHashMap<String, Node>();
+
+		/** The entry end flag. */
+		private volatile boolean entry = false;
+	}
+
+	/** The root of the token trie. */
+	private final Node root = new Node();
+
+	/** The labels of the entries. */
+	private final Set<String> labels = ConcurrentHashMap.newKeySet();
+
+	// BUILDER
+	/**
+	 * Gets the shared mapping of an ontology, updated with its current class labels.
+	 *
+	 * @param ontology, the ontology
+	 * @return the RegexNER mapping
+	 */
+	public static RegexNERMapping getMapping(OWLOntology ontology) {
+		RegexNERMapping mapping;
+		synchronized (mappings) {
+			mapping = mappings.get(ontology);
+			if (mapping == null) {
+				mapping = new RegexNERMapping();
+				mappings.put(ontology, mapping);
+			}
+		}
+		mapping.update(ontology);
+		return mapping;
+	}
+
+	// MAIN METHODS
+	/**
+	 * Adds the class labels of the ontology that are not yet entries of the mapping.
+	 *
+	 * @param ontology, the ontology
+	 * @return the number of added entries
+	 */
+	public int update(OWLOntology ontology) {
+		Set<String> classLabels = LabelIndex.getIndex(ontology).getClassLabels();
+		int added = 0;
+		for (String label : classLabels)
+			if (add(label))
+				added++;
+		return added;
+	}
+
+	/**
+	 * Adds an entry to the mapping.
+	 *
+	 * @param label, the class label
+	 * @return true, if it was not an entry yet
+	 */
+	public boolean add(String label) {
+		String[] tokens = label.trim().split("\\s+");
+		if ((tokens[0].isEmpty()) || !labels.add(label))
+			return false;
+		Node node = root;
+		for (String token : tokens)
+			node = node.children.computeIfAbsent(token, t -> new Node());
+		node.entry = true;
+		return true;
+	}
+
+	/**
+	 * Tags the token sequences of an annotated document that match an entry as ONTOLOGY_CLASS.
+	 *
+	 * @param document, the document annotated with NER
+	 */
+	public void annotate(Annotation document) {
+		for (CoreMap sentence : document.get(SentencesAnnotation.class)) {
+			List<CoreLabel> tokens = sentence.get(TokensAnnotation.class);
+			int i = 0;
+			while (i < tokens.size()) {
+				// Longest entry from the token
+				int end = -1;
+				Node node = root;
+				for (int j = i; j < tokens.size(); j++) {
+					CoreLabel token = tokens.get(j);
+					String neTag = token.get(NamedEntityTagAnnotation.class);
+					if ((neTag != null) && !OVERWRITABLE_CLASSES.contains(neTag))
+						break;
+					node = node.children.get(token.get(TextAnnotation.class));
+					if (node == null)
+						break;
+					if (node.entry)
+						end = j + 1;
+				}
+				if (end == -1)
+					i++;
+				else {
+					for (; i < end; i++)
+						tokens.get(i).set(NamedEntityTagAnnotation.class, ONTOLOGY_CLASS);
+				}
+			}
+		}
+	}
+
+	// GETTERS
+	/**
+	 * Gets the labels of the entries.
+	 *
+	 * @return the labels
+	 */
+	public Set<String> getLabels() {
+		return Collections.unmodifiableSet(labels);
+	}
+
+	/**
+	 * Gets the number of entries.
+	 *
+	 * @return the number of entries
+	 */
+	public int size() {
+		return labels.size();
+	}
+}
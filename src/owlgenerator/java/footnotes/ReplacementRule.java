@@ -36,7 +36,8 @@ import java.util.regex.Matcher;
 import java.util.regex.Pattern;
 
 /**
- * The Class ReplacementRule.
+ * The Class ReplacementRule. It is immutable (each match uses its own matcher),
+ * so it can be shared between threads.
  * 
  * @author Copyright (c) 2008, Jared Crapo All rights reserved. 
  * @see https://github.com/camertron/scuttle-java/blob/master/src/main/java/com/camertron/Scuttle/Inflector.java
@@ -45,13 +46,10 @@ import java.util.regex.Pattern;
 public class ReplacementRule {
     
     /** The regex pattern. */
-    private Pattern p;
-    
-    /** The regex matcher. */
-    private Matcher m;
+    private final Pattern p;
     
     /** The replacement. */
-    private String r;
+    private final String r;
 
     /**
      * Instantiates a new replacement rule.
@@ -71,7 +69,7 @@ public class ReplacementRule {
      * @return true, if successful
      */
     public boolean find( String word ) {
-        m = p.matcher( word );
+        Matcher m = p.matcher( word );
         return m.find();
     }
 
@@ -82,7 +80,16 @@ public class ReplacementRule {
      * @return the string
      */
     public String replace( String word ) {
-        m = p.matcher( word );
+        Matcher m = p.matcher( word );
         return m.replaceAll( this.r );
     }
+
+    /**
+     * Gets the regexp.
+     *
+     * @return the regexp
+     */
+    public String getRegexp() {
+        return p.pattern();
+    }
 }
\ No newline at end of file
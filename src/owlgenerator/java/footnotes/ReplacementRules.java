@@ -0,0 +1,125 @@
+/*
+ * The Class ReplacementRules, compiled list of inflection replacement rules.
+ */
+package owlgenerator.java.footnotes;
+
+import java.util.ArrayList;
+import java.util.BitSet;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+
+/**
+ * The Class ReplacementRules, an ordered list of replacement rules (the first matching rule is applied) compiled
+ * into a suffix trie: each rule is indexed by the literal suffix its pattern requires before "$" ("(quiz)zes$"
+ * requires "zes"), so only the rules whose suffix ends the word (ignoring case) are tried, instead of all of them
+ * in sequence. The rules without a literal suffix are always tried. It can be used concurrently.
+ *
+ * @author Oscar Mateos Lopez
+ * @version: 20161103
+ */
+public class ReplacementRules {
+
+	/**
+	 * The Class Node, a node of the suffix trie.
+	 */
+	private static class Node {
+
+		/** The children by (previous) character. */
+		private final Map<Character, Node> children = new HashMap<Character, Node>();
+
+		/** The rules whose suffix ends at this node. */
+		private final BitSet rules = new BitSet();
+	}
+
+	/** The rules, in priority order. */
+	private final List<ReplacementRule> rules;
+
+	/** The root of the suffix trie, with the rules without a literal suffix. */
+	private final Node root = new Node();
+
+	/**
+	 * Instantiates and compiles new replacement rules.
+	 *
+	 * @param rules, the rules, in priority order
+	 */
+	public ReplacementRules(List<ReplacementRule> rules) {
+		this.rules = new ArrayList<ReplacementRule>(rules);
+		for (int i = 0; i < this.rules.size(); i++) {
+			String suffix = getLiteralSuffix(this.rules.get(i).getRegexp()).toLowerCase(Locale.ENGLISH);
+			Node node = root;
+			for (int j = suffix.length() - 1; j >= 0; j--)
+				node = node.children.computeIfAbsent(suffix.charAt(j), c -> new Node());
+			node.rules.set(i);
+		}
+	}
+
+	// MAIN METHODS
+	/**
+	 * Applies the first matching rule to a word.
+	 *
+	 * @param word, the word
+	 * @return the replaced word, or null if no rule matches
+	 */
+	public String apply(String word) {
+		// Candidate rules: the ones whose suffix ends the word
+		BitSet candidates = (BitSet) root.rules.clone();
+		String folded = word.toLowerCase(Locale.ENGLISH);
+		Node node = root;
+		for (int i = folded.length() - 1; i >= 0; i--) {
+			node = node.children.get(folded.charAt(i));
+			if (node == null)
+				break;
+			candidates.or(node.rules);
+		}
+		for (int i = candidates.nextSetBit(0); i >= 0; i = candidates.nextSetBit(i + 1)) {
+			ReplacementRule rule = rules.get(i);
+			if (rule.find(word))
+				return rule.replace(word);
+		}
+		return null;
+	}
+
+	/**
+	 * Gets the literal suffix a rule pattern requires: the letters before its final "$", up to the first regex
+	 * construct. It is empty if the pattern has a top level alternation or doesn't end with "$".
+	 *
+	 * @param regexp, the rule pattern
+	 * @return the literal suffix
+	 */
+	static String getLiteralSuffix(String regexp) {
+		if (!regexp.endsWith("$") || regexp.endsWith("\\$"))
+			return "";
+		// Top level alternation
+		int depth = 0;
+		for (int i = 0; i < regexp.length(); i++) {
+			char c = regexp.charAt(i);
+			if (c == '\\')
+				i++;
+			else if ((c == '(') || (c == '['))
+				depth++;
+			else if ((c == ')') || (c == ']'))
+				depth--;
+			else if ((c == '|') && (depth == 0))
+				return "";
+		}
+		int start = regexp.length() - 1;
+		while ((start > 0) && Character.isLetterOrDigit(regexp.charAt(start - 1)))
+			start--;
+		// An escaped letter is a character class ("\d")
+		if ((start > 0) && (regexp.charAt(start - 1) == '\\'))
+			start++;
+		return (start < regexp.length() - 1) ? regexp.substring(start, regexp.length() - 1) : "";
+	}
+
+	// GETTERS
+	/**
+	 * Gets the number of rules.
+	 *
+	 * @return the number of rules
+	 */
+	public int size() {
+		return rules.size();
+	}
+}
@@ -9,7 +9,6 @@ import java.util.function.Predicate;
 import java.util.regex.Matcher;
 import java.util.regex.Pattern;
 
-import org.semanticweb.owlapi.model.AddAxiom;
 import org.semanticweb.owlapi.model.OWLDataFactory;
 import org.semanticweb.owlapi.model.OWLInverseObjectPropertiesAxiom;
 import org.semanticweb.owlapi.model.OWLObjectProperty;
@@ -18,6 +17,7 @@ import org.semanticweb.owlapi.model.OWLOntologyManager;
 import org.semanticweb.owlapi.search.EntitySearcher;
 
 import owlgenerator.java.core.Core;
+import owlgenerator.java.util.ChangeBuffer;
 
 /**
  * 	DEDUCCION INVERSAS.
@@ -72,15 +72,17 @@ public class InferInverseRelations {
 		OWLOntology ontology = generator.getOntology();
 		OWLOntologyManager manager = generator.getManager();
 		OWLDataFactory factory = manager.getOWLDataFactory();
+		ChangeBuffer changes = generator.newChangeBuffer();
 		
 		// A set with the Object Properties is created, removing those that already have defined inverse relation.
 		Set<OWLObjectProperty> objectPropertiesSet = ontology.getObjectPropertiesInSignature();
 		objectPropertiesSet.removeIf(HAS_INVERSE);
+		Set<OWLObjectProperty> candidatesSet = new HashSet<OWLObjectProperty>(objectPropertiesSet);
 		int i = 0;
 
 		// For each remaining property, it is compared to the inverse candidates
 		for(OWLObjectProperty op_ : objectPropertiesSet){
-			Set<OWLObjectProperty> auxSet =  new HashSet<OWLObjectProperty>(objectPropertiesSet);
+			Set<OWLObjectProperty> auxSet =  new HashSet<OWLObjectProperty>(candidatesSet);
 			auxSet.remove(op_);
 			auxSet.removeIf(CONTAINS_STEM(op_).negate());
 			auxSet.removeIf(INVERTED_DOMAIN_AND_RANGE(op_).negate());
@@ -89,15 +91,17 @@ public class InferInverseRelations {
 			// 	Inverse to be admitted must have a single property candidate to inverse so that there is no ambiguity.
 			if (auxSet.size() == 1){
 				// Inverse relation
-				OWLInverseObjectPropertiesAxiom inverseOf = factory.getOWLInverseObjectPropertiesAxiom(op_, auxSet.iterator().next());
-				manager.applyChange(new AddAxiom(this.getOntology(), inverseOf));
+				OWLObjectProperty inverse = auxSet.iterator().next();
+				OWLInverseObjectPropertiesAxiom inverseOf = factory.getOWLInverseObjectPropertiesAxiom(op_, inverse);
+				changes.add(this.getOntology(), inverseOf);
 
-				// The Object Properties Set is updated, updating inverses
-				objectPropertiesSet = ontology.getObjectPropertiesInSignature();
-				objectPropertiesSet.removeIf(HAS_INVERSE);
+				// The candidates Set is updated, the buffered inverses are not in the ontology yet
+				candidatesSet.remove(op_);
+				candidatesSet.remove(inverse);
 				i++;
 			}
 		}
+		changes.flush();
 		// Returns the number of inferred inverse relations
 		return i;
 	}
@@ -0,0 +1,282 @@
+/*
+ * The Class LabelIndex, lookup index of the classes of an ontology by label and short form.
+ */
+package owlgenerator.java.merger;
+
+import java.lang.ref.WeakReference;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Set;
+import java.util.WeakHashMap;
+
+import org.semanticweb.owlapi.model.AddAxiom;
+import org.semanticweb.owlapi.model.AxiomType;
+import org.semanticweb.owlapi.model.IRI;
+import org.semanticweb.owlapi.model.OWLAnnotationAssertionAxiom;
+import org.semanticweb.owlapi.model.OWLAxiom;
+import org.semanticweb.owlapi.model.OWLClass;
+import org.semanticweb.owlapi.model.OWLLiteral;
+import org.semanticweb.owlapi.model.OWLOntology;
+import org.semanticweb.owlapi.model.OWLOntologyChange;
+import org.semanticweb.owlapi.model.OWLOntologyChangeListener;
+
+/**
+ * The Class LabelIndex, indexes the classes in the signature of an ontology by IRI, by rdfs:label (the labels as
+ * OntologyData.getOntologyClassLabelsAsString gets them) and by normalised short form, so resolving an entity name or
+ * getting the class labels is a hash probe instead of a walk over the classes and their annotations.
+ * The index of each ontology is shared and maintained alongside it: the axioms added through its manager are indexed
+ * as they are applied, and the index is rebuilt when an axiom is removed or added by another manager (detected by the
+ * axiom count). It can be used concurrently: it is guarded by the ontology lock, the one the Core holds while adding
+ * axioms.
+ *
+ * @author Oscar Mateos Lopez
+ * @version: 20161103
+ */
+public class LabelIndex {
+
+	/** The shared indexes by ontology. */
+	private static final Map<OWLOntology, LabelIndex> indexes = new WeakHashMap<OWLOntology, LabelIndex>();
+
+	/** The indexed ontology (weakly referenced, so the shared index doesn't keep it alive). */
+	private final WeakReference<OWLOntology> ontology;
+
+	/** The classes in the signature. */
+	private final Set<IRI> classes = new HashSet<IRI>();
+
+	/** The rdfs:label values by subject (classes or not yet). */
+	private final Map<IRI, Set<String>> labelsBySubject = new HashMap<IRI, Set<String>>();
+
+	/** The classes by label. */
+	private final Map<String, Set<IRI>> classesByLabel = new HashMap<String, Set<IRI>>();
+
+	/** The classes by normalised short form. */
+	private final Map<String, Set<IRI>> classesByShortForm = new HashMap<String, Set<IRI>>();
+
+	/** The number of axioms of the ontology the index reflects. */
+	private int axiomCount = 0;
+
+	/** The stale flag, set until the first query and when an axiom is removed. */
+	private boolean stale = true;
+
+	/**
+	 * Instantiates a new label index, built on its first query.
+	 *
+	 * @param ontology, the ontology
+	 */
+	private LabelIndex(OWLOntology ontology) {
+		this.ontology = new WeakReference<OWLOntology>(ontology);
+	}
+
+	// BUILDER
+	/**
+	 * Gets the shared label index of an ontology, creating it (and registering it as a change listener of the
+	 * ontology manager) the first time.
+	 *
+	 * @param ontology, the ontology
+	 * @return the label index
+	 */
+	public static LabelIndex getIndex(OWLOntology ontology) {
+		if (ontology == null)
+			throw new IllegalArgumentException("Ontology required");
+		synchronized (indexes) {
+			LabelIndex index = indexes.get(ontology);
+			if (index == null) {
+				index = new LabelIndex(ontology);
+				ontology.getOWLOntologyManager().addOntologyChangeListener(index.new ChangeListener());
+				indexes.put(ontology, index);
+			}
+			return index;
+		}
+	}
+
+	/**
+	 * The Class ChangeListener, indexes the axioms added to the ontology.
+	 */
+	private class ChangeListener implements OWLOntologyChangeListener {
+
+		@Override
+		public void ontologiesChanged(List<? extends OWLOntologyChange> changes) {
+			OWLOntology indexed = ontology.get();
+			if (indexed == null)
+				return;
+			synchronized (indexed) {
+				for (OWLOntologyChange change : changes) {
+					if ((change.getOntology() != indexed) || !change.isAxiomChange())
+						continue;
+					if (change instanceof AddAxiom) {
+						add(change.getAxiom());
+						axiomCount++;
+					} else
+						stale = true;
+				}
+			}
+		}
+	}
+
+	// MAIN METHODS
+	/**
+	 * Checks if a class is in the signature of the ontology.
+	 *
+	 * @param iri, the class IRI
+	 * @return true, if the class is in the signature
+	 */
+	public boolean containsClass(IRI iri) {
+		OWLOntology indexed = ontology.get();
+		if (indexed == null)
+			return false;
+		synchronized (indexed) {
+			refresh(indexed);
+			return classes.contains(iri);
+		}
+	}
+
+	/**
+	 * Gets the classes with a label.
+	 *
+	 * @param label, the label
+	 * @return the class IRIs (empty if there is none)
+	 */
+	public Set<IRI> getClasses(String label) {
+		return get(classesByLabel, label);
+	}
+
+	/**
+	 * Gets the classes with a short form (IRI remainder), ignoring case.
+	 *
+	 * @param shortForm, the short form
+	 * @return the class IRIs (empty if there is none)
+	 */
+	public Set<IRI> getClassesByShortForm(String shortForm) {
+		return get(classesByShortForm, normalise(shortForm));
+	}
+
+	/**
+	 * Gets the labels of the classes.
+	 *
+	 * @return the class labels (a copy)
+	 */
+	public Set<String> getClassLabels() {
+		OWLOntology indexed = ontology.get();
+		if (indexed == null)
+			return new HashSet<String>();
+		synchronized (indexed) {
+			refresh(indexed);
+			return new HashSet<String>(classesByLabel.keySet());
+		}
+	}
+
+	/**
+	 * Gets the classes of a key of a map.
+	 *
+	 * @param map, the map
+	 * @param key, the key
+	 * @return the class IRIs (empty if there is none)
+	 */
+	private Set<IRI> get(Map<String, Set<IRI>> map, String key) {
+		OWLOntology indexed = ontology.get();
+		if (indexed == null)
+			return Collections.emptySet();
+		synchronized (indexed) {
+			refresh(indexed);
+			Set<IRI> iris = map.get(key);
+			if (iris == null)
+				return Collections.emptySet();
+			return Collections.unmodifiableSet(new HashSet<IRI>(iris));
+		}
+	}
+
+	/**
+	 * Rebuilds the index if it is stale or the ontology was changed outside its manager.
+	 *
+	 * @param indexed, the ontology
+	 */
+	private void refresh(OWLOntology indexed) {
+		if (stale || (indexed.getAxiomCount() != axiomCount))
+			rebuild(indexed);
+	}
+
+	/**
+	 * Rebuilds the index from the ontology signature and label annotations.
+	 *
+	 * @param indexed, the ontology
+	 */
+	private void rebuild(OWLOntology indexed) {
+		classes.clear();
+		labelsBySubject.clear();
+		classesByLabel.clear();
+		classesByShortForm.clear();
+		for (OWLAnnotationAssertionAxiom axiom : indexed.getAxioms(AxiomType.ANNOTATION_ASSERTION))
+			add(axiom);
+		for (OWLClass owlClass : indexed.getClassesInSignature())
+			addClass(owlClass.getIRI());
+		axiomCount = indexed.getAxiomCount();
+		stale = false;
+	}
+
+	/**
+	 * Indexes the classes and the label of an axiom.
+	 *
+	 * @param axiom, the axiom
+	 */
+	private void add(OWLAxiom axiom) {
+		if (axiom instanceof OWLAnnotationAssertionAxiom) {
+			OWLAnnotationAssertionAxiom assertion = (OWLAnnotationAssertionAxiom) axiom;
+			if (assertion.getProperty().isLabel() && (assertion.getValue() instanceof OWLLiteral)
+					&& (assertion.getSubject() instanceof IRI)) {
+				// As OntologyData.getOntologyClassLabelsAsString
+				String label = assertion.getValue().toString().replaceAll("@en|\"", "");
+				IRI subject = (IRI) assertion.getSubject();
+				labelsBySubject.computeIfAbsent(subject, s -> new HashSet<String>()).add(label);
+				if (classes.contains(subject))
+					classesByLabel.computeIfAbsent(label, l -> new HashSet<IRI>()).add(subject);
+			}
+		}
+		for (OWLClass owlClass : axiom.getClassesInSignature())
+			addClass(owlClass.getIRI());
+	}
+
+	/**
+	 * Indexes a class of the signature.
+	 *
+	 * @param iri, the class IRI
+	 */
+	private void addClass(IRI iri) {
+		if (!classes.add(iri))
+			return;
+		classesByShortForm.computeIfAbsent(normalise(iri.getShortForm()), s -> new HashSet<IRI>()).add(iri);
+		Set<String> labels = labelsBySubject.get(iri);
+		if (labels != null)
+			for (String label : labels)
+				classesByLabel.computeIfAbsent(label, l -> new HashSet<IRI>()).add(iri);
+	}
+
+	/**
+	 * Normalises a short form: without spaces, lower case.
+	 *
+	 * @param shortForm, the short form
+	 * @return the normalised short form
+	 */
+	private static String normalise(String shortForm) {
+		return shortForm.replace(" ", "").toLowerCase(Locale.ENGLISH);
+	}
+
+	// GETTERS
+	/**
+	 * Gets the number of indexed classes.
+	 *
+	 * @return the number of classes
+	 */
+	public int size() {
+		OWLOntology indexed = ontology.get();
+		if (indexed == null)
+			return 0;
+		synchronized (indexed) {
+			refresh(indexed);
+			return classes.size();
+		}
+	}
+}
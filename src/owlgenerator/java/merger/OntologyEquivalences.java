@@ -7,7 +7,6 @@ import java.util.Set;
 
 import org.semanticweb.owlapi.apibinding.OWLManager;
 import org.semanticweb.owlapi.formats.OWLXMLDocumentFormat;
-import org.semanticweb.owlapi.model.AddAxiom;
 import org.semanticweb.owlapi.model.IRI;
 import org.semanticweb.owlapi.model.OWLClass;
 import org.semanticweb.owlapi.model.OWLDataFactory;
@@ -20,6 +19,8 @@ import org.semanticweb.owlapi.model.OWLOntology;
 import org.semanticweb.owlapi.model.OWLOntologyManager;
 import org.semanticweb.owlapi.rdf.rdfxml.renderer.OWLOntologyXMLNamespaceManager;
 
+import owlgenerator.java.util.ChangeBuffer;
+
 /**
  * The Class OntologyEquivalences for ontology mapping
  * 
@@ -40,6 +41,7 @@ public class OntologyEquivalences {
 	public static void addEquivalentConcepts(OWLOntology sourceOntology1, OWLOntology sourceOntology2, OWLOntology targetOntology) {
 		OWLOntologyManager manager = OWLManager.createOWLOntologyManager();
 		OWLDataFactory factory = manager.getOWLDataFactory();
+		ChangeBuffer changes = new ChangeBuffer(manager);
 		
 		// get the Set of the common Concepts
 		Set<String> commonConcepts = OntologyData.getSameNameConceptsAsString(sourceOntology1, sourceOntology2);
@@ -63,9 +65,10 @@ public class OntologyEquivalences {
 				// Relate both concepts on the Target Ontology
 				OWLClass ontology1Class = factory.getOWLClass(ontology1Concept), ontology2Class = factory.getOWLClass(ontology2Concept);
 				OWLEquivalentClassesAxiom equivalenceAxiom = factory.getOWLEquivalentClassesAxiom(ontology1Class, ontology2Class);			
-				manager.applyChange(new AddAxiom(targetOntology, equivalenceAxiom));				
+				changes.add(targetOntology, equivalenceAxiom);				
 			}
 		}
+		changes.flush();
 	}
 	
 	/**
@@ -77,6 +80,7 @@ public class OntologyEquivalences {
 	public static void addEquivalentConcepts(OWLOntology ontology) {
 		OWLOntologyManager manager = OWLManager.createOWLOntologyManager();
 		OWLDataFactory factory = manager.getOWLDataFactory();
+		ChangeBuffer changes = new ChangeBuffer(manager);
 		
 		// get the Set of the common Concepts
 		Set<String> commonConcepts = OntologyData.getSameNameConceptsAsString(ontology);
@@ -88,9 +92,10 @@ public class OntologyEquivalences {
 				Set<OWLClass> commonClasses = OntologyData.getParticularNameClasses(commonConcept, ontology);
 				// Relate the common Classes from the Set
 				OWLEquivalentClassesAxiom equivalenceAxiom = factory.getOWLEquivalentClassesAxiom(commonClasses);
-				manager.applyChange(new AddAxiom(ontology, equivalenceAxiom));
+				changes.add(ontology, equivalenceAxiom);
 			}
 		}
+		changes.flush();
 	}
 	
 	/**
@@ -104,6 +109,7 @@ public class OntologyEquivalences {
 	public static void addEquivalentAttributes(OWLOntology sourceOntology1, OWLOntology sourceOntology2, OWLOntology targetOntology) {
 		OWLOntologyManager manager = OWLManager.createOWLOntologyManager();
 		OWLDataFactory factory = manager.getOWLDataFactory();
+		ChangeBuffer changes = new ChangeBuffer(manager);
 		
 		// get the Set of the common Data Properties
 		Set<String> commonDataProperties = OntologyData.getSameNameAttributesAsString(sourceOntology1, sourceOntology2);
@@ -128,9 +134,10 @@ public class OntologyEquivalences {
 				// Relate both concepts on the Target Ontology
 				OWLDataProperty ontology1Class = factory.getOWLDataProperty(ontology1DataProperty), ontology2Class = factory.getOWLDataProperty(ontology2DataProperty);
 				OWLEquivalentDataPropertiesAxiom equivalenceAxiom = factory.getOWLEquivalentDataPropertiesAxiom(ontology1Class, ontology2Class);			
-				manager.applyChange(new AddAxiom(targetOntology, equivalenceAxiom));				
+				changes.add(targetOntology, equivalenceAxiom);				
 			}
 		}		
+		changes.flush();
 	}
 
 	/**
@@ -142,6 +149,7 @@ public class OntologyEquivalences {
 	public static void addEquivalentAttributes(OWLOntology ontology) {
 		OWLOntologyManager manager = OWLManager.createOWLOntologyManager();
 		OWLDataFactory factory = manager.getOWLDataFactory();
+		ChangeBuffer changes = new ChangeBuffer(manager);
 		
 		// get the Set of the common Attributes
 		Set<String> commonAttributes = OntologyData.getSameNameAttributesAsString(ontology);
@@ -153,9 +161,10 @@ public class OntologyEquivalences {
 				Set<OWLDataProperty> commonDataProperties = OntologyData.getParticularNameDataProperties(commonConcept, ontology);
 				// Relate the common Data Properties from the Set
 				OWLEquivalentDataPropertiesAxiom equivalenceAxiom = factory.getOWLEquivalentDataPropertiesAxiom(commonDataProperties);
-				manager.applyChange(new AddAxiom(ontology, equivalenceAxiom));
+				changes.add(ontology, equivalenceAxiom);
 			}
 		}
+		changes.flush();
 	}	
 	
 	/**
@@ -169,6 +178,7 @@ public class OntologyEquivalences {
 	public static void generateEquivalentAdHocRelations(OWLOntology sourceOntology1, OWLOntology sourceOntology2, OWLOntology targetOntology) {
 		OWLOntologyManager manager = OWLManager.createOWLOntologyManager();
 		OWLDataFactory factory = manager.getOWLDataFactory();
+		ChangeBuffer changes = new ChangeBuffer(manager);
 		
 		// get the Set of the common Object Properties
 		Set<String> commonObjectProperties = OntologyData.getSameNameAttributesAsString(sourceOntology1, sourceOntology2);
@@ -194,9 +204,10 @@ public class OntologyEquivalences {
 				OWLObjectProperty ontology1Class = factory.getOWLObjectProperty(ontology1ObjectProperty), 
 						ontology2Class = factory.getOWLObjectProperty(ontology2ObjectProperty);			
 				OWLEquivalentObjectPropertiesAxiom equivalenceAxiom = factory.getOWLEquivalentObjectPropertiesAxiom(ontology1Class, ontology2Class);			
-				manager.applyChange(new AddAxiom(targetOntology, equivalenceAxiom));				
+				changes.add(targetOntology, equivalenceAxiom);				
 			}
 		}		
+		changes.flush();
 	}
 	
 	/**
@@ -208,6 +219,7 @@ public class OntologyEquivalences {
 	public static void addEquivalentAdHocRelations(OWLOntology ontology) {
 		OWLOntologyManager manager = OWLManager.createOWLOntologyManager();
 		OWLDataFactory factory = manager.getOWLDataFactory();
+		ChangeBuffer changes = new ChangeBuffer(manager);
 		
 		// get the Set of the common AdHocRelations
 		Set<String> commonAdHocRelations = OntologyData.getSameNameAdHocRelationsAsString(ontology);
@@ -219,8 +231,9 @@ public class OntologyEquivalences {
 				Set<OWLObjectProperty> commonObjectProperties = OntologyData.getParticularNameObjectProperties(commonConcept, ontology);
 				// Relate the common Object Properties from the Set
 				OWLEquivalentObjectPropertiesAxiom equivalenceAxiom = factory.getOWLEquivalentObjectPropertiesAxiom(commonObjectProperties);
-				manager.applyChange(new AddAxiom(ontology, equivalenceAxiom));
+				changes.add(ontology, equivalenceAxiom);
 			}
 		}
+		changes.flush();
 	}
 }
@@ -20,7 +20,6 @@ import java.util.regex.Pattern;
 import org.apache.commons.lang3.StringUtils;
 import org.semanticweb.owlapi.apibinding.OWLManager;
 import org.semanticweb.owlapi.formats.OWLXMLDocumentFormat;
-import org.semanticweb.owlapi.model.AddAxiom;
 import org.semanticweb.owlapi.model.AddImport;
 import org.semanticweb.owlapi.model.AxiomType;
 import org.semanticweb.owlapi.model.IRI;
@@ -58,6 +57,7 @@ import org.semanticweb.owlapi.search.EntitySearcher;
 import org.semanticweb.owlapi.util.OWLEntityRenamer;
 
 import edu.stanford.nlp.util.Pair;
+import owlgenerator.java.util.ChangeBuffer;
 
 /**
  * The Class OntologyMerger for merging and mapping ontologies.
@@ -75,9 +75,10 @@ public class OntologyMerger {
 	 * @param transformedEntity the transformed entity
 	 * @param sourceAttributeOntology the source attribute ontology
 	 * @param targetOntology the target ontology
+	 * @param changes the change buffer for the target ontology
 	 */
 	// Annotations Seeker 
-	private static void importAnnotationsForTransformedEntity(OWLEntity originalEntity, OWLEntity transformedEntity, OWLOntology sourceAttributeOntology, OWLOntology targetOntology) {
+	private static void importAnnotationsForTransformedEntity(OWLEntity originalEntity, OWLEntity transformedEntity, OWLOntology sourceAttributeOntology, OWLOntology targetOntology, ChangeBuffer changes) {
 		OWLOntologyManager manager = OWLManager.createOWLOntologyManager();
 		OWLDataFactory factory = manager.getOWLDataFactory();	
 		
@@ -85,14 +86,14 @@ public class OntologyMerger {
 		// rdfs:label
 		OWLAnnotation label = EntitySearcher.getAnnotations(originalEntity, sourceAttributeOntology, factory.getRDFSLabel()).iterator().next();
 		OWLAxiom labelAxiom = factory.getOWLAnnotationAssertionAxiom(transformedEntity.getIRI() , label);
-		manager.applyChange(new AddAxiom(targetOntology, labelAxiom));	
+		changes.add(targetOntology, labelAxiom);	
 		
 		// rdfs:comment
 		Collection<OWLAnnotation> comments = EntitySearcher.getAnnotations(originalEntity, sourceAttributeOntology, factory.getRDFSComment());
 		if(comments.size() > 0) {
 			for(OWLAnnotation comment_ : comments) {
 				OWLAxiom commentAxiom = factory.getOWLAnnotationAssertionAxiom(transformedEntity.getIRI() , comment_);
-				manager.applyChange(new AddAxiom(targetOntology, commentAxiom));	
+				changes.add(targetOntology, commentAxiom);	
 			}
 		}	
 		// rdfs:seeAlso
@@ -100,7 +101,7 @@ public class OntologyMerger {
 		if(seeAlsos.size() > 0) {
 			for(OWLAnnotation seeAlso_ : seeAlsos) {
 				OWLAxiom seeAlsoAxiom = factory.getOWLAnnotationAssertionAxiom(transformedEntity.getIRI() , seeAlso_);
-				manager.applyChange(new AddAxiom(targetOntology, seeAlsoAxiom));	
+				changes.add(targetOntology, seeAlsoAxiom);	
 			}
 		}
 	}
@@ -115,6 +116,7 @@ public class OntologyMerger {
 	public static void addClassesAsDataProperties(OWLOntology sourceAttributeOntology, OWLOntology targetOntology) {
 		OWLOntologyManager manager = OWLManager.createOWLOntologyManager();
 		OWLDataFactory factory = manager.getOWLDataFactory();
+		ChangeBuffer changes = new ChangeBuffer(manager);
 		Set<String> processedProperties = new HashSet<String>();
 
 		// Get targetOntology Namespace
@@ -135,24 +137,25 @@ public class OntologyMerger {
 			OWLDataProperty superProperty = factory.getOWLDataProperty(IRI.create(targetOntologyNamespace + StringUtils.uncapitalize(superClassName)));
 			
 			OWLSubDataPropertyOfAxiom axiom = factory.getOWLSubDataPropertyOfAxiom(subProperty, superProperty);
-			manager.applyChange(new AddAxiom(targetOntology, axiom));	
+			changes.add(targetOntology, axiom);	
 			
 			// Synonyms	
-			addEquivalentClassesAsDataProperties(subClass, sourceAttributeOntology, targetOntology);
-			addEquivalentClassesAsDataProperties(superClass, sourceAttributeOntology, targetOntology);
+			addEquivalentClassesAsDataProperties(subClass, sourceAttributeOntology, targetOntology, changes);
+			addEquivalentClassesAsDataProperties(superClass, sourceAttributeOntology, targetOntology, changes);
 			
 			// Annotations for subProperty
 			if(!processedProperties.contains(subClassName)) {
-				importAnnotationsForTransformedEntity(subClass, subProperty, sourceAttributeOntology, targetOntology);
+				importAnnotationsForTransformedEntity(subClass, subProperty, sourceAttributeOntology, targetOntology, changes);
 				processedProperties.add(subClassName);
 			}
 
 			// Annotations for superProperty
 			if(!processedProperties.contains(superClassName)) {
-				importAnnotationsForTransformedEntity(superClass, superProperty, sourceAttributeOntology, targetOntology);		
+				importAnnotationsForTransformedEntity(superClass, superProperty, sourceAttributeOntology, targetOntology, changes);		
 				processedProperties.add(superClassName);
 			}
 		}
+		changes.flush();
 	}
 	
 	/**
@@ -161,8 +164,9 @@ public class OntologyMerger {
 	 * @param sourceClass the source class
 	 * @param sourceAttributeOntology the source attribute ontology
 	 * @param targetOntology the target ontology
+	 * @param changes the change buffer for the target ontology
 	 */
-	private static void addEquivalentClassesAsDataProperties(OWLClass sourceClass, OWLOntology sourceAttributeOntology, OWLOntology targetOntology) {
+	private static void addEquivalentClassesAsDataProperties(OWLClass sourceClass, OWLOntology sourceAttributeOntology, OWLOntology targetOntology, ChangeBuffer changes) {
 		OWLOntologyManager manager = OWLManager.createOWLOntologyManager();
 		OWLDataFactory factory = manager.getOWLDataFactory();
 		Set<OWLDataProperty> eqProps = new HashSet<OWLDataProperty>();
@@ -184,12 +188,12 @@ public class OntologyMerger {
 				eqProps.add(eqProperty);
 				
 				// Annotations
-				importAnnotationsForTransformedEntity(class_, eqProperty, sourceAttributeOntology, targetOntology);
+				importAnnotationsForTransformedEntity(class_, eqProperty, sourceAttributeOntology, targetOntology, changes);
 			}
 			
 			// Add synonymy
 			OWLEquivalentDataPropertiesAxiom eqAxiom = factory.getOWLEquivalentDataPropertiesAxiom(eqProps);
-			manager.applyChange(new AddAxiom(targetOntology, eqAxiom));	
+			changes.add(targetOntology, eqAxiom);	
 			eqProps.clear();
 		}
 	}
@@ -204,6 +208,7 @@ public class OntologyMerger {
 	public static void addClassesAsObjectProperties(OWLOntology sourceRelationsOntology, OWLOntology targetOntology) {
 		OWLOntologyManager manager = OWLManager.createOWLOntologyManager();
 		OWLDataFactory factory = manager.getOWLDataFactory();
+		ChangeBuffer changes = new ChangeBuffer(manager);
 		Set<String> processedProperties = new HashSet<String>();
 
 		// Get targetOntology Namespace
@@ -224,24 +229,25 @@ public class OntologyMerger {
 			OWLObjectProperty superProperty = factory.getOWLObjectProperty(IRI.create(targetOntologyNamespace + StringUtils.uncapitalize(superClassName)));
 			
 			OWLSubObjectPropertyOfAxiom axiom = factory.getOWLSubObjectPropertyOfAxiom(subProperty, superProperty);
-			manager.applyChange(new AddAxiom(targetOntology, axiom));	
+			changes.add(targetOntology, axiom);	
 			
 			// Synonyms	
-			addEquivalentClassesAsObjectProperties(subClass, sourceRelationsOntology, targetOntology);
-			addEquivalentClassesAsObjectProperties(superClass, sourceRelationsOntology, targetOntology);
+			addEquivalentClassesAsObjectProperties(subClass, sourceRelationsOntology, targetOntology, changes);
+			addEquivalentClassesAsObjectProperties(superClass, sourceRelationsOntology, targetOntology, changes);
 			
 			// Annotations for subProperty
 			if(!processedProperties.contains(subClassName)) {
-				importAnnotationsForTransformedEntity(subClass, subProperty, sourceRelationsOntology, targetOntology);
+				importAnnotationsForTransformedEntity(subClass, subProperty, sourceRelationsOntology, targetOntology, changes);
 				processedProperties.add(subClassName);
 			}
 
 			// Annotations for superProperty
 			if(!processedProperties.contains(superClassName)) {
-				importAnnotationsForTransformedEntity(superClass, superProperty, sourceRelationsOntology, targetOntology);		
+				importAnnotationsForTransformedEntity(superClass, superProperty, sourceRelationsOntology, targetOntology, changes);		
 				processedProperties.add(superClassName);
 			}
 		}
+		changes.flush();
 	}
 	
 	/**
@@ -250,8 +256,9 @@ public class OntologyMerger {
 	 * @param sourceClass the source class
 	 * @param sourceAttributeOntology the source attribute ontology
 	 * @param targetOntology the target ontology
+	 * @param changes the change buffer for the target ontology
 	 */
-	private static void addEquivalentClassesAsObjectProperties(OWLClass sourceClass, OWLOntology sourceAttributeOntology, OWLOntology targetOntology) {
+	private static void addEquivalentClassesAsObjectProperties(OWLClass sourceClass, OWLOntology sourceAttributeOntology, OWLOntology targetOntology, ChangeBuffer changes) {
 		OWLOntologyManager manager = OWLManager.createOWLOntologyManager();
 		OWLDataFactory factory = manager.getOWLDataFactory();
 		Set<OWLObjectProperty> eqProps = new HashSet<OWLObjectProperty>();
@@ -273,12 +280,12 @@ public class OntologyMerger {
 				eqProps.add(eqProperty);
 				
 				// Annotations
-				importAnnotationsForTransformedEntity(class_, eqProperty, sourceAttributeOntology, targetOntology);
+				importAnnotationsForTransformedEntity(class_, eqProperty, sourceAttributeOntology, targetOntology, changes);
 			}
 			
 			// Add synonymy
 			OWLEquivalentObjectPropertiesAxiom eqAxiom = factory.getOWLEquivalentObjectPropertiesAxiom(eqProps);
-			manager.applyChange(new AddAxiom(targetOntology, eqAxiom));	
+			changes.add(targetOntology, eqAxiom);	
 			eqProps.clear();
 		}
 	}	
@@ -293,6 +300,7 @@ public class OntologyMerger {
 	public static void addIndividualsAsLeafDataProperties(OWLOntology sourceAttributeOntology, OWLOntology targetOntology) {
 		OWLOntologyManager manager = OWLManager.createOWLOntologyManager();
 		OWLDataFactory factory = manager.getOWLDataFactory();
+		ChangeBuffer changes = new ChangeBuffer(manager);
 
 		// Get targetOntology Namespace
 		OWLXMLDocumentFormat owlFormat = new OWLXMLDocumentFormat();
@@ -314,13 +322,14 @@ public class OntologyMerger {
 			OWLDataProperty superProperty = factory.getOWLDataProperty(IRI.create(targetOntologyNamespace + StringUtils.uncapitalize(className)));	
 			
 			OWLSubDataPropertyOfAxiom axiom = factory.getOWLSubDataPropertyOfAxiom(subProperty, superProperty);
-			manager.applyChange(new AddAxiom(targetOntology, axiom));
+			changes.add(targetOntology, axiom);
 			
 			// Label
 			OWLAnnotation label = EntitySearcher.getAnnotations(instance, sourceAttributeOntology, factory.getRDFSLabel()).iterator().next();
 			OWLAxiom labelAxiom = factory.getOWLAnnotationAssertionAxiom(subProperty.getIRI() , label);
-			manager.applyChange(new AddAxiom(targetOntology, labelAxiom));	
+			changes.add(targetOntology, labelAxiom);	
 		}
+		changes.flush();
 	}
 	
 	/**
@@ -334,6 +343,7 @@ public class OntologyMerger {
 	public static void addIndividualsAsLeafDataPropertyRanges(OWLOntology attributeOntology, OWLOntology valueOntology, OWLOntology targetOntology) {
 		OWLOntologyManager manager = OWLManager.createOWLOntologyManager();
 		OWLDataFactory factory = manager.getOWLDataFactory();
+		ChangeBuffer changes = new ChangeBuffer(manager);
 
 		// Get the value ranges as Datatypes and include them in the target ontology
 		Set<OWLDatatype> datatypes = getInstanceSetsAsDataTypes(valueOntology, targetOntology);
@@ -342,10 +352,10 @@ public class OntologyMerger {
 		Set<OWLDataProperty> leafDataProps = OntologyData.getLeafDataProperties(targetOntology);
 		
 		// BOOLEAN VALUE
-		Set<OWLDataPropertyRangeAxiom> specialValues = OntologyMerger.getSpecialValueRanges(attributeOntology, valueOntology, targetOntology, HAS_BOOLEAN_VALUE_SUBCLASS);
+		Set<OWLDataPropertyRangeAxiom> specialValues = OntologyMerger.getSpecialValueRanges(attributeOntology, valueOntology, targetOntology, HAS_BOOLEAN_VALUE_SUBCLASS, changes);
 		
 		// CARDINAL
-		specialValues.addAll(getSpecialValueRanges(attributeOntology, valueOntology, targetOntology, HAS_CARDINAL_SUBCLASS));
+		specialValues.addAll(getSpecialValueRanges(attributeOntology, valueOntology, targetOntology, HAS_CARDINAL_SUBCLASS, changes));
 		
 		// Prune matched leaf-DataProperties
 		Set<OWLDataProperty> matchedDataProps = new HashSet<OWLDataProperty>();
@@ -398,8 +408,9 @@ public class OntologyMerger {
 		// Add the range for the current leaf-Dataproperty
 		for(Pair<OWLDataProperty, OWLDatatype> match_ : matches) {
 			OWLDataPropertyRangeAxiom rangeAxiom = factory.getOWLDataPropertyRangeAxiom(match_.first(), match_.second());
-			manager.applyChange(new AddAxiom(targetOntology, rangeAxiom));
+			changes.add(targetOntology, rangeAxiom);
 		}
+		changes.flush();
 	}
 	
 	// Returns a set with the Datatypes included in the target ontology
@@ -414,6 +425,7 @@ public class OntologyMerger {
 	public static Set<OWLDatatype> getInstanceSetsAsDataTypes(OWLOntology sourceOntology, OWLOntology targetOntology) {
 		OWLOntologyManager manager = OWLManager.createOWLOntologyManager();
 		OWLDataFactory factory = manager.getOWLDataFactory();		
+		ChangeBuffer changes = new ChangeBuffer(manager);
 		Set<OWLClassAssertionAxiom> assertions = sourceOntology.getAxioms(AxiomType.CLASS_ASSERTION);;
 		Set<OWLClass> classes = new HashSet<OWLClass>();
 		Set<OWLDatatype> includedDataTypes = new HashSet<OWLDatatype>();
@@ -435,9 +447,10 @@ public class OntologyMerger {
 			}		
 			OWLDataOneOf valuesRange = factory.getOWLDataOneOf(valuesSet);
 			OWLDatatypeDefinitionAxiom dataTypeDef = getDataRangeAsDataType(valuesRange, class_.getIRI());
-			manager.applyChange(new AddAxiom(targetOntology, dataTypeDef));
+			changes.add(targetOntology, dataTypeDef);
 			includedDataTypes.add(dataTypeDef.getDatatype());
 		}
+		changes.flush();
 		return includedDataTypes;
 	}
 	
@@ -463,10 +476,11 @@ public class OntologyMerger {
 	 * @param valueOntology the value ontology
 	 * @param targetOntology the target ontology
 	 * @param condition the condition
+	 * @param changes the change buffer for the target ontology
 	 * @return the special value ranges
 	 */
 	// Boolean Value | Cardinal
-	private static Set<OWLDataPropertyRangeAxiom> getSpecialValueRanges(OWLOntology attributeOntology, OWLOntology valueOntology, OWLOntology targetOntology, Predicate<OWLSubClassOfAxiom> condition) {
+	private static Set<OWLDataPropertyRangeAxiom> getSpecialValueRanges(OWLOntology attributeOntology, OWLOntology valueOntology, OWLOntology targetOntology, Predicate<OWLSubClassOfAxiom> condition, ChangeBuffer changes) {
 		OWLOntologyManager manager = OWLManager.createOWLOntologyManager();
 		OWLDataFactory factory = manager.getOWLDataFactory();
 		Set<Pair<OWLClass, Object>> matches = new HashSet <Pair<OWLClass, Object>>();
@@ -531,7 +545,7 @@ public class OntologyMerger {
 						OWLDataProperty leafDP = subDPAxiom_.getSubProperty().asOWLDataProperty();
 						OWLDatatype dataRange = getDatatypeBasedOnCondition(condition);
 						OWLDataPropertyRangeAxiom rangeAxiom = factory.getOWLDataPropertyRangeAxiom(leafDP, dataRange);
-						manager.applyChange(new AddAxiom(targetOntology, rangeAxiom));
+						changes.add(targetOntology, rangeAxiom);
 						rangeAxioms.add(rangeAxiom);
 					}
 				}
@@ -570,7 +584,7 @@ public class OntologyMerger {
 			OWLDataProperty leafDP =(OWLDataProperty)match_.second();
 			OWLDatatype dataRange = getDatatypeBasedOnCondition(condition);
 			OWLDataPropertyRangeAxiom rangeAxiom = factory.getOWLDataPropertyRangeAxiom(leafDP, dataRange);
-			manager.applyChange(new AddAxiom(targetOntology, rangeAxiom));
+			changes.add(targetOntology, rangeAxiom);
 			rangeAxioms.add(rangeAxiom);
 		}
 		return rangeAxioms;
@@ -623,6 +637,7 @@ public class OntologyMerger {
 	public static void addIndividualsAsLeafObjectProperties(OWLOntology sourceRelationsOntology, OWLOntology targetOntology) {
 		OWLOntologyManager manager = OWLManager.createOWLOntologyManager();
 		OWLDataFactory factory = manager.getOWLDataFactory();
+		ChangeBuffer changes = new ChangeBuffer(manager);
 
 		// Get targetOntology Namespace
 		OWLXMLDocumentFormat owlFormat = new OWLXMLDocumentFormat();
@@ -643,13 +658,14 @@ public class OntologyMerger {
 			String className = instancedClass.getIRI().getShortForm();
 			OWLObjectProperty superProperty = factory.getOWLObjectProperty(IRI.create(targetOntologyNamespace + StringUtils.uncapitalize(className)));			
 			OWLSubObjectPropertyOfAxiom axiom = factory.getOWLSubObjectPropertyOfAxiom(subProperty, superProperty);
-			manager.applyChange(new AddAxiom(targetOntology, axiom));
+			changes.add(targetOntology, axiom);
 			
 			// Label
 			OWLAnnotation label = EntitySearcher.getAnnotations(instance, sourceRelationsOntology, factory.getRDFSLabel()).iterator().next();
 			OWLAxiom labelAxiom = factory.getOWLAnnotationAssertionAxiom(subProperty.getIRI() , label);
-			manager.applyChange(new AddAxiom(targetOntology, labelAxiom));	
+			changes.add(targetOntology, labelAxiom);	
 		}
+		changes.flush();
 	}
 
 	// Disjoint Classes -> Disjoint Object|Data Properties
@@ -663,6 +679,7 @@ public class OntologyMerger {
 	public static void addDisjointDataPropertiesFromClasses(OWLOntology sourceOntology, OWLOntology targetOntology) {
 		OWLOntologyManager manager = OWLManager.createOWLOntologyManager();
 		OWLDataFactory factory = manager.getOWLDataFactory();
+		ChangeBuffer changes = new ChangeBuffer(manager);
 		
 		// Disjointness Axioms
 		Set<OWLDisjointClassesAxiom> disjoinClassestAxioms = sourceOntology.getAxioms(AxiomType.DISJOINT_CLASSES);
@@ -671,9 +688,10 @@ public class OntologyMerger {
 			Set<OWLDataProperty> targetDataProperties = selectTargetTransformedDataProperties(classes, targetOntology);
 			if(targetDataProperties.size() > 0) {
 				OWLDisjointDataPropertiesAxiom disjointAxiom = factory.getOWLDisjointDataPropertiesAxiom(targetDataProperties);
-				manager.applyChange(new AddAxiom(targetOntology, disjointAxiom));
+				changes.add(targetOntology, disjointAxiom);
 			}
 		}
+		changes.flush();
 	}
 	
 	/**
@@ -711,6 +729,7 @@ public class OntologyMerger {
 	public static void addDisjointObjectPropertiesFromClasses(OWLOntology sourceOntology, OWLOntology targetOntology) {
 		OWLOntologyManager manager = OWLManager.createOWLOntologyManager();
 		OWLDataFactory factory = manager.getOWLDataFactory();
+		ChangeBuffer changes = new ChangeBuffer(manager);
 		
 		// Disjointness Axioms
 		Set<OWLDisjointClassesAxiom> disjoinClassestAxioms = sourceOntology.getAxioms(AxiomType.DISJOINT_CLASSES);
@@ -719,9 +738,10 @@ public class OntologyMerger {
 			Set<OWLObjectProperty> targetObjectProperties = selectTargetTransformedObjectProperties(classes, targetOntology);
 			if(targetObjectProperties.size() > 0) {
 				OWLDisjointObjectPropertiesAxiom disjointAxiom = factory.getOWLDisjointObjectPropertiesAxiom(targetObjectProperties);
-				manager.applyChange(new AddAxiom(targetOntology, disjointAxiom));
+				changes.add(targetOntology, disjointAxiom);
 			}
 		}
+		changes.flush();
 	}
 	
 	/**
@@ -759,6 +779,7 @@ public class OntologyMerger {
 	public static void addTransformedDataPropertiesDomains(Set<OWLOntology> excludedOntologies, OWLOntology targetOntology) {
 		OWLOntologyManager manager = OWLManager.createOWLOntologyManager();
 		OWLDataFactory factory = manager.getOWLDataFactory();
+		ChangeBuffer changes = new ChangeBuffer(manager);
 
 		// Get targetOntology Namespace
 		OWLXMLDocumentFormat owlFormat = new OWLXMLDocumentFormat();
@@ -793,9 +814,10 @@ public class OntologyMerger {
 			OWLClass domain = OntologyData.findMostSimilarClass(dp_.getIRI().getShortForm(), excludedOntologiesNamespaces, targetOntology);
 			if (domain != null) {
 				OWLDataPropertyDomainAxiom domainAxiom = factory.getOWLDataPropertyDomainAxiom(dp_, domain);
-				manager.applyChange(new AddAxiom(targetOntology, domainAxiom));	
+				changes.add(targetOntology, domainAxiom);	
 			}
 		}
+		changes.flush();
 	}
 	
 	/**
@@ -808,6 +830,7 @@ public class OntologyMerger {
 	public static void addTransformedObjectPropertiesDomains(Set<OWLOntology> excludedOntologies, OWLOntology targetOntology) {
 		OWLOntologyManager manager = OWLManager.createOWLOntologyManager();
 		OWLDataFactory factory = manager.getOWLDataFactory();
+		ChangeBuffer changes = new ChangeBuffer(manager);
 
 		// Get targetOntology Namespace
 		OWLXMLDocumentFormat owlFormat = new OWLXMLDocumentFormat();
@@ -842,9 +865,10 @@ public class OntologyMerger {
 			OWLClass domain = OntologyData.findMostSimilarClass(dp_.getIRI().getShortForm(), excludedOntologiesNamespaces, targetOntology);
 			if (domain != null) {
 				OWLObjectPropertyDomainAxiom domainAxiom = factory.getOWLObjectPropertyDomainAxiom(dp_, domain);
-				manager.applyChange(new AddAxiom(targetOntology, domainAxiom));	
+				changes.add(targetOntology, domainAxiom);	
 			}
 		}
+		changes.flush();
 	}
 	
 	
@@ -977,16 +1001,17 @@ public class OntologyMerger {
 	public static void importConceptualDataProperties(OWLOntology sourceOntology, OWLOntology targetOntology) {
 		OWLOntologyManager manager = OWLManager.createOWLOntologyManager();
 		OWLDataFactory factory = manager.getOWLDataFactory();
+		ChangeBuffer changes = new ChangeBuffer(manager);
 		Set<OWLAxiom> axioms = new HashSet<OWLAxiom>();
 		
 		// Get the root Conceptual Data Property depending on sourceOntology
-		OWLDataProperty conceptualDataProp = getConceptualRootDataProperty(sourceOntology, targetOntology);
+		OWLDataProperty conceptualDataProp = getConceptualRootDataProperty(sourceOntology, targetOntology, changes);
 
 		// import the original Data Properties as subproperties
 		Set<OWLDataProperty> dataPropertys = sourceOntology.getDataPropertiesInSignature();
 		for(OWLDataProperty dp_ : dataPropertys) {
 			OWLSubDataPropertyOfAxiom subDPAxiom = factory.getOWLSubDataPropertyOfAxiom(dp_, conceptualDataProp);
-			manager.addAxiom(targetOntology, subDPAxiom);
+			changes.add(targetOntology, subDPAxiom);
 		}
 		// import Axioms
 		axioms.addAll(OntologyData.getAssertedAttributeAnnotations(sourceOntology));//Annotations
@@ -996,8 +1021,8 @@ public class OntologyMerger {
 		axioms.addAll(sourceOntology.getAxioms(AxiomType.EQUIVALENT_DATA_PROPERTIES));
 		axioms.addAll(sourceOntology.getAxioms(AxiomType.FUNCTIONAL_DATA_PROPERTY));
 		axioms.addAll(sourceOntology.getAxioms(AxiomType.DISJOINT_DATA_PROPERTIES));
-		if(axioms.size() > 0)
-			manager.addAxioms(targetOntology, axioms);			
+		changes.addAll(targetOntology, axioms);			
+		changes.flush();
 	}
 	
 	/**
@@ -1005,9 +1030,10 @@ public class OntologyMerger {
 	 *
 	 * @param sourceOntology the source ontology
 	 * @param targetOntology the target ontology
+	 * @param changes the change buffer for the target ontology
 	 * @return the conceptual root data property
 	 */
-	private static OWLDataProperty getConceptualRootDataProperty(OWLOntology sourceOntology, OWLOntology targetOntology) {
+	private static OWLDataProperty getConceptualRootDataProperty(OWLOntology sourceOntology, OWLOntology targetOntology, ChangeBuffer changes) {
 		OWLOntologyManager manager = OWLManager.createOWLOntologyManager();
 		OWLDataFactory factory = manager.getOWLDataFactory();
 		
@@ -1047,7 +1073,7 @@ public class OntologyMerger {
 		// Label
 		OWLAnnotation labelName = factory.getOWLAnnotation(factory.getRDFSLabel(), factory.getOWLLiteral(conceptualDataPropLbl, "en"));
 		OWLAxiom labelAxiom = factory.getOWLAnnotationAssertionAxiom(conceptualDataProp.getIRI() , labelName);
-		manager.applyChange(new AddAxiom(targetOntology, labelAxiom));			
+		changes.add(targetOntology, labelAxiom);			
 		return conceptualDataProp;
 	}
 
@@ -1061,16 +1087,17 @@ public class OntologyMerger {
 	public static void importConceptualObjectProperties(OWLOntology sourceOntology, OWLOntology targetOntology) {
 		OWLOntologyManager manager = OWLManager.createOWLOntologyManager();
 		OWLDataFactory factory = manager.getOWLDataFactory();
+		ChangeBuffer changes = new ChangeBuffer(manager);
 		Set<OWLAxiom> axioms = new HashSet<OWLAxiom>();
 		
 		// Get the root Conceptual Object Property depending on sourceOntology
-		OWLObjectProperty conceptualObjectProp = getConceptualRootObjectProperty(sourceOntology, targetOntology);
+		OWLObjectProperty conceptualObjectProp = getConceptualRootObjectProperty(sourceOntology, targetOntology, changes);
 
 		// import the original Data Properties as subproperties
 		Set<OWLObjectProperty> objectProps = sourceOntology.getObjectPropertiesInSignature();
 		for(OWLObjectProperty dp_ : objectProps) {
 			OWLSubObjectPropertyOfAxiom subDPAxiom = factory.getOWLSubObjectPropertyOfAxiom(dp_, conceptualObjectProp);
-			manager.addAxiom(targetOntology, subDPAxiom);
+			changes.add(targetOntology, subDPAxiom);
 		}
 		// import Axioms
 		axioms.addAll(OntologyData.getAssertedAdHocRelationAnnotations(sourceOntology));//Annotations
@@ -1087,8 +1114,8 @@ public class OntologyMerger {
 		axioms.addAll(sourceOntology.getAxioms(AxiomType.ASYMMETRIC_OBJECT_PROPERTY));
 		axioms.addAll(sourceOntology.getAxioms(AxiomType.REFLEXIVE_OBJECT_PROPERTY));
 		axioms.addAll(sourceOntology.getAxioms(AxiomType.IRREFLEXIVE_OBJECT_PROPERTY));
-		if(axioms.size() > 0)
-			manager.addAxioms(targetOntology, axioms);	
+		changes.addAll(targetOntology, axioms);	
+		changes.flush();
 	}
 	
 	/**
@@ -1096,9 +1123,10 @@ public class OntologyMerger {
 	 *
 	 * @param sourceOntology the source ontology
 	 * @param targetOntology the target ontology
+	 * @param changes the change buffer for the target ontology
 	 * @return the conceptual root object property
 	 */
-	private static OWLObjectProperty getConceptualRootObjectProperty(OWLOntology sourceOntology, OWLOntology targetOntology) {
+	private static OWLObjectProperty getConceptualRootObjectProperty(OWLOntology sourceOntology, OWLOntology targetOntology, ChangeBuffer changes) {
 		OWLOntologyManager manager = OWLManager.createOWLOntologyManager();
 		OWLDataFactory factory = manager.getOWLDataFactory();
 		
@@ -1138,7 +1166,7 @@ public class OntologyMerger {
 		// Label
 		OWLAnnotation labelName = factory.getOWLAnnotation(factory.getRDFSLabel(), factory.getOWLLiteral(conceptualObjectPropLbl, "en"));
 		OWLAxiom labelAxiom = factory.getOWLAnnotationAssertionAxiom(conceptualObjectProp.getIRI() , labelName);
-		manager.applyChange(new AddAxiom(targetOntology, labelAxiom));			
+		changes.add(targetOntology, labelAxiom);			
 		return conceptualObjectProp;
 	}
 	
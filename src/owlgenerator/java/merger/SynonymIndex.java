@@ -0,0 +1,300 @@
+/*
+ * The Class SynonymIndex, index of the synonym (equivalent entity) sets of an ontology.
+ */
+package owlgenerator.java.merger;
+
+import java.lang.ref.WeakReference;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.WeakHashMap;
+
+import org.semanticweb.owlapi.model.AddAxiom;
+import org.semanticweb.owlapi.model.AxiomType;
+import org.semanticweb.owlapi.model.IRI;
+import org.semanticweb.owlapi.model.OWLAxiom;
+import org.semanticweb.owlapi.model.OWLClass;
+import org.semanticweb.owlapi.model.OWLDataProperty;
+import org.semanticweb.owlapi.model.OWLEquivalentClassesAxiom;
+import org.semanticweb.owlapi.model.OWLEquivalentDataPropertiesAxiom;
+import org.semanticweb.owlapi.model.OWLEquivalentObjectPropertiesAxiom;
+import org.semanticweb.owlapi.model.OWLIndividual;
+import org.semanticweb.owlapi.model.OWLObjectProperty;
+import org.semanticweb.owlapi.model.OWLOntology;
+import org.semanticweb.owlapi.model.OWLOntologyChange;
+import org.semanticweb.owlapi.model.OWLOntologyChangeListener;
+import org.semanticweb.owlapi.model.OWLSameIndividualAxiom;
+
+/**
+ * The Class SynonymIndex, a union-find (disjoint set) over the IRIs of the named classes, object properties, data
+ * properties and individuals of an ontology, populated from its equivalent classes, equivalent object properties,
+ * equivalent data properties and same individuals axioms. Each set is a synonym group (the transitive closure of the
+ * equivalences), so checking if some entities are all synonyms or getting the synonyms of one is a lookup instead of
+ * an axiom scan.
+ * The index of each ontology is shared and maintained alongside it: the equivalence axioms added through its manager
+ * are merged as they are applied, and the index is rebuilt when one is removed or added by another manager (detected
+ * by the equivalence axiom count). It can be used concurrently: it is guarded by the ontology lock, the one the
+ * Core holds while adding axioms.
+ *
+ * @author Oscar Mateos Lopez
+ * @version: 20161103
+ */
+public class SynonymIndex {
+
+	/** The Constant AXIOM_TYPES value, the indexed equivalence axiom types. */
+	private static final List<AxiomType<?>> AXIOM_TYPES = Collections.unmodifiableList(Arrays.<AxiomType<?>> asList(
+			AxiomType.EQUIVALENT_CLASSES, AxiomType.EQUIVALENT_OBJECT_PROPERTIES, AxiomType.EQUIVALENT_DATA_PROPERTIES,
+			AxiomType.SAME_INDIVIDUAL));
+
+	/** The shared indexes by ontology. */
+	private static final Map<OWLOntology, SynonymIndex> indexes = new WeakHashMap<OWLOntology, SynonymIndex>();
+
+	/** The indexed ontology (weakly referenced, so the shared index doesn't keep it alive). */
+	private final WeakReference<OWLOntology> ontology;
+
+	/** The parent of each IRI (the roots are their own parent). */
+	private final Map<IRI, IRI> parents = new HashMap<IRI, IRI>();
+
+	/** The members of each set, by root. */
+	private final Map<IRI, Set<IRI>> members = new HashMap<IRI, Set<IRI>>();
+
+	/** The number of equivalence axioms of the ontology the index reflects. */
+	private int axiomCount = 0;
+
+	/** The stale flag, set until the first query and when an equivalence axiom is removed. */
+	private boolean stale = true;
+
+	/**
+	 * Instantiates a new synonym index, built on its first query.
+	 *
+	 * @param ontology, the ontology
+	 */
+	private SynonymIndex(OWLOntology ontology) {
+		this.ontology = new WeakReference<OWLOntology>(ontology);
+	}
+
+	// BUILDER
+	/**
+	 * Gets the shared synonym index of an ontology, building it (and registering it as a change listener of the
+	 * ontology manager) the first time.
+	 *
+	 * @param ontology, the ontology
+	 * @return the synonym index
+	 */
+	public static SynonymIndex getIndex(OWLOntology ontology) {
+		if (ontology == null)
+			throw new IllegalArgumentException("Ontology required");
+		synchronized (indexes) {
+			SynonymIndex index = indexes.get(ontology);
+			if (index == null) {
+				index = new SynonymIndex(ontology);
+				ontology.getOWLOntologyManager().addOntologyChangeListener(index.new ChangeListener());
+				indexes.put(ontology, index);
+			}
+			return index;
+		}
+	}
+
+	/**
+	 * The Class ChangeListener, merges the equivalence axioms added to the ontology.
+	 */
+	private class ChangeListener implements OWLOntologyChangeListener {
+
+		@Override
+		public void ontologiesChanged(List<? extends OWLOntologyChange> changes) {
+			OWLOntology indexed = ontology.get();
+			if (indexed == null)
+				return;
+			synchronized (indexed) {
+				for (OWLOntologyChange change : changes) {
+					if ((change.getOntology() != indexed) || !change.isAxiomChange()
+							|| !AXIOM_TYPES.contains(change.getAxiom().getAxiomType()))
+						continue;
+					if (change instanceof AddAxiom) {
+						add(change.getAxiom());
+						axiomCount++;
+					} else
+						stale = true;
+				}
+			}
+		}
+	}
+
+	// MAIN METHODS
+	/**
+	 * Checks if the entities with the given IRIs are all synonyms (in the same set, having some equivalence).
+	 *
+	 * @param iris, the entity IRIs
+	 * @return true, if they are all synonyms
+	 */
+	public boolean areSynonyms(Collection<IRI> iris) {
+		OWLOntology indexed = ontology.get();
+		if (indexed == null)
+			return false;
+		synchronized (indexed) {
+			refresh(indexed);
+			Iterator<IRI> it = iris.iterator();
+			if (!it.hasNext())
+				return false;
+			IRI root = find(it.next());
+			if (root == null)
+				return false;
+			while (it.hasNext())
+				if (!root.equals(find(it.next())))
+					return false;
+			return true;
+		}
+	}
+
+	/**
+	 * Gets the synonyms of an entity, including itself.
+	 *
+	 * @param iri, the entity IRI
+	 * @return the synonym IRIs (empty if it has no equivalences)
+	 */
+	public Set<IRI> getSynonyms(IRI iri) {
+		OWLOntology indexed = ontology.get();
+		if (indexed == null)
+			return Collections.emptySet();
+		synchronized (indexed) {
+			refresh(indexed);
+			IRI root = find(iri);
+			if (root == null)
+				return Collections.emptySet();
+			return Collections.unmodifiableSet(new HashSet<IRI>(members.get(root)));
+		}
+	}
+
+	/**
+	 * Rebuilds the index if it is stale or the ontology was changed outside its manager.
+	 *
+	 * @param indexed, the ontology
+	 */
+	private void refresh(OWLOntology indexed) {
+		if (stale || (getAxiomCount(indexed) != axiomCount))
+			rebuild(indexed);
+	}
+
+	/**
+	 * Rebuilds the index from the equivalence axioms of the ontology.
+	 *
+	 * @param indexed, the ontology
+	 */
+	private void rebuild(OWLOntology indexed) {
+		parents.clear();
+		members.clear();
+		for (AxiomType<?> type : AXIOM_TYPES)
+			for (OWLAxiom axiom : indexed.getAxioms(type))
+				add(axiom);
+		axiomCount = getAxiomCount(indexed);
+		stale = false;
+	}
+
+	/**
+	 * Gets the number of equivalence axioms of an ontology.
+	 *
+	 * @param indexed, the ontology
+	 * @return the number of equivalence axioms
+	 */
+	private static int getAxiomCount(OWLOntology indexed) {
+		int count = 0;
+		for (AxiomType<?> type : AXIOM_TYPES)
+			count += indexed.getAxiomCount(type);
+		return count;
+	}
+
+	/**
+	 * Merges the sets of the named entities of an equivalence axiom.
+	 *
+	 * @param axiom, the equivalence axiom
+	 */
+	private void add(OWLAxiom axiom) {
+		Set<IRI> iris = new HashSet<IRI>();
+		if (axiom instanceof OWLEquivalentClassesAxiom) {
+			for (OWLClass owlClass : ((OWLEquivalentClassesAxiom) axiom).getNamedClasses())
+				iris.add(owlClass.getIRI());
+		} else if (axiom instanceof OWLEquivalentObjectPropertiesAxiom) {
+			for (OWLObjectProperty property : axiom.getObjectPropertiesInSignature())
+				iris.add(property.getIRI());
+		} else if (axiom instanceof OWLEquivalentDataPropertiesAxiom) {
+			for (OWLDataProperty property : axiom.getDataPropertiesInSignature())
+				iris.add(property.getIRI());
+		} else if (axiom instanceof OWLSameIndividualAxiom) {
+			for (OWLIndividual individual : ((OWLSameIndividualAxiom) axiom).getIndividuals())
+				if (individual.isNamed())
+					iris.add(individual.asOWLNamedIndividual().getIRI());
+		}
+		union(iris);
+	}
+
+	/**
+	 * Merges the sets of some IRIs (the smaller set is merged into the larger one).
+	 *
+	 * @param iris, the IRIs
+	 */
+	private void union(Collection<IRI> iris) {
+		if (iris.size() < 2)
+			return;
+		IRI root = null;
+		for (IRI iri : iris) {
+			IRI other = find(iri);
+			if (other == null) {
+				parents.put(iri, iri);
+				members.put(iri, new HashSet<IRI>(Collections.singleton(iri)));
+				other = iri;
+			}
+			if (root == null)
+				root = other;
+			else if (!root.equals(other)) {
+				if (members.get(root).size() < members.get(other).size()) {
+					IRI swap = root;
+					root = other;
+					other = swap;
+				}
+				parents.put(other, root);
+				members.get(root).addAll(members.remove(other));
+			}
+		}
+	}
+
+	/**
+	 * Finds the root of the set of an IRI (halving the path to it).
+	 *
+	 * @param iri, the IRI
+	 * @return the root IRI, or null if it has no equivalences
+	 */
+	private IRI find(IRI iri) {
+		IRI parent = parents.get(iri);
+		if (parent == null)
+			return null;
+		while (!parent.equals(iri)) {
+			IRI grandParent = parents.get(parent);
+			parents.put(iri, grandParent);
+			iri = grandParent;
+			parent = parents.get(iri);
+		}
+		return iri;
+	}
+
+	// GETTERS
+	/**
+	 * Gets the number of synonym sets.
+	 *
+	 * @return the number of sets
+	 */
+	public int size() {
+		OWLOntology indexed = ontology.get();
+		if (indexed == null)
+			return 0;
+		synchronized (indexed) {
+			refresh(indexed);
+			return members.size();
+		}
+	}
+}
@@ -0,0 +1,138 @@
+/*
+ * The Class ChangeBuffer, batched axiom additions for an ontology manager.
+ */
+package owlgenerator.java.util;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Set;
+
+import org.semanticweb.owlapi.model.AddAxiom;
+import org.semanticweb.owlapi.model.OWLAxiom;
+import org.semanticweb.owlapi.model.OWLOntology;
+import org.semanticweb.owlapi.model.OWLOntologyChange;
+import org.semanticweb.owlapi.model.OWLOntologyManager;
+
+/**
+ * The Class ChangeBuffer, accumulates axiom additions and applies them as a single list of changes, so the
+ * ontology indexes and change listeners are updated once per flush instead of once per axiom.
+ * The additions are deduplicated, and the ones already in their ontology are dropped. The buffer is flushed when
+ * it reaches its threshold and must be flushed at the end of each stage: the pending axioms are not visible in
+ * the ontology until then. It is not thread-safe.
+ *
+ * @author Oscar Mateos Lopez
+ * @version: 20161103
+ */
+public class ChangeBuffer implements AutoCloseable {
+
+	/** The Constant DEFAULT_THRESHOLD value, pending changes that trigger a flush. */
+	public static final int DEFAULT_THRESHOLD = 10000;
+
+	/** The ontology manager. */
+	private final OWLOntologyManager manager;
+
+	/** The number of pending changes that triggers a flush. */
+	private final int threshold;
+
+	/** The pending changes, in insertion order. */
+	private final Set<AddAxiom> pending = new LinkedHashSet<AddAxiom>();
+
+	/**
+	 * Instantiates a new change buffer with the default threshold.
+	 *
+	 * @param manager, the ontology manager
+	 */
+	public ChangeBuffer(OWLOntologyManager manager) {
+		this(manager, DEFAULT_THRESHOLD);
+	}
+
+	/**
+	 * Instantiates a new change buffer.
+	 *
+	 * @param manager, the ontology manager
+	 * @param threshold, the number of pending changes that triggers a flush
+	 */
+	public ChangeBuffer(OWLOntologyManager manager, int threshold) {
+		if (threshold < 1)
+			throw new IllegalArgumentException("Threshold must be positive: " + threshold);
+		this.manager = manager;
+		this.threshold = threshold;
+	}
+
+	// GETTERS
+	/**
+	 * Gets the ontology manager.
+	 *
+	 * @return the ontology manager
+	 */
+	public OWLOntologyManager getManager() {
+		return manager;
+	}
+
+	/**
+	 * Gets the number of pending changes that triggers a flush.
+	 *
+	 * @return the threshold
+	 */
+	public int getThreshold() {
+		return threshold;
+	}
+
+	/**
+	 * Gets the number of pending changes.
+	 *
+	 * @return the number of pending changes
+	 */
+	public int size() {
+		return pending.size();
+	}
+
+	// MAIN METHODS
+	/**
+	 * Adds an axiom to an ontology.
+	 *
+	 * @param ontology, the ontology
+	 * @param axiom, the axiom
+	 */
+	public void add(OWLOntology ontology, OWLAxiom axiom) {
+		if (!ontology.containsAxiom(axiom) && pending.add(new AddAxiom(ontology, axiom)) && (pending.size() >= threshold))
+			flush();
+	}
+
+	/**
+	 * Adds some axioms to an ontology.
+	 *
+	 * @param ontology, the ontology
+	 * @param axioms, the axioms (ignored if null)
+	 */
+	public void addAll(OWLOntology ontology, Collection<? extends OWLAxiom> axioms) {
+		if (axioms == null)
+			return;
+		for (OWLAxiom axiom : axioms)
+			add(ontology, axiom);
+	}
+
+	/**
+	 * Applies the pending changes as a single list of changes.
+	 *
+	 * @return the number of applied changes
+	 */
+	public int flush() {
+		if (pending.isEmpty())
+			return 0;
+		List<OWLOntologyChange> changes = new ArrayList<OWLOntologyChange>(pending);
+		pending.clear();
+		manager.applyChanges(changes);
+		return changes.size();
+	}
+
+	/**
+	 * Flushes the pending changes.
+	 */
+	@Override
+	public void close() {
+		flush();
+	}
+}
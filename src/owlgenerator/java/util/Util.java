@@ -3,18 +3,12 @@
  */
 package owlgenerator.java.util;
 
-import java.io.File;
 import java.text.SimpleDateFormat;
 import java.util.Date;
 import java.util.HashSet;
 import java.util.Set;
-import java.util.regex.Matcher;
-import java.util.regex.Pattern;
-
-import org.apache.commons.lang3.StringUtils;
 
 import edu.stanford.nlp.util.Pair;
-import owlgenerator.java.core.CoreConfiguration;
 
 
 /**
@@ -34,33 +28,6 @@ public class Util {
 	    return new SimpleDateFormat("yyyyMMdd").format(new Date());
 	}
 	
-	/**
-	 * Gets the continued table.
-	 *
-	 * @param continueTableNo, the continue table number
-	 * @return the continued table
-	 */
-	public static File getContinuedTable(String continueTableNo) {
-		CoreConfiguration cfg = CoreConfiguration.getInstance();
-		File[] tableFiles = new File(cfg.getFiles_Path()).listFiles();
-
-		Pattern pattern = Pattern.compile("\\[\\s*[Cc]ontinued\\s*in\\s*([Tt]able\\s*\\d+\\w?)\\s*\\]{1}");
-		Matcher matcherTableNo = pattern.matcher(continueTableNo);
-		String targetTable = null;
-
-		if (matcherTableNo.matches())
-			targetTable = StringUtils.capitalize(matcherTableNo.group(1));
-
-		for (File tableFile : tableFiles) {
-			String fileName = tableFile.getName();
-
-			if (fileName.contains(targetTable))
-				return tableFile;
-		}
-
-		return null;
-	}
-	
 	/**
 	 * Gets the first pair match by name.
 	 *
@@ -0,0 +1,51 @@
+package owlgenerator.tests.benchmarks;
+import java.io.File;
+import java.io.IOException;
+import java.io.PrintWriter;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+
+import owlgenerator.java.core.Core;
+import owlgenerator.java.core.CoreConfiguration;
+
+public class PartOfBenchmark {
+/////////////////Part-Of tables throughput//////////////////
+	// Usage: PartOfBenchmark [rows]...
+	// Generates a synthetic Part-Of table for each size (10 meronyms per holonym) and times its ingestion
+	// e.g.: PartOfBenchmark 10000 100000
+	public static void main(String[] args) throws IOException {
+		int[] sizes = {10000, 100000};
+		if (args.length > 0) {
+			sizes = new int[args.length];
+			for (int i = 0; i < args.length; i++)
+				sizes[i] = Integer.parseInt(args[i]);
+		}
+		File filesPath = Files.createTempDirectory("partof").toFile();
+		filesPath.deleteOnExit();
+
+		// Warm up
+		run(filesPath, 1000);
+		for (int rows : sizes) {
+			long start = System.nanoTime();
+			int axioms = run(filesPath, rows);
+			long millis = Math.max(1, (System.nanoTime() - start) / 1000000);
+			System.out.println(rows + " rows: " + axioms + " axioms in " + millis + " ms (" + (rows * 1000L / millis) + " rows/s)");
+		}
+	}
+
+	// Builds the Part-Of axioms of a synthetic table with a new Core
+	private static int run(File filesPath, int rows) throws IOException {
+		String tableFileName = "Table " + rows + " - Part-Of relations.txt";
+		File tableFile = new File(filesPath, tableFileName);
+		tableFile.deleteOnExit();
+		try (PrintWriter writer = new PrintWriter(Files.newBufferedWriter(tableFile.toPath(), StandardCharsets.UTF_8))) {
+			writer.println("Table " + rows + " - Part-Of relations");
+			writer.println("MERONYM~~HOLONYM");
+			for (int i = 0; i < rows; i++)
+				writer.println("Part " + i + "~~Whole " + (i / 10));
+		}
+		Core core = new Core(new CoreConfiguration("http://localhost/", filesPath.getPath(), "PartOf"));
+		core.addPartOfAxiomsFromTable(tableFileName);
+		return core.getOntology().getAxiomCount();
+	}
+}
@@ -0,0 +1,61 @@
+package owlgenerator.tests.ontoLing;
+import java.io.File;
+import java.io.FileNotFoundException;
+import java.io.FileOutputStream;
+import java.io.IOException;
+import java.io.OutputStream;
+
+import org.semanticweb.owlapi.model.OWLOntologyStorageException;
+import org.xadisk.filesystem.exceptions.FileNotExistsException;
+
+import owlgenerator.java.core.Core;
+import owlgenerator.java.core.CoreConfiguration;
+import owlgenerator.java.core.ingestion.AxiomCache;
+import owlgenerator.java.core.ingestion.BuildManifest;
+import owlgenerator.java.core.ingestion.BuildScheduler;
+
+public class Build {
+/////////////////Manifest driven build//////////////////
+	// Usage: Build <manifest file> [tables path] [output path] [cache path]
+	// e.g.: Build "LUO - OntoLing.manifest.txt" "C:\outaspace\Tablas OntoTag\...\Chapter 4 - LUO - 20091129 - OntoLing" "C:\outaspace\Out" "C:\outaspace\Cache"
+	public static void main(String[] args) throws FileNotExistsException {
+		String baseUrl = "http://localhost/";
+		File manifestFile = new File(args.length > 0 ? args[0] : "LUO - OntoLing.manifest.txt");
+		String filesPath = args.length > 1 ? args[1] : manifestFile.getAbsoluteFile().getParent();
+		String outPath = args.length > 2 ? args[2] : "C:\\outaspace\\Out";
+		// Incremental build: only the changed tables (and the stages depending on them) are processed
+		String cachePath = args.length > 3 ? args[3] : null;
+
+		try {	
+			File fp = new File(filesPath);
+			
+			if (manifestFile.exists() && fp.exists()) { 
+				BuildManifest manifest = BuildManifest.load(manifestFile);
+				BuildScheduler scheduler = new BuildScheduler(manifest);
+				Core tests = new Core(new CoreConfiguration(baseUrl, filesPath, manifest.getOntologyName()));
+				if (cachePath != null)
+					scheduler.setCache(new AxiomCache(new File(cachePath)));
+
+				// Independent stages run in parallel, each wave is committed before the next one
+				for (int i = 0; i < scheduler.getWaves().size(); i++)
+					System.out.println("Wave " + (i + 1) + ": " + scheduler.getWaves().get(i));
+				scheduler.build(tests);
+				if (cachePath != null)
+					System.out.println("Replayed " + scheduler.getReplayed() + " of " + manifest.getStages().size() + " stages");
+				System.out.println(tests.getEntityCache());
+			///////////////////
+				String fileName = manifest.getOntologyName() + " - " + tests.getCfg().getOntology_Version() + ".owl";
+				OutputStream os = new FileOutputStream(new File(outPath + "\\" + fileName));
+				tests.getManager().saveOntology(tests.getOntology(), os);	
+			}
+			else 
+				throw new FileNotExistsException(manifestFile.exists() ? filesPath : manifestFile.getPath());
+		} catch (FileNotFoundException e) {
+			e.printStackTrace();
+		} catch (IOException e) {
+			e.printStackTrace();
+		} catch (OWLOntologyStorageException e) {
+			e.printStackTrace();
+		} 
+	}
+}
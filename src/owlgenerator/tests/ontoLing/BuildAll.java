@@ -0,0 +1,55 @@
+package owlgenerator.tests.ontoLing;
+import java.io.File;
+import java.io.FileNotFoundException;
+import java.io.FileOutputStream;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.util.ArrayList;
+import java.util.List;
+
+import org.semanticweb.owlapi.model.OWLOntologyStorageException;
+
+import owlgenerator.java.core.Core;
+import owlgenerator.java.core.CoreConfiguration;
+import owlgenerator.java.core.ingestion.BuildManifest;
+import owlgenerator.java.core.ingestion.BuildScheduler;
+
+public class BuildAll {
+/////////////////Several manifests, one JVM//////////////////
+	// Usage: BuildAll <output path> <manifest file>...
+	// Each manifest is built on its own thread with its own Core and configuration, the tables of each one are in the manifest folder
+	// e.g.: BuildAll "C:\outaspace\Out" "...\LUO\LUO - OntoLing.manifest.txt" "...\LAO\LAO - OntoLing.manifest.txt" "...\LVO\LVO - OntoLing.manifest.txt"
+	public static void main(String[] args) throws InterruptedException {
+		String baseUrl = "http://localhost/";
+		String outPath = args.length > 0 ? args[0] : "C:\\outaspace\\Out";
+		int threads = Math.max(1, Runtime.getRuntime().availableProcessors() / Math.max(1, args.length - 1));
+
+		List<Thread> builds = new ArrayList<Thread>();
+		for (int i = 1; i < args.length; i++) {
+			File manifestFile = new File(args[i]);
+			Thread build = new Thread(() -> {
+				try {
+					BuildManifest manifest = BuildManifest.load(manifestFile);
+					String filesPath = manifestFile.getAbsoluteFile().getParent();
+					Core tests = new Core(new CoreConfiguration(baseUrl, filesPath, manifest.getOntologyName()));
+					new BuildScheduler(manifest).build(tests, threads);
+				///////////////////
+					String fileName = manifest.getOntologyName() + " - " + tests.getCfg().getOntology_Version() + ".owl";
+					OutputStream os = new FileOutputStream(new File(outPath + "\\" + fileName));
+					tests.getManager().saveOntology(tests.getOntology(), os);
+					System.out.println(fileName + ": " + tests.getOntology().getAxiomCount() + " axioms");
+				} catch (FileNotFoundException e) {
+					e.printStackTrace();
+				} catch (IOException e) {
+					e.printStackTrace();
+				} catch (OWLOntologyStorageException e) {
+					e.printStackTrace();
+				}
+			}, manifestFile.getName());
+			builds.add(build);
+			build.start();
+		}
+		for (Thread build : builds)
+			build.join();
+	}
+}